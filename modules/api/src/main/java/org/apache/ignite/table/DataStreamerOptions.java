@@ -26,25 +26,40 @@ public class DataStreamerOptions {
 
     private final int batchSize;
 
+    private final long batchSizeBytes;
+
     private final int perNodeParallelOperations;
 
     private final int autoFlushFrequency;
 
     private final int retryLimit;
 
+    private final boolean bulkLoad;
+
     /**
      * Constructor.
      *
      * @param batchSize Batch size.
+     * @param batchSizeBytes Batch size in bytes.
      * @param perNodeParallelOperations Per node parallel operations.
      * @param autoFlushFrequency Auto flush frequency.
      * @param retryLimit Retry limit.
+     * @param bulkLoad Bulk load mode.
      */
-    private DataStreamerOptions(int batchSize, int perNodeParallelOperations, int autoFlushFrequency, int retryLimit) {
+    private DataStreamerOptions(
+            int batchSize,
+            long batchSizeBytes,
+            int perNodeParallelOperations,
+            int autoFlushFrequency,
+            int retryLimit,
+            boolean bulkLoad
+    ) {
         this.batchSize = batchSize;
+        this.batchSizeBytes = batchSizeBytes;
         this.perNodeParallelOperations = perNodeParallelOperations;
         this.autoFlushFrequency = autoFlushFrequency;
         this.retryLimit = retryLimit;
+        this.bulkLoad = bulkLoad;
     }
 
     /**
@@ -65,6 +80,16 @@ public class DataStreamerOptions {
         return batchSize;
     }
 
+    /**
+     * Gets the batch size in bytes (the estimated size of the entries that triggers sending of a batch even if it has fewer than
+     * {@link #batchSize()} entries).
+     *
+     * @return Batch size in bytes, 0 or less means no limit.
+     */
+    public long batchSizeBytes() {
+        return batchSizeBytes;
+    }
+
     /**
      * Gets the number of parallel operations per node (how many in-flight requests can be active for a given node).
      *
@@ -94,18 +119,31 @@ public class DataStreamerOptions {
         return retryLimit;
     }
 
+    /**
+     * Gets a value indicating whether the streamer works in the bulk load mode. See {@link Builder#bulkLoad(boolean)}.
+     *
+     * @return Bulk load mode.
+     */
+    public boolean bulkLoad() {
+        return bulkLoad;
+    }
+
     /**
      * Builder.
      */
     public static class Builder {
         private int batchSize = 1000;
 
+        private long batchSizeBytes = 4 * 1024 * 1024;
+
         private int perNodeParallelOperations = 4;
 
         private int autoFlushFrequency = 5000;
 
         private int retryLimit = 16;
 
+        private boolean bulkLoad;
+
         /**
          * Sets the batch size (the number of entries that will be sent to the cluster in one network call).
          *
@@ -123,7 +161,22 @@ public class DataStreamerOptions {
         }
 
         /**
-         * Sets the number of parallel operations per node (how many in-flight requests can be active for a given node).
+         * Sets the batch size in bytes (the estimated size of the entries that triggers sending of a batch even if it has fewer than
+         * {@link #batchSize(int)} entries). The size is estimated from the column values of tuples, while user objects get a fixed
+         * estimate each.
+         *
+         * @param batchSizeBytes Batch size in bytes. 0 or less means no limit.
+         * @return This builder instance.
+         */
+        public Builder batchSizeBytes(long batchSizeBytes) {
+            this.batchSizeBytes = batchSizeBytes;
+
+            return this;
+        }
+
+        /**
+         * Sets the number of parallel operations per node (how many in-flight requests can be active for a given node). This is the upper
+         * limit: the streamer lowers the actual parallelism when the batches slow down or the server reports that it is busy.
          *
          * @param perNodeParallelOperations Per node parallel operations.
          * @return This builder instance.
@@ -164,13 +217,29 @@ public class DataStreamerOptions {
             return this;
         }
 
+        /**
+         * Sets the bulk load mode. In this mode every batch is written as committed rows directly, locking the whole partition instead of
+         * every row, which is much faster for an initial load of a table.
+         *
+         * <p>The mode is intended for empty tables or for tables that are not modified concurrently: the loaded rows overwrite the existing
+         * ones, and a batch waits for or fails on the transactions that hold locks in the partition.
+         *
+         * @param bulkLoad Bulk load mode.
+         * @return This builder instance.
+         */
+        public Builder bulkLoad(boolean bulkLoad) {
+            this.bulkLoad = bulkLoad;
+
+            return this;
+        }
+
         /**
          * Builds the options.
          *
          * @return Data streamer options.
          */
         public DataStreamerOptions build() {
-            return new DataStreamerOptions(batchSize, perNodeParallelOperations, autoFlushFrequency, retryLimit);
+            return new DataStreamerOptions(batchSize, batchSizeBytes, perNodeParallelOperations, autoFlushFrequency, retryLimit, bulkLoad);
         }
     }
 }
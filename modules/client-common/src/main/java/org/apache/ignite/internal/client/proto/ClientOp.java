@@ -146,4 +146,7 @@ public class ClientOp {
 
     /** JDBC command to commit/rollback transaction. */
     public static final int JDBC_TX_FINISH = 55;
+
+    /** Load tuples in the bulk load mode of the data streamer. */
+    public static final int TUPLE_BULK_LOAD = 56;
 }
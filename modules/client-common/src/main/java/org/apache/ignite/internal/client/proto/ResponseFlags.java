@@ -24,19 +24,27 @@ public class ResponseFlags {
     /** Partitions assignment flag. */
     private static final int PARTITION_ASSIGNMENT_FLAG = 1;
 
+    /** Server busy flag. */
+    private static final int SERVER_BUSY_FLAG = 2;
+
     /**
      * Gets flags as int.
      *
      * @param partitionAssignmentChanged Assignment changed flag.
+     * @param serverBusy Server busy flag.
      * @return Flags as int.
      */
-    public static int getFlags(boolean partitionAssignmentChanged) {
+    public static int getFlags(boolean partitionAssignmentChanged, boolean serverBusy) {
         var flags = 0;
 
         if (partitionAssignmentChanged) {
             flags |= PARTITION_ASSIGNMENT_FLAG;
         }
 
+        if (serverBusy) {
+            flags |= SERVER_BUSY_FLAG;
+        }
+
         return flags;
     }
 
@@ -49,4 +57,14 @@ public class ResponseFlags {
     public static boolean getPartitionAssignmentChangedFlag(int flags) {
         return (flags & PARTITION_ASSIGNMENT_FLAG) == PARTITION_ASSIGNMENT_FLAG;
     }
+
+    /**
+     * Gets server busy flag value.
+     *
+     * @param flags Flags.
+     * @return Whether the server has too many requests in progress and asks the client to slow down.
+     */
+    public static boolean getServerBusyFlag(int flags) {
+        return (flags & SERVER_BUSY_FLAG) == SERVER_BUSY_FLAG;
+    }
 }
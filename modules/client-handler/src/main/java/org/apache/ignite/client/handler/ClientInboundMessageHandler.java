@@ -21,6 +21,7 @@ import static org.apache.ignite.lang.ErrorGroups.Client.HANDSHAKE_HEADER_ERR;
 import static org.apache.ignite.lang.ErrorGroups.Client.PROTOCOL_COMPATIBILITY_ERR;
 import static org.apache.ignite.lang.ErrorGroups.Client.PROTOCOL_ERR;
 import static org.apache.ignite.lang.ErrorGroups.Common.INTERNAL_ERR;
+import static org.apache.ignite.lang.IgniteSystemProperties.getInteger;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
@@ -34,6 +35,7 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import javax.net.ssl.SSLException;
 import org.apache.ignite.client.handler.configuration.ClientConnectorView;
@@ -60,6 +62,7 @@ import org.apache.ignite.client.handler.requests.table.ClientSchemasGetRequest;
 import org.apache.ignite.client.handler.requests.table.ClientTableGetRequest;
 import org.apache.ignite.client.handler.requests.table.ClientTablePartitionAssignmentGetRequest;
 import org.apache.ignite.client.handler.requests.table.ClientTablesGetRequest;
+import org.apache.ignite.client.handler.requests.table.ClientTupleBulkLoadRequest;
 import org.apache.ignite.client.handler.requests.table.ClientTupleContainsKeyRequest;
 import org.apache.ignite.client.handler.requests.table.ClientTupleDeleteAllExactRequest;
 import org.apache.ignite.client.handler.requests.table.ClientTupleDeleteAllRequest;
@@ -126,6 +129,15 @@ public class ClientInboundMessageHandler extends ChannelInboundHandlerAdapter im
     /** The logger. */
     private static final IgniteLogger LOG = Loggers.forClass(ClientInboundMessageHandler.class);
 
+    /**
+     * Name of the system property with the number of requests in progress on a connection, above which the responses carry the server
+     * busy flag, so that the clients slow down the background operations like data streaming.
+     */
+    public static final String IGNITE_CLIENT_BUSY_REQUESTS_THRESHOLD = "IGNITE_CLIENT_BUSY_REQUESTS_THRESHOLD";
+
+    /** Number of requests in progress on a connection, above which the server reports that it is busy. */
+    private static final int BUSY_REQUESTS_THRESHOLD = getInteger(IGNITE_CLIENT_BUSY_REQUESTS_THRESHOLD, 128);
+
     /** Ignite tables API. */
     private final IgniteTablesInternal igniteTables;
 
@@ -171,6 +183,9 @@ public class ClientInboundMessageHandler extends ChannelInboundHandlerAdapter im
     /** Whether the partition assignment has changed since the last server response. */
     private final AtomicBoolean partitionAssignmentChanged = new AtomicBoolean();
 
+    /** Number of requests in progress on this connection. */
+    private final AtomicInteger activeRequests = new AtomicInteger();
+
     /** Partition assignment change listener. */
     private final Consumer<IgniteTablesInternal> partitionAssignmentsChangeListener;
 
@@ -456,7 +471,9 @@ public class ClientInboundMessageHandler extends ChannelInboundHandlerAdapter im
     private void processOperation(ChannelHandlerContext ctx, ClientMessageUnpacker in, ClientMessagePacker out) {
         long requestId = -1;
         int opCode = -1;
+        boolean activeReleased = false;
         metrics.requestsActiveIncrement();
+        activeRequests.incrementAndGet();
 
         try {
             opCode = in.unpackInt();
@@ -479,6 +496,9 @@ public class ClientInboundMessageHandler extends ChannelInboundHandlerAdapter im
 
             if (fut == null) {
                 // Operation completed synchronously.
+                activeRequests.decrementAndGet();
+                activeReleased = true;
+
                 in.close();
                 out.setLong(observableTimestampIdx, observableTimestamp(out));
                 write(out, ctx);
@@ -494,9 +514,12 @@ public class ClientInboundMessageHandler extends ChannelInboundHandlerAdapter im
                 var reqId = requestId;
                 var op = opCode;
 
+                activeReleased = true;
+
                 fut.whenComplete((Object res, Object err) -> {
                     in.close();
                     metrics.requestsActiveDecrement();
+                    activeRequests.decrementAndGet();
 
                     if (err != null) {
                         out.close();
@@ -515,6 +538,10 @@ public class ClientInboundMessageHandler extends ChannelInboundHandlerAdapter im
                 });
             }
         } catch (Throwable t) {
+            if (!activeReleased) {
+                activeRequests.decrementAndGet();
+            }
+
             in.close();
             out.close();
 
@@ -656,6 +683,9 @@ public class ClientInboundMessageHandler extends ChannelInboundHandlerAdapter im
             case ClientOp.JDBC_TX_FINISH:
                 return ClientJdbcFinishTxRequest.process(in, out, jdbcQueryEventHandler);
 
+            case ClientOp.TUPLE_BULK_LOAD:
+                return ClientTupleBulkLoadRequest.process(in, out, igniteTables, resources);
+
             default:
                 throw new IgniteException(PROTOCOL_ERR, "Unexpected operation code: " + opCode);
         }
@@ -668,7 +698,7 @@ public class ClientInboundMessageHandler extends ChannelInboundHandlerAdapter im
             LOG.info("Partition assignment changed, notifying client [remoteAddress=" + ctx.channel().remoteAddress() + ']');
         }
 
-        var flags = ResponseFlags.getFlags(assignmentChanged);
+        var flags = ResponseFlags.getFlags(assignmentChanged, activeRequests.get() > BUSY_REQUESTS_THRESHOLD);
         out.packInt(flags);
     }
 
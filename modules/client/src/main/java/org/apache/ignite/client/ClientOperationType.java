@@ -21,6 +21,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import org.apache.ignite.sql.async.AsyncResultSet;
+import org.apache.ignite.table.DataStreamerOptions;
 import org.apache.ignite.table.RecordView;
 import org.apache.ignite.table.manager.IgniteTables;
 import org.apache.ignite.tx.Transaction;
@@ -137,5 +138,10 @@ public enum ClientOperationType {
     /**
      * SQL Cursor Next Page ({@link AsyncResultSet#fetchNextPage()}).
      */
-    SQL_CURSOR_NEXT_PAGE
+    SQL_CURSOR_NEXT_PAGE,
+
+    /**
+     * Bulk Load ({@link org.apache.ignite.table.DataStreamerTarget#streamData} with {@link DataStreamerOptions#bulkLoad()}).
+     */
+    TUPLE_BULK_LOAD
 }
@@ -51,6 +51,7 @@ public class RetryReadPolicy extends RetryLimitPolicy {
             case TUPLE_INSERT:
             case TUPLE_GET_AND_UPSERT:
             case TUPLE_UPSERT_ALL:
+            case TUPLE_BULK_LOAD:
             case SQL_EXECUTE:
             case SQL_CURSOR_NEXT_PAGE:
                 return false;
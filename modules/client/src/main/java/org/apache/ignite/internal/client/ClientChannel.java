@@ -66,4 +66,11 @@ public interface ClientChannel extends AutoCloseable {
      * @param listener Listener.
      */
     void addObservableTimestampListener(Consumer<Long> listener);
+
+    /**
+     * Add server busy listener, notified when a response says that the server has too many requests in progress.
+     *
+     * @param listener Listener.
+     */
+    void addServerBusyListener(Consumer<ClientChannel> listener);
 }
@@ -183,6 +183,9 @@ public class ClientUtils {
             case ClientOp.JDBC_TX_FINISH:
                 return null;
 
+            case ClientOp.TUPLE_BULK_LOAD:
+                return ClientOperationType.TUPLE_BULK_LOAD;
+
             // Do not return null from default arm intentionally, so we don't forget to update this when new ClientOp values are added.
             default:
                 throw new UnsupportedOperationException("Invalid op code: " + opCode);
@@ -109,6 +109,9 @@ public final class ReliableChannel implements AutoCloseable {
     /** Observable timestamp, or causality token. Sent by the server with every response, and required by some requests. */
     private final AtomicLong observableTimestamp = new AtomicLong();
 
+    /** Number of responses with the server busy flag, from all the channels. */
+    private final AtomicLong serverBusyResponses = new AtomicLong();
+
     /** Cluster id from the first handshake. */
     private final AtomicReference<UUID> clusterId = new AtomicReference<>();
 
@@ -692,6 +695,16 @@ public final class ReliableChannel implements AutoCloseable {
         return assignmentVersion.get();
     }
 
+    /**
+     * Gets the number of responses that said that the server is busy. Background operations like data streaming slow down when the
+     * number grows.
+     *
+     * @return Number of server busy responses.
+     */
+    public long serverBusyResponses() {
+        return serverBusyResponses.get();
+    }
+
     @Nullable
     private static IgniteClientConnectionException unwrapConnectionException(Throwable err) {
         while (err instanceof CompletionException) {
@@ -816,6 +829,7 @@ public final class ReliableChannel implements AutoCloseable {
 
                     ch.addTopologyAssignmentChangeListener(ReliableChannel.this::onTopologyAssignmentChanged);
                     ch.addObservableTimestampListener(ReliableChannel.this::onObservableTimestampReceived);
+                    ch.addServerBusyListener(busyCh -> serverBusyResponses.incrementAndGet());
 
                     ClusterNode newNode = ch.protocolContext().clusterNode();
 
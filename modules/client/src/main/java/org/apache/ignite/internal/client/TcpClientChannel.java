@@ -104,6 +104,9 @@ class TcpClientChannel implements ClientChannel, ClientMessageHandler, ClientCon
     /** Observable timestamp listeners. */
     private final Collection<Consumer<Long>> observableTimestampListeners = new CopyOnWriteArrayList<>();
 
+    /** Server busy listeners. */
+    private final Collection<Consumer<ClientChannel>> serverBusyListeners = new CopyOnWriteArrayList<>();
+
     /** Closed flag. */
     private final AtomicBoolean closed = new AtomicBoolean();
 
@@ -404,6 +407,12 @@ class TcpClientChannel implements ClientChannel, ClientMessageHandler, ClientCon
             }
         }
 
+        if (ResponseFlags.getServerBusyFlag(flags)) {
+            for (Consumer<ClientChannel> listener : serverBusyListeners) {
+                listener.accept(this);
+            }
+        }
+
         long observableTimestamp = unpacker.unpackLong();
 
         for (Consumer<Long> listener : observableTimestampListeners) {
@@ -502,6 +511,11 @@ class TcpClientChannel implements ClientChannel, ClientMessageHandler, ClientCon
         observableTimestampListeners.add(listener);
     }
 
+    @Override
+    public void addServerBusyListener(Consumer<ClientChannel> listener) {
+        serverBusyListeners.add(listener);
+    }
+
     private static void validateConfiguration(ClientChannelConfiguration cfg) {
         String error = null;
 
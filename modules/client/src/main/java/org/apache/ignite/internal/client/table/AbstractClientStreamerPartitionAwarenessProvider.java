@@ -22,13 +22,17 @@ import java.util.concurrent.CompletableFuture;
 import org.apache.ignite.internal.streamer.StreamerPartitionAwarenessProvider;
 
 /**
- * Partition awareness provider for data streamer.
+ * Partition awareness provider for data streamer. Items are buffered per partition, and the node to send a batch to is resolved with
+ * the latest known assignment when the batch is sent.
  *
  * @param <T> Item type.
  */
-abstract class AbstractClientStreamerPartitionAwarenessProvider<T> implements StreamerPartitionAwarenessProvider<T, String> {
+abstract class AbstractClientStreamerPartitionAwarenessProvider<T> implements StreamerPartitionAwarenessProvider<T, Integer> {
+    /** Partition of all the items when the partition assignment is not known. */
+    private static final int UNKNOWN_PARTITION = -1;
+
     private final ClientTable tbl;
-    private List<String> assignment;
+    private volatile List<String> assignment;
     private ClientSchema schema;
 
     AbstractClientStreamerPartitionAwarenessProvider(ClientTable tbl) {
@@ -36,17 +40,37 @@ abstract class AbstractClientStreamerPartitionAwarenessProvider<T> implements St
     }
 
     @Override
-    public String partition(T item) {
+    public Integer partition(T item) {
+        List<String> assignment = this.assignment;
+
         if (schema == null || assignment == null) {
             throw new IllegalStateException("StreamerPartitionAwarenessProvider.refresh() was not called or awaited.");
         }
 
         if (assignment.isEmpty()) {
-            return ""; // Default channel.
+            return UNKNOWN_PARTITION;
         }
 
         int hash = colocationHash(schema, item);
-        return assignment.get(Math.abs(hash % assignment.size()));
+        return Math.abs(hash % assignment.size());
+    }
+
+    /**
+     * Gets the node to send a batch of the partition to.
+     *
+     * @param partition Partition.
+     * @return Node name, empty string for the default channel.
+     */
+    @Override
+    public String node(Integer partition) {
+        List<String> assignment = this.assignment;
+
+        if (partition == UNKNOWN_PARTITION || assignment == null || partition >= assignment.size()) {
+            return ""; // Default channel.
+        }
+
+        String node = assignment.get(partition);
+        return node == null ? "" : node;
     }
 
     abstract int colocationHash(ClientSchema schema, T item);
@@ -20,6 +20,7 @@ package org.apache.ignite.internal.client.table;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Flow.Publisher;
 import org.apache.ignite.internal.client.ClientUtils;
+import org.apache.ignite.internal.client.proto.ClientOp;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.streamer.StreamerBatchSender;
 import org.apache.ignite.internal.streamer.StreamerOptions;
@@ -35,19 +36,29 @@ class ClientDataStreamer {
     static <R> CompletableFuture<Void> streamData(
             Publisher<R> publisher,
             DataStreamerOptions options,
-            StreamerBatchSender<R, String> batchSender,
-            StreamerPartitionAwarenessProvider<R, String> partitionAwarenessProvider,
+            StreamerBatchSender<R, Integer> batchSender,
+            StreamerPartitionAwarenessProvider<R, Integer> partitionAwarenessProvider,
             ClientTable tbl) {
         IgniteLogger log = ClientUtils.logger(tbl.channel().configuration(), StreamerSubscriber.class);
         StreamerOptions streamerOpts = streamerOptions(options);
-        StreamerSubscriber<R, String> subscriber = new StreamerSubscriber<>(
-                batchSender, partitionAwarenessProvider, streamerOpts, log, tbl.channel().metrics());
+        StreamerSubscriber<R, Integer> subscriber = new StreamerSubscriber<>(
+                batchSender, partitionAwarenessProvider, streamerOpts, log, tbl.channel().metrics(), tbl.channel()::serverBusyResponses);
 
         publisher.subscribe(subscriber);
 
         return subscriber.completionFuture();
     }
 
+    /**
+     * Gets the operation code to send a batch of the streamer with.
+     *
+     * @param options Streamer options.
+     * @return Operation code.
+     */
+    static int batchOpCode(DataStreamerOptions options) {
+        return options.bulkLoad() ? ClientOp.TUPLE_BULK_LOAD : ClientOp.TUPLE_UPSERT_ALL;
+    }
+
     private static StreamerOptions streamerOptions(DataStreamerOptions options) {
         return new StreamerOptions() {
             @Override
@@ -55,6 +66,11 @@ class ClientDataStreamer {
                 return options.batchSize();
             }
 
+            @Override
+            public long batchSizeBytes() {
+                return options.batchSizeBytes();
+            }
+
             @Override
             public int perNodeParallelOperations() {
                 return options.perNodeParallelOperations();
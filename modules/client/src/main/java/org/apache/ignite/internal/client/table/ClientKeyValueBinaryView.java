@@ -450,11 +450,11 @@ public class ClientKeyValueBinaryView implements KeyValueView<Tuple, Tuple> {
 
         // Partition-aware (best effort) sender with retries.
         // The batch may go to a different node when a direct connection is not available.
-        StreamerBatchSender<Entry<Tuple, Tuple>, String> batchSender = (nodeName, items) -> tbl.doSchemaOutOpAsync(
-                ClientOp.TUPLE_UPSERT_ALL,
+        StreamerBatchSender<Entry<Tuple, Tuple>, Integer> batchSender = (partition, items) -> tbl.doSchemaOutOpAsync(
+                ClientDataStreamer.batchOpCode(opts),
                 (s, w) -> ser.writeKvTuples(null, items, s, w),
                 r -> null,
-                PartitionAwarenessProvider.of(nodeName),
+                PartitionAwarenessProvider.of(provider.node(partition)),
                 new RetryLimitPolicy().retryLimit(opts.retryLimit()));
 
         //noinspection resource
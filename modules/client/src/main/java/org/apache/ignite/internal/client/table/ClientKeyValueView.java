@@ -487,8 +487,8 @@ public class ClientKeyValueView<K, V> implements KeyValueView<K, V> {
 
         // Partition-aware (best effort) sender with retries.
         // The batch may go to a different node when a direct connection is not available.
-        StreamerBatchSender<Entry<K, V>, String> batchSender = (nodeId, items) -> tbl.doSchemaOutOpAsync(
-                ClientOp.TUPLE_UPSERT_ALL,
+        StreamerBatchSender<Entry<K, V>, Integer> batchSender = (partition, items) -> tbl.doSchemaOutOpAsync(
+                ClientDataStreamer.batchOpCode(opts),
                 (s, w) -> {
                     writeSchemaAndTx(s, w, null);
                     w.out().packInt(items.size());
@@ -498,7 +498,7 @@ public class ClientKeyValueView<K, V> implements KeyValueView<K, V> {
                     }
                 },
                 r -> null,
-                PartitionAwarenessProvider.of(nodeId),
+                PartitionAwarenessProvider.of(provider.node(partition)),
                 new RetryLimitPolicy().retryLimit(opts.retryLimit()));
 
         return ClientDataStreamer.streamData(publisher, opts, batchSender, provider, tbl);
@@ -366,11 +366,11 @@ public class ClientRecordView<R> implements RecordView<R> {
 
         // Partition-aware (best effort) sender with retries.
         // The batch may go to a different node when a direct connection is not available.
-        StreamerBatchSender<R, String> batchSender = (nodeId, items) -> tbl.doSchemaOutOpAsync(
-                ClientOp.TUPLE_UPSERT_ALL,
+        StreamerBatchSender<R, Integer> batchSender = (partition, items) -> tbl.doSchemaOutOpAsync(
+                ClientDataStreamer.batchOpCode(opts),
                 (s, w) -> ser.writeRecs(null, items, s, w, TuplePart.KEY_AND_VAL),
                 r -> null,
-                PartitionAwarenessProvider.of(nodeId),
+                PartitionAwarenessProvider.of(provider.node(partition)),
                 new RetryLimitPolicy().retryLimit(opts.retryLimit()));
 
         return ClientDataStreamer.streamData(publisher, opts, batchSender, provider, tbl);
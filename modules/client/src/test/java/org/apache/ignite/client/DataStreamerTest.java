@@ -28,6 +28,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.SubmissionPublisher;
@@ -37,6 +38,8 @@ import java.util.function.Function;
 import org.apache.ignite.client.IgniteClient.Builder;
 import org.apache.ignite.client.fakes.FakeIgnite;
 import org.apache.ignite.client.fakes.FakeIgniteTables;
+import org.apache.ignite.client.fakes.FakeInternalTable;
+import org.apache.ignite.internal.table.TableImpl;
 import org.apache.ignite.internal.util.IgniteUtils;
 import org.apache.ignite.table.DataStreamerOptions;
 import org.apache.ignite.table.KeyValueView;
@@ -85,6 +88,34 @@ public class DataStreamerTest extends AbstractClientTableTest {
         assertEquals("bar", view.get(null, tupleKey(2L)).stringValue("name"));
     }
 
+    @Test
+    public void testBulkLoadRecordBinaryView() {
+        RecordView<Tuple> view = defaultTable().recordView();
+
+        var ops = new ConcurrentLinkedQueue<String>();
+
+        TableImpl serverTable = (TableImpl) server.tables().table(DEFAULT_TABLE);
+        ((FakeInternalTable) serverTable.internalTable()).setDataAccessListener((op, data) -> ops.add(op));
+
+        CompletableFuture<Void> streamerFut;
+
+        try (var publisher = new SubmissionPublisher<Tuple>()) {
+            var options = DataStreamerOptions.builder().bulkLoad(true).build();
+            streamerFut = view.streamData(publisher, options);
+
+            publisher.submit(tuple(1L, "foo"));
+            publisher.submit(tuple(2L, "bar"));
+        }
+
+        streamerFut.orTimeout(1, TimeUnit.SECONDS).join();
+
+        assertEquals("foo", view.get(null, tupleKey(1L)).stringValue("name"));
+        assertEquals("bar", view.get(null, tupleKey(2L)).stringValue("name"));
+
+        assertTrue(ops.contains("bulkLoad"));
+        assertFalse(ops.contains("upsertAll"));
+    }
+
     @Test
     public void testBasicStreamingRecordPojoView() {
         RecordView<PersonPojo> view = defaultTable().recordView(PersonPojo.class);
@@ -188,6 +188,17 @@ public class FakeInternalTable implements InternalTable {
         throw new UnsupportedOperationException();
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> bulkLoad(Collection<BinaryRowEx> rows, int partition) {
+        for (var row : rows) {
+            upsert(row, null);
+        }
+
+        onDataAccess("bulkLoad", rows);
+        return completedFuture(null);
+    }
+
     /** {@inheritDoc} */
     @Override
     public CompletableFuture<BinaryRow> getAndUpsert(BinaryRowEx row,
@@ -212,6 +212,11 @@ public class RepeatedFinishClientTransactionTest extends BaseIgniteAbstractTest
             // No-op.
         }
 
+        @Override
+        public void addServerBusyListener(Consumer<ClientChannel> listener) {
+            // No-op.
+        }
+
         @Override
         public void close() {
 
@@ -24,15 +24,22 @@ import java.util.function.Consumer;
 class StreamerBuffer<T> {
     private final int capacity;
 
+    /** Estimated size of the items in bytes that triggers a flush, {@code 0} or less means no limit. */
+    private final long capacityBytes;
+
     private final Consumer<List<T>> flusher;
 
     /** Primary buffer. Won't grow over capacity. */
     private List<T> buf;
 
+    /** Estimated size of the buffered items in bytes, tracked only if {@link #capacityBytes} is set. */
+    private long bufBytes;
+
     private boolean closed;
 
-    StreamerBuffer(int capacity, Consumer<List<T>> flusher) {
+    StreamerBuffer(int capacity, long capacityBytes, Consumer<List<T>> flusher) {
         this.capacity = capacity;
+        this.capacityBytes = capacityBytes;
         this.flusher = flusher;
         buf = new ArrayList<>(capacity);
     }
@@ -49,9 +56,14 @@ class StreamerBuffer<T> {
 
         buf.add(item);
 
-        if (buf.size() >= capacity) {
+        if (capacityBytes > 0) {
+            bufBytes += StreamerItemSizeEstimator.estimate(item);
+        }
+
+        if (buf.size() >= capacity || (capacityBytes > 0 && bufBytes >= capacityBytes)) {
             flusher.accept(buf);
             buf = new ArrayList<>(capacity);
+            bufBytes = 0;
         }
     }
 
@@ -74,5 +86,6 @@ class StreamerBuffer<T> {
 
         flusher.accept(buf);
         buf = new ArrayList<>(capacity);
+        bufBytes = 0;
     }
 }
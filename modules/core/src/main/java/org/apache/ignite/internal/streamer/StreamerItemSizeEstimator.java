@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.streamer;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.temporal.Temporal;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.UUID;
+import org.apache.ignite.table.Tuple;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Estimates the serialized size of data streamer items, used to flush the buffers by size. The estimate is close to the size of the
+ * values in the binary tuple format for tuples and their entries, while user objects are not inspected and get a fixed estimate, so
+ * streamers of user objects are effectively flushed by the number of items only.
+ */
+public final class StreamerItemSizeEstimator {
+    /** Estimated size of a value of an unknown type. */
+    static final int DEFAULT_VALUE_SIZE = 64;
+
+    /** Per-value overhead: an entry of the binary tuple offset table. */
+    private static final int VALUE_OVERHEAD = 2;
+
+    private StreamerItemSizeEstimator() {
+        // No-op.
+    }
+
+    /**
+     * Estimates the serialized size of a streamer item.
+     *
+     * @param item Item: a tuple, a map entry of tuples or user objects, or a user object.
+     * @return Estimated size in bytes.
+     */
+    public static long estimate(@Nullable Object item) {
+        if (item instanceof Tuple) {
+            return estimateTuple((Tuple) item);
+        }
+
+        if (item instanceof Map.Entry) {
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>) item;
+
+            return estimate(entry.getKey()) + estimate(entry.getValue());
+        }
+
+        return estimateValue(item);
+    }
+
+    private static long estimateTuple(Tuple tuple) {
+        long size = 0;
+
+        for (int i = 0; i < tuple.columnCount(); i++) {
+            size += estimateValue(tuple.value(i));
+        }
+
+        return size;
+    }
+
+    private static long estimateValue(@Nullable Object val) {
+        if (val == null) {
+            return VALUE_OVERHEAD;
+        }
+
+        if (val instanceof String) {
+            // Most of the strings are ASCII, which takes one byte per character in UTF-8.
+            return VALUE_OVERHEAD + ((String) val).length();
+        }
+
+        if (val instanceof byte[]) {
+            return VALUE_OVERHEAD + ((byte[]) val).length;
+        }
+
+        if (val instanceof Byte || val instanceof Boolean) {
+            return VALUE_OVERHEAD + 1;
+        }
+
+        if (val instanceof Short) {
+            return VALUE_OVERHEAD + Short.BYTES;
+        }
+
+        if (val instanceof Integer || val instanceof Float) {
+            return VALUE_OVERHEAD + Integer.BYTES;
+        }
+
+        if (val instanceof Long || val instanceof Double) {
+            return VALUE_OVERHEAD + Long.BYTES;
+        }
+
+        if (val instanceof UUID) {
+            return VALUE_OVERHEAD + 2 * Long.BYTES;
+        }
+
+        if (val instanceof BigDecimal) {
+            return VALUE_OVERHEAD + Short.BYTES + ((BigDecimal) val).unscaledValue().bitLength() / Byte.SIZE + 1;
+        }
+
+        if (val instanceof BigInteger) {
+            return VALUE_OVERHEAD + ((BigInteger) val).bitLength() / Byte.SIZE + 1;
+        }
+
+        if (val instanceof BitSet) {
+            return VALUE_OVERHEAD + ((BitSet) val).length() / Byte.SIZE + 1;
+        }
+
+        if (val instanceof Temporal) {
+            return VALUE_OVERHEAD + Long.BYTES + Integer.BYTES;
+        }
+
+        return DEFAULT_VALUE_SIZE;
+    }
+}
@@ -29,7 +29,16 @@ public interface StreamerOptions {
     int batchSize();
 
     /**
-     * Gets the number of parallel operations per node (how many in-flight requests can be active for a given node).
+     * Gets the batch size in bytes (the estimated size of the entries that triggers sending of a batch even if it has fewer than
+     * {@link #batchSize()} entries).
+     *
+     * @return Batch size in bytes, {@code 0} or less means no limit.
+     */
+    long batchSizeBytes();
+
+    /**
+     * Gets the number of parallel operations per node (how many in-flight requests can be active for a given node). This is the upper
+     * limit, the streamer lowers the actual parallelism when the batches slow down or the server reports that it is busy.
      *
      * @return Per node parallel operations.
      */
@@ -34,6 +34,16 @@ public interface StreamerPartitionAwarenessProvider<T, P> {
      */
     P partition(T item);
 
+    /**
+     * Returns the node, that the batches of the partition are sent to. The streamer limits the number of in-flight batches per node.
+     *
+     * @param partition Partition.
+     * @return Node, partitions of the same node must return equal nodes. Every partition is treated as a separate node by default.
+     */
+    default Object node(P partition) {
+        return partition;
+    }
+
     /**
      * Refreshes schemas and partition mapping asynchronously.
      *
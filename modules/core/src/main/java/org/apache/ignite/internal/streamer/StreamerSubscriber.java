@@ -18,6 +18,8 @@
 package org.apache.ignite.internal.streamer;
 
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -29,6 +31,8 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.thread.NamedThreadFactory;
 import org.apache.ignite.internal.util.IgniteUtils;
@@ -37,10 +41,19 @@ import org.jetbrains.annotations.Nullable;
 /**
  * Data streamer subscriber.
  *
+ * <p>Items are buffered per partition, a buffer is sent when it reaches the batch size in items or in estimated bytes, or by the
+ * auto flush timer. The number of items requested from the publisher depends on the parallelism, which is adjusted with the additive
+ * increase and multiplicative decrease rule: it is halved when the latency of a batch grows well above the best one observed so far, or
+ * when the server reports that it is busy, and is increased by one after any other completed batch, up to
+ * {@link StreamerOptions#perNodeParallelOperations()}.
+ *
  * @param <T> Item type.
  * @param <P> Partition type.
  */
 public class StreamerSubscriber<T, P> implements Subscriber<T> {
+    /** Latency of a batch item relative to the best one, above which the parallelism is decreased. */
+    private static final int SLOW_BATCH_LATENCY_FACTOR = 4;
+
     private final StreamerBatchSender<T, P> batchSender;
 
     private final StreamerPartitionAwarenessProvider<T, P> partitionAwarenessProvider;
@@ -63,6 +76,21 @@ public class StreamerSubscriber<T, P> implements Subscriber<T> {
 
     private final StreamerMetricSink metrics;
 
+    /** Counter of the server busy responses, {@code null} if the server does not report its load. */
+    private final @Nullable LongSupplier serverBusyCounter;
+
+    /** Current parallelism, from {@code 1} to {@link StreamerOptions#perNodeParallelOperations()}. */
+    private final AtomicInteger parallelism;
+
+    /** Number of nodes the buffered partitions are sent to, the number of in-flight items is limited per node. */
+    private volatile int nodeCount = 1;
+
+    /** Best observed latency of a batch item in nanoseconds. */
+    private final AtomicLong minItemLatencyNanos = new AtomicLong(Long.MAX_VALUE);
+
+    /** Time of the last parallelism decrease, batches sent before it don't decrease the parallelism again. */
+    private final AtomicLong lastDecreaseNanos = new AtomicLong(System.nanoTime());
+
     private @Nullable Flow.Subscription subscription;
 
     private @Nullable ScheduledExecutorService flushTimer;
@@ -73,7 +101,10 @@ public class StreamerSubscriber<T, P> implements Subscriber<T> {
      * Constructor.
      *
      * @param batchSender Batch sender.
+     * @param partitionAwarenessProvider Partition awareness provider.
      * @param options Data streamer options.
+     * @param log Logger.
+     * @param metrics Metrics sink, {@code null} if the metrics are not collected.
      */
     public StreamerSubscriber(
             StreamerBatchSender<T, P> batchSender,
@@ -81,6 +112,26 @@ public class StreamerSubscriber<T, P> implements Subscriber<T> {
             StreamerOptions options,
             IgniteLogger log,
             @Nullable StreamerMetricSink metrics) {
+        this(batchSender, partitionAwarenessProvider, options, log, metrics, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param batchSender Batch sender.
+     * @param partitionAwarenessProvider Partition awareness provider.
+     * @param options Data streamer options.
+     * @param log Logger.
+     * @param metrics Metrics sink, {@code null} if the metrics are not collected.
+     * @param serverBusyCounter Counter of the server busy responses, the parallelism is decreased if it grows while a batch is sent.
+     */
+    public StreamerSubscriber(
+            StreamerBatchSender<T, P> batchSender,
+            StreamerPartitionAwarenessProvider<T, P> partitionAwarenessProvider,
+            StreamerOptions options,
+            IgniteLogger log,
+            @Nullable StreamerMetricSink metrics,
+            @Nullable LongSupplier serverBusyCounter) {
         assert batchSender != null;
         assert partitionAwarenessProvider != null;
         assert options != null;
@@ -91,6 +142,8 @@ public class StreamerSubscriber<T, P> implements Subscriber<T> {
         this.options = options;
         this.log = log;
         this.metrics = getMetrics(metrics);
+        this.serverBusyCounter = serverBusyCounter;
+        this.parallelism = new AtomicInteger(options.perNodeParallelOperations());
     }
 
     /** {@inheritDoc} */
@@ -123,9 +176,15 @@ public class StreamerSubscriber<T, P> implements Subscriber<T> {
 
         P partition = partitionAwarenessProvider.partition(item);
 
-        StreamerBuffer<T> buf = buffers.computeIfAbsent(
-                partition,
-                p -> new StreamerBuffer<>(options.batchSize(), items -> enlistBatch(p, items)));
+        StreamerBuffer<T> buf = buffers.get(partition);
+
+        if (buf == null) {
+            buf = buffers.computeIfAbsent(
+                    partition,
+                    p -> new StreamerBuffer<>(options.batchSize(), options.batchSizeBytes(), items -> enlistBatch(p, items)));
+
+            updateNodeCount();
+        }
 
         buf.add(item);
         this.metrics.streamerItemsQueuedAdd(1);
@@ -168,7 +227,19 @@ public class StreamerSubscriber<T, P> implements Subscriber<T> {
         );
     }
 
+    /**
+     * Returns the current parallelism.
+     *
+     * @return Parallelism.
+     */
+    int parallelism() {
+        return parallelism.get();
+    }
+
     private CompletableFuture<Void> sendBatch(P partition, Collection<T> batch) {
+        long startNanos = System.nanoTime();
+        long serverBusyCount = serverBusyCounter == null ? 0 : serverBusyCounter.getAsLong();
+
         // If a connection fails, the batch goes to default connection thanks to built-it retry mechanism.
         try {
             return batchSender.sendAsync(partition, batch).whenComplete((res, err) -> {
@@ -185,11 +256,15 @@ public class StreamerSubscriber<T, P> implements Subscriber<T> {
                     this.metrics.streamerItemsSentAdd(batchSize);
                     this.metrics.streamerItemsQueuedAdd(-batchSize);
 
+                    boolean serverBusy = serverBusyCounter != null && serverBusyCounter.getAsLong() != serverBusyCount;
+
+                    adjustParallelism(batchSize, startNanos, serverBusy);
+
                     inFlightItemCount.addAndGet(-batchSize);
                     requestMore();
 
                     // Refresh partition assignment asynchronously.
-                    partitionAwarenessProvider.refreshAsync().exceptionally(refreshErr -> {
+                    partitionAwarenessProvider.refreshAsync().thenRun(this::updateNodeCount).exceptionally(refreshErr -> {
                         log.error("Failed to refresh schemas and partition assignment: " + refreshErr.getMessage(), refreshErr);
                         close(refreshErr);
                         return null;
@@ -203,6 +278,33 @@ public class StreamerSubscriber<T, P> implements Subscriber<T> {
         }
     }
 
+    private void adjustParallelism(int batchSize, long startNanos, boolean serverBusy) {
+        boolean slow = false;
+
+        // Small batches sent by the flush timer have a higher per-item latency and are not compared.
+        if (batchSize * 2 >= options.batchSize()) {
+            long itemLatencyNanos = Math.max(1, (System.nanoTime() - startNanos) / batchSize);
+            long minLatencyNanos = minItemLatencyNanos.accumulateAndGet(itemLatencyNanos, Math::min);
+
+            slow = itemLatencyNanos > minLatencyNanos * SLOW_BATCH_LATENCY_FACTOR;
+        }
+
+        if (serverBusy || slow) {
+            long lastDecrease = lastDecreaseNanos.get();
+
+            // Batches sent before the last decrease were affected by the previous parallelism.
+            if (startNanos - lastDecrease > 0 && lastDecreaseNanos.compareAndSet(lastDecrease, System.nanoTime())) {
+                int newParallelism = parallelism.updateAndGet(p -> Math.max(1, p / 2));
+
+                if (log.isDebugEnabled()) {
+                    log.debug("Data streamer parallelism decreased [parallelism=" + newParallelism + ", serverBusy=" + serverBusy + ']');
+                }
+            }
+        } else {
+            parallelism.updateAndGet(p -> Math.min(options.perNodeParallelOperations(), p + 1));
+        }
+    }
+
     private void close(@Nullable Throwable throwable) {
         if (flushTimer != null) {
             assert flushTask != null;
@@ -237,9 +339,9 @@ public class StreamerSubscriber<T, P> implements Subscriber<T> {
 
     private void requestMore() {
         // This method controls backpressure. We won't get more items than we requested.
-        // The idea is to have perNodeParallelOperations batches in flight for every connection.
+        // The idea is to have up to perNodeParallelOperations batches in flight for every node, depending on the current parallelism.
         var pending = pendingItemCount.get();
-        var desiredInFlight = Math.max(1, buffers.size()) * options.batchSize() * options.perNodeParallelOperations();
+        var desiredInFlight = nodeCount * options.batchSize() * parallelism.get();
         var inFlight = inFlightItemCount.get();
         var count = desiredInFlight - inFlight - pending;
 
@@ -252,6 +354,16 @@ public class StreamerSubscriber<T, P> implements Subscriber<T> {
         pendingItemCount.addAndGet(count);
     }
 
+    private void updateNodeCount() {
+        Set<Object> nodes = new HashSet<>();
+
+        for (P partition : buffers.keySet()) {
+            nodes.add(partitionAwarenessProvider.node(partition));
+        }
+
+        nodeCount = Math.max(1, nodes.size());
+    }
+
     private void initFlushTimer() {
         int interval = options.autoFlushFrequency();
 
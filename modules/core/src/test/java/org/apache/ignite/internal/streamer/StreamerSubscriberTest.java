@@ -19,12 +19,17 @@ package org.apache.ignite.internal.streamer;
 
 import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willCompleteSuccessfully;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Flow.Publisher;
 import java.util.concurrent.Flow.Subscriber;
 import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.LongFunction;
 import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
@@ -60,11 +65,17 @@ class StreamerSubscriberTest extends BaseIgniteAbstractTest {
 
     private static class Options implements StreamerOptions {
         private final int batchSize;
+        private final long batchSizeBytes;
         private final int perNodeParallelOperations;
         private final int autoFlushFrequency;
 
         Options(int batchSize, int perNodeParallelOperations, int autoFlushFrequency) {
+            this(batchSize, 0, perNodeParallelOperations, autoFlushFrequency);
+        }
+
+        Options(int batchSize, long batchSizeBytes, int perNodeParallelOperations, int autoFlushFrequency) {
             this.batchSize = batchSize;
+            this.batchSizeBytes = batchSizeBytes;
             this.perNodeParallelOperations = perNodeParallelOperations;
             this.autoFlushFrequency = autoFlushFrequency;
         }
@@ -74,6 +85,11 @@ class StreamerSubscriberTest extends BaseIgniteAbstractTest {
             return batchSize;
         }
 
+        @Override
+        public long batchSizeBytes() {
+            return batchSizeBytes;
+        }
+
         @Override
         public int perNodeParallelOperations() {
             return perNodeParallelOperations;
@@ -123,6 +139,20 @@ class StreamerSubscriberTest extends BaseIgniteAbstractTest {
         }
     }
 
+    private static <T> StreamerPartitionAwarenessProvider<T, String> singlePartitionProvider() {
+        return new StreamerPartitionAwarenessProvider<>() {
+            @Override
+            public String partition(T item) {
+                return "foo";
+            }
+
+            @Override
+            public CompletableFuture<Void> refreshAsync() {
+                return CompletableFuture.completedFuture(null);
+            }
+        };
+    }
+
     /**
      * Tests the backpressure algorithm when batch sending is stuck.
      */
@@ -176,4 +206,125 @@ class StreamerSubscriberTest extends BaseIgniteAbstractTest {
         assertThat(metrics.itemsQueued.longValue(), is(0L));
         assertThat(metrics.itemsSent.longValue(), is(itemsCount));
     }
+
+    /**
+     * Tests that a batch is sent when the estimated size of its items reaches the batch size in bytes.
+     */
+    @Test
+    void testFlushByBatchSizeBytes() {
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+        var sendFuture = new CompletableFuture<Void>();
+
+        var subscriber = new StreamerSubscriber<byte[], String>(
+                (part, batch) -> {
+                    batchSizes.add(batch.size());
+
+                    return sendFuture;
+                },
+                singlePartitionProvider(),
+                new Options(100, 250, 1, 0),
+                log,
+                null
+        );
+
+        new LimitedPublisher<>(10, i -> new byte[100]).subscribe(subscriber);
+
+        sendFuture.complete(null);
+
+        assertThat(subscriber.completionFuture(), willCompleteSuccessfully());
+
+        assertThat(batchSizes, contains(3, 3, 3, 1));
+    }
+
+    /**
+     * Tests that the parallelism is decreased when the server reports that it is busy.
+     */
+    @Test
+    void testParallelismDecreasedWhenServerBusy() {
+        var serverBusyResponses = new AtomicLong();
+
+        var sendFuture = new CompletableFuture<Void>();
+
+        var subscriber = new StreamerSubscriber<Long, String>(
+                (part, batch) -> {
+                    serverBusyResponses.incrementAndGet();
+
+                    return sendFuture;
+                },
+                singlePartitionProvider(),
+                new Options(2, 4, 0),
+                log,
+                null,
+                serverBusyResponses::get
+        );
+
+        assertThat(subscriber.parallelism(), is(4));
+
+        new LimitedPublisher<>(20, i -> i).subscribe(subscriber);
+
+        sendFuture.complete(null);
+
+        assertThat(subscriber.completionFuture(), willCompleteSuccessfully());
+
+        assertThat(subscriber.parallelism(), is(1));
+    }
+
+    /**
+     * Tests that the number of in-flight batches is limited per node rather than per partition.
+     */
+    @Test
+    void testInFlightBatchesLimitedPerNode() {
+        var metrics = new Metrics();
+
+        var options = new Options(2, 2, 0);
+
+        int partitions = 8;
+
+        var partitionProvider = new StreamerPartitionAwarenessProvider<Long, Integer>() {
+            @Override
+            public Integer partition(Long item) {
+                return (int) (item % partitions);
+            }
+
+            @Override
+            public Object node(Integer partition) {
+                return "node";
+            }
+
+            @Override
+            public CompletableFuture<Void> refreshAsync() {
+                return CompletableFuture.completedFuture(null);
+            }
+        };
+
+        var subscriber = new StreamerSubscriber<>(
+                (part, batch) -> new CompletableFuture<>(),
+                partitionProvider,
+                options,
+                log,
+                metrics
+        );
+
+        var requested = new AtomicLong();
+
+        subscriber.onSubscribe(new Subscription() {
+            @Override
+            public void request(long n) {
+                requested.addAndGet(n);
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+
+        // Items are delivered as long as they are requested, while none of the batches completes.
+        for (long item = 0; item < requested.get(); item++) {
+            subscriber.onNext(item);
+        }
+
+        // Up to perNodeParallelOperations batches, plus the ones completed by the items buffered before the limit was reached.
+        assertThat(metrics.batchesActive.longValue(), lessThanOrEqualTo(2L * options.perNodeParallelOperations));
+    }
 }
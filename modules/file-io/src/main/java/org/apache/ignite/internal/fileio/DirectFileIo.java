@@ -0,0 +1,283 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.fileio;
+
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import com.sun.nio.file.ExtendedOpenOption;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * {@link FileIo} implementation that reads and writes by position bypassing the OS page cache (using {@code O_DIRECT}), so that the data
+ * that is already cached in the page memory is not cached the second time by the OS.
+ *
+ * <p>Direct I/O requires the file position, the length and the address of the buffer to be aligned to the block size of the file
+ * system. Reads by position are always performed directly: unaligned ones go through a thread-local aligned buffer. Writes by position are
+ * performed directly only if they are aligned, otherwise they go through the OS page cache (the OS keeps the cached and direct accesses
+ * of the same file coherent). Operations that use the current position of the file, as well as {@link #force()} and {@link #map(int)},
+ * always go through the OS page cache.
+ *
+ * <p>If the file system does not support direct I/O, all operations go through the OS page cache, see {@link #isDirect()}.
+ */
+public class DirectFileIo extends AbstractFileIo {
+    /** Thread-local aligned buffer for unaligned direct reads. */
+    private static final ThreadLocal<ByteBuffer> ALIGNED_BUFFER = new ThreadLocal<>();
+
+    /** File channel that works through the OS page cache. */
+    private final FileChannel ch;
+
+    /** File channel that bypasses the OS page cache, {@code null} if direct I/O is not supported by the file system. */
+    private final @Nullable FileChannel directCh;
+
+    /** Block size of the file system, to which direct I/O operations must be aligned. */
+    private final int blockSize;
+
+    /**
+     * Creates I/O implementation for specified file.
+     *
+     * @param filePath File path.
+     * @param modes Open modes.
+     * @throws IOException If the file could not be opened.
+     */
+    public DirectFileIo(Path filePath, OpenOption... modes) throws IOException {
+        ch = FileChannel.open(filePath, modes);
+
+        FileChannel directCh;
+        int blockSize;
+
+        try {
+            blockSize = Math.toIntExact(Files.getFileStore(filePath).getBlockSize());
+
+            boolean write = Arrays.asList(modes).contains(WRITE);
+
+            directCh = write
+                    ? FileChannel.open(filePath, READ, WRITE, ExtendedOpenOption.DIRECT)
+                    : FileChannel.open(filePath, READ, ExtendedOpenOption.DIRECT);
+        } catch (IOException | UnsupportedOperationException | ArithmeticException e) {
+            // Direct I/O is not supported by the file system (for example, tmpfs), let's fall back to buffered I/O.
+            directCh = null;
+            blockSize = 1;
+        }
+
+        this.directCh = directCh;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * Returns {@code true} if the reads and aligned writes by position bypass the OS page cache.
+     */
+    public boolean isDirect() {
+        return directCh != null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long position() throws IOException {
+        return ch.position();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void position(long newPosition) throws IOException {
+        ch.position(newPosition);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read(ByteBuffer destBuf) throws IOException {
+        return ch.read(destBuf);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read(ByteBuffer destBuf, long position) throws IOException {
+        FileChannel directCh = this.directCh;
+
+        if (directCh == null) {
+            return ch.read(destBuf, position);
+        }
+
+        if (isAligned(destBuf, position)) {
+            return directCh.read(destBuf, position);
+        }
+
+        int len = destBuf.remaining();
+
+        long alignedPosition = alignDown(position);
+        int alignedLen = Math.toIntExact(alignUp(position + len) - alignedPosition);
+
+        ByteBuffer alignedBuf = alignedBuffer(alignedLen);
+
+        int bytesRead = 0;
+
+        // Unaligned number of bytes read means that the end of the file is reached.
+        while (alignedBuf.hasRemaining() && bytesRead % blockSize == 0) {
+            int n = directCh.read(alignedBuf, alignedPosition + bytesRead);
+
+            if (n < 0) {
+                break;
+            }
+
+            bytesRead += n;
+        }
+
+        int skip = (int) (position - alignedPosition);
+
+        if (bytesRead <= skip) {
+            return len == 0 ? 0 : -1;
+        }
+
+        int available = Math.min(len, bytesRead - skip);
+
+        alignedBuf.limit(skip + available).position(skip);
+
+        destBuf.put(alignedBuf);
+
+        return available;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read(byte[] buf, int off, int len) throws IOException {
+        return ch.read(ByteBuffer.wrap(buf, off, len));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int write(ByteBuffer srcBuf) throws IOException {
+        return ch.write(srcBuf);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int write(ByteBuffer srcBuf, long position) throws IOException {
+        FileChannel directCh = this.directCh;
+
+        if (directCh != null && isAligned(srcBuf, position)) {
+            return directCh.write(srcBuf, position);
+        }
+
+        return ch.write(srcBuf, position);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int write(byte[] buf, int off, int len) throws IOException {
+        return ch.write(ByteBuffer.wrap(buf, off, len));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void force(boolean withMetadata) throws IOException {
+        ch.force(withMetadata);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void force() throws IOException {
+        force(false);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long size() throws IOException {
+        return ch.size();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void clear() throws IOException {
+        ch.truncate(0);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws IOException {
+        try {
+            ch.close();
+        } finally {
+            if (directCh != null) {
+                directCh.close();
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public MappedByteBuffer map(int sizeBytes) throws IOException {
+        return ch.map(FileChannel.MapMode.READ_WRITE, 0, sizeBytes);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+        return ch.transferTo(position, count, target);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+        return ch.transferFrom(src, position, count);
+    }
+
+    /**
+     * Returns {@code true} if an I/O operation with the buffer by the position can be performed directly without an intermediate buffer.
+     */
+    private boolean isAligned(ByteBuffer buf, long position) {
+        return buf.isDirect()
+                && position % blockSize == 0
+                && buf.remaining() % blockSize == 0
+                && buf.alignmentOffset(buf.position(), blockSize) == 0;
+    }
+
+    private long alignDown(long position) {
+        return position - position % blockSize;
+    }
+
+    private long alignUp(long position) {
+        return alignDown(position + blockSize - 1);
+    }
+
+    /**
+     * Returns a thread-local direct buffer aligned to the block size, with the position {@code 0} and the limit {@code len}.
+     */
+    private ByteBuffer alignedBuffer(int len) {
+        ByteBuffer buf = ALIGNED_BUFFER.get();
+
+        if (buf == null || buf.capacity() < len || buf.alignmentOffset(0, blockSize) != 0) {
+            buf = ByteBuffer.allocateDirect(len + blockSize).alignedSlice(blockSize);
+
+            ALIGNED_BUFFER.set(buf);
+        }
+
+        buf.clear().limit(len);
+
+        return buf;
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.fileio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * {@link FileIo} implementation that reads by position from the memory-mapped file, avoiding a system call and a copy from the OS page
+ * cache for every read.
+ *
+ * <p>The file is mapped lazily by regions of {@link #REGION_SIZE} bytes, a region is remapped when a read goes beyond its mapped part and
+ * the file has grown since the region was mapped. Reads that span two regions or go beyond the end of the file, as well as all the writes
+ * and the operations that use the current position of the file, go through the {@link FileChannel}.
+ *
+ * <p>Accessing a mapped region beyond the end of the file crashes the JVM, so reads from the mapped regions are done under the read lock
+ * and {@link #clear()} truncates the file under the write lock, after all the regions have been dropped.
+ */
+public class MappedFileIo extends AbstractFileIo {
+    /** Number of bits of the region size. */
+    private static final int REGION_SIZE_BITS = 28;
+
+    /** Size of a mapped region in bytes. */
+    static final int REGION_SIZE = 1 << REGION_SIZE_BITS;
+
+    /** File channel. */
+    private final FileChannel ch;
+
+    /** Mapped regions of the file, {@code null} elements for the regions that have not been mapped yet. */
+    private volatile MappedByteBuffer[] regions = new MappedByteBuffer[0];
+
+    /** Lock that guards the mapped regions from the truncation of the file while they are read. */
+    private final ReadWriteLock truncateLock = new ReentrantReadWriteLock();
+
+    /**
+     * Creates I/O implementation for specified file.
+     *
+     * @param filePath File path.
+     * @param modes Open modes.
+     * @throws IOException If the file could not be opened.
+     */
+    public MappedFileIo(Path filePath, OpenOption... modes) throws IOException {
+        ch = FileChannel.open(filePath, modes);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long position() throws IOException {
+        return ch.position();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void position(long newPosition) throws IOException {
+        ch.position(newPosition);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read(ByteBuffer destBuf) throws IOException {
+        return ch.read(destBuf);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read(ByteBuffer destBuf, long position) throws IOException {
+        int len = destBuf.remaining();
+
+        truncateLock.readLock().lock();
+
+        try {
+            MappedByteBuffer region = region(position, len);
+
+            if (region == null) {
+                return ch.read(destBuf, position);
+            }
+
+            int offset = (int) (position & (REGION_SIZE - 1));
+
+            ByteBuffer src = region.duplicate();
+
+            src.limit(offset + len).position(offset);
+
+            destBuf.put(src);
+
+            return len;
+        } finally {
+            truncateLock.readLock().unlock();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read(byte[] buf, int off, int len) throws IOException {
+        return ch.read(ByteBuffer.wrap(buf, off, len));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int write(ByteBuffer srcBuf) throws IOException {
+        return ch.write(srcBuf);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int write(ByteBuffer srcBuf, long position) throws IOException {
+        return ch.write(srcBuf, position);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int write(byte[] buf, int off, int len) throws IOException {
+        return ch.write(ByteBuffer.wrap(buf, off, len));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void force(boolean withMetadata) throws IOException {
+        ch.force(withMetadata);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void force() throws IOException {
+        force(false);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long size() throws IOException {
+        return ch.size();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void clear() throws IOException {
+        truncateLock.writeLock().lock();
+
+        try {
+            // No reader holds a region at this point, and the regions are dropped so that nobody can get them after the truncation.
+            regions = new MappedByteBuffer[0];
+
+            ch.truncate(0);
+        } finally {
+            truncateLock.writeLock().unlock();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void close() throws IOException {
+        // Mapped regions are not unmapped explicitly because concurrent readers may still use them, they are released by GC.
+        regions = new MappedByteBuffer[0];
+
+        ch.close();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public MappedByteBuffer map(int sizeBytes) throws IOException {
+        return ch.map(MapMode.READ_WRITE, 0, sizeBytes);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+        return ch.transferTo(position, count, target);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+        return ch.transferFrom(src, position, count);
+    }
+
+    /**
+     * Returns the mapped region that fully contains the requested range of the file, {@code null} if the range spans two regions or goes
+     * beyond the end of the file.
+     *
+     * @param position Position of the range in the file.
+     * @param len Length of the range.
+     * @throws IOException If the region could not be mapped.
+     */
+    private @Nullable MappedByteBuffer region(long position, int len) throws IOException {
+        if (!ch.isOpen()) {
+            throw new ClosedChannelException();
+        }
+
+        int regionIdx = (int) (position >>> REGION_SIZE_BITS);
+        long regionEnd = (position & (REGION_SIZE - 1)) + len;
+
+        if (len == 0 || regionEnd > REGION_SIZE) {
+            return null;
+        }
+
+        MappedByteBuffer[] regions = this.regions;
+
+        MappedByteBuffer region = regionIdx < regions.length ? regions[regionIdx] : null;
+
+        if (region != null && region.capacity() >= regionEnd) {
+            return region;
+        }
+
+        return remap(regionIdx, regionEnd);
+    }
+
+    /**
+     * Maps the region of the file up to the current end of the file (but no more than {@link #REGION_SIZE}), {@code null} if the file is
+     * smaller than the requested part of the region.
+     *
+     * @param regionIdx Region index.
+     * @param regionEnd End of the requested part of the region relative to the start of the region.
+     * @throws IOException If the region could not be mapped.
+     */
+    private synchronized @Nullable MappedByteBuffer remap(int regionIdx, long regionEnd) throws IOException {
+        MappedByteBuffer[] regions = this.regions;
+
+        MappedByteBuffer region = regionIdx < regions.length ? regions[regionIdx] : null;
+
+        if (region != null && region.capacity() >= regionEnd) {
+            return region;
+        }
+
+        long regionStart = (long) regionIdx << REGION_SIZE_BITS;
+
+        long mapSize = Math.min(REGION_SIZE, ch.size() - regionStart);
+
+        if (mapSize < regionEnd) {
+            return null;
+        }
+
+        region = ch.map(MapMode.READ_ONLY, regionStart, mapSize);
+
+        MappedByteBuffer[] newRegions = Arrays.copyOf(regions, Math.max(regions.length, regionIdx + 1));
+
+        newRegions[regionIdx] = region;
+
+        this.regions = newRegions;
+
+        return region;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.fileio;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * For {@link DirectFileIo} testing.
+ */
+public class DirectFileIoTest extends AbstractFileIoTest {
+    @BeforeEach
+    void setUp() {
+        fileIoFactory = new DirectFileIoFactory();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected Class<? extends FileIo> fileIoClass() {
+        return DirectFileIo.class;
+    }
+
+    @Test
+    void testUnalignedReadAndWriteByPosition() throws Exception {
+        Path testFilePath = workDir.resolve("test");
+
+        byte[] bytes = new byte[3 * 4096 + 100];
+
+        ThreadLocalRandom.current().nextBytes(bytes);
+
+        try (FileIo fileIo = fileIoFactory.create(testFilePath)) {
+            // Aligned direct buffer.
+            ByteBuffer alignedBuf = ByteBuffer.allocateDirect(2 * 4096 + 4096).alignedSlice(4096);
+
+            alignedBuf.limit(2 * 4096).put(bytes, 0, 2 * 4096).flip();
+
+            assertEquals(2 * 4096, fileIo.writeFully(alignedBuf, 0));
+
+            // Unaligned heap buffer.
+            assertEquals(4096 + 100, fileIo.writeFully(ByteBuffer.wrap(bytes, 2 * 4096, 4096 + 100), 2 * 4096));
+
+            assertEquals(bytes.length, fileIo.size());
+
+            ByteBuffer readBuf = ByteBuffer.allocate(5000);
+
+            assertEquals(5000, fileIo.readFully(readBuf, 1000));
+            assertArrayEquals(Arrays.copyOfRange(bytes, 1000, 6000), readBuf.array());
+
+            // Read that goes beyond the end of the file.
+            readBuf = ByteBuffer.allocate(1000);
+
+            assertEquals(100, fileIo.read(readBuf, bytes.length - 100));
+            assertArrayEquals(Arrays.copyOfRange(bytes, bytes.length - 100, bytes.length), Arrays.copyOf(readBuf.array(), 100));
+
+            assertEquals(-1, fileIo.read(readBuf.clear(), bytes.length));
+        }
+
+        assertArrayEquals(bytes, Files.readAllBytes(testFilePath));
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.fileio;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of random page reads by position for different {@link FileIo} implementations.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+@Fork(1)
+public class FileIoRandomReadBenchmark {
+    /** Page size in bytes. */
+    private static final int PAGE_SIZE = 16 * 1024;
+
+    /** File I/O implementation. */
+    @Param({"RANDOM_ACCESS", "ASYNC", "DIRECT", "MAPPED"})
+    public String fileIoType;
+
+    /** Size of the file in pages. */
+    @Param({"65536"})
+    public int pages;
+
+    private Path dir;
+
+    private FileIo fileIo;
+
+    /**
+     * Runner.
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                new OptionsBuilder()
+                        .include(FileIoRandomReadBenchmark.class.getSimpleName())
+                        .build()
+        ).run();
+    }
+
+    /**
+     * Creates the file filled with random pages.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        dir = Files.createTempDirectory(FileIoRandomReadBenchmark.class.getSimpleName());
+
+        Path filePath = dir.resolve("part.bin");
+
+        try (FileIo writeIo = new RandomAccessFileIo(filePath, CREATE, READ, WRITE)) {
+            ByteBuffer page = ByteBuffer.allocate(PAGE_SIZE);
+
+            for (int i = 0; i < pages; i++) {
+                ThreadLocalRandom.current().nextBytes(page.array());
+
+                writeIo.writeFully(page.rewind(), (long) i * PAGE_SIZE);
+            }
+
+            writeIo.force();
+        }
+
+        fileIo = fileIoFactory().create(filePath, READ, WRITE);
+    }
+
+    /**
+     * Closes the file.
+     */
+    @TearDown
+    public void tearDown() throws Exception {
+        IgniteUtils.closeAll(fileIo, () -> IgniteUtils.deleteIfExists(dir));
+    }
+
+    /**
+     * Reads a random page.
+     */
+    @Benchmark
+    public int randomRead(PageBuffer pageBuffer) throws Exception {
+        long position = (long) ThreadLocalRandom.current().nextInt(pages) * PAGE_SIZE;
+
+        return fileIo.readFully(pageBuffer.buf.rewind(), position);
+    }
+
+    private FileIoFactory fileIoFactory() {
+        switch (fileIoType) {
+            case "RANDOM_ACCESS":
+                return new RandomAccessFileIoFactory();
+            case "ASYNC":
+                return new AsyncFileIoFactory();
+            case "DIRECT":
+                return new DirectFileIoFactory();
+            case "MAPPED":
+                return new MappedFileIoFactory();
+            default:
+                throw new IllegalArgumentException(fileIoType);
+        }
+    }
+
+    /**
+     * Per-thread page buffer, allocated like the buffers of the page memory.
+     */
+    @State(Scope.Thread)
+    public static class PageBuffer {
+        private ByteBuffer buf;
+
+        /**
+         * Allocates the buffer.
+         */
+        @Setup(Level.Trial)
+        public void setUp() {
+            buf = ByteBuffer.allocateDirect(PAGE_SIZE).order(ByteOrder.nativeOrder());
+        }
+    }
+}
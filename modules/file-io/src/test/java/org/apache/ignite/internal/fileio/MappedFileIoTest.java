@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.fileio;
+
+import static org.apache.ignite.internal.testframework.IgniteTestUtils.runRace;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * For {@link MappedFileIo} testing.
+ */
+public class MappedFileIoTest extends AbstractFileIoTest {
+    @BeforeEach
+    void setUp() {
+        fileIoFactory = new MappedFileIoFactory();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected Class<? extends FileIo> fileIoClass() {
+        return MappedFileIo.class;
+    }
+
+    @Test
+    void testReadAfterFileGrowth() throws Exception {
+        Path testFilePath = workDir.resolve("test");
+
+        byte[] bytes = new byte[2 * 1024];
+
+        ThreadLocalRandom.current().nextBytes(bytes);
+
+        try (FileIo fileIo = fileIoFactory.create(testFilePath)) {
+            assertEquals(1024, fileIo.writeFully(ByteBuffer.wrap(bytes, 0, 1024), 0));
+
+            ByteBuffer readBuf = ByteBuffer.allocate(1024);
+
+            assertEquals(1024, fileIo.readFully(readBuf, 0));
+            assertArrayEquals(Arrays.copyOfRange(bytes, 0, 1024), readBuf.array());
+
+            assertEquals(-1, fileIo.read(readBuf.clear(), 1024));
+
+            // Region must be remapped after the file has grown.
+            assertEquals(1024, fileIo.writeFully(ByteBuffer.wrap(bytes, 1024, 1024), 1024));
+
+            assertEquals(1024, fileIo.readFully(readBuf.clear(), 1024));
+            assertArrayEquals(Arrays.copyOfRange(bytes, 1024, 2 * 1024), readBuf.array());
+
+            // Overwritten content must be visible through the mapped region.
+            assertEquals(1024, fileIo.writeFully(ByteBuffer.wrap(bytes, 1024, 1024), 0));
+
+            assertEquals(1024, fileIo.readFully(readBuf.clear(), 0));
+            assertArrayEquals(Arrays.copyOfRange(bytes, 1024, 2 * 1024), readBuf.array());
+
+            fileIo.clear();
+
+            assertEquals(-1, fileIo.read(readBuf.clear(), 0));
+        }
+    }
+
+    @Test
+    void testReadConcurrentlyWithClear() throws Exception {
+        Path testFilePath = workDir.resolve("test");
+
+        byte[] bytes = new byte[64 * 1024];
+
+        ThreadLocalRandom.current().nextBytes(bytes);
+
+        try (FileIo fileIo = fileIoFactory.create(testFilePath)) {
+            fileIo.writeFully(ByteBuffer.wrap(bytes), 0);
+
+            // Reads must not touch the truncated part of a mapped region, otherwise the JVM crashes.
+            runRace(
+                    () -> {
+                        for (int i = 0; i < 1_000; i++) {
+                            fileIo.clear();
+                            fileIo.writeFully(ByteBuffer.wrap(bytes), 0);
+                        }
+                    },
+                    () -> {
+                        ByteBuffer readBuf = ByteBuffer.allocate(1024);
+
+                        for (int i = 0; i < 100_000; i++) {
+                            int read = fileIo.read(readBuf.clear(), bytes.length - readBuf.capacity());
+
+                            assertEquals(read == -1 ? 0 : read, readBuf.position());
+                        }
+                    }
+            );
+        }
+    }
+}
@@ -17,35 +17,70 @@
 
 package org.apache.ignite.internal.network.file;
 
-import java.io.BufferedInputStream;
+import java.io.EOFException;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.StandardOpenOption;
+import org.apache.ignite.network.RawBytes;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.TestOnly;
 
 /**
  * Chunked file reader. Reads the file in chunks. Each chunk has a fixed size. The last chunk may be smaller than the chunk size. If the
  * file size is less than the chunk size, only one chunk will be read. The reader is not thread-safe.
+ *
+ * <p>Chunks of a file, that is not smaller than {@link #MAPPING_THRESHOLD}, are slices of read-only memory-mapped regions of the file, so
+ * that they are written to the network straight from the page cache, without being copied to the heap. A region spans up to
+ * {@link #MAPPED_REGION_SIZE} bytes of whole chunks and is unmapped once all of its chunks are garbage collected. As the chunks of sent
+ * messages are kept until they are acknowledged, to be resent after a reconnect, a file being sent has a mapped region per
+ * {@link #MAPPED_REGION_SIZE} bytes at most, rather than a mapping per chunk. The file must not be truncated while its chunks are in use.
+ *
+ * <p>Chunks of smaller files are read to the heap, as mapping a few pages costs more than copying them.
  */
 class ChunkedFileReader implements AutoCloseable {
+    /** Minimum length of a file, the chunks of which are memory-mapped rather than read to the heap. */
+    static final long MAPPING_THRESHOLD = 1024 * 1024;
+
+    /** Maximum size of a memory-mapped region of a file. */
+    static final long MAPPED_REGION_SIZE = 64 * 1024 * 1024;
+
     private final int chunkSize;
 
-    private final BufferedInputStream stream;
+    private final FileChannel channel;
+
+    private final long fileLength;
+
+    private long position = 0;
 
     private int nextChunkNumber = 0;
 
-    private boolean hasNextChunk;
+    /** Size of a memory-mapped region, {@code 0} if the chunks are read to the heap. */
+    private final long regionSize;
+
+    /** Current memory-mapped region, {@code null} if there is none. */
+    private @Nullable MappedByteBuffer region;
+
+    /** Position of the current memory-mapped region in the file. */
+    private long regionPosition;
 
     /**
      * Constructor.
      *
      * @param chunkSize Chunk size.
-     * @param stream Random access file.
+     * @param channel File channel.
+     * @param mappingThreshold Minimum length of a file, the chunks of which are memory-mapped.
+     * @param maxRegionSize Maximum size of a memory-mapped region.
      */
-    private ChunkedFileReader(int chunkSize, BufferedInputStream stream) throws IOException {
+    private ChunkedFileReader(int chunkSize, FileChannel channel, long mappingThreshold, long maxRegionSize) throws IOException {
         this.chunkSize = chunkSize;
-        this.stream = stream;
-        this.hasNextChunk = stream.available() > 0;
+        this.channel = channel;
+        this.fileLength = channel.size();
+        this.regionSize = fileLength < mappingThreshold ? 0 : Math.max(chunkSize, maxRegionSize / chunkSize * chunkSize);
     }
 
     /**
@@ -57,7 +92,26 @@ class ChunkedFileReader implements AutoCloseable {
      * @throws FileNotFoundException If the file does not exist.
      */
     static ChunkedFileReader open(File file, int chunkSize) throws IOException {
-        return new ChunkedFileReader(chunkSize, new BufferedInputStream(new FileInputStream(file)));
+        return open(file, chunkSize, MAPPING_THRESHOLD, MAPPED_REGION_SIZE);
+    }
+
+    /**
+     * Opens a file for reading with the given memory mapping limits.
+     *
+     * @param file File.
+     * @param chunkSize Chunk size.
+     * @param mappingThreshold Minimum length of a file, the chunks of which are memory-mapped.
+     * @param maxRegionSize Maximum size of a memory-mapped region.
+     * @return Chunked file reader.
+     * @throws FileNotFoundException If the file does not exist.
+     */
+    @TestOnly
+    static ChunkedFileReader open(File file, int chunkSize, long mappingThreshold, long maxRegionSize) throws IOException {
+        if (!file.isFile()) {
+            throw new FileNotFoundException(file.getPath());
+        }
+
+        return new ChunkedFileReader(chunkSize, FileChannel.open(file.toPath(), StandardOpenOption.READ), mappingThreshold, maxRegionSize);
     }
 
     /**
@@ -66,33 +120,60 @@ class ChunkedFileReader implements AutoCloseable {
      * @return {@code false} if there are no more chunks to read. Otherwise, returns {@code true}.
      */
     boolean hasNextChunk() {
-        return hasNextChunk;
+        return position < fileLength;
     }
 
     /**
      * Reads the next chunk. If there are no more chunks to read, throws an exception. If the last chunk is read successfully, closes the
-     * file.
+     * file. The chunk stays valid after the file is closed.
      *
      * @return Chunk data.
      * @throws IOException If an I/O error occurs.
      */
-    byte[] readNextChunk() throws IOException {
+    RawBytes readNextChunk() throws IOException {
         if (!hasNextChunk()) {
             throw new IOException("No more chunks to read");
         }
 
-        byte[] data = stream.readNBytes(chunkSize);
+        int length = (int) Math.min(chunkSize, fileLength - position);
+
+        RawBytes data = regionSize == 0 ? readChunk(length) : mapChunk(length);
 
+        position += length;
         nextChunkNumber++;
-        hasNextChunk = stream.available() > 0;
 
-        if (!hasNextChunk) {
-            stream.close();
+        if (!hasNextChunk()) {
+            region = null;
+
+            channel.close();
         }
 
         return data;
     }
 
+    private RawBytes readChunk(int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("File is truncated while being read");
+            }
+        }
+
+        return RawBytes.wrap(buffer.flip());
+    }
+
+    private RawBytes mapChunk(int length) throws IOException {
+        if (region == null || position + length > regionPosition + region.capacity()) {
+            regionPosition = position;
+            region = channel.map(MapMode.READ_ONLY, position, Math.min(regionSize, fileLength - position));
+        }
+
+        int offset = (int) (position - regionPosition);
+
+        return RawBytes.wrap(region.duplicate().position(offset).limit(offset + length));
+    }
+
     /**
      * Returns the number of the next chunk to read. Does not change the state of the reader.
      *
@@ -114,6 +195,6 @@ class ChunkedFileReader implements AutoCloseable {
      */
     @Override
     public void close() throws IOException {
-        stream.close();
+        channel.close();
     }
 }
@@ -17,11 +17,12 @@
 
 package org.apache.ignite.internal.network.file;
 
-import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import org.apache.ignite.internal.network.file.exception.FileValidationException;
@@ -29,9 +30,12 @@ import org.apache.ignite.internal.network.file.messages.FileChunkMessage;
 
 /**
  * Chunked file writer. Writes chunks to a file. Checks that the file size and chunk numbers are valid.
+ *
+ * <p>Chunks are written at their positions in the file straight from the memory they reference, which is usually the inbound network
+ * buffer, without being copied to the heap.
  */
 class ChunkedFileWriter implements AutoCloseable {
-    private final BufferedOutputStream stream;
+    private final FileChannel channel;
 
     private final long expectedFileLength;
 
@@ -45,8 +49,8 @@ class ChunkedFileWriter implements AutoCloseable {
      */
     private final Lock lock = new ReentrantLock();
 
-    private ChunkedFileWriter(BufferedOutputStream stream, long expectedFileLength) {
-        this.stream = stream;
+    private ChunkedFileWriter(FileChannel channel, long expectedFileLength) {
+        this.channel = channel;
         this.expectedFileLength = expectedFileLength;
     }
 
@@ -59,7 +63,14 @@ class ChunkedFileWriter implements AutoCloseable {
      * @throws FileNotFoundException If the file is not found.
      */
     static ChunkedFileWriter open(File file, long expectedFileLength) throws IOException {
-        return new ChunkedFileWriter(new BufferedOutputStream(new FileOutputStream(file)), expectedFileLength);
+        FileChannel channel = FileChannel.open(
+                file.toPath(),
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING
+        );
+
+        return new ChunkedFileWriter(channel, expectedFileLength);
     }
 
     /**
@@ -80,12 +91,18 @@ class ChunkedFileWriter implements AutoCloseable {
                 );
             }
 
-            stream.write(chunk.data());
+            ByteBuffer data = chunk.data().buffer();
+
             expectedNextChunkNumber++;
-            bytesWritten += chunk.data().length;
 
-            if (bytesWritten > expectedFileLength) {
-                throw new FileValidationException("File size mismatch: expected " + expectedFileLength + ", actual " + bytesWritten);
+            if (bytesWritten + data.remaining() > expectedFileLength) {
+                throw new FileValidationException(
+                        "File size mismatch: expected " + expectedFileLength + ", actual " + (bytesWritten + data.remaining())
+                );
+            }
+
+            while (data.hasRemaining()) {
+                bytesWritten += channel.write(data, bytesWritten);
             }
 
             if (bytesWritten == expectedFileLength) {
@@ -107,6 +124,6 @@ class ChunkedFileWriter implements AutoCloseable {
      */
     @Override
     public void close() throws IOException {
-        stream.close();
+        channel.close();
     }
 }
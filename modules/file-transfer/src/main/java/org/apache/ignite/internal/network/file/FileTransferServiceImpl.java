@@ -36,6 +36,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -59,6 +60,7 @@ import org.apache.ignite.internal.thread.NamedThreadFactory;
 import org.apache.ignite.internal.util.IgniteUtils;
 import org.apache.ignite.network.ClusterNode;
 import org.apache.ignite.network.MessagingService;
+import org.apache.ignite.network.RawBytes;
 import org.apache.ignite.network.TopologyEventHandler;
 import org.apache.ignite.network.TopologyService;
 import org.apache.ignite.network.annotations.Transferable;
@@ -155,6 +157,26 @@ public class FileTransferServiceImpl implements FileTransferService {
         );
     }
 
+    /**
+     * Creates a file transfer service of a node.
+     *
+     * @param nodeName Node name.
+     * @param topologyService Topology service.
+     * @param messagingService Messaging service.
+     * @param configuration File transfer configuration.
+     * @param transferDirectory Transfer directory. All files will be saved here before being moved to their final location.
+     * @return File transfer service.
+     */
+    public static FileTransferService create(
+            String nodeName,
+            TopologyService topologyService,
+            MessagingService messagingService,
+            FileTransferConfiguration configuration,
+            Path transferDirectory
+    ) {
+        return new FileTransferServiceImpl(nodeName, topologyService, messagingService, configuration, transferDirectory);
+    }
+
     /**
      * Constructor.
      *
@@ -375,8 +397,23 @@ public class FileTransferServiceImpl implements FileTransferService {
      * @param correlationId Correlation ID.
      */
     private void processFileChunkMessage(FileChunkMessage message, String senderConsistentId, long correlationId) {
-        runAsync(() -> fileReceiver.receiveFileChunk(message), executorService)
+        // The data references the inbound network buffer, which is released once this handler returns.
+        RawBytes data = message.data().retain();
+
+        CompletableFuture<Void> writeFuture;
+
+        try {
+            writeFuture = runAsync(() -> fileReceiver.receiveFileChunk(message), executorService);
+        } catch (RejectedExecutionException e) {
+            data.release();
+
+            throw e;
+        }
+
+        writeFuture
                 .whenComplete((v, e) -> {
+                    data.release();
+
                     if (e != null) {
                         LOG.error("Failed to process file chunk [transferId={}]", e, message.transferId());
                     }
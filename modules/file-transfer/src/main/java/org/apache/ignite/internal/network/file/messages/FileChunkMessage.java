@@ -19,6 +19,7 @@ package org.apache.ignite.internal.network.file.messages;
 
 import java.util.UUID;
 import org.apache.ignite.network.NetworkMessage;
+import org.apache.ignite.network.RawBytes;
 import org.apache.ignite.network.annotations.Transferable;
 
 /**
@@ -48,9 +49,10 @@ public interface FileChunkMessage extends NetworkMessage {
     int number();
 
     /**
-     * Returns data.
+     * Returns data. On the sender, it references a memory-mapped region of the file or, for a small file, a heap copy of the chunk, and on
+     * the receiver, the inbound network buffer.
      *
      * @return Data.
      */
-    byte[] data();
+    RawBytes data();
 }
@@ -17,15 +17,21 @@
 
 package org.apache.ignite.internal.network.file;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import org.apache.ignite.internal.testframework.WorkDirectory;
 import org.apache.ignite.internal.testframework.WorkDirectoryExtension;
+import org.apache.ignite.network.RawBytes;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
@@ -51,7 +57,7 @@ class ChunkedFileReaderTest {
         Path file = FileGenerator.randomFile(workDir, CHUNK_SIZE - 1);
         try (ChunkedFileReader reader = ChunkedFileReader.open(file.toFile(), CHUNK_SIZE)) {
             assertTrue(reader.hasNextChunk());
-            assertEquals(CHUNK_SIZE - 1, reader.readNextChunk().length);
+            assertEquals(CHUNK_SIZE - 1, reader.readNextChunk().length());
             assertFalse(reader.hasNextChunk());
             IOException exception = assertThrows(IOException.class, reader::readNextChunk);
             assertEquals("No more chunks to read", exception.getMessage());
@@ -63,7 +69,7 @@ class ChunkedFileReaderTest {
         Path file = FileGenerator.randomFile(workDir, CHUNK_SIZE);
         try (ChunkedFileReader reader = ChunkedFileReader.open(file.toFile(), CHUNK_SIZE)) {
             assertTrue(reader.hasNextChunk());
-            assertEquals(CHUNK_SIZE, reader.readNextChunk().length);
+            assertEquals(CHUNK_SIZE, reader.readNextChunk().length());
             assertFalse(reader.hasNextChunk());
             IOException exception = assertThrows(IOException.class, reader::readNextChunk);
             assertEquals("No more chunks to read", exception.getMessage());
@@ -75,12 +81,54 @@ class ChunkedFileReaderTest {
         Path file = FileGenerator.randomFile(workDir, CHUNK_SIZE + 1);
         try (ChunkedFileReader reader = ChunkedFileReader.open(file.toFile(), CHUNK_SIZE)) {
             assertTrue(reader.hasNextChunk());
-            assertEquals(CHUNK_SIZE, reader.readNextChunk().length);
+            assertEquals(CHUNK_SIZE, reader.readNextChunk().length());
             assertTrue(reader.hasNextChunk());
-            assertEquals(1, reader.readNextChunk().length);
+            assertEquals(1, reader.readNextChunk().length());
             assertFalse(reader.hasNextChunk());
             IOException exception = assertThrows(IOException.class, reader::readNextChunk);
             assertEquals("No more chunks to read", exception.getMessage());
         }
     }
+
+    @Test
+    void readChunksAfterFileIsClosed() throws IOException {
+        Path file = FileGenerator.randomFile(workDir, CHUNK_SIZE * 3 + 1);
+        List<RawBytes> chunks = new ArrayList<>();
+        try (ChunkedFileReader reader = ChunkedFileReader.open(file.toFile(), CHUNK_SIZE)) {
+            while (reader.hasNextChunk()) {
+                chunks.add(reader.readNextChunk());
+            }
+        }
+        // The file is smaller than the mapping threshold, the chunks are read to the heap.
+        for (RawBytes chunk : chunks) {
+            assertFalse(chunk.buffer().isDirect());
+        }
+        assertArrayEquals(Files.readAllBytes(file), content(chunks));
+    }
+
+    @Test
+    void readMappedChunksAfterFileIsClosed() throws IOException {
+        Path file = FileGenerator.randomFile(workDir, CHUNK_SIZE * 5 + 1);
+        List<RawBytes> chunks = new ArrayList<>();
+        // A region spans two chunks, the chunks of the file are sliced from three regions.
+        try (ChunkedFileReader reader = ChunkedFileReader.open(file.toFile(), CHUNK_SIZE, 0, CHUNK_SIZE * 2 + 1)) {
+            while (reader.hasNextChunk()) {
+                chunks.add(reader.readNextChunk());
+            }
+        }
+        assertEquals(6, chunks.size());
+        for (RawBytes chunk : chunks) {
+            assertTrue(chunk.buffer().isDirect());
+        }
+        assertEquals(1, chunks.get(5).length());
+        assertArrayEquals(Files.readAllBytes(file), content(chunks));
+    }
+
+    private static byte[] content(List<RawBytes> chunks) throws IOException {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        for (RawBytes chunk : chunks) {
+            content.write(chunk.toByteArray());
+        }
+        return content.toByteArray();
+    }
 }
@@ -18,18 +18,24 @@
 package org.apache.ignite.internal.network.file;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
+import org.apache.ignite.internal.network.file.messages.FileChunkMessage;
+import org.apache.ignite.internal.network.file.messages.FileTransferFactory;
 import org.apache.ignite.internal.testframework.WorkDirectory;
 import org.apache.ignite.internal.testframework.WorkDirectoryExtension;
 import org.apache.ignite.internal.testframework.matchers.PathMatcher;
+import org.apache.ignite.network.RawBytes;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -77,5 +83,40 @@ class ChunkedFileWriterTest {
             assertThat(pathToWrite, PathMatcher.hasSameContentAndName(pathToRead));
         }
     }
-}
 
+    @Test
+    void writeChunksReferencingNetworkBuffer() throws IOException {
+        int length = CHUNK_SIZE * 2 + 1;
+        Path pathToRead = FileGenerator.randomFile(workDir, length);
+        Path pathToWrite = writerDir.resolve(pathToRead.getFileName());
+        byte[] content = Files.readAllBytes(pathToRead);
+        FileTransferFactory messageFactory = new FileTransferFactory();
+        UUID transferId = UUID.randomUUID();
+        try (ChunkedFileWriter writer = ChunkedFileWriter.open(pathToWrite.toFile(), length)) {
+            for (int number = 0; number * CHUNK_SIZE < length; number++) {
+                int offset = number * CHUNK_SIZE;
+                int chunkLength = Math.min(CHUNK_SIZE, length - offset);
+
+                // The data of a received chunk is a slice of the direct inbound network buffer, between the bytes of other messages.
+                ByteBuffer networkBuffer = ByteBuffer.allocateDirect(chunkLength + 2);
+                networkBuffer.put((byte) -1).put(content, offset, chunkLength).put((byte) -1);
+                networkBuffer.position(1).limit(1 + chunkLength);
+
+                FileChunkMessage chunk = messageFactory.fileChunkMessage()
+                        .transferId(transferId)
+                        .fileName(pathToRead.getFileName().toString())
+                        .number(number)
+                        .data(RawBytes.wrap(networkBuffer))
+                        .build();
+
+                assertEquals(offset + chunkLength == length, writer.write(chunk));
+
+                // The data is written at the chunk's position in the file without being consumed.
+                assertEquals(chunkLength, chunk.data().length());
+            }
+
+            // The file should be written.
+            assertThat(pathToWrite, PathMatcher.hasSameContentAndName(pathToRead));
+        }
+    }
+}
@@ -71,7 +71,7 @@ class FileChunkMessagesStreamTest {
             FileChunkMessage fileChunkMessage = stream.nextMessage();
             assertEquals(transferId, fileChunkMessage.transferId());
             assertEquals(0, fileChunkMessage.number());
-            assertEquals(fileSize, fileChunkMessage.data().length);
+            assertEquals(fileSize, fileChunkMessage.data().length());
 
             assertFalse(stream.hasNextMessage());
         }
@@ -89,7 +89,7 @@ class FileChunkMessagesStreamTest {
             FileChunkMessage fileChunkMessage = stream.nextMessage();
             assertEquals(transferId, fileChunkMessage.transferId());
             assertEquals(0, fileChunkMessage.number());
-            assertEquals(fileSize, fileChunkMessage.data().length);
+            assertEquals(fileSize, fileChunkMessage.data().length());
 
             assertFalse(stream.hasNextMessage());
         }
@@ -107,13 +107,13 @@ class FileChunkMessagesStreamTest {
             FileChunkMessage fileChunkMessage = stream.nextMessage();
             assertEquals(transferId, fileChunkMessage.transferId());
             assertEquals(0, fileChunkMessage.number());
-            assertEquals(CHUNK_SIZE, fileChunkMessage.data().length);
+            assertEquals(CHUNK_SIZE, fileChunkMessage.data().length());
 
             assertTrue(stream.hasNextMessage());
             fileChunkMessage = stream.nextMessage();
             assertEquals(transferId, fileChunkMessage.transferId());
             assertEquals(1, fileChunkMessage.number());
-            assertEquals(1, fileChunkMessage.data().length);
+            assertEquals(1, fileChunkMessage.data().length());
 
             assertFalse(stream.hasNextMessage());
         }
@@ -29,6 +29,9 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.emptyArray;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -39,12 +42,16 @@ import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.verify;
 
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.internal.network.file.messages.FileChunkMessage;
 import org.apache.ignite.internal.network.file.messages.FileDownloadRequest;
 import org.apache.ignite.internal.network.file.messages.FileDownloadResponse;
 import org.apache.ignite.internal.network.file.messages.FileHeader;
@@ -60,6 +67,7 @@ import org.apache.ignite.internal.testframework.WorkDirectoryExtension;
 import org.apache.ignite.network.ClusterNodeImpl;
 import org.apache.ignite.network.NetworkAddress;
 import org.apache.ignite.network.NetworkMessageHandler;
+import org.apache.ignite.network.RawBytes;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -298,4 +306,54 @@ class FileTransferServiceImplTest extends BaseIgniteAbstractTest {
         // Check that transfer was registered before response was sent.
         await().untilAtomic(transferLifecycleState, equalTo(2));
     }
+
+    @Test
+    void chunkDataIsRetainedUntilChunkIsWritten() {
+        // Set file receiver to write the chunk after the message handlers return.
+        CompletableFuture<Void> handlersReturned = new CompletableFuture<>();
+        CompletableFuture<Integer> refCntOnWrite = new CompletableFuture<>();
+        doAnswer(invocation -> {
+            handlersReturned.join();
+            refCntOnWrite.complete(invocation.getArgument(0, FileChunkMessage.class).data().refCnt());
+            return null;
+        }).when(fileReceiver).receiveFileChunk(any(FileChunkMessage.class));
+
+        AtomicBoolean deallocated = new AtomicBoolean();
+        FileChunkMessage chunk = fileChunkMessage(RawBytes.wrap(ByteBuffer.allocateDirect(16), () -> deallocated.set(true)));
+
+        messagingService.fairMessage(chunk, SOURCE_CONSISTENT_ID, 1L);
+
+        // The network layer releases the data once the message handlers return.
+        chunk.data().release();
+        handlersReturned.complete(null);
+
+        // Check that the data was still referenced while the chunk was written and was released afterwards.
+        assertThat(refCntOnWrite, willBe(1));
+        await().untilTrue(deallocated);
+    }
+
+    @Test
+    void chunkDataIsReleasedWhenChunkIsRejected() {
+        // Stop the service, so that its executor rejects the chunk.
+        fileTransferService.stop();
+
+        AtomicBoolean deallocated = new AtomicBoolean();
+        FileChunkMessage chunk = fileChunkMessage(RawBytes.wrap(ByteBuffer.allocateDirect(16), () -> deallocated.set(true)));
+
+        assertThrows(RejectedExecutionException.class, () -> messagingService.fairMessage(chunk, SOURCE_CONSISTENT_ID, 1L));
+
+        // Check that only the reference of the network layer is left.
+        assertEquals(1, chunk.data().refCnt());
+        chunk.data().release();
+        assertTrue(deallocated.get());
+    }
+
+    private FileChunkMessage fileChunkMessage(RawBytes data) {
+        return messageFactory.fileChunkMessage()
+                .transferId(UUID.randomUUID())
+                .fileName("file")
+                .number(0)
+                .data(data)
+                .build();
+    }
 }
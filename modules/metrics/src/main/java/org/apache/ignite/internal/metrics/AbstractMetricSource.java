@@ -104,6 +104,31 @@ public abstract class AbstractMetricSource<T extends AbstractMetricSource.Holder
         }
     }
 
+    /** {@inheritDoc} */
+    @Override public final MetricSet refresh() {
+        T holder0 = holder;
+
+        if (holder0 == null) {
+            return null;
+        }
+
+        MetricSetBuilder bldr = new MetricSetBuilder(name);
+
+        T hldr = createHolder();
+
+        init(bldr, hldr);
+
+        MetricSet metricSet = bldr.build();
+
+        if (!HOLDER_FIELD_UPD.compareAndSet(this, holder0, hldr)) {
+            return null;
+        }
+
+        cleanup(holder0);
+
+        return metricSet;
+    }
+
     /**
      * Method is responsible for:
      * <ol>
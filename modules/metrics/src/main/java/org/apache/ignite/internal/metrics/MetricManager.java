@@ -233,6 +233,25 @@ public class MetricManager implements IgniteComponent {
         enabledMetricExporters.values().forEach(e -> e.removeMetricSet(srcName));
     }
 
+    /**
+     * Rebuild metric set of the enabled metric source. See {@link MetricRegistry#refresh(MetricSource)}.
+     *
+     * @param src Metric source.
+     * @return New metric set, or {@code null} if the metric source is disabled or can't be rebuilt.
+     */
+    public MetricSet refresh(MetricSource src) {
+        MetricSet refreshed = registry.refresh(src);
+
+        if (refreshed != null) {
+            enabledMetricExporters.values().forEach(e -> {
+                e.removeMetricSet(src.name());
+                e.addMetricSet(refreshed);
+            });
+        }
+
+        return refreshed;
+    }
+
     /**
      * Metrics snapshot. This is a snapshot of metric sets with corresponding version, the values of the metrics in the
      * metric sets that are included into the snapshot, are changed dynamically.
@@ -209,6 +209,32 @@ public class MetricRegistry {
         }
     }
 
+    /**
+     * Rebuild metric set for the given metric source, if it is enabled. See {@link MetricSource#refresh()}.
+     *
+     * @param src Metric source.
+     * @return New metric set, or {@code null} if the metric source is disabled or can't be rebuilt.
+     * @throws IllegalStateException If metric source isn't registered.
+     * @throws IllegalArgumentException If metric source isn't the same as registered.
+     */
+    public MetricSet refresh(MetricSource src) {
+        lock.lock();
+
+        try {
+            MetricSource registered = checkAndGetRegistered(src);
+
+            MetricSet metricSet = registered.refresh();
+
+            if (metricSet != null) {
+                addMetricSet(registered.name(), metricSet);
+            }
+
+            return metricSet;
+        } finally {
+            lock.unlock();
+        }
+    }
+
     /**
      * Check that the given metric source is registered. This method should be called under the {@link MetricRegistry#lock}.
      *
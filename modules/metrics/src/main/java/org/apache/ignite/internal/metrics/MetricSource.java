@@ -47,6 +47,17 @@ public interface MetricSource {
      */
     void disable();
 
+    /**
+     * Rebuilds the metric set of the enabled metric source to include the metrics, that appeared since it was enabled. Unlike disabling
+     * and enabling the source again, the metrics stay enabled meanwhile. Nothing happens if the metrics are disabled for this source or
+     * the source doesn't support rebuilding.
+     *
+     * @return Newly created {@link MetricSet} instance or {@code null} if the metrics are disabled or can't be rebuilt.
+     */
+    default @Nullable MetricSet refresh() {
+        return null;
+    }
+
     /**
      * Checks whether metrics is enabled (switched on) or not (switched off) for metric source.
      *
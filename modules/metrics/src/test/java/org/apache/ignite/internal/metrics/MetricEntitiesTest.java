@@ -23,7 +23,9 @@ import static java.util.stream.StreamSupport.stream;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -152,6 +154,36 @@ public class MetricEntitiesTest {
         assertNull(metricSource.holder());
     }
 
+    @Test
+    public void testRefresh() {
+        MetricRegistry registry = new MetricRegistry();
+
+        TestMetricSource metricSource = new TestMetricSource();
+
+        registry.registerSource(metricSource);
+
+        // Refreshing the disabled metric source, it should stay disabled, metric snapshot should not be changed.
+        assertNull(registry.refresh(metricSource));
+        assertFalse(metricSource.enabled());
+        assertEquals(0L, registry.metricSnapshot().get2());
+
+        MetricSet metricSet = registry.enable(metricSource);
+
+        TestMetricSource.Holder holder = metricSource.holder();
+
+        // Refreshing the enabled metric source, the metric set is replaced in place, the source stays enabled.
+        MetricSet refreshed = registry.refresh(metricSource);
+
+        assertNotNull(refreshed);
+        assertNotSame(metricSet, refreshed);
+        assertNotSame(holder, metricSource.holder());
+        assertTrue(metricSource.enabled());
+        assertEquals(2L, registry.metricSnapshot().get2());
+        assertSame(refreshed, registry.metricSnapshot().get1().get(SOURCE_NAME));
+
+        assertThrows(IllegalStateException.class, () -> registry.refresh(new TestMetricSource("unexisting")));
+    }
+
     private static class TestMetricSource extends AbstractMetricSource<TestMetricSource.Holder> {
         protected TestMetricSource() {
             super(SOURCE_NAME);
@@ -39,6 +39,7 @@ import org.apache.ignite.internal.network.processor.ProcessingException;
 import org.apache.ignite.internal.network.processor.TypeUtils;
 import org.apache.ignite.lang.IgniteUuid;
 import org.apache.ignite.network.NetworkMessage;
+import org.apache.ignite.network.RawBytes;
 import org.apache.ignite.network.annotations.Marshallable;
 
 /**
@@ -67,7 +68,8 @@ public class MarshallableTypesBlackList {
             UUID.class,
             IgniteUuid.class,
             BitSet.class,
-            ByteBuffer.class
+            ByteBuffer.class,
+            RawBytes.class
     );
 
     private static final List<Class<?>> COLLECTION_TYPES = List.of(
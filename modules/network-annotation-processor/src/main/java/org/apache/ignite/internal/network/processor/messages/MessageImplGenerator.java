@@ -55,6 +55,7 @@ import org.apache.ignite.internal.network.processor.TypeUtils;
 import org.apache.ignite.internal.tostring.IgniteToStringInclude;
 import org.apache.ignite.internal.tostring.S;
 import org.apache.ignite.network.NetworkMessage;
+import org.apache.ignite.network.RawBytes;
 import org.apache.ignite.network.annotations.Marshallable;
 import org.apache.ignite.network.annotations.WithSetter;
 import org.jetbrains.annotations.Nullable;
@@ -255,6 +256,7 @@ public class MessageImplGenerator {
 
         generatePrepareMarshal(messageImpl, message);
         generateUnmarshalMethod(messageImpl, message);
+        generateReleaseRawBytesMethod(messageImpl, message);
 
         messageImpl
                 .addOriginatingElement(message.element())
@@ -412,6 +414,54 @@ public class MessageImplGenerator {
         }
     }
 
+    private void generateReleaseRawBytesMethod(TypeSpec.Builder messageImplBuild, MessageClass message) {
+        boolean isNeeded = false;
+
+        Builder releaseRawBytes = MethodSpec.methodBuilder("releaseRawBytes")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC);
+
+        for (ExecutableElement executableElement : message.getters()) {
+            TypeMirror type = executableElement.getReturnType();
+            String objectName = executableElement.getSimpleName().toString();
+
+            if (typeUtils.isSameType(type, RawBytes.class)) {
+                isNeeded = true;
+
+                releaseRawBytes.addStatement("if ($N != null) $N.release()", objectName, objectName);
+            } else if (executableElement.getAnnotation(Marshallable.class) == null) {
+                Optional<MaybeMessageType> objectType = resolveType(type);
+
+                if (objectType.isEmpty()) {
+                    continue;
+                }
+
+                switch (objectType.get()) {
+                    case OBJECT_ARRAY:
+                        isNeeded = generateObjectArrayHandler((ArrayType) type, releaseRawBytes, objectName, "releaseRawBytes()")
+                                || isNeeded;
+                        break;
+                    case COLLECTION:
+                        isNeeded = generateCollectionHandler((DeclaredType) type, releaseRawBytes, objectName, "releaseRawBytes()")
+                                || isNeeded;
+                        break;
+                    case MESSAGE:
+                        isNeeded = generateMessageHandler(releaseRawBytes, objectName, "releaseRawBytes()") || isNeeded;
+                        break;
+                    case MAP:
+                        isNeeded = generateMapHandler(releaseRawBytes, (DeclaredType) type, objectName, "releaseRawBytes()") || isNeeded;
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+
+        if (isNeeded) {
+            messageImplBuild.addMethod(releaseRawBytes.build());
+        }
+    }
+
     private boolean generateObjectArrayHandler(ArrayType type, Builder methodBuilder, String objectName, String code) {
         TypeMirror componentType = type.getComponentType();
         if (typeUtils.isSubType(componentType, NetworkMessage.class)) {
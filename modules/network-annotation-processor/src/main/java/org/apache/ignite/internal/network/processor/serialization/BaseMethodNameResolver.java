@@ -34,6 +34,7 @@ import org.apache.ignite.internal.network.processor.ProcessingException;
 import org.apache.ignite.internal.network.processor.TypeUtils;
 import org.apache.ignite.lang.IgniteUuid;
 import org.apache.ignite.network.NetworkMessage;
+import org.apache.ignite.network.RawBytes;
 
 /**
  * Class for resolving a "base" part of a (de-)serialization method based on the message type. This part is then used by concrete method
@@ -140,6 +141,8 @@ class BaseMethodNameResolver {
             return "Map";
         } else if (typeUtils.isSameType(parameterType, ByteBuffer.class)) {
             return "ByteBuffer";
+        } else if (typeUtils.isSameType(parameterType, RawBytes.class)) {
+            return "RawBytes";
         } else {
             throw new ProcessingException("Unsupported reference type for message (de-)serialization: " + parameterType);
         }
@@ -83,7 +83,7 @@ public abstract class AbstractMessagingService implements MessagingService {
      * @param messageGroup Message group.
      * @return Message group ID.
      */
-    private static short getMessageGroupType(Class<?> messageGroup) {
+    protected static short getMessageGroupType(Class<?> messageGroup) {
         MessageGroup annotation = messageGroup.getAnnotation(MessageGroup.class);
 
         assert annotation != null : "No MessageGroup annotation present on " + messageGroup;
@@ -52,6 +52,14 @@ public interface NetworkMessage {
         // No-op.
     }
 
+    /**
+     * Releases the {@link RawBytes} fields of this message and of the nested messages. Called by the network layer once the handlers of a
+     * received message return.
+     */
+    default void releaseRawBytes() {
+        // No-op.
+    }
+
     /**
      * Returns {@code true} if this message needs an acknowledgement from the remote node, {@code false} otherwise.
      *
@@ -60,4 +68,15 @@ public interface NetworkMessage {
     default boolean needAck() {
         return true;
     }
+
+    /**
+     * Returns the key that defines the order of delivery of the message. If there are several connections to the recipient, messages with
+     * the same key are sent over the same connection and are delivered in the order they were sent, while messages with different keys
+     * may be delivered in any order. Messages of a replication group usually use the group id as the key.
+     *
+     * @return Ordering key.
+     */
+    default int orderingKey() {
+        return 0;
+    }
 }
@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.network;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Reference counted bytes of a network message field. Unlike {@code byte[]} and {@link ByteBuffer} fields, which are copied to the heap
+ * when a message is received, raw bytes of a received message reference the memory of the inbound network buffer.
+ *
+ * <p>Raw bytes of a received message are valid until the message handlers return, after which they are {@link #release() released} by
+ * {@link NetworkMessage#releaseRawBytes()}. A handler that uses them after it returns, for example in another thread, must
+ * {@link #retain()} them and release them when it is done.
+ *
+ * <p>Raw bytes of sent messages are never released by the network layer, as the messages may be resent after a reconnect.
+ */
+public final class RawBytes {
+    /** Reference counter updater. */
+    private static final AtomicIntegerFieldUpdater<RawBytes> REF_CNT_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(RawBytes.class, "refCnt");
+
+    /** Referenced bytes, between the position and the limit. */
+    private final ByteBuffer buffer;
+
+    /** Action that frees the referenced memory, {@code null} if the memory is garbage collected. */
+    private final @Nullable Runnable deallocator;
+
+    /** Reference counter. */
+    @SuppressWarnings("unused")
+    private volatile int refCnt = 1;
+
+    private RawBytes(ByteBuffer buffer, @Nullable Runnable deallocator) {
+        this.buffer = buffer;
+        this.deallocator = deallocator;
+    }
+
+    /**
+     * Creates raw bytes referencing the given array.
+     *
+     * @param bytes Bytes.
+     * @return Raw bytes.
+     */
+    public static RawBytes wrap(byte[] bytes) {
+        return new RawBytes(ByteBuffer.wrap(bytes), null);
+    }
+
+    /**
+     * Creates raw bytes referencing the remaining bytes of the given buffer. The buffer must not be modified afterwards.
+     *
+     * @param buffer Buffer.
+     * @return Raw bytes.
+     */
+    public static RawBytes wrap(ByteBuffer buffer) {
+        return new RawBytes(buffer.slice(), null);
+    }
+
+    /**
+     * Creates raw bytes referencing the remaining bytes of the given buffer, the memory of which is freed by the deallocator once the raw
+     * bytes are released.
+     *
+     * @param buffer Buffer.
+     * @param deallocator Action that frees the memory of the buffer.
+     * @return Raw bytes.
+     */
+    public static RawBytes wrap(ByteBuffer buffer, Runnable deallocator) {
+        return new RawBytes(buffer.slice(), deallocator);
+    }
+
+    /** Returns the number of bytes. */
+    public int length() {
+        return buffer.remaining();
+    }
+
+    /**
+     * Returns a buffer, that references the bytes without copying them. The buffer must not be modified and must not be used after the
+     * raw bytes are released.
+     *
+     * @return Buffer positioned at the first byte.
+     * @throws IllegalStateException If the raw bytes are already released.
+     */
+    public ByteBuffer buffer() {
+        ensureNotReleased();
+
+        return buffer.duplicate();
+    }
+
+    /**
+     * Copies the bytes to a new array.
+     *
+     * @return Bytes.
+     * @throws IllegalStateException If the raw bytes are already released.
+     */
+    public byte[] toByteArray() {
+        ensureNotReleased();
+
+        byte[] bytes = new byte[buffer.remaining()];
+
+        buffer.duplicate().get(bytes);
+
+        return bytes;
+    }
+
+    /** Returns the reference counter, {@code 0} if the raw bytes are released. */
+    public int refCnt() {
+        return refCnt;
+    }
+
+    /**
+     * Increments the reference counter.
+     *
+     * @return {@code this} for chaining.
+     * @throws IllegalStateException If the raw bytes are already released.
+     */
+    public RawBytes retain() {
+        while (true) {
+            int cnt = refCnt;
+
+            if (cnt == 0) {
+                throw new IllegalStateException("Raw bytes are already released");
+            }
+
+            if (REF_CNT_UPDATER.compareAndSet(this, cnt, cnt + 1)) {
+                return this;
+            }
+        }
+    }
+
+    /**
+     * Decrements the reference counter and frees the referenced memory once it reaches zero.
+     *
+     * @return {@code True} if the memory was freed by this call.
+     * @throws IllegalStateException If the raw bytes are already released.
+     */
+    public boolean release() {
+        int cnt = REF_CNT_UPDATER.decrementAndGet(this);
+
+        if (cnt < 0) {
+            REF_CNT_UPDATER.incrementAndGet(this);
+
+            throw new IllegalStateException("Raw bytes are already released");
+        }
+
+        if (cnt > 0) {
+            return false;
+        }
+
+        if (deallocator != null) {
+            deallocator.run();
+        }
+
+        return true;
+    }
+
+    private void ensureNotReleased() {
+        if (refCnt == 0) {
+            throw new IllegalStateException("Raw bytes are already released");
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        return buffer.equals(((RawBytes) o).buffer);
+    }
+
+    @Override
+    public int hashCode() {
+        return buffer.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "RawBytes [length=" + length() + ", refCnt=" + refCnt + ']';
+    }
+}
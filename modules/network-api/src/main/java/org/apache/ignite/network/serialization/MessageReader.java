@@ -27,6 +27,7 @@ import java.util.Set;
 import java.util.UUID;
 import org.apache.ignite.lang.IgniteUuid;
 import org.apache.ignite.network.NetworkMessage;
+import org.apache.ignite.network.RawBytes;
 import org.apache.ignite.plugin.extensions.communication.MessageCollectionItemType;
 import org.jetbrains.annotations.Nullable;
 
@@ -288,6 +289,14 @@ public interface MessageReader {
      */
     ByteBuffer readByteBuffer(String name);
 
+    /**
+     * Reads {@link RawBytes}, that may reference the memory of the read buffer instead of copying it.
+     *
+     * @param name Field name.
+     * @return {@link RawBytes}.
+     */
+    RawBytes readRawBytes(String name);
+
     /**
      * Reads an {@link UUID}.
      *
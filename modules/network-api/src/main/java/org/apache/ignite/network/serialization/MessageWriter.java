@@ -26,6 +26,7 @@ import java.util.Set;
 import java.util.UUID;
 import org.apache.ignite.lang.IgniteUuid;
 import org.apache.ignite.network.NetworkMessage;
+import org.apache.ignite.network.RawBytes;
 import org.apache.ignite.plugin.extensions.communication.MessageCollectionItemType;
 import org.jetbrains.annotations.Nullable;
 
@@ -321,6 +322,15 @@ public interface MessageWriter {
      */
     boolean writeByteBuffer(String name, ByteBuffer val);
 
+    /**
+     * Writes {@link RawBytes}.
+     *
+     * @param name Field name.
+     * @param val {@link RawBytes}.
+     * @return Whether a value was fully written.
+     */
+    boolean writeRawBytes(String name, RawBytes val);
+
     /**
      * Writes an {@link UUID}.
      *
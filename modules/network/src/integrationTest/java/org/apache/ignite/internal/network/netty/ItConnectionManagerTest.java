@@ -26,6 +26,8 @@ import static org.hamcrest.Matchers.isA;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyShort;
@@ -173,6 +175,43 @@ public class ItConnectionManagerTest extends BaseIgniteAbstractTest {
         }
     }
 
+    /**
+     * Tests that messages with different ordering keys are sent over different connections if there are several connections per node.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testConnectionsPerPeer() throws Exception {
+        networkConfiguration.connectionsPerPeer().update(2).join();
+
+        try (ConnectionManagerWrapper manager1 = startManager(4000);
+                ConnectionManagerWrapper manager2 = startManager(4001)) {
+            List<CompletableFuture<Short>> connectionIndexes = List.of(new CompletableFuture<>(), new CompletableFuture<>());
+
+            manager2.connectionManager.addListener(obj -> {
+                TestMessage message = (TestMessage) obj.message();
+
+                connectionIndexes.get(Integer.parseInt(message.msg())).complete(obj.connectionIndex());
+            });
+
+            NettySender sender0 = manager1.openChannelTo(manager2, 0).get(3, TimeUnit.SECONDS);
+            NettySender sender1 = manager1.openChannelTo(manager2, 1).get(3, TimeUnit.SECONDS);
+
+            assertEquals(0, sender0.connectionIndex());
+            assertEquals(1, sender1.connectionIndex());
+            assertNotSame(sender0.channel(), sender1.channel());
+
+            // Ordering keys are mapped to the connections modulo their number.
+            assertSame(sender1, manager1.openChannelTo(manager2, -1).get(3, TimeUnit.SECONDS));
+
+            sender0.send(new OutNetworkObject(messageFactory.testMessage().msg("0").build(), Collections.emptyList()));
+            sender1.send(new OutNetworkObject(messageFactory.testMessage().msg("1").build(), Collections.emptyList()));
+
+            assertEquals((short) 0, connectionIndexes.get(0).get(3, TimeUnit.SECONDS));
+            assertEquals((short) 1, connectionIndexes.get(1).get(3, TimeUnit.SECONDS));
+        }
+    }
+
     /**
      * Tests that the resources of a connection manager are closed after a shutdown.
      *
@@ -485,6 +524,15 @@ public class ItConnectionManagerTest extends BaseIgniteAbstractTest {
             );
         }
 
+        OrderingFuture<NettySender> openChannelTo(ConnectionManagerWrapper recipient, int orderingKey) {
+            return connectionManager.channel(
+                    recipient.connectionManager.consistentId(),
+                    ChannelType.DEFAULT,
+                    recipient.connectionManager.localAddress(),
+                    orderingKey
+            );
+        }
+
         public Map<ConnectorKey<String>, NettySender> channels() {
             return connectionManager.channels();
         }
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.network.configuration;
+
+import org.apache.ignite.configuration.annotation.Config;
+import org.apache.ignite.configuration.annotation.InjectedName;
+import org.apache.ignite.configuration.annotation.Value;
+import org.apache.ignite.configuration.validation.OneOf;
+import org.apache.ignite.configuration.validation.Range;
+
+/**
+ * Compression configuration of the connections of a channel type.
+ */
+@Config
+public class ChannelCompressionConfigurationSchema {
+    /** No compression. */
+    public static final String NO_COMPRESSION = "none";
+
+    /** LZ4 compression, fast and moderately effective. */
+    public static final String LZ4_COMPRESSION = "lz4";
+
+    /** Zstandard compression, slower than LZ4 but more effective, requires a native library. */
+    public static final String ZSTD_COMPRESSION = "zstd";
+
+    /** Default compression threshold in bytes. */
+    public static final int DEFAULT_THRESHOLD = 16 * 1024;
+
+    /** Name of the channel type. */
+    @InjectedName
+    public String name;
+
+    /**
+     * Compression codec. The codec is proposed by the node that opens a connection and is used in both directions, if the other node
+     * supports it, otherwise the connection is not compressed.
+     */
+    @OneOf({NO_COMPRESSION, LZ4_COMPRESSION, ZSTD_COMPRESSION})
+    @Value(hasDefault = true)
+    public final String codec = LZ4_COMPRESSION;
+
+    /**
+     * Minimum number of bytes, that are sent at once, to compress them. Messages, that are written together until a flush, are compressed
+     * together, smaller writes are sent uncompressed.
+     */
+    @Range(min = 0)
+    @Value(hasDefault = true)
+    public final int threshold = DEFAULT_THRESHOLD;
+}
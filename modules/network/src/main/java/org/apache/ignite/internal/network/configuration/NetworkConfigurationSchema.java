@@ -20,7 +20,9 @@ package org.apache.ignite.internal.network.configuration;
 import org.apache.ignite.configuration.annotation.ConfigValue;
 import org.apache.ignite.configuration.annotation.ConfigurationRoot;
 import org.apache.ignite.configuration.annotation.ConfigurationType;
+import org.apache.ignite.configuration.annotation.NamedConfigValue;
 import org.apache.ignite.configuration.annotation.Value;
+import org.apache.ignite.configuration.validation.OneOf;
 import org.apache.ignite.configuration.validation.Range;
 
 /**
@@ -31,6 +33,15 @@ public class NetworkConfigurationSchema {
     /** Default network port. */
     public static final int DEFAULT_PORT = 47500;
 
+    /** Netty transport based on Java NIO, available on all the platforms. */
+    public static final String NIO_TRANSPORT = "nio";
+
+    /** Native Netty transport based on Linux epoll. */
+    public static final String EPOLL_TRANSPORT = "epoll";
+
+    /** Native Netty transport based on Linux io_uring, requires kernel 5.9 or newer. */
+    public static final String IO_URING_TRANSPORT = "io_uring";
+
     /** Network port. */
     @Range(min = 1024, max = 0xFFFF)
     @Value(hasDefault = true)
@@ -58,6 +69,31 @@ public class NetworkConfigurationSchema {
     @Value(hasDefault = true)
     public final long shutdownTimeout = 15_000;
 
+    /**
+     * Number of threads that unmarshal and handle inbound messages. The messages of a connection are handled by the same thread in the
+     * order they were received, the messages of different connections are handled in parallel.
+     */
+    @Range(min = 1)
+    @Value(hasDefault = true)
+    public final int inboundThreads = Math.min(Runtime.getRuntime().availableProcessors(), 8);
+
+    /**
+     * Number of connections opened to every node for every channel type. Messages with the same
+     * {@link org.apache.ignite.network.NetworkMessage#orderingKey() ordering key} are sent over the same connection, so their order is
+     * preserved, while the messages with different keys may be reordered.
+     */
+    @Range(min = 1, max = Short.MAX_VALUE)
+    @Value(hasDefault = true)
+    public final int connectionsPerPeer = 1;
+
+    /**
+     * Netty transport of the cluster connections and the client connector. If the transport is not available on the platform, the node
+     * falls back to {@link #EPOLL_TRANSPORT} and then to {@link #NIO_TRANSPORT}.
+     */
+    @OneOf({NIO_TRANSPORT, EPOLL_TRANSPORT, IO_URING_TRANSPORT})
+    @Value(hasDefault = true)
+    public final String transport = EPOLL_TRANSPORT;
+
     /** Server configuration. */
     @ConfigValue
     public InboundConfigurationSchema inbound;
@@ -82,4 +118,11 @@ public class NetworkConfigurationSchema {
     /** File transferring configuration. */
     @ConfigValue
     public FileTransferConfigurationSchema fileTransfer;
+
+    /**
+     * Compression of the cluster connections, keyed by {@link org.apache.ignite.network.ChannelType#name() channel type names}. The
+     * connections of the channel types, that are not listed, are not compressed.
+     */
+    @NamedConfigValue
+    public ChannelCompressionConfigurationSchema compression;
 }
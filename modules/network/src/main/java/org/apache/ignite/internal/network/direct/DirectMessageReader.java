@@ -28,8 +28,10 @@ import org.apache.ignite.internal.network.direct.state.DirectMessageState;
 import org.apache.ignite.internal.network.direct.state.DirectMessageStateItem;
 import org.apache.ignite.internal.network.direct.stream.DirectByteBufferStream;
 import org.apache.ignite.internal.network.direct.stream.DirectByteBufferStreamImplV1;
+import org.apache.ignite.internal.network.direct.stream.RawBytesSlicer;
 import org.apache.ignite.lang.IgniteUuid;
 import org.apache.ignite.network.NetworkMessage;
+import org.apache.ignite.network.RawBytes;
 import org.apache.ignite.network.serialization.MessageReader;
 import org.apache.ignite.network.serialization.MessageSerializationRegistry;
 import org.apache.ignite.plugin.extensions.communication.MessageCollectionItemType;
@@ -45,6 +47,9 @@ public class DirectMessageReader implements MessageReader {
     /** Whether last field was fully read. */
     private boolean lastRead;
 
+    /** Slicer of the read buffer for raw bytes fields, {@code null} if the raw bytes are copied. */
+    private @Nullable RawBytesSlicer rawBytesSlicer;
+
     /**
      * Constructor.
      *
@@ -64,6 +69,15 @@ public class DirectMessageReader implements MessageReader {
         state.item().stream.setBuffer(buf);
     }
 
+    /**
+     * Sets the slicer of the read buffer, used to read raw bytes fields without copying them.
+     *
+     * @param rawBytesSlicer Slicer, {@code null} to copy the raw bytes.
+     */
+    public void setRawBytesSlicer(@Nullable RawBytesSlicer rawBytesSlicer) {
+        this.rawBytesSlicer = rawBytesSlicer;
+    }
+
     /** {@inheritDoc} */
     @Override
     public void setCurrentReadClass(Class<? extends NetworkMessage> msgCls) {
@@ -411,6 +425,18 @@ public class DirectMessageReader implements MessageReader {
         return val;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public RawBytes readRawBytes(String name) {
+        DirectByteBufferStream stream = state.item().stream;
+
+        RawBytes val = stream.readRawBytes(rawBytesSlicer);
+
+        lastRead = stream.lastFinished();
+
+        return val;
+    }
+
     /** {@inheritDoc} */
     @Override
     public UUID readUuid(String name) {
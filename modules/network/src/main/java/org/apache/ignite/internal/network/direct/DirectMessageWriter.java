@@ -30,6 +30,7 @@ import org.apache.ignite.internal.network.direct.stream.DirectByteBufferStream;
 import org.apache.ignite.internal.network.direct.stream.DirectByteBufferStreamImplV1;
 import org.apache.ignite.lang.IgniteUuid;
 import org.apache.ignite.network.NetworkMessage;
+import org.apache.ignite.network.RawBytes;
 import org.apache.ignite.network.serialization.MessageSerializationRegistry;
 import org.apache.ignite.network.serialization.MessageWriter;
 import org.apache.ignite.plugin.extensions.communication.MessageCollectionItemType;
@@ -367,6 +368,16 @@ public class DirectMessageWriter implements MessageWriter {
         return stream.lastFinished();
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean writeRawBytes(String name, RawBytes val) {
+        DirectByteBufferStream stream = state.item().stream;
+
+        stream.writeRawBytes(val);
+
+        return stream.lastFinished();
+    }
+
     /** {@inheritDoc} */
     @Override
     public boolean writeUuid(String name, UUID val) {
@@ -25,6 +25,7 @@ import java.util.Set;
 import java.util.UUID;
 import org.apache.ignite.lang.IgniteUuid;
 import org.apache.ignite.network.NetworkMessage;
+import org.apache.ignite.network.RawBytes;
 import org.apache.ignite.network.serialization.MessageReader;
 import org.apache.ignite.network.serialization.MessageWriter;
 import org.apache.ignite.plugin.extensions.communication.MessageCollectionItemType;
@@ -261,6 +262,13 @@ public interface DirectByteBufferStream {
      */
     void writeByteBuffer(ByteBuffer val);
 
+    /**
+     * Writes {@link RawBytes}.
+     *
+     * @param val Value.
+     */
+    void writeRawBytes(RawBytes val);
+
     /**
      * Writes {@link UUID}.
      *
@@ -515,6 +523,15 @@ public interface DirectByteBufferStream {
      */
     ByteBuffer readByteBuffer();
 
+    /**
+     * Reads {@link RawBytes}. If the slicer is provided, the bytes are not read until they are fully available in the buffer and then
+     * reference it, otherwise they are copied.
+     *
+     * @param slicer Slicer of the buffer, {@code null} to copy the bytes.
+     * @return Value.
+     */
+    RawBytes readRawBytes(@Nullable RawBytesSlicer slicer);
+
     /**
      * Reads {@link UUID}.
      *
@@ -55,6 +55,7 @@ import org.apache.ignite.internal.util.GridUnsafe;
 import org.apache.ignite.internal.util.IgniteUtils;
 import org.apache.ignite.lang.IgniteUuid;
 import org.apache.ignite.network.NetworkMessage;
+import org.apache.ignite.network.RawBytes;
 import org.apache.ignite.network.serialization.MessageDeserializer;
 import org.apache.ignite.network.serialization.MessageReader;
 import org.apache.ignite.network.serialization.MessageSerializationRegistry;
@@ -165,6 +166,12 @@ public class DirectByteBufferStreamImplV1 implements DirectByteBufferStream {
 
     private byte byteBufferFlag;
 
+    /** Whether the length of the currently read raw bytes has been read. */
+    private boolean rawBytesLengthRead;
+
+    /** Length of the currently read raw bytes. */
+    private int rawBytesLength;
+
     protected boolean lastFinished;
 
     /** byte-array representation of string. */
@@ -1199,6 +1206,30 @@ public class DirectByteBufferStreamImplV1 implements DirectByteBufferStream {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void writeRawBytes(RawBytes val) {
+        if (val == null) {
+            writeInt(-1);
+
+            return;
+        }
+
+        ByteBuffer bytes = val.buffer();
+
+        int position = bytes.position();
+        int length = bytes.remaining();
+
+        if (bytes.isDirect()) {
+            lastFinished = writeArray(null, GridUnsafe.bufferAddress(bytes) + position, length, length);
+        } else if (bytes.hasArray()) {
+            lastFinished = writeArray(bytes.array(), BYTE_ARR_OFF + bytes.arrayOffset() + position, length, length);
+        } else {
+            // Read-only heap buffer, the array is not accessible.
+            writeByteArray(val.toByteArray());
+        }
+    }
+
     @Override
     public @Nullable Boolean readBoxedBoolean() {
         return readBoxedValue(this::readBoolean);
@@ -1334,6 +1365,48 @@ public class DirectByteBufferStreamImplV1 implements DirectByteBufferStream {
         return val;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public RawBytes readRawBytes(@Nullable RawBytesSlicer slicer) {
+        if (slicer == null) {
+            byte[] bytes = readByteArray();
+
+            return lastFinished && bytes != null ? RawBytes.wrap(bytes) : null;
+        }
+
+        if (!rawBytesLengthRead) {
+            int len = readInt();
+
+            if (!lastFinished || len == -1) {
+                return null;
+            }
+
+            if (len == 0) {
+                return RawBytes.wrap(new byte[0]);
+            }
+
+            rawBytesLength = len;
+            rawBytesLengthRead = true;
+        }
+
+        int pos = buf.position();
+
+        // The bytes are not consumed until they are fully available, so that they can be referenced in one piece.
+        lastFinished = buf.remaining() >= rawBytesLength;
+
+        if (!lastFinished) {
+            return null;
+        }
+
+        RawBytes val = slicer.slice(pos, rawBytesLength);
+
+        buf.position(pos + rawBytesLength);
+
+        rawBytesLengthRead = false;
+
+        return val;
+    }
+
     /** {@inheritDoc} */
     @Override
     public UUID readUuid() {
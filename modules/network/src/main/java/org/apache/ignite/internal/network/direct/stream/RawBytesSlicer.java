@@ -0,0 +1,35 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.network.direct.stream;
+
+import org.apache.ignite.network.RawBytes;
+
+/**
+ * Creates {@link RawBytes} that reference a part of the buffer being read instead of copying it.
+ */
+@FunctionalInterface
+public interface RawBytesSlicer {
+    /**
+     * Creates raw bytes referencing a part of the buffer being read.
+     *
+     * @param position Position of the first byte in the buffer.
+     * @param length Number of bytes.
+     * @return Raw bytes.
+     */
+    RawBytes slice(int position, int length);
+}
@@ -0,0 +1,252 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.network.netty;
+
+import static org.apache.ignite.internal.network.configuration.ChannelCompressionConfigurationSchema.LZ4_COMPRESSION;
+import static org.apache.ignite.internal.network.configuration.ChannelCompressionConfigurationSchema.NO_COMPRESSION;
+import static org.apache.ignite.internal.network.configuration.ChannelCompressionConfigurationSchema.ZSTD_COMPRESSION;
+
+import com.github.luben.zstd.Zstd;
+import io.netty.handler.codec.compression.DecompressionException;
+import java.nio.ByteBuffer;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Compression codec of the network frames. The codecs work with direct buffers and do not change their positions: the source bytes are
+ * the remaining bytes of the source buffer, the result is written starting at the position of the destination buffer.
+ */
+public enum CompressionCodec {
+    /** No compression. */
+    NONE((byte) 0, NO_COMPRESSION) {
+        @Override
+        @Nullable Throwable unavailabilityCause0() {
+            return null;
+        }
+
+        @Override
+        public int maxCompressedLength(int length) {
+            return length;
+        }
+
+        @Override
+        public int compress(ByteBuffer src, ByteBuffer dst) {
+            dst.duplicate().put(src.duplicate());
+
+            return src.remaining();
+        }
+
+        @Override
+        public void decompress(ByteBuffer src, ByteBuffer dst) {
+            if (src.remaining() != dst.remaining()) {
+                throw new DecompressionException(
+                        "Unexpected frame length [expected=" + dst.remaining() + ", actual=" + src.remaining() + ']'
+                );
+            }
+
+            dst.duplicate().put(src.duplicate());
+        }
+    },
+
+    /** LZ4, falls back to the pure Java implementation if the native one is not available. */
+    LZ4((byte) 1, LZ4_COMPRESSION) {
+        @Override
+        @Nullable Throwable unavailabilityCause0() {
+            // Loads the library.
+            return Lz4Holder.COMPRESSOR != null ? null : new IllegalStateException("LZ4 compressor is not initialized");
+        }
+
+        @Override
+        public int maxCompressedLength(int length) {
+            return Lz4Holder.COMPRESSOR.maxCompressedLength(length);
+        }
+
+        @Override
+        public int compress(ByteBuffer src, ByteBuffer dst) {
+            return Lz4Holder.COMPRESSOR.compress(src, src.position(), src.remaining(), dst, dst.position(), dst.remaining());
+        }
+
+        @Override
+        public void decompress(ByteBuffer src, ByteBuffer dst) {
+            int length;
+
+            try {
+                length = Lz4Holder.DECOMPRESSOR.decompress(src, src.position(), src.remaining(), dst, dst.position(), dst.remaining());
+            } catch (LZ4Exception e) {
+                throw new DecompressionException("Failed to decompress a frame", e);
+            }
+
+            if (length != dst.remaining()) {
+                throw new DecompressionException("Unexpected frame length [expected=" + dst.remaining() + ", actual=" + length + ']');
+            }
+        }
+    },
+
+    /** Zstandard, requires the native library. */
+    ZSTD((byte) 2, ZSTD_COMPRESSION) {
+        @Override
+        @Nullable Throwable unavailabilityCause0() {
+            // Loads the native library.
+            Zstd.compressBound(0);
+
+            return null;
+        }
+
+        @Override
+        public int maxCompressedLength(int length) {
+            return (int) Zstd.compressBound(length);
+        }
+
+        @Override
+        public int compress(ByteBuffer src, ByteBuffer dst) {
+            long res = Zstd.compressDirectByteBuffer(
+                    dst, dst.position(), dst.remaining(),
+                    src, src.position(), src.remaining(),
+                    ZSTD_LEVEL
+            );
+
+            if (Zstd.isError(res)) {
+                throw new IllegalStateException("Failed to compress a frame: " + Zstd.getErrorName(res));
+            }
+
+            return (int) res;
+        }
+
+        @Override
+        public void decompress(ByteBuffer src, ByteBuffer dst) {
+            long res = Zstd.decompressDirectByteBuffer(dst, dst.position(), dst.remaining(), src, src.position(), src.remaining());
+
+            if (Zstd.isError(res)) {
+                throw new DecompressionException("Failed to decompress a frame: " + Zstd.getErrorName(res));
+            }
+
+            if (res != dst.remaining()) {
+                throw new DecompressionException("Unexpected frame length [expected=" + dst.remaining() + ", actual=" + res + ']');
+            }
+        }
+    };
+
+    /** Zstandard compression level, the fastest one, as the compression must keep up with the network. */
+    private static final int ZSTD_LEVEL = 1;
+
+    /** Codec id in the frame headers and the handshake messages. */
+    private final byte id;
+
+    /** Name of the codec in the network configuration. */
+    private final String configName;
+
+    CompressionCodec(byte id, String configName) {
+        this.id = id;
+        this.configName = configName;
+    }
+
+    /**
+     * Returns the codec with the given id.
+     *
+     * @param id Codec id.
+     * @return Codec or {@code null} if the id is unknown.
+     */
+    public static @Nullable CompressionCodec fromId(byte id) {
+        for (CompressionCodec codec : values()) {
+            if (codec.id == id) {
+                return codec;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the codec with the given name.
+     *
+     * @param configName Name of the codec in the network configuration.
+     * @return Codec.
+     */
+    public static CompressionCodec fromConfigName(String configName) {
+        for (CompressionCodec codec : values()) {
+            if (codec.configName.equals(configName)) {
+                return codec;
+            }
+        }
+
+        throw new IllegalArgumentException("Unknown compression codec: " + configName);
+    }
+
+    /** Returns the codec id in the frame headers and the handshake messages. */
+    public byte id() {
+        return id;
+    }
+
+    /** Returns the name of the codec in the network configuration. */
+    public String configName() {
+        return configName;
+    }
+
+    /** Returns {@code true} if the codec can be used on this platform. */
+    public boolean isAvailable() {
+        return unavailabilityCause() == null;
+    }
+
+    /** Returns the reason why the codec can not be used on this platform, {@code null} if it is available. */
+    public @Nullable Throwable unavailabilityCause() {
+        try {
+            return unavailabilityCause0();
+        } catch (LinkageError e) {
+            // The library of the codec is not on the classpath or its native part can not be loaded.
+            return e;
+        }
+    }
+
+    abstract @Nullable Throwable unavailabilityCause0();
+
+    /**
+     * Returns the maximum length of the compressed data.
+     *
+     * @param length Length of the data.
+     * @return Maximum length of the compressed data.
+     */
+    public abstract int maxCompressedLength(int length);
+
+    /**
+     * Compresses the data.
+     *
+     * @param src Data, a direct buffer.
+     * @param dst Direct buffer to write the compressed data to, must have at least {@link #maxCompressedLength} bytes remaining.
+     * @return Length of the compressed data.
+     */
+    public abstract int compress(ByteBuffer src, ByteBuffer dst);
+
+    /**
+     * Decompresses the data.
+     *
+     * @param src Compressed data, a direct buffer.
+     * @param dst Direct buffer to write the data to, the number of the remaining bytes must be equal to the length of the data.
+     * @throws DecompressionException If the data is corrupted.
+     */
+    public abstract void decompress(ByteBuffer src, ByteBuffer dst);
+
+    /** LZ4 codecs, initialized on the first use. */
+    private static class Lz4Holder {
+        private static final LZ4Compressor COMPRESSOR = LZ4Factory.fastestInstance().fastCompressor();
+
+        private static final LZ4SafeDecompressor DECOMPRESSOR = LZ4Factory.fastestInstance().safeDecompressor();
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.network.netty;
+
+import static org.apache.ignite.internal.network.netty.CompressionEncoder.BLOCK_SIZE;
+import static org.apache.ignite.internal.network.netty.CompressionEncoder.COMPRESSED_HEADER_SIZE;
+import static org.apache.ignite.internal.network.netty.CompressionEncoder.RAW_HEADER_SIZE;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.codec.CorruptedFrameException;
+import java.util.List;
+
+/**
+ * Splits the inbound bytes into the frames written by the {@link CompressionEncoder} of the other node and decompresses them. The payloads
+ * of the uncompressed frames are passed down the pipeline as retained slices of the inbound buffer, without copying. Like the encoder, the
+ * decoder is added to the pipeline only once a codec is negotiated during the handshake.
+ */
+public class CompressionDecoder extends ByteToMessageDecoder {
+    /** Handler name. */
+    public static final String NAME = "compression-decoder";
+
+    /** Compression statistics. */
+    private final NetworkCompression compression;
+
+    /**
+     * Constructor.
+     *
+     * @param compression Compression statistics.
+     */
+    CompressionDecoder(NetworkCompression compression) {
+        this.compression = compression;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) {
+        if (in.readableBytes() < RAW_HEADER_SIZE) {
+            return;
+        }
+
+        int start = in.readerIndex();
+
+        byte codecId = in.getByte(start);
+        int length = in.getInt(start + 1);
+
+        CompressionCodec codec = CompressionCodec.fromId(codecId);
+
+        if (codec == null) {
+            throw new CorruptedFrameException("Unknown compression codec [id=" + codecId + ']');
+        }
+
+        if (length < 0) {
+            throw new CorruptedFrameException("Negative frame length [length=" + length + ']');
+        }
+
+        int headerSize = codec == CompressionCodec.NONE ? RAW_HEADER_SIZE : COMPRESSED_HEADER_SIZE;
+
+        if (in.readableBytes() < headerSize + length) {
+            return;
+        }
+
+        if (codec == CompressionCodec.NONE) {
+            in.skipBytes(headerSize);
+
+            out.add(in.readRetainedSlice(length));
+
+            compression.onReceived(length, length);
+
+            return;
+        }
+
+        int uncompressedLength = in.getInt(start + RAW_HEADER_SIZE);
+
+        if (uncompressedLength < 0 || uncompressedLength > BLOCK_SIZE) {
+            throw new CorruptedFrameException("Invalid uncompressed frame length [length=" + uncompressedLength + ']');
+        }
+
+        in.skipBytes(headerSize);
+
+        ByteBuf payload = in.readSlice(length);
+        ByteBuf src = CompressionEncoder.directBuffer(ctx.alloc(), payload);
+        ByteBuf dst = ctx.alloc().directBuffer(uncompressedLength);
+
+        try {
+            codec.decompress(src.nioBuffer(), dst.nioBuffer(0, uncompressedLength));
+
+            dst.writerIndex(uncompressedLength);
+        } catch (RuntimeException e) {
+            dst.release();
+
+            throw e;
+        } finally {
+            if (src != payload) {
+                src.release();
+            }
+        }
+
+        out.add(dst);
+
+        compression.onReceived(length, uncompressedLength);
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.network.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.util.concurrent.PromiseCombiner;
+import io.netty.util.concurrent.PromiseNotifier;
+import java.nio.channels.ClosedChannelException;
+import java.util.ArrayList;
+import java.util.List;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An encoder, that writes the outbound bytes as frames and compresses them. A frame is a header followed by a payload:
+ * <ul>
+ *     <li>Codec id, 1 byte, see {@link CompressionCodec#id()}.</li>
+ *     <li>Payload length, 4 bytes.</li>
+ *     <li>Uncompressed payload length, 4 bytes, only if the payload is compressed.</li>
+ * </ul>
+ *
+ * <p>The encoder is added to the pipeline only once a codec is negotiated during the handshake, so the connections without compression
+ * keep sending the plain bytes. The writes are accumulated until a flush or until there are {@link #BLOCK_SIZE} bytes, and if there are
+ * at least as many bytes as the threshold, they are compressed in blocks of at most {@link #BLOCK_SIZE} bytes. A block, that does not
+ * shrink, is sent as an uncompressed frame.
+ */
+public class CompressionEncoder extends ChannelOutboundHandlerAdapter {
+    /** Handler name. */
+    public static final String NAME = "compression-encoder";
+
+    /** Size of the header of an uncompressed frame. */
+    static final int RAW_HEADER_SIZE = 1 + Integer.BYTES;
+
+    /** Size of the header of a compressed frame. */
+    static final int COMPRESSED_HEADER_SIZE = RAW_HEADER_SIZE + Integer.BYTES;
+
+    /** Maximum number of bytes compressed into a single frame. */
+    static final int BLOCK_SIZE = 64 * 1024;
+
+    /** Compression codec. */
+    private final CompressionCodec codec;
+
+    /** Minimum number of bytes to compress. */
+    private final int threshold;
+
+    /** Compression statistics. */
+    private final NetworkCompression compression;
+
+    /** Bytes written since the last flush, {@code null} if there are none. */
+    private @Nullable CompositeByteBuf pending;
+
+    /** Write promises of the bytes written since the last flush. */
+    private final List<ChannelPromise> pendingPromises = new ArrayList<>();
+
+    /**
+     * Constructor.
+     *
+     * @param codec Compression codec.
+     * @param threshold Minimum number of bytes to compress.
+     * @param compression Compression statistics.
+     */
+    CompressionEncoder(CompressionCodec codec, int threshold, NetworkCompression compression) {
+        assert codec != CompressionCodec.NONE;
+
+        this.codec = codec;
+        this.threshold = threshold;
+        this.compression = compression;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        if (!(msg instanceof ByteBuf)) {
+            // Preserve the order of the writes.
+            writePending(ctx);
+
+            ctx.write(msg, promise);
+
+            return;
+        }
+
+        var buf = (ByteBuf) msg;
+
+        if (pending == null) {
+            pending = ctx.alloc().compositeDirectBuffer(Integer.MAX_VALUE);
+        }
+
+        pending.addComponent(true, buf);
+        pendingPromises.add(promise);
+
+        if (pending.readableBytes() >= BLOCK_SIZE) {
+            writePending(ctx);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void flush(ChannelHandlerContext ctx) throws Exception {
+        writePending(ctx);
+
+        ctx.flush();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close(ChannelHandlerContext ctx, ChannelPromise promise) throws Exception {
+        // Pass the pending bytes down the pipeline, so that their promises are failed by the channel.
+        writePending(ctx);
+
+        ctx.close(promise);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) throws Exception {
+        for (ChannelPromise promise : pendingPromises) {
+            promise.tryFailure(new ClosedChannelException());
+        }
+
+        pendingPromises.clear();
+
+        if (pending != null) {
+            pending.release();
+
+            pending = null;
+        }
+    }
+
+    /**
+     * Writes the bytes written since the last flush as one or several frames.
+     *
+     * @param ctx Channel handler context.
+     */
+    private void writePending(ChannelHandlerContext ctx) {
+        CompositeByteBuf buf = pending;
+
+        if (buf == null) {
+            return;
+        }
+
+        ChannelPromise promise;
+
+        if (pendingPromises.size() == 1) {
+            promise = pendingPromises.get(0);
+        } else {
+            promise = ctx.newPromise();
+
+            promise.addListener(new PromiseNotifier<>(false, pendingPromises.toArray(new ChannelPromise[0])));
+        }
+
+        pending = null;
+        pendingPromises.clear();
+
+        if (buf.readableBytes() < threshold) {
+            writeRaw(ctx, buf, promise);
+        } else {
+            writeCompressed(ctx, buf, promise);
+        }
+    }
+
+    /**
+     * Writes the bytes as an uncompressed frame.
+     *
+     * @param ctx Channel handler context.
+     * @param buf Bytes, released by this method.
+     * @param promise Write promise.
+     */
+    private void writeRaw(ChannelHandlerContext ctx, ByteBuf buf, ChannelPromise promise) {
+        int length = buf.readableBytes();
+
+        ByteBuf header = ctx.alloc().directBuffer(RAW_HEADER_SIZE)
+                .writeByte(CompressionCodec.NONE.id())
+                .writeInt(length);
+
+        ctx.write(ctx.alloc().compositeDirectBuffer(2).addComponents(true, header, buf), promise);
+
+        compression.onSent(length, length);
+    }
+
+    /**
+     * Compresses the bytes in blocks of at most {@link #BLOCK_SIZE} bytes and writes every block as a frame.
+     *
+     * @param ctx Channel handler context.
+     * @param buf Bytes, released by this method.
+     * @param promise Write promise, completed once all the frames are written.
+     */
+    private void writeCompressed(ChannelHandlerContext ctx, ByteBuf buf, ChannelPromise promise) {
+        ByteBuf src = directBuffer(ctx.alloc(), buf);
+
+        var combiner = new PromiseCombiner(ctx.executor());
+
+        try {
+            for (int offset = src.readerIndex(); offset < src.writerIndex(); offset += BLOCK_SIZE) {
+                int length = Math.min(BLOCK_SIZE, src.writerIndex() - offset);
+
+                int maxCompressedLength = codec.maxCompressedLength(length);
+
+                ByteBuf frame = ctx.alloc().directBuffer(COMPRESSED_HEADER_SIZE + maxCompressedLength);
+
+                int compressedLength;
+
+                try {
+                    compressedLength = codec.compress(
+                            src.nioBuffer(offset, length),
+                            frame.nioBuffer(COMPRESSED_HEADER_SIZE, maxCompressedLength)
+                    );
+                } catch (RuntimeException e) {
+                    frame.release();
+
+                    throw e;
+                }
+
+                if (compressedLength >= length) {
+                    frame.release();
+
+                    ByteBuf header = ctx.alloc().directBuffer(RAW_HEADER_SIZE)
+                            .writeByte(CompressionCodec.NONE.id())
+                            .writeInt(length);
+
+                    combiner.add(ctx.write(ctx.alloc().compositeDirectBuffer(2).addComponents(
+                            true,
+                            header,
+                            src.retainedSlice(offset, length)
+                    )));
+
+                    compression.onSent(length, length);
+                } else {
+                    frame.writeByte(codec.id())
+                            .writeInt(compressedLength)
+                            .writeInt(length)
+                            .writerIndex(COMPRESSED_HEADER_SIZE + compressedLength);
+
+                    combiner.add(ctx.write(frame));
+
+                    compression.onSent(length, compressedLength);
+                }
+            }
+        } catch (RuntimeException e) {
+            promise.tryFailure(e);
+        } finally {
+            src.release();
+
+            if (src != buf) {
+                buf.release();
+            }
+        }
+
+        combiner.finish(promise);
+    }
+
+    /**
+     * Returns the bytes as a single direct buffer, that can be passed to a {@link CompressionCodec}.
+     *
+     * @param alloc Buffer allocator.
+     * @param buf Bytes.
+     * @return Given buffer if it is a single direct buffer, a direct copy of it otherwise.
+     */
+    static ByteBuf directBuffer(ByteBufAllocator alloc, ByteBuf buf) {
+        if (buf.isDirect() && buf.nioBufferCount() == 1) {
+            return buf;
+        }
+
+        return alloc.directBuffer(buf.readableBytes()).writeBytes(buf, buf.readerIndex(), buf.readableBytes());
+    }
+}
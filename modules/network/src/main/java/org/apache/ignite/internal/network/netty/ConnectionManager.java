@@ -41,7 +41,6 @@ import org.apache.ignite.internal.network.configuration.NetworkView;
 import org.apache.ignite.internal.network.handshake.HandshakeManager;
 import org.apache.ignite.internal.network.recovery.RecoveryClientHandshakeManager;
 import org.apache.ignite.internal.network.recovery.RecoveryClientHandshakeManagerFactory;
-import org.apache.ignite.internal.network.recovery.RecoveryDescriptorProvider;
 import org.apache.ignite.internal.network.recovery.RecoveryServerHandshakeManager;
 import org.apache.ignite.internal.network.recovery.StaleIdDetector;
 import org.apache.ignite.internal.network.serialization.SerializationService;
@@ -49,6 +48,7 @@ import org.apache.ignite.lang.IgniteInternalException;
 import org.apache.ignite.lang.NodeStoppingException;
 import org.apache.ignite.network.ChannelType;
 import org.apache.ignite.network.NettyBootstrapFactory;
+import org.apache.ignite.network.NetworkMessage;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 
@@ -104,11 +104,14 @@ public class ConnectionManager implements ChannelCreationListener {
     private final AtomicBoolean stopped = new AtomicBoolean(false);
 
     /** Recovery descriptor provider. */
-    private final RecoveryDescriptorProvider descriptorProvider = new DefaultRecoveryDescriptorProvider();
+    private final DefaultRecoveryDescriptorProvider descriptorProvider = new DefaultRecoveryDescriptorProvider();
 
     /** Network Configuration. */
     private final NetworkView networkConfiguration;
 
+    /** Network compression. */
+    private final NetworkCompression compression;
+
     /**
      * Constructor.
      *
@@ -164,6 +167,7 @@ public class ConnectionManager implements ChannelCreationListener {
         this.staleIdDetector = staleIdDetector;
         this.clientHandshakeManagerFactory = clientHandshakeManagerFactory;
         this.networkConfiguration = networkConfiguration;
+        this.compression = new NetworkCompression(networkConfiguration.compression());
 
         this.server = new NettyServer(
                 networkConfiguration,
@@ -223,12 +227,33 @@ public class ConnectionManager implements ChannelCreationListener {
      * @return Sender.
      */
     public OrderingFuture<NettySender> channel(@Nullable String consistentId, ChannelType type, InetSocketAddress address) {
+        return channel(consistentId, type, address, 0);
+    }
+
+    /**
+     * Gets a {@link NettySender}, that sends data from this node to another node with the specified address. If there are several
+     * {@link NetworkView#connectionsPerPeer() connections per node}, the connection is chosen by the ordering key, so that the messages
+     * with the same key are sent over the same connection.
+     *
+     * @param consistentId Another node's consistent id.
+     * @param address      Another node's address.
+     * @param orderingKey  Ordering key of the message, see {@link NetworkMessage#orderingKey()}.
+     * @return Sender.
+     */
+    public OrderingFuture<NettySender> channel(
+            @Nullable String consistentId,
+            ChannelType type,
+            InetSocketAddress address,
+            int orderingKey
+    ) {
+        short connectionIndex = (short) Math.floorMod(orderingKey, networkConfiguration.connectionsPerPeer());
+
         // Problem is we can't look up a channel by consistent id because consistent id is not known yet.
         if (consistentId != null) {
             // If consistent id is known, try looking up a channel by consistent id. There can be an outbound connection
             // or an inbound connection associated with that consistent id.
             NettySender channel = channels.compute(
-                    new ConnectorKey<>(consistentId, type),
+                    new ConnectorKey<>(consistentId, type, connectionIndex),
                     (key, sender) -> (sender == null || !sender.isOpen()) ? null : sender
             );
 
@@ -241,8 +266,8 @@ public class ConnectionManager implements ChannelCreationListener {
         // when the client is ready for write operations, so previously started client, that didn't establish connection
         // or didn't perform the handshake operation, can be reused.
         @Nullable NettyClient client = clients.compute(
-                new ConnectorKey<>(address, type),
-                (key, existingClient) -> isClientConnected(existingClient) ? existingClient : connect(key.id(), key.type())
+                new ConnectorKey<>(address, type, connectionIndex),
+                (key, existingClient) -> isClientConnected(existingClient) ? existingClient : connect(key)
         );
 
         if (client == null) {
@@ -272,7 +297,7 @@ public class ConnectionManager implements ChannelCreationListener {
      */
     @Override
     public void handshakeFinished(NettySender channel) {
-        ConnectorKey<String> key = new ConnectorKey<>(channel.consistentId(), getChannel(channel.channelId()));
+        ConnectorKey<String> key = new ConnectorKey<>(channel.consistentId(), getChannel(channel.channelId()), channel.connectionIndex());
         NettySender oldChannel = channels.put(key, channel);
 
         // Old channel can still be in the map, but it must be closed already by the tie breaker in the
@@ -283,26 +308,26 @@ public class ConnectionManager implements ChannelCreationListener {
     /**
      * Create new client from this node to specified address.
      *
-     * @param address Target address.
+     * @param key Target address, channel type and connection index.
      * @return New netty client or {@code null} if we are stopping.
      */
     @Nullable
-    private NettyClient connect(InetSocketAddress address, ChannelType channelType) {
+    private NettyClient connect(ConnectorKey<InetSocketAddress> key) {
         if (stopping.get()) {
             return null;
         }
 
         var client = new NettyClient(
-                address,
+                key.id(),
                 serializationService,
-                createClientHandshakeManager(channelType.id()),
+                createClientHandshakeManager(key.type().id(), key.connectionIndex()),
                 this::onMessage,
                 this.networkConfiguration.ssl()
         );
 
         client.start(clientBootstrap).whenComplete((sender, throwable) -> {
             if (throwable != null) {
-                clients.remove(new ConnectorKey<>(address, channelType));
+                clients.remove(key);
             }
         });
 
@@ -353,16 +378,18 @@ public class ConnectionManager implements ChannelCreationListener {
         return stopped.get();
     }
 
-    private HandshakeManager createClientHandshakeManager(short connectionId) {
+    private HandshakeManager createClientHandshakeManager(short connectionId, short connectionIndex) {
         if (clientHandshakeManagerFactory == null) {
             return new RecoveryClientHandshakeManager(
                     launchId,
                     consistentId,
                     connectionId,
+                    connectionIndex,
                     descriptorProvider,
                     staleIdDetector,
                     this,
-                    stopping
+                    stopping,
+                    compression
             );
         }
 
@@ -370,6 +397,7 @@ public class ConnectionManager implements ChannelCreationListener {
                 launchId,
                 consistentId,
                 connectionId,
+                connectionIndex,
                 descriptorProvider
         );
     }
@@ -382,7 +410,8 @@ public class ConnectionManager implements ChannelCreationListener {
                 descriptorProvider,
                 staleIdDetector,
                 this,
-                stopping
+                stopping,
+                compression
         );
     }
 
@@ -410,6 +439,24 @@ public class ConnectionManager implements ChannelCreationListener {
         return consistentId;
     }
 
+    /**
+     * Returns the network configuration.
+     *
+     * @return Network configuration.
+     */
+    public NetworkView networkConfiguration() {
+        return networkConfiguration;
+    }
+
+    /**
+     * Returns the network compression.
+     *
+     * @return Network compression.
+     */
+    public NetworkCompression compression() {
+        return compression;
+    }
+
     /**
      * Returns collection of all the clients started by this connection manager.
      *
@@ -425,11 +472,20 @@ public class ConnectionManager implements ChannelCreationListener {
      *
      * @return Collection of all channels of this connection manager.
      */
-    @TestOnly
     public Map<ConnectorKey<String>, NettySender> channels() {
         return Map.copyOf(channels);
     }
 
+    /**
+     * Returns the number of the messages sent to the remote node and not acknowledged by it.
+     *
+     * @param consistentId Remote node's consistent id, {@code null} to count the messages sent to all the nodes.
+     * @return Number of the unacknowledged messages.
+     */
+    public long pendingAcknowledgements(@Nullable String consistentId) {
+        return descriptorProvider.pendingAcknowledgements(consistentId);
+    }
+
     /**
      * Marks this connection manager as being stopped. In this state, it does not make any new connections, does not accept any connections
      * and does not consider handshake rejections as critical events.
@@ -29,15 +29,30 @@ public class ConnectorKey<T> {
 
     private final ChannelType type;
 
+    /** Index of the connection among the connections with the same identifier and channel type. */
+    private final short connectionIndex;
+
     /**
-     * Constructor.
+     * Constructor of a key of the first connection.
      *
      * @param id Connector identifier.
      * @param type Channel type.
      */
     public ConnectorKey(T id, ChannelType type) {
+        this(id, type, (short) 0);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param id Connector identifier.
+     * @param type Channel type.
+     * @param connectionIndex Index of the connection among the connections with the same identifier and channel type.
+     */
+    public ConnectorKey(T id, ChannelType type, short connectionIndex) {
         this.id = id;
         this.type = type;
+        this.connectionIndex = connectionIndex;
     }
 
     public T id() {
@@ -48,6 +63,10 @@ public class ConnectorKey<T> {
         return type;
     }
 
+    public short connectionIndex() {
+        return connectionIndex;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -60,13 +79,15 @@ public class ConnectorKey<T> {
         ConnectorKey<?> that = (ConnectorKey<?>) o;
 
         return (id != null ? id.equals(that.id) : that.id == null)
-                && (type != null ? type.equals(that.type) : that.type == null);
+                && (type != null ? type.equals(that.type) : that.type == null)
+                && connectionIndex == that.connectionIndex;
     }
 
     @Override
     public int hashCode() {
         int result = id != null ? id.hashCode() : 0;
         result = 31 * result + (type != null ? type.hashCode() : 0);
+        result = 31 * result + connectionIndex;
         return result;
     }
 }
@@ -23,6 +23,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import org.apache.ignite.internal.network.recovery.RecoveryDescriptor;
 import org.apache.ignite.internal.network.recovery.RecoveryDescriptorProvider;
 import org.apache.ignite.internal.tostring.S;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Default implementation of the {@link RecoveryDescriptorProvider}.
@@ -36,12 +37,30 @@ public class DefaultRecoveryDescriptorProvider implements RecoveryDescriptorProv
 
     /** {@inheritDoc} */
     @Override
-    public RecoveryDescriptor getRecoveryDescriptor(String consistentId, UUID launchId, short connectionIndex) {
-        var key = new ChannelKey(consistentId, launchId, connectionIndex);
+    public RecoveryDescriptor getRecoveryDescriptor(String consistentId, UUID launchId, short connectionId, short connectionIndex) {
+        var key = new ChannelKey(consistentId, launchId, connectionId, connectionIndex);
 
         return recoveryDescriptors.computeIfAbsent(key, channelKey -> new RecoveryDescriptor(DEFAULT_QUEUE_LIMIT));
     }
 
+    /**
+     * Returns the number of the messages sent to the remote node and not acknowledged by it.
+     *
+     * @param consistentId Remote node's consistent id, {@code null} to count the messages sent to all the nodes.
+     * @return Number of the unacknowledged messages.
+     */
+    public long pendingAcknowledgements(@Nullable String consistentId) {
+        long count = 0;
+
+        for (Map.Entry<ChannelKey, RecoveryDescriptor> e : recoveryDescriptors.entrySet()) {
+            if (consistentId == null || consistentId.equals(e.getKey().consistentId)) {
+                count += e.getValue().pendingAcknowledgements();
+            }
+        }
+
+        return count;
+    }
+
     /** Channel key. */
     private static class ChannelKey {
         /** Remote node's consistent id. */
@@ -56,10 +75,14 @@ public class DefaultRecoveryDescriptorProvider implements RecoveryDescriptorProv
          */
         private final short connectionId;
 
-        private ChannelKey(String consistentId, UUID launchId, short connectionId) {
+        /** Index of the connection among the connections with the same connection id. */
+        private final short connectionIndex;
+
+        private ChannelKey(String consistentId, UUID launchId, short connectionId, short connectionIndex) {
             this.consistentId = consistentId;
             this.launchId = launchId;
             this.connectionId = connectionId;
+            this.connectionIndex = connectionIndex;
         }
 
         /** {@inheritDoc} */
@@ -74,7 +97,7 @@ public class DefaultRecoveryDescriptorProvider implements RecoveryDescriptorProv
 
             ChannelKey that = (ChannelKey) o;
 
-            if (connectionId != that.connectionId) {
+            if (connectionId != that.connectionId || connectionIndex != that.connectionIndex) {
                 return false;
             }
             if (!consistentId.equals(that.consistentId)) {
@@ -89,6 +112,7 @@ public class DefaultRecoveryDescriptorProvider implements RecoveryDescriptorProv
             int result = consistentId.hashCode();
             result = 31 * result + launchId.hashCode();
             result = 31 * result + connectionId;
+            result = 31 * result + connectionIndex;
             return result;
         }
 
@@ -114,9 +114,11 @@ public class HandshakeHandler extends ChannelInboundHandlerAdapter {
      * Creates a {@link MessageHandler} for the current pipeline.
      *
      * @param remoteConsistentId Remote node's consistent id.
+     * @param connectionId Connection id.
+     * @param connectionIndex Index of the connection among the connections with the same id.
      * @return Message handler.
      */
-    public MessageHandler createMessageHandler(String remoteConsistentId) {
-        return new MessageHandler(messageListener, remoteConsistentId, serializationService);
+    public MessageHandler createMessageHandler(String remoteConsistentId, short connectionId, short connectionIndex) {
+        return new MessageHandler(messageListener, remoteConsistentId, connectionId, connectionIndex, serializationService);
     }
 }
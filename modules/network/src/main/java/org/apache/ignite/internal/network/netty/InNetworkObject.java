@@ -31,13 +31,27 @@ public class InNetworkObject {
     /** Sender's consistent id. */
     private final String consistentId;
 
+    /** Id of the connection the message was received with. */
+    private final short connectionId;
+
+    /** Index of the connection the message was received with among the connections with the same id. */
+    private final short connectionIndex;
+
     /** DescriptorRegistry that will be used for the deserialization of the message's {@link Marshallable} fields. */
     private final DescriptorRegistry registry;
 
     /** Constructor. */
-    public InNetworkObject(NetworkMessage message, String consistentId, DescriptorRegistry registry) {
+    public InNetworkObject(
+            NetworkMessage message,
+            String consistentId,
+            short connectionId,
+            short connectionIndex,
+            DescriptorRegistry registry
+    ) {
         this.message = message;
         this.consistentId = consistentId;
+        this.connectionId = connectionId;
+        this.connectionIndex = connectionIndex;
         this.registry = registry;
     }
 
@@ -59,6 +73,24 @@ public class InNetworkObject {
         return consistentId;
     }
 
+    /**
+     * Returns id of the connection the message was received with.
+     *
+     * @return Connection id.
+     */
+    public short connectionId() {
+        return connectionId;
+    }
+
+    /**
+     * Returns index of the connection the message was received with among the connections with the same id.
+     *
+     * @return Connection index.
+     */
+    public short connectionIndex() {
+        return connectionIndex;
+    }
+
     /**
      * Returns descriptor registry.
      *
@@ -23,21 +23,32 @@ import io.netty.handler.codec.ByteToMessageDecoder;
 import io.netty.util.Attribute;
 import io.netty.util.AttributeKey;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.network.direct.DirectMarshallingUtils;
 import org.apache.ignite.internal.network.direct.DirectMessageReader;
+import org.apache.ignite.internal.network.direct.stream.RawBytesSlicer;
 import org.apache.ignite.internal.network.message.ClassDescriptorListMessage;
+import org.apache.ignite.internal.network.message.InvokeResponse;
 import org.apache.ignite.internal.network.serialization.PerSessionSerializationService;
 import org.apache.ignite.network.NetworkMessage;
+import org.apache.ignite.network.RawBytes;
 import org.apache.ignite.network.serialization.MessageDeserializer;
-import org.apache.ignite.network.serialization.MessageReader;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Decodes {@link ByteBuf}s into {@link NetworkMessage}s.
+ *
+ * <p>{@link RawBytes} fields are not copied but reference retained slices of the inbound buffer, which are released by
+ * {@link NetworkMessage#releaseRawBytes()} once the message is handled. Responses to invocations are handed over to the callers, that
+ * are not expected to release them, so their raw bytes are copied.
+ *
+ * <p>Until the handshake is finished, messages are decoded one at a time, so that the handshake may change the pipeline, e.g. enable the
+ * compression, right after a message, before the bytes following it are decoded.
  */
-public class InboundDecoder extends ByteToMessageDecoder {
+public class InboundDecoder extends ByteToMessageDecoder implements RawBytesSlicer {
     /** Handler name. */
     public static final String NAME = "inbound-decoder";
 
@@ -45,7 +56,7 @@ public class InboundDecoder extends ByteToMessageDecoder {
     private static final IgniteLogger LOG = Loggers.forClass(InboundDecoder.class);
 
     /** Message reader channel attribute key. */
-    private static final AttributeKey<MessageReader> READER_KEY = AttributeKey.valueOf("READER");
+    private static final AttributeKey<DirectMessageReader> READER_KEY = AttributeKey.valueOf("READER");
 
     /** Message deserializer channel attribute key. */
     private static final AttributeKey<MessageDeserializer<NetworkMessage>> DESERIALIZER_KEY = AttributeKey.valueOf("DESERIALIZER");
@@ -53,6 +64,18 @@ public class InboundDecoder extends ByteToMessageDecoder {
     /** Serialization service. */
     private final PerSessionSerializationService serializationService;
 
+    /** Inbound buffer that is being decoded. */
+    private @Nullable ByteBuf currentIn;
+
+    /** Index in the {@link #currentIn inbound buffer} of the first byte of its NIO buffer. */
+    private int currentBaseIndex;
+
+    /** Raw bytes created for the message that is being read, released if the message is never finished. */
+    private final List<RawBytes> pendingRawBytes = new ArrayList<>();
+
+    /** Whether the handshake of the channel is finished. */
+    private boolean handshakeFinished;
+
     /**
      * Constructor.
      *
@@ -67,8 +90,11 @@ public class InboundDecoder extends ByteToMessageDecoder {
     public void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) {
         ByteBuffer buffer = in.nioBuffer();
 
-        Attribute<MessageReader> readerAttr = ctx.channel().attr(READER_KEY);
-        MessageReader reader = readerAttr.get();
+        currentIn = in;
+        currentBaseIndex = in.readerIndex();
+
+        Attribute<DirectMessageReader> readerAttr = ctx.channel().attr(READER_KEY);
+        DirectMessageReader reader = readerAttr.get();
 
         if (reader == null) {
             reader = new DirectMessageReader(serializationService.serializationRegistry(), ConnectionManager.DIRECT_PROTOCOL_VERSION);
@@ -88,6 +114,8 @@ public class InboundDecoder extends ByteToMessageDecoder {
                     if (buffer.remaining() >= NetworkMessage.MSG_TYPE_SIZE_BYTES) {
                         msg = serializationService.createMessageDeserializer(DirectMarshallingUtils.getShort(buffer),
                                 DirectMarshallingUtils.getShort(buffer));
+
+                        reader.setRawBytesSlicer(msg != null && !InvokeResponse.class.isAssignableFrom(msg.klass()) ? this : null);
                     } else {
                         break;
                     }
@@ -111,6 +139,7 @@ public class InboundDecoder extends ByteToMessageDecoder {
                 if (finished) {
                     reader.reset();
                     messageAttr.set(null);
+                    pendingRawBytes.clear();
 
                     NetworkMessage message = msg.getMessage();
 
@@ -118,6 +147,10 @@ public class InboundDecoder extends ByteToMessageDecoder {
                         onClassDescriptorMessage((ClassDescriptorListMessage) message);
                     } else {
                         out.add(message);
+
+                        if (!handshakeFinished(ctx)) {
+                            break;
+                        }
                     }
                 } else {
                     messageAttr.set(msg);
@@ -139,6 +172,47 @@ public class InboundDecoder extends ByteToMessageDecoder {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public RawBytes slice(int position, int length) {
+        assert currentIn != null;
+
+        ByteBuf slice = currentIn.retainedSlice(currentBaseIndex + position, length);
+
+        RawBytes rawBytes = RawBytes.wrap(slice.nioBuffer(), slice::release);
+
+        pendingRawBytes.add(rawBytes);
+
+        return rawBytes;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void handlerRemoved0(ChannelHandlerContext ctx) {
+        for (RawBytes rawBytes : pendingRawBytes) {
+            rawBytes.release();
+        }
+
+        pendingRawBytes.clear();
+    }
+
+    /**
+     * Returns the serialization service.
+     *
+     * @return Serialization service.
+     */
+    PerSessionSerializationService serializationService() {
+        return serializationService;
+    }
+
+    private boolean handshakeFinished(ChannelHandlerContext ctx) {
+        if (!handshakeFinished) {
+            handshakeFinished = ctx.pipeline().get(HandshakeHandler.NAME) == null;
+        }
+
+        return handshakeFinished;
+    }
+
     private void onClassDescriptorMessage(ClassDescriptorListMessage msg) {
         serializationService.mergeDescriptors(msg.messages());
     }
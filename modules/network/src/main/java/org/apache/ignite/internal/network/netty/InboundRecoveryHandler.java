@@ -39,6 +39,12 @@ public class InboundRecoveryHandler extends ChannelInboundHandlerAdapter {
     /** Messages factory. */
     private final NetworkMessagesFactory factory;
 
+    /**
+     * Whether there are received messages to acknowledge. Acknowledgements carry the total number of the received messages, so a single
+     * one is sent when the current read completes instead of one per message.
+     */
+    private boolean ackPending;
+
     /**
      * Constructor.
      *
@@ -61,13 +67,27 @@ public class InboundRecoveryHandler extends ChannelInboundHandlerAdapter {
 
             descriptor.acknowledge(receivedMessages);
         } else if (message.needAck()) {
+            descriptor.onReceive();
+
+            ackPending = true;
+        }
+
+        super.channelRead(ctx, message);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void channelReadComplete(ChannelHandlerContext ctx) throws Exception {
+        if (ackPending) {
+            ackPending = false;
+
             AcknowledgementMessage ackMsg = factory.acknowledgementMessage()
-                    .receivedMessages(descriptor.onReceive()).build();
+                    .receivedMessages(descriptor.receivedCount()).build();
 
             ctx.channel().writeAndFlush(new OutNetworkObject(ackMsg, Collections.emptyList(), false));
         }
 
-        super.channelRead(ctx, message);
+        super.channelReadComplete(ctx);
     }
 
     @Override
@@ -37,6 +37,12 @@ public class MessageHandler extends ChannelInboundHandlerAdapter {
     /** Consistent id of the remote node. */
     private final String consistentId;
 
+    /** Connection id. */
+    private final short connectionId;
+
+    /** Index of the connection among the connections with the same id. */
+    private final short connectionIndex;
+
     private final PerSessionSerializationService serializationService;
 
     /**
@@ -44,12 +50,16 @@ public class MessageHandler extends ChannelInboundHandlerAdapter {
      *
      * @param messageListener Message listener.
      * @param consistentId Consistent id of the remote node.
+     * @param connectionId Connection id.
+     * @param connectionIndex Index of the connection among the connections with the same id.
      * @param serializationService Serialization service.
      */
-    public MessageHandler(Consumer<InNetworkObject> messageListener, String consistentId,
+    public MessageHandler(Consumer<InNetworkObject> messageListener, String consistentId, short connectionId, short connectionIndex,
             PerSessionSerializationService serializationService) {
         this.messageListener = messageListener;
         this.consistentId = consistentId;
+        this.connectionId = connectionId;
+        this.connectionIndex = connectionIndex;
         this.serializationService = serializationService;
     }
 
@@ -62,6 +72,12 @@ public class MessageHandler extends ChannelInboundHandlerAdapter {
             return;
         }
 
-        messageListener.accept(new InNetworkObject(message, consistentId, serializationService.compositeDescriptorRegistry()));
+        messageListener.accept(new InNetworkObject(
+                message,
+                consistentId,
+                connectionId,
+                connectionIndex,
+                serializationService.compositeDescriptorRegistry()
+        ));
     }
 }
@@ -43,7 +43,17 @@ public class NamedNioEventLoopGroup extends NioEventLoopGroup {
      * @return Event loop.
      */
     public static NioEventLoopGroup create(String namePrefix) {
-        var factory = new DefaultThreadFactory(namePrefix, Thread.MAX_PRIORITY) {
+        return new NamedNioEventLoopGroup(threadFactory(namePrefix));
+    }
+
+    /**
+     * Creates a factory of the {@link NetworkThread network threads}, shared by the event loops of all the transports.
+     *
+     * @param namePrefix Tread name prefix.
+     * @return Thread factory.
+     */
+    public static ThreadFactory threadFactory(String namePrefix) {
+        return new DefaultThreadFactory(namePrefix, Thread.MAX_PRIORITY) {
             /** Thread index. */
             private final AtomicInteger nextId = new AtomicInteger();
 
@@ -53,7 +63,6 @@ public class NamedNioEventLoopGroup extends NioEventLoopGroup {
                 return new NetworkThread(threadGroup, r, namePrefix + '-' + nextId.incrementAndGet());
             }
         };
-        return new NamedNioEventLoopGroup(factory);
     }
 
     /**
@@ -21,14 +21,25 @@ import static org.apache.ignite.internal.network.netty.NettyUtils.toCompletableF
 
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelOutboundBuffer;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.EventLoop;
 import io.netty.handler.stream.ChunkedInput;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.ignite.internal.network.direct.DirectMessageWriter;
 import org.apache.ignite.network.OutNetworkObject;
 import org.jetbrains.annotations.TestOnly;
 
 /**
  * Wrapper for a Netty {@link Channel}, that uses {@link ChunkedInput} and {@link DirectMessageWriter} to send data.
+ *
+ * <p>Messages sent from outside of the channel's event loop are queued and written by a single event loop task followed by a single
+ * flush, instead of a write and flush task per message. The {@link OutboundEncoder} then serializes all the messages of the task into
+ * the same buffers.
  */
 public class NettySender {
     /** Netty channel. */
@@ -42,6 +53,15 @@ public class NettySender {
 
     private final short channelId;
 
+    /** Index of the connection among the connections with the same channel id. */
+    private final short connectionIndex;
+
+    /** Messages sent from outside of the event loop, that are not written to the channel yet. */
+    private final Queue<PendingWrite> pendingWrites = new ConcurrentLinkedQueue<>();
+
+    /** Whether the task writing the {@link #pendingWrites} is scheduled. */
+    private final AtomicBoolean writeScheduled = new AtomicBoolean();
+
     /**
      * Constructor.
      *
@@ -51,10 +71,24 @@ public class NettySender {
      * @param channelId channel identifier.
      */
     public NettySender(Channel channel, String launchId, String consistentId, short channelId) {
+        this(channel, launchId, consistentId, channelId, (short) 0);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param channel Netty channel.
+     * @param launchId Launch id of the remote node.
+     * @param consistentId Consistent id of the remote node.
+     * @param channelId channel identifier.
+     * @param connectionIndex Index of the connection among the connections with the same channel id.
+     */
+    public NettySender(Channel channel, String launchId, String consistentId, short channelId, short connectionIndex) {
         this.channel = channel;
         this.launchId = launchId;
         this.consistentId = consistentId;
         this.channelId = channelId;
+        this.connectionIndex = connectionIndex;
     }
 
     /**
@@ -64,7 +98,63 @@ public class NettySender {
      * @return Future of the send operation.
      */
     public CompletableFuture<Void> send(OutNetworkObject obj) {
-        return toCompletableFuture(channel.writeAndFlush(obj));
+        EventLoop eventLoop = channel.eventLoop();
+
+        // Messages queued earlier must be written first.
+        if (eventLoop.inEventLoop() && pendingWrites.isEmpty()) {
+            return toCompletableFuture(channel.writeAndFlush(obj));
+        }
+
+        ChannelPromise promise = channel.newPromise();
+
+        pendingWrites.add(new PendingWrite(obj, promise));
+
+        if (writeScheduled.compareAndSet(false, true)) {
+            try {
+                eventLoop.execute(this::writePending);
+            } catch (RejectedExecutionException e) {
+                failPending(e);
+            }
+        }
+
+        return toCompletableFuture(promise);
+    }
+
+    /**
+     * Writes the queued messages and flushes the channel once.
+     */
+    private void writePending() {
+        writeScheduled.set(false);
+
+        PendingWrite write;
+
+        while ((write = pendingWrites.poll()) != null) {
+            channel.write(write.message, write.promise);
+        }
+
+        channel.flush();
+    }
+
+    private void failPending(Throwable cause) {
+        writeScheduled.set(false);
+
+        PendingWrite write;
+
+        while ((write = pendingWrites.poll()) != null) {
+            write.promise.tryFailure(cause);
+        }
+    }
+
+    /** Returns the number of messages queued by other threads and not yet written to the channel. */
+    public int pendingMessages() {
+        return pendingWrites.size();
+    }
+
+    /** Returns the number of bytes written to the channel and not yet flushed to the socket. */
+    public long pendingBytes() {
+        ChannelOutboundBuffer outboundBuffer = channel.unsafe().outboundBuffer();
+
+        return outboundBuffer == null ? 0 : outboundBuffer.totalPendingWriteBytes();
     }
 
     /**
@@ -94,6 +184,15 @@ public class NettySender {
         return channelId;
     }
 
+    /**
+     * Returns index of the connection among the connections with the same channel id.
+     *
+     * @return Connection index.
+     */
+    public short connectionIndex() {
+        return connectionIndex;
+    }
+
     /**
      * Closes channel and returns the {@link Channel#closeFuture()}.
      *
@@ -130,4 +229,16 @@ public class NettySender {
     public Channel channel() {
         return channel;
     }
+
+    /** Message queued for writing along with its write promise. */
+    private static class PendingWrite {
+        private final OutNetworkObject message;
+
+        private final ChannelPromise promise;
+
+        private PendingWrite(OutNetworkObject message, ChannelPromise promise) {
+            this.message = message;
+            this.promise = promise;
+        }
+    }
 }
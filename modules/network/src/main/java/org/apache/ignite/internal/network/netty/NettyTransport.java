@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.network.netty;
+
+import static org.apache.ignite.internal.network.configuration.NetworkConfigurationSchema.EPOLL_TRANSPORT;
+import static org.apache.ignite.internal.network.configuration.NetworkConfigurationSchema.IO_URING_TRANSPORT;
+import static org.apache.ignite.internal.network.configuration.NetworkConfigurationSchema.NIO_TRANSPORT;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.incubator.channel.uring.IOUring;
+import io.netty.incubator.channel.uring.IOUringEventLoopGroup;
+import io.netty.incubator.channel.uring.IOUringServerSocketChannel;
+import io.netty.incubator.channel.uring.IOUringSocketChannel;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Netty transport: the event loops and the channel classes. The native transports are only available on Linux, a transport that is not
+ * available falls back to the next one in the chain {@link #IO_URING} - {@link #EPOLL} - {@link #NIO}.
+ */
+public enum NettyTransport {
+    /** Transport based on Java NIO. */
+    NIO(NIO_TRANSPORT, null) {
+        @Override
+        @Nullable Throwable unavailabilityCause0() {
+            return null;
+        }
+
+        @Override
+        public EventLoopGroup createEventLoopGroup(String namePrefix) {
+            return NamedNioEventLoopGroup.create(namePrefix);
+        }
+
+        @Override
+        public Class<? extends SocketChannel> socketChannelClass() {
+            return NioSocketChannel.class;
+        }
+
+        @Override
+        public Class<? extends ServerChannel> serverSocketChannelClass() {
+            return NioServerSocketChannel.class;
+        }
+    },
+
+    /** Native transport based on Linux epoll, edge-triggered. */
+    EPOLL(EPOLL_TRANSPORT, NIO) {
+        @Override
+        @Nullable Throwable unavailabilityCause0() {
+            return Epoll.unavailabilityCause();
+        }
+
+        @Override
+        public EventLoopGroup createEventLoopGroup(String namePrefix) {
+            return new EpollEventLoopGroup(0, NamedNioEventLoopGroup.threadFactory(namePrefix));
+        }
+
+        @Override
+        public Class<? extends SocketChannel> socketChannelClass() {
+            return EpollSocketChannel.class;
+        }
+
+        @Override
+        public Class<? extends ServerChannel> serverSocketChannelClass() {
+            return EpollServerSocketChannel.class;
+        }
+    },
+
+    /** Native transport based on Linux io_uring. */
+    IO_URING(IO_URING_TRANSPORT, EPOLL) {
+        @Override
+        @Nullable Throwable unavailabilityCause0() {
+            return IOUring.unavailabilityCause();
+        }
+
+        @Override
+        public EventLoopGroup createEventLoopGroup(String namePrefix) {
+            return new IOUringEventLoopGroup(0, NamedNioEventLoopGroup.threadFactory(namePrefix));
+        }
+
+        @Override
+        public Class<? extends SocketChannel> socketChannelClass() {
+            return IOUringSocketChannel.class;
+        }
+
+        @Override
+        public Class<? extends ServerChannel> serverSocketChannelClass() {
+            return IOUringServerSocketChannel.class;
+        }
+    };
+
+    private static final IgniteLogger LOG = Loggers.forClass(NettyTransport.class);
+
+    /** Name of the transport in the network configuration. */
+    private final String configName;
+
+    /** Transport to fall back to if this one is not available. */
+    private final @Nullable NettyTransport fallback;
+
+    NettyTransport(String configName, @Nullable NettyTransport fallback) {
+        this.configName = configName;
+        this.fallback = fallback;
+    }
+
+    /**
+     * Returns the transport with the given name, or the first available one from its fallback chain.
+     *
+     * @param configName Name of the transport in the network configuration.
+     * @return Available transport.
+     */
+    public static NettyTransport resolve(String configName) {
+        NettyTransport transport = null;
+
+        for (NettyTransport t : values()) {
+            if (t.configName.equals(configName)) {
+                transport = t;
+
+                break;
+            }
+        }
+
+        if (transport == null) {
+            throw new IllegalArgumentException("Unknown Netty transport: " + configName);
+        }
+
+        while (!transport.isAvailable()) {
+            NettyTransport fallback = transport.fallback;
+
+            assert fallback != null : transport;
+
+            LOG.info("Netty transport is not available, falling back [transport={}, fallback={}, reason={}]",
+                    transport.configName, fallback.configName, transport.unavailabilityCause());
+
+            transport = fallback;
+        }
+
+        return transport;
+    }
+
+    /** Returns the name of the transport in the network configuration. */
+    public String configName() {
+        return configName;
+    }
+
+    /** Returns {@code true} if the transport can be used on this platform. */
+    public boolean isAvailable() {
+        return unavailabilityCause() == null;
+    }
+
+    /** Returns the reason why the transport can not be used on this platform, {@code null} if it is available. */
+    public @Nullable Throwable unavailabilityCause() {
+        try {
+            return unavailabilityCause0();
+        } catch (LinkageError e) {
+            // The classes of the transport are not on the classpath.
+            return e;
+        }
+    }
+
+    abstract @Nullable Throwable unavailabilityCause0();
+
+    /**
+     * Creates an event loop group of {@link NamedNioEventLoopGroup.NetworkThread network threads}.
+     *
+     * @param namePrefix Thread name prefix.
+     * @return Event loop group.
+     */
+    public abstract EventLoopGroup createEventLoopGroup(String namePrefix);
+
+    /** Returns the class of the client socket channels. */
+    public abstract Class<? extends SocketChannel> socketChannelClass();
+
+    /** Returns the class of the server socket channels. */
+    public abstract Class<? extends ServerChannel> serverSocketChannelClass();
+}
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.network.netty;
+
+import static org.apache.ignite.internal.network.configuration.ChannelCompressionConfigurationSchema.DEFAULT_THRESHOLD;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.ignite.configuration.NamedListView;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.network.configuration.ChannelCompressionView;
+import org.apache.ignite.network.ChannelType;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Compression of the cluster connections: the codecs and the thresholds of the channel types and the statistics of the established
+ * connections.
+ *
+ * <p>The node, that opens a connection, proposes the codec configured for its channel type, the other node accepts it if the codec is
+ * available on its platform. The accepted codec is used in both directions, each node applies its own threshold.
+ */
+public class NetworkCompression {
+    /** Compression that never proposes nor accepts a codec. */
+    public static final NetworkCompression DISABLED = new NetworkCompression(null);
+
+    private static final IgniteLogger LOG = Loggers.forClass(NetworkCompression.class);
+
+    /** Compression configuration keyed by the channel type names, {@code null} if the compression is disabled. */
+    private final @Nullable NamedListView<? extends ChannelCompressionView> config;
+
+    /** Codecs available on this platform. */
+    private final Set<CompressionCodec> availableCodecs = EnumSet.of(CompressionCodec.NONE);
+
+    /** Number of bytes sent over the compressed connections, before the compression. */
+    private final LongAdder sentUncompressedBytes = new LongAdder();
+
+    /** Number of bytes sent over the compressed connections, after the compression. */
+    private final LongAdder sentCompressedBytes = new LongAdder();
+
+    /** Number of bytes received over the compressed connections, before the decompression. */
+    private final LongAdder receivedCompressedBytes = new LongAdder();
+
+    /** Number of bytes received over the compressed connections, after the decompression. */
+    private final LongAdder receivedUncompressedBytes = new LongAdder();
+
+    /**
+     * Constructor.
+     *
+     * @param config Compression configuration keyed by the channel type names.
+     */
+    public NetworkCompression(@Nullable NamedListView<? extends ChannelCompressionView> config) {
+        this.config = config;
+
+        if (config == null) {
+            return;
+        }
+
+        for (CompressionCodec codec : CompressionCodec.values()) {
+            Throwable cause = codec.unavailabilityCause();
+
+            if (cause == null) {
+                availableCodecs.add(codec);
+            } else {
+                LOG.info("Compression codec is not available [codec={}, reason={}]", codec.configName(), cause);
+            }
+        }
+    }
+
+    /**
+     * Returns the codec to propose for a connection.
+     *
+     * @param channelTypeId Channel type id of the connection.
+     * @return Available codec configured for the channel type or {@link CompressionCodec#NONE}.
+     */
+    public CompressionCodec proposedCodec(short channelTypeId) {
+        ChannelCompressionView view = view(channelTypeId);
+
+        if (view == null) {
+            return CompressionCodec.NONE;
+        }
+
+        CompressionCodec codec = CompressionCodec.fromConfigName(view.codec());
+
+        return availableCodecs.contains(codec) ? codec : CompressionCodec.NONE;
+    }
+
+    /**
+     * Returns the codec to use for a connection, for which the other node has proposed a codec.
+     *
+     * @param proposedCodecId Id of the proposed codec.
+     * @return Proposed codec if it is available, {@link CompressionCodec#NONE} otherwise.
+     */
+    public CompressionCodec acceptedCodec(byte proposedCodecId) {
+        CompressionCodec codec = CompressionCodec.fromId(proposedCodecId);
+
+        return codec != null && availableCodecs.contains(codec) ? codec : CompressionCodec.NONE;
+    }
+
+    /**
+     * Returns the minimum number of bytes, that are sent at once, to compress them.
+     *
+     * @param channelTypeId Channel type id of the connection.
+     * @return Compression threshold.
+     */
+    public int threshold(short channelTypeId) {
+        ChannelCompressionView view = view(channelTypeId);
+
+        return view == null ? DEFAULT_THRESHOLD : view.threshold();
+    }
+
+    private @Nullable ChannelCompressionView view(short channelTypeId) {
+        ChannelType type = ChannelType.getChannel(channelTypeId);
+
+        return config == null || type == null ? null : config.get(type.name());
+    }
+
+    /** Returns the number of bytes sent over the compressed connections, before the compression. */
+    public long sentUncompressedBytes() {
+        return sentUncompressedBytes.sum();
+    }
+
+    /** Returns the number of bytes sent over the compressed connections, after the compression. */
+    public long sentCompressedBytes() {
+        return sentCompressedBytes.sum();
+    }
+
+    /** Returns the number of bytes received over the compressed connections, before the decompression. */
+    public long receivedCompressedBytes() {
+        return receivedCompressedBytes.sum();
+    }
+
+    /** Returns the number of bytes received over the compressed connections, after the decompression. */
+    public long receivedUncompressedBytes() {
+        return receivedUncompressedBytes.sum();
+    }
+
+    void onSent(int uncompressedLength, int compressedLength) {
+        sentUncompressedBytes.add(uncompressedLength);
+        sentCompressedBytes.add(compressedLength);
+    }
+
+    void onReceived(int compressedLength, int uncompressedLength) {
+        receivedCompressedBytes.add(compressedLength);
+        receivedUncompressedBytes.add(uncompressedLength);
+    }
+}
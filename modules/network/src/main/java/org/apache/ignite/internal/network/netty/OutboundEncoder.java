@@ -20,9 +20,14 @@ package org.apache.ignite.internal.network.netty;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.channel.ChannelHandlerContext;
-import io.netty.handler.codec.MessageToMessageEncoder;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
 import io.netty.handler.stream.ChunkedInput;
+import io.netty.handler.stream.ChunkedWriteHandler;
+import io.netty.util.concurrent.PromiseNotifier;
 import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.apache.ignite.internal.network.NetworkMessagesFactory;
@@ -36,16 +41,32 @@ import org.apache.ignite.network.serialization.MessageSerializer;
 
 /**
  * An encoder for the outbound messages that uses {@link DirectMessageWriter}.
+ *
+ * <p>Messages written between two flushes are coalesced: they are serialized one after another into the same buffers by a single
+ * {@link ChunkedInput}, so that a burst of small messages results in a single buffer and a single write to the socket. Write promises of
+ * the coalesced messages are completed together, once the whole batch is written.
  */
-public class OutboundEncoder extends MessageToMessageEncoder<OutNetworkObject> {
+public class OutboundEncoder extends ChannelOutboundHandlerAdapter {
     /** Handler name. */
     public static final String NAME = "outbound-encoder";
 
+    /** Maximum number of messages coalesced into a single {@link ChunkedInput}. */
+    static final int MAX_BATCH_SIZE = 256;
+
+    /** Size of the buffers the messages are serialized into. */
+    static final int CHUNK_SIZE = 8 * 1024;
+
     private static final NetworkMessagesFactory MSG_FACTORY = new NetworkMessagesFactory();
 
     /** Serialization registry. */
     private final PerSessionSerializationService serializationService;
 
+    /** Messages written since the last flush. */
+    private final List<OutNetworkObject> batch = new ArrayList<>();
+
+    /** Write promises of the messages written since the last flush. */
+    private final List<ChannelPromise> batchPromises = new ArrayList<>();
+
     /**
      * Constructor.
      *
@@ -57,68 +78,150 @@ public class OutboundEncoder extends MessageToMessageEncoder<OutNetworkObject> {
 
     /** {@inheritDoc} */
     @Override
-    protected void encode(ChannelHandlerContext ctx, OutNetworkObject msg, List<Object> out) throws Exception {
-        out.add(new NetworkMessageChunkedInput(msg, serializationService));
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        if (msg instanceof OutNetworkObject) {
+            batch.add((OutNetworkObject) msg);
+            batchPromises.add(promise);
+
+            if (batch.size() >= MAX_BATCH_SIZE) {
+                writeBatch(ctx);
+            }
+        } else {
+            // Preserve the order of the writes.
+            writeBatch(ctx);
+
+            ctx.write(msg, promise);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void flush(ChannelHandlerContext ctx) throws Exception {
+        writeBatch(ctx);
+
+        ctx.flush();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close(ChannelHandlerContext ctx, ChannelPromise promise) throws Exception {
+        // Pass the pending messages down the pipeline, so that their promises are failed by the channel.
+        writeBatch(ctx);
+
+        ctx.close(promise);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) throws Exception {
+        for (ChannelPromise promise : batchPromises) {
+            promise.tryFailure(new ClosedChannelException());
+        }
+
+        batch.clear();
+        batchPromises.clear();
     }
 
     /**
-     * Chunked input for network message.
+     * Passes the messages written since the last flush down the pipeline as a single {@link ChunkedInput} for the
+     * {@link ChunkedWriteHandler}.
+     *
+     * @param ctx Channel handler context.
      */
-    private static class NetworkMessageChunkedInput implements ChunkedInput<ByteBuf> {
-        /** Network message. */
-        private final NetworkMessage msg;
+    private void writeBatch(ChannelHandlerContext ctx) {
+        if (batch.isEmpty()) {
+            return;
+        }
 
-        /** Message serializer. */
-        private final MessageSerializer<NetworkMessage> serializer;
+        ChannelPromise promise;
+
+        if (batchPromises.size() == 1) {
+            promise = batchPromises.get(0);
+        } else {
+            promise = ctx.newPromise();
 
-        private final MessageSerializer<ClassDescriptorListMessage> descriptorSerializer;
+            promise.addListener(new PromiseNotifier<>(false, batchPromises.toArray(new ChannelPromise[0])));
+        }
+
+        var input = new NetworkMessageChunkedInput(new ArrayList<>(batch), serializationService);
+
+        batch.clear();
+        batchPromises.clear();
+
+        ctx.write(input, promise);
+    }
+
+    /**
+     * Chunked input for a batch of network messages.
+     */
+    private static class NetworkMessageChunkedInput implements ChunkedInput<ByteBuf> {
+        /** Network messages. */
+        private final List<OutNetworkObject> messages;
 
         /** Message writer. */
         private final DirectMessageWriter writer;
 
-        private final ClassDescriptorListMessage descriptors;
         private final PerSessionSerializationService serializationService;
 
-        /** Whether the message was fully written. */
-        private boolean finished = false;
-        private boolean descriptorsFinished = false;
+        /** Index of the message being written. */
+        private int index;
+
+        /** Message being written, {@code null} if the message at {@link #index} has not been started yet. */
+        private NetworkMessage msg;
+
+        /** Message serializer. */
+        private MessageSerializer<NetworkMessage> serializer;
+
+        /** Class descriptors not yet sent to the remote node, {@code null} if they are written or there are none. */
+        private ClassDescriptorListMessage descriptors;
+
+        private MessageSerializer<ClassDescriptorListMessage> descriptorSerializer;
 
         /**
          * Constructor.
          *
-         * @param outObject            Out network object.
+         * @param messages             Out network objects.
          * @param serializationService Serialization service.
          */
         private NetworkMessageChunkedInput(
-                OutNetworkObject outObject,
+                List<OutNetworkObject> messages,
                 PerSessionSerializationService serializationService
         ) {
+            this.messages = messages;
             this.serializationService = serializationService;
-            this.msg = outObject.networkMessage();
+            this.writer = new DirectMessageWriter(serializationService.serializationRegistry(), ConnectionManager.DIRECT_PROTOCOL_VERSION);
+        }
+
+        /**
+         * Prepares the serializers of the next message. Descriptors are filtered here rather than on write, so that the descriptors
+         * written by a previous message of the batch are not sent again.
+         *
+         * @param outObject Out network object.
+         */
+        private void startMessage(OutNetworkObject outObject) {
+            msg = outObject.networkMessage();
 
             List<ClassDescriptorMessage> outDescriptors = outObject.descriptors().stream()
                     .filter(classDescriptorMessage -> !serializationService.isDescriptorSent(classDescriptorMessage.descriptorId()))
                     .collect(Collectors.toList());
 
             if (!outDescriptors.isEmpty()) {
-                this.descriptors = MSG_FACTORY.classDescriptorListMessage().messages(outDescriptors).build();
-                short groupType = this.descriptors.groupType();
-                short messageType = this.descriptors.messageType();
+                descriptors = MSG_FACTORY.classDescriptorListMessage().messages(outDescriptors).build();
+                short groupType = descriptors.groupType();
+                short messageType = descriptors.messageType();
                 descriptorSerializer = serializationService.createMessageSerializer(groupType, messageType);
             } else {
                 descriptors = null;
                 descriptorSerializer = null;
-                descriptorsFinished = true;
             }
 
-            this.serializer = serializationService.createMessageSerializer(msg.groupType(), msg.messageType());
-            this.writer = new DirectMessageWriter(serializationService.serializationRegistry(), ConnectionManager.DIRECT_PROTOCOL_VERSION);
+            serializer = serializationService.createMessageSerializer(msg.groupType(), msg.messageType());
         }
 
         /** {@inheritDoc} */
         @Override
         public boolean isEndOfInput() throws Exception {
-            return finished;
+            return index == messages.size();
         }
 
         /** {@inheritDoc} */
@@ -137,7 +240,7 @@ public class OutboundEncoder extends MessageToMessageEncoder<OutNetworkObject> {
         /** {@inheritDoc} */
         @Override
         public ByteBuf readChunk(ByteBufAllocator allocator) throws Exception {
-            ByteBuf buffer = allocator.ioBuffer();
+            ByteBuf buffer = allocator.ioBuffer(CHUNK_SIZE);
             int capacity = buffer.capacity();
 
             ByteBuffer byteBuffer = buffer.internalNioBuffer(0, capacity);
@@ -146,21 +249,33 @@ public class OutboundEncoder extends MessageToMessageEncoder<OutNetworkObject> {
 
             writer.setBuffer(byteBuffer);
 
-            while (byteBuffer.hasRemaining()) {
-                if (!descriptorsFinished) {
-                    descriptorsFinished = descriptorSerializer.writeMessage(descriptors, writer);
-                    if (descriptorsFinished) {
-                        for (ClassDescriptorMessage classDescriptorMessage : descriptors.messages()) {
-                            serializationService.addSentDescriptor(classDescriptorMessage.descriptorId());
-                        }
-                        writer.reset();
-                    } else {
+            while (byteBuffer.hasRemaining() && index < messages.size()) {
+                if (msg == null) {
+                    startMessage(messages.get(index));
+                }
+
+                if (descriptors != null) {
+                    if (!descriptorSerializer.writeMessage(descriptors, writer)) {
                         break;
                     }
-                } else {
-                    finished = serializer.writeMessage(msg, writer);
+
+                    for (ClassDescriptorMessage classDescriptorMessage : descriptors.messages()) {
+                        serializationService.addSentDescriptor(classDescriptorMessage.descriptorId());
+                    }
+
+                    descriptors = null;
+                    writer.reset();
+
+                    continue;
+                }
+
+                if (!serializer.writeMessage(msg, writer)) {
                     break;
                 }
+
+                msg = null;
+                index++;
+                writer.reset();
             }
 
             buffer.writerIndex(byteBuffer.position() - initialPosition);
@@ -31,6 +31,9 @@ public class PipelineUtils {
     /** {@link ChunkedWriteHandler}'s name. */
     private static final String CHUNKED_WRITE_HANDLER_NAME = "chunked-write-handler";
 
+    /** Name of the {@link InboundDecoder} of the decompressed bytes. */
+    private static final String DECOMPRESSED_INBOUND_DECODER_NAME = "decompressed-" + InboundDecoder.NAME;
+
     /**
      * Sets up initial pipeline with ssl.
      *
@@ -82,4 +85,46 @@ public class PipelineUtils {
         pipeline.addBefore(HandshakeHandler.NAME, InboundRecoveryHandler.NAME, new InboundRecoveryHandler(descriptor, factory));
         pipeline.addAfter(HandshakeHandler.NAME, MessageHandler.NAME, messageHandler);
     }
+
+    /**
+     * Starts compressing the outbound bytes once the codec is negotiated during the handshake. Must be called in the event loop of the
+     * channel, after the last message that the other node expects to be uncompressed is written and flushed.
+     *
+     * @param pipeline Pipeline.
+     * @param compression Network compression.
+     * @param codec Negotiated codec.
+     * @param channelTypeId Channel type id of the connection.
+     */
+    public static void enableCompression(
+            ChannelPipeline pipeline,
+            NetworkCompression compression,
+            CompressionCodec codec,
+            short channelTypeId
+    ) {
+        var encoder = new CompressionEncoder(codec, compression.threshold(channelTypeId), compression);
+
+        // Compresses the bytes, that the chunked write handler produces of the outbound messages.
+        pipeline.addBefore(CHUNKED_WRITE_HANDLER_NAME, CompressionEncoder.NAME, encoder);
+    }
+
+    /**
+     * Starts decompressing the inbound bytes once the codec is negotiated during the handshake. Must be called in the event loop of the
+     * channel, while handling the last message that the other node sends uncompressed. The bytes received after that message are passed
+     * to the decompression right away, so nothing may depend on the handling of the message after this call.
+     *
+     * @param pipeline Pipeline.
+     * @param compression Network compression.
+     */
+    public static void enableDecompression(ChannelPipeline pipeline, NetworkCompression compression) {
+        var inboundDecoder = (InboundDecoder) pipeline.get(InboundDecoder.NAME);
+
+        pipeline.addAfter(
+                InboundDecoder.NAME,
+                DECOMPRESSED_INBOUND_DECODER_NAME,
+                new InboundDecoder(inboundDecoder.serializationService())
+        );
+
+        // The replaced decoder passes the bytes, that follow the message, to its replacement.
+        pipeline.replace(InboundDecoder.NAME, CompressionDecoder.NAME, new CompressionDecoder(compression));
+    }
 }
@@ -34,10 +34,12 @@ import org.apache.ignite.internal.network.handshake.ChannelAlreadyExistsExceptio
 import org.apache.ignite.internal.network.handshake.HandshakeException;
 import org.apache.ignite.internal.network.handshake.HandshakeManager;
 import org.apache.ignite.internal.network.netty.ChannelCreationListener;
+import org.apache.ignite.internal.network.netty.CompressionCodec;
 import org.apache.ignite.internal.network.netty.HandshakeHandler;
 import org.apache.ignite.internal.network.netty.MessageHandler;
 import org.apache.ignite.internal.network.netty.NettySender;
 import org.apache.ignite.internal.network.netty.NettyUtils;
+import org.apache.ignite.internal.network.netty.NetworkCompression;
 import org.apache.ignite.internal.network.netty.PipelineUtils;
 import org.apache.ignite.internal.network.recovery.message.HandshakeFinishMessage;
 import org.apache.ignite.internal.network.recovery.message.HandshakeRejectedMessage;
@@ -73,6 +75,15 @@ public class RecoveryClientHandshakeManager implements HandshakeManager {
     /** Connection id. */
     private final short connectionId;
 
+    /** Index of the connection among the connections with the same id. */
+    private final short connectionIndex;
+
+    /** Network compression. */
+    private final NetworkCompression compression;
+
+    /** Compression codec proposed for the connection. */
+    private CompressionCodec proposedCodec = CompressionCodec.NONE;
+
     /** Handshake completion future. */
     private final CompletableFuture<NettySender> handshakeCompleteFuture = new CompletableFuture<>();
 
@@ -96,11 +107,42 @@ public class RecoveryClientHandshakeManager implements HandshakeManager {
 
     private final FailureHandler failureHandler = new FailureHandler();
 
+    /**
+     * Constructor of a manager of the first connection with the given id.
+     *
+     * @param launchId Launch id.
+     * @param consistentId Consistent id.
+     * @param recoveryDescriptorProvider Recovery descriptor provider.
+     * @param stopping Defines whether the corresponding connection manager is stopping.
+     */
+    public RecoveryClientHandshakeManager(
+            UUID launchId,
+            String consistentId,
+            short connectionId,
+            RecoveryDescriptorProvider recoveryDescriptorProvider,
+            StaleIdDetector staleIdDetector,
+            ChannelCreationListener channelCreationListener,
+            AtomicBoolean stopping
+    ) {
+        this(
+                launchId,
+                consistentId,
+                connectionId,
+                (short) 0,
+                recoveryDescriptorProvider,
+                staleIdDetector,
+                channelCreationListener,
+                stopping
+        );
+    }
+
     /**
      * Constructor.
      *
      * @param launchId Launch id.
      * @param consistentId Consistent id.
+     * @param connectionId Connection id.
+     * @param connectionIndex Index of the connection among the connections with the same id.
      * @param recoveryDescriptorProvider Recovery descriptor provider.
      * @param stopping Defines whether the corresponding connection manager is stopping.
      */
@@ -108,17 +150,55 @@ public class RecoveryClientHandshakeManager implements HandshakeManager {
             UUID launchId,
             String consistentId,
             short connectionId,
+            short connectionIndex,
             RecoveryDescriptorProvider recoveryDescriptorProvider,
             StaleIdDetector staleIdDetector,
             ChannelCreationListener channelCreationListener,
             AtomicBoolean stopping
+    ) {
+        this(
+                launchId,
+                consistentId,
+                connectionId,
+                connectionIndex,
+                recoveryDescriptorProvider,
+                staleIdDetector,
+                channelCreationListener,
+                stopping,
+                NetworkCompression.DISABLED
+        );
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param launchId Launch id.
+     * @param consistentId Consistent id.
+     * @param connectionId Connection id.
+     * @param connectionIndex Index of the connection among the connections with the same id.
+     * @param recoveryDescriptorProvider Recovery descriptor provider.
+     * @param stopping Defines whether the corresponding connection manager is stopping.
+     * @param compression Network compression.
+     */
+    public RecoveryClientHandshakeManager(
+            UUID launchId,
+            String consistentId,
+            short connectionId,
+            short connectionIndex,
+            RecoveryDescriptorProvider recoveryDescriptorProvider,
+            StaleIdDetector staleIdDetector,
+            ChannelCreationListener channelCreationListener,
+            AtomicBoolean stopping,
+            NetworkCompression compression
     ) {
         this.launchId = launchId;
         this.consistentId = consistentId;
         this.connectionId = connectionId;
+        this.connectionIndex = connectionIndex;
         this.recoveryDescriptorProvider = recoveryDescriptorProvider;
         this.staleIdDetector = staleIdDetector;
         this.stopping = stopping;
+        this.compression = compression;
 
         this.handshakeCompleteFuture.whenComplete((nettySender, throwable) -> {
             if (throwable != null) {
@@ -187,21 +267,32 @@ public class RecoveryClientHandshakeManager implements HandshakeManager {
 
             recoveryDescriptor.acknowledge(receivedCount);
 
+            // The server either accepts the proposed codec or disables the compression.
+            boolean compressed = proposedCodec != CompressionCodec.NONE && msg.compressionCodec() == proposedCodec.id();
+
+            if (compressed) {
+                // The server expects compressed frames right after the response.
+                PipelineUtils.enableCompression(ctx.pipeline(), compression, proposedCodec, connectionId);
+            }
+
             int cnt = recoveryDescriptor.unacknowledgedCount();
 
             if (cnt == 0) {
                 finishHandshake();
+            } else {
+                List<OutNetworkObject> networkMessages = recoveryDescriptor.unacknowledgedMessages();
 
-                return;
-            }
-
-            List<OutNetworkObject> networkMessages = recoveryDescriptor.unacknowledgedMessages();
+                for (OutNetworkObject networkMessage : networkMessages) {
+                    channel.write(networkMessage);
+                }
 
-            for (OutNetworkObject networkMessage : networkMessages) {
-                channel.write(networkMessage);
+                channel.flush();
             }
 
-            channel.flush();
+            if (compressed) {
+                // Done last, because the messages that the server has sent after the response are handled right away.
+                PipelineUtils.enableDecompression(ctx.pipeline(), compression);
+            }
 
             return;
         }
@@ -234,7 +325,8 @@ public class RecoveryClientHandshakeManager implements HandshakeManager {
         RecoveryDescriptor descriptor = recoveryDescriptorProvider.getRecoveryDescriptor(
                 remoteConsistentId,
                 remoteLaunchId,
-                connectionId
+                connectionId,
+                connectionIndex
         );
 
         while (!descriptor.acquire(ctx)) {
@@ -306,11 +398,15 @@ public class RecoveryClientHandshakeManager implements HandshakeManager {
     private void handshake(RecoveryDescriptor descriptor) {
         PipelineUtils.afterHandshake(ctx.pipeline(), descriptor, createMessageHandler(), MESSAGE_FACTORY);
 
+        proposedCodec = compression.proposedCodec(connectionId);
+
         HandshakeStartResponseMessage response = MESSAGE_FACTORY.handshakeStartResponseMessage()
                 .launchId(launchId)
                 .consistentId(consistentId)
                 .receivedCount(descriptor.receivedCount())
                 .connectionId(connectionId)
+                .connectionIndex(connectionIndex)
+                .compressionCodec(proposedCodec.id())
                 .build();
 
         ChannelFuture sendFuture = ctx.channel().writeAndFlush(new OutNetworkObject(response, emptyList(), false));
@@ -330,7 +426,7 @@ public class RecoveryClientHandshakeManager implements HandshakeManager {
      * @return New message handler.
      */
     private MessageHandler createMessageHandler() {
-        return handler.createMessageHandler(remoteConsistentId);
+        return handler.createMessageHandler(remoteConsistentId, connectionId, connectionIndex);
     }
 
     /**
@@ -340,6 +436,8 @@ public class RecoveryClientHandshakeManager implements HandshakeManager {
         // Removes handshake handler from the pipeline as the handshake is finished
         this.ctx.pipeline().remove(this.handler);
 
-        handshakeCompleteFuture.complete(new NettySender(channel, remoteLaunchId.toString(), remoteConsistentId, connectionId));
+        handshakeCompleteFuture.complete(
+                new NettySender(channel, remoteLaunchId.toString(), remoteConsistentId, connectionId, connectionIndex)
+        );
     }
 }
@@ -29,6 +29,7 @@ public interface RecoveryClientHandshakeManagerFactory {
      * @param launchId                   ID of the launch.
      * @param consistentId               Consistent ID of the node.
      * @param connectionId               ID of the connection.
+     * @param connectionIndex            Index of the connection among the connections with the same id.
      * @param recoveryDescriptorProvider Provider of recovery descriptors to be used.
      * @return Created manager.
      */
@@ -36,6 +37,7 @@ public interface RecoveryClientHandshakeManagerFactory {
             UUID launchId,
             String consistentId,
             short connectionId,
+            short connectionIndex,
             RecoveryDescriptorProvider recoveryDescriptorProvider
     );
 }
@@ -35,11 +35,11 @@ public class RecoveryDescriptor {
     /** Unacknowledged messages. */
     private final Queue<OutNetworkObject> unacknowledgedMessages;
 
-    /** Count of sent messages. */
-    private long sentCount;
+    /** Count of sent messages, volatile to be read by the metrics. */
+    private volatile long sentCount;
 
-    /** Count of acknowledged sent messages. */
-    private long acknowledgedCount;
+    /** Count of acknowledged sent messages, volatile to be read by the metrics. */
+    private volatile long acknowledgedCount;
 
     /** Count of received messages. */
     private long receivedCount;
@@ -95,6 +95,16 @@ public class RecoveryDescriptor {
         return size;
     }
 
+    /**
+     * Returns the number of the messages unacknowledged by the remote node, may be called from any thread. Unlike
+     * {@link #unacknowledgedCount()}, the result may be stale.
+     *
+     * @return The number of the messages unacknowledged by the remote node.
+     */
+    public long pendingAcknowledgements() {
+        return Math.max(0, sentCount - acknowledgedCount);
+    }
+
     /**
      * Returns unacknowledged messages.
      *
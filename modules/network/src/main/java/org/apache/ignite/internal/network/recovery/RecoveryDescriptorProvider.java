@@ -28,8 +28,9 @@ public interface RecoveryDescriptorProvider {
      *
      * @param consistentId Remote node consistent id.
      * @param launchId Remote node launch id.
-     * @param connectionIndex Connection id.
+     * @param connectionId Connection id.
+     * @param connectionIndex Index of the connection among the connections with the same connection id.
      * @return Recovery descriptor.
      */
-    RecoveryDescriptor getRecoveryDescriptor(String consistentId, UUID launchId, short connectionIndex);
+    RecoveryDescriptor getRecoveryDescriptor(String consistentId, UUID launchId, short connectionId, short connectionIndex);
 }
@@ -33,10 +33,12 @@ import org.apache.ignite.internal.network.NetworkMessagesFactory;
 import org.apache.ignite.internal.network.handshake.HandshakeException;
 import org.apache.ignite.internal.network.handshake.HandshakeManager;
 import org.apache.ignite.internal.network.netty.ChannelCreationListener;
+import org.apache.ignite.internal.network.netty.CompressionCodec;
 import org.apache.ignite.internal.network.netty.HandshakeHandler;
 import org.apache.ignite.internal.network.netty.MessageHandler;
 import org.apache.ignite.internal.network.netty.NettySender;
 import org.apache.ignite.internal.network.netty.NettyUtils;
+import org.apache.ignite.internal.network.netty.NetworkCompression;
 import org.apache.ignite.internal.network.netty.PipelineUtils;
 import org.apache.ignite.internal.network.recovery.message.HandshakeFinishMessage;
 import org.apache.ignite.internal.network.recovery.message.HandshakeRejectedMessage;
@@ -72,6 +74,9 @@ public class RecoveryServerHandshakeManager implements HandshakeManager {
 
     private short remoteChannelId;
 
+    /** Index of the connection among the connections of the remote node with the same channel id. */
+    private short remoteConnectionIndex;
+
     /** Netty pipeline channel handler context. */
     private ChannelHandlerContext ctx;
 
@@ -84,6 +89,9 @@ public class RecoveryServerHandshakeManager implements HandshakeManager {
     /** Count of messages received by the remote node. */
     private long receivedCount;
 
+    /** Compression codec accepted for the connection. */
+    private CompressionCodec compressionCodec = CompressionCodec.NONE;
+
     /** Recovery descriptor provider. */
     private final RecoveryDescriptorProvider recoveryDescriptorProvider;
 
@@ -92,6 +100,9 @@ public class RecoveryServerHandshakeManager implements HandshakeManager {
 
     private final AtomicBoolean stopping;
 
+    /** Network compression. */
+    private final NetworkCompression compression;
+
     /** Recovery descriptor. */
     private RecoveryDescriptor recoveryDescriptor;
 
@@ -114,6 +125,38 @@ public class RecoveryServerHandshakeManager implements HandshakeManager {
             StaleIdDetector staleIdDetector,
             ChannelCreationListener channelCreationListener,
             AtomicBoolean stopping
+    ) {
+        this(
+                launchId,
+                consistentId,
+                messageFactory,
+                recoveryDescriptorProvider,
+                staleIdDetector,
+                channelCreationListener,
+                stopping,
+                NetworkCompression.DISABLED
+        );
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param launchId Launch id.
+     * @param consistentId Consistent id.
+     * @param messageFactory Message factory.
+     * @param recoveryDescriptorProvider Recovery descriptor provider.
+     * @param stopping Defines whether the corresponding connection manager is stopping.
+     * @param compression Network compression.
+     */
+    public RecoveryServerHandshakeManager(
+            UUID launchId,
+            String consistentId,
+            NetworkMessagesFactory messageFactory,
+            RecoveryDescriptorProvider recoveryDescriptorProvider,
+            StaleIdDetector staleIdDetector,
+            ChannelCreationListener channelCreationListener,
+            AtomicBoolean stopping,
+            NetworkCompression compression
     ) {
         this.launchId = launchId;
         this.consistentId = consistentId;
@@ -121,6 +164,7 @@ public class RecoveryServerHandshakeManager implements HandshakeManager {
         this.recoveryDescriptorProvider = recoveryDescriptorProvider;
         this.staleIdDetector = staleIdDetector;
         this.stopping = stopping;
+        this.compression = compression;
 
         this.handshakeCompleteFuture.whenComplete((nettySender, throwable) -> {
             if (throwable != null) {
@@ -214,6 +258,7 @@ public class RecoveryServerHandshakeManager implements HandshakeManager {
         String remoteConsistentId = message.consistentId();
         long remoteReceivedCount = message.receivedCount();
         short remoteChannelId = message.connectionId();
+        short remoteConnectionIndex = message.connectionIndex();
 
         if (staleIdDetector.isIdStale(remoteLaunchId.toString())) {
             handleStaleClientId(message);
@@ -231,11 +276,14 @@ public class RecoveryServerHandshakeManager implements HandshakeManager {
         this.remoteConsistentId = remoteConsistentId;
         this.receivedCount = remoteReceivedCount;
         this.remoteChannelId = remoteChannelId;
+        this.remoteConnectionIndex = remoteConnectionIndex;
+        this.compressionCodec = compression.acceptedCodec(message.compressionCodec());
 
         RecoveryDescriptor descriptor = recoveryDescriptorProvider.getRecoveryDescriptor(
                 this.remoteConsistentId,
                 this.remoteLaunchId,
-                this.remoteChannelId
+                this.remoteChannelId,
+                this.remoteConnectionIndex
         );
 
         while (!descriptor.acquire(ctx)) {
@@ -303,12 +351,21 @@ public class RecoveryServerHandshakeManager implements HandshakeManager {
 
         HandshakeFinishMessage response = messageFactory.handshakeFinishMessage()
                 .receivedCount(descriptor.receivedCount())
+                .compressionCodec(compressionCodec.id())
                 .build();
 
+        // Flushed separately from the resent messages, so that the response is not held back until the whole backlog is serialized.
         CompletableFuture<Void> sendFuture = NettyUtils.toCompletableFuture(
-                channel.write(new OutNetworkObject(response, emptyList(), false))
+                channel.writeAndFlush(new OutNetworkObject(response, emptyList(), false))
         );
 
+        if (compressionCodec != CompressionCodec.NONE) {
+            // The client has proposed the codec, so it decompresses anything sent after the response. It sends nothing until it gets
+            // the response, so all the bytes it sends from now on are compressed.
+            PipelineUtils.enableCompression(ctx.pipeline(), compression, compressionCodec, remoteChannelId);
+            PipelineUtils.enableDecompression(ctx.pipeline(), compression);
+        }
+
         descriptor.acknowledge(receivedCount);
 
         int unacknowledgedCount = descriptor.unacknowledgedCount();
@@ -348,7 +405,7 @@ public class RecoveryServerHandshakeManager implements HandshakeManager {
      * @return New message handler.
      */
     private MessageHandler createMessageHandler() {
-        return handler.createMessageHandler(remoteConsistentId);
+        return handler.createMessageHandler(remoteConsistentId, remoteChannelId, remoteConnectionIndex);
     }
 
     /** {@inheritDoc} */
@@ -364,6 +421,8 @@ public class RecoveryServerHandshakeManager implements HandshakeManager {
         // Removes handshake handler from the pipeline as the handshake is finished
         this.ctx.pipeline().remove(this.handler);
 
-        handshakeCompleteFuture.complete(new NettySender(channel, remoteLaunchId.toString(), remoteConsistentId, remoteChannelId));
+        handshakeCompleteFuture.complete(
+                new NettySender(channel, remoteLaunchId.toString(), remoteConsistentId, remoteChannelId, remoteConnectionIndex)
+        );
     }
 }
@@ -22,7 +22,7 @@ import static org.apache.ignite.internal.network.NetworkMessageTypes.HANDSHAKE_F
 import org.apache.ignite.network.annotations.Transferable;
 
 /**
- * Handshake finish message, contains the quantity of the received messages.
+ * Handshake finish message, contains the quantity of the received messages and the accepted compression codec.
  * This message is sent from a server to a client as a response to the {@link HandshakeStartResponseMessage}.
  */
 @Transferable(HANDSHAKE_FINISH)
@@ -33,4 +33,11 @@ public interface HandshakeFinishMessage extends InternalMessage {
      * @return Number of received messages.
      */
     long receivedCount();
+
+    /**
+     * Returns id of the compression codec accepted for the connection.
+     *
+     * @return Compression codec id.
+     */
+    byte compressionCodec();
 }
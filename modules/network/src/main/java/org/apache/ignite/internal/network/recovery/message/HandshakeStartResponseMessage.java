@@ -54,4 +54,18 @@ public interface HandshakeStartResponseMessage extends InternalMessage {
      * @return Connection id.
      */
     short connectionId();
+
+    /**
+     * Returns index of the connection among the connections with the same connection id.
+     *
+     * @return Connection index.
+     */
+    short connectionIndex();
+
+    /**
+     * Returns id of the compression codec proposed for the connection.
+     *
+     * @return Compression codec id.
+     */
+    byte compressionCodec();
 }
@@ -111,6 +111,12 @@ public class ClassDescriptor implements DeclaredType {
      */
     private final Object2IntMap<String> fieldNullsBitmapIndices;
 
+    /** Indices in the nulls' bitmap of the fields by their positions in {@link #fields}, see {@link #fieldNullsBitmapIndices}. */
+    private final int[] fieldNullsBitmapIndicesByPosition;
+
+    /** Whether the fields are the same as the fields of the local class, in the same order and of the same types. */
+    private final boolean fieldsMatchLocal;
+
     private Map<String, FieldDescriptor> fieldsByName;
     /**
      * Offsets into primitive fields data array (which has size {@link #primitiveFieldsDataSize}).
@@ -283,6 +289,9 @@ public class ClassDescriptor implements DeclaredType {
 
         fieldNullsBitmapSize = computeFieldNullsBitmapSize(fields);
         fieldNullsBitmapIndices = computeFieldNullsBitmapIndices(fields);
+        fieldNullsBitmapIndicesByPosition = computeFieldNullsBitmapIndicesByPosition(fields);
+
+        fieldsMatchLocal = computeFieldsMatchLocal(this.fields, this.mergedFields, this.localDescriptor);
 
         lineage = computeLineage(this);
         if (thisIsLocal) {
@@ -340,6 +349,35 @@ public class ClassDescriptor implements DeclaredType {
         return Object2IntMaps.unmodifiable(map);
     }
 
+    private static int[] computeFieldNullsBitmapIndicesByPosition(List<FieldDescriptor> fields) {
+        int[] indices = new int[fields.size()];
+
+        int index = 0;
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = isIncludedInNullsBitmap(fields.get(i)) ? (index++) : -1;
+        }
+
+        return indices;
+    }
+
+    private static boolean computeFieldsMatchLocal(
+            List<FieldDescriptor> fields,
+            List<MergedField> mergedFields,
+            @Nullable ClassDescriptor localDescriptor
+    ) {
+        if (localDescriptor == null || mergedFields.size() != fields.size()) {
+            return false;
+        }
+
+        for (MergedField mergedField : mergedFields) {
+            if (!mergedField.hasLocal() || !mergedField.hasRemote() || mergedField.typesAreDifferent()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     private static List<ClassDescriptor> computeLineage(ClassDescriptor descriptor) {
         List<ClassDescriptor> descriptors = new ArrayList<>();
 
@@ -708,6 +746,28 @@ public class ClassDescriptor implements DeclaredType {
         return fieldNullsBitmapIndices.getInt(fieldName);
     }
 
+    /**
+     * Returns index of a field in the nulls' bitmap for the described class (if it's nullable and its type is known upfront),
+     * or -1 otherwise.
+     *
+     * @param fieldIndex index of the field in {@link #fields()}
+     * @return index of a field in the nulls' bitmap for the described class (if it's nullable and its type is known upfront),
+     *     or -1 otherwise
+     */
+    public int fieldIndexInNullsBitmap(int fieldIndex) {
+        return fieldNullsBitmapIndicesByPosition[fieldIndex];
+    }
+
+    /**
+     * Returns {@code true} if the fields are the same as the fields of the local class, in the same order and of the same types, so
+     * that they can be read directly into an object of the local class.
+     *
+     * @return {@code true} if the fields are the same as the fields of the local class
+     */
+    public boolean fieldsMatchLocal() {
+        return fieldsMatchLocal;
+    }
+
     /**
      * Returns offset into primitive fields data (which has size {@link #primitiveFieldsDataSize()}).
      * These are different from the offsets used in the context of {@link sun.misc.Unsafe}.
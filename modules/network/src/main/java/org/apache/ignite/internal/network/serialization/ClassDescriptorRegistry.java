@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.network.serialization;
 
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -44,10 +45,28 @@ public class ClassDescriptorRegistry implements DescriptorRegistry {
     /** Map descriptor id -> class descriptor. */
     private final ConcurrentMap<Integer, ClassDescriptor> descriptorMap = new ConcurrentHashMap<>();
 
+    /** Map descriptor id -> generated accessor of the fields of the local class, empty if it could not be generated. */
+    private final ConcurrentMap<Integer, Optional<FieldsAccessor>> fieldsAccessors = new ConcurrentHashMap<>();
+
+    /** Whether the accessors of the fields are generated. */
+    private final boolean generateFieldsAccessors;
+
     /**
      * Constructor.
      */
     public ClassDescriptorRegistry() {
+        this(true);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param generateFieldsAccessors Whether the accessors of the fields are generated, otherwise the fields are accessed one by one
+     *      with their {@link FieldAccessor}s.
+     */
+    public ClassDescriptorRegistry(boolean generateFieldsAccessors) {
+        this.generateFieldsAccessors = generateFieldsAccessors;
+
         for (BuiltInType value : BuiltInType.values()) {
             addPredefinedDescriptor(value.clazz(), value.asClassDescriptor());
         }
@@ -120,6 +139,31 @@ public class ClassDescriptorRegistry implements DescriptorRegistry {
         return getRequiredDescriptor(Null.class);
     }
 
+    /**
+     * Returns the generated accessor of the fields of a class layer, generating it on the first call.
+     *
+     * @param layer Local descriptor of the class layer.
+     * @return Accessor or {@code null} if the fields are to be accessed one by one.
+     */
+    @Nullable
+    public FieldsAccessor fieldsAccessor(ClassDescriptor layer) {
+        if (!generateFieldsAccessors || layer.fields().isEmpty() || shouldBeBuiltIn(layer.descriptorId())) {
+            return null;
+        }
+
+        assert layer.hasLocal() && layer.local() == layer : "Not a local descriptor: " + layer;
+
+        if (descriptorMap.get(layer.descriptorId()) != layer) {
+            // Descriptor of another registry.
+            return null;
+        }
+
+        return fieldsAccessors.computeIfAbsent(
+                layer.descriptorId(),
+                unused -> Optional.ofNullable(FieldsAccessorGenerator.generate(layer))
+        ).orElse(null);
+    }
+
     /**
      * Adds a descriptor.
      *
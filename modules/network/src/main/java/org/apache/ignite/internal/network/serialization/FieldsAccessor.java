@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.network.serialization;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Accessor for all the fields of a class layer, that reads and writes them in the order of {@link ClassDescriptor#fields()}.
+ * Implementations are generated per class by {@link FieldsAccessorGenerator}: the primitive fields are read and written by straight-line
+ * code, while the values of the object fields are passed to the callbacks.
+ */
+public interface FieldsAccessor {
+    /**
+     * Writes the fields of the given object.
+     *
+     * @param target Object which fields to write.
+     * @param output Output to write the primitive fields to.
+     * @param objectWriter Writer of the object fields.
+     * @throws IOException If I/O fails.
+     */
+    void writeFields(Object target, DataOutput output, ObjectFieldWriter objectWriter) throws IOException;
+
+    /**
+     * Reads the fields and stores them in the given object.
+     *
+     * @param input Input to read the primitive fields from.
+     * @param target Object to fill.
+     * @param objectReader Reader of the object fields.
+     * @throws IOException If I/O fails.
+     */
+    void readFields(DataInput input, Object target, ObjectFieldReader objectReader) throws IOException;
+
+    /**
+     * Writer of the values of the object fields.
+     */
+    @FunctionalInterface
+    interface ObjectFieldWriter {
+        /**
+         * Writes the value of an object field.
+         *
+         * @param value Field value.
+         * @param fieldIndex Index of the field in {@link ClassDescriptor#fields()}.
+         * @throws IOException If I/O fails.
+         */
+        void write(Object value, int fieldIndex) throws IOException;
+    }
+
+    /**
+     * Reader of the values of the object fields.
+     */
+    @FunctionalInterface
+    interface ObjectFieldReader {
+        /**
+         * Reads the value of an object field.
+         *
+         * @param fieldIndex Index of the field in {@link ClassDescriptor#fields()}.
+         * @return Field value.
+         * @throws IOException If I/O fails.
+         */
+        Object read(int fieldIndex) throws IOException;
+    }
+}
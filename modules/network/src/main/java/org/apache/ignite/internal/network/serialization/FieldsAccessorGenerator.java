@@ -0,0 +1,266 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.network.serialization;
+
+import static com.facebook.presto.bytecode.Parameter.arg;
+import static com.facebook.presto.bytecode.ParameterizedType.type;
+import static com.facebook.presto.bytecode.expression.BytecodeExpressions.constantInt;
+import static com.facebook.presto.bytecode.expression.BytecodeExpressions.constantLong;
+import static com.facebook.presto.bytecode.expression.BytecodeExpressions.invokeStatic;
+
+import com.facebook.presto.bytecode.Access;
+import com.facebook.presto.bytecode.BytecodeBlock;
+import com.facebook.presto.bytecode.ClassDefinition;
+import com.facebook.presto.bytecode.ClassGenerator;
+import com.facebook.presto.bytecode.MethodDefinition;
+import com.facebook.presto.bytecode.Variable;
+import com.facebook.presto.bytecode.expression.BytecodeExpression;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.processing.Generated;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.network.serialization.FieldsAccessor.ObjectFieldReader;
+import org.apache.ignite.internal.network.serialization.FieldsAccessor.ObjectFieldWriter;
+import org.apache.ignite.internal.util.GridUnsafe;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * {@link FieldsAccessor} code generator. The generated code accesses the fields with {@link GridUnsafe} at the offsets, that are
+ * embedded as constants, so that the final fields are writable and the generated class does not need to see the target class.
+ */
+class FieldsAccessorGenerator {
+    /** The logger. */
+    private static final IgniteLogger LOG = Loggers.forClass(FieldsAccessorGenerator.class);
+
+    /** Package of the generated classes. */
+    private static final String PACKAGE_NAME = FieldsAccessorGenerator.class.getPackageName();
+
+    /** Prefix of the names of the generated classes. */
+    private static final String CLASS_NAME_PREFIX = "FieldsAccessor_";
+
+    /** Suffix generator of the names of the generated classes. */
+    private static final AtomicInteger CLASS_NAME_SUFFIX = new AtomicInteger();
+
+    private FieldsAccessorGenerator() {
+        // No-op.
+    }
+
+    /**
+     * Generates an accessor for the fields of a class layer.
+     *
+     * @param layer Local descriptor of the class layer.
+     * @return Accessor or {@code null} if the fields can not be accessed directly, for example, if they are declared by
+     *      {@code serialPersistentFields} and do not match the actual ones.
+     */
+    static @Nullable FieldsAccessor generate(ClassDescriptor layer) {
+        Class<?> localClass = layer.localClass();
+
+        List<FieldDescriptor> fields = layer.fields();
+
+        long[] offsets = new long[fields.size()];
+
+        for (int i = 0; i < fields.size(); i++) {
+            Field field = actualField(localClass, fields.get(i));
+
+            if (field == null) {
+                return null;
+            }
+
+            offsets[i] = GridUnsafe.objectFieldOffset(field);
+        }
+
+        String className = CLASS_NAME_PREFIX + localClass.getSimpleName() + '_' + CLASS_NAME_SUFFIX.incrementAndGet();
+
+        ClassDefinition classDef = new ClassDefinition(
+                EnumSet.of(Access.PUBLIC, Access.FINAL),
+                PACKAGE_NAME.replace('.', '/') + '/' + className,
+                type(Object.class),
+                type(FieldsAccessor.class)
+        );
+
+        classDef.declareAnnotation(Generated.class).setValue("value", FieldsAccessorGenerator.class.getCanonicalName());
+
+        classDef.declareDefaultConstructor(EnumSet.of(Access.PUBLIC));
+
+        generateWriteFieldsMethod(classDef, fields, offsets);
+        generateReadFieldsMethod(classDef, fields, offsets);
+
+        var writer = new StringWriter();
+
+        try {
+            ClassGenerator generator = ClassGenerator.classGenerator(FieldsAccessorGenerator.class.getClassLoader());
+
+            if (LOG.isTraceEnabled()) {
+                generator = generator.outputTo(writer)
+                        .fakeLineNumbers(true)
+                        .runAsmVerifier(true)
+                        .dumpRawBytecode(true);
+            }
+
+            FieldsAccessor accessor = generator.defineClass(classDef, FieldsAccessor.class)
+                    .getDeclaredConstructor()
+                    .newInstance();
+
+            LOG.trace("Fields accessor created [class={}]. Code: {}", localClass.getName(), writer);
+
+            return accessor;
+        } catch (Exception | LinkageError e) {
+            LOG.warn("Failed to generate fields accessor, falling back to the per-field access [class={}]", e, localClass.getName());
+
+            return null;
+        }
+    }
+
+    /**
+     * Returns the declared field, that is described by the field descriptor.
+     */
+    private static @Nullable Field actualField(Class<?> declaringClass, FieldDescriptor fieldDescriptor) {
+        Field field;
+
+        try {
+            field = declaringClass.getDeclaredField(fieldDescriptor.name());
+        } catch (NoSuchFieldException e) {
+            return null;
+        }
+
+        if (Modifier.isStatic(field.getModifiers()) || field.getType() != fieldDescriptor.localClass()) {
+            return null;
+        }
+
+        return field;
+    }
+
+    private static void generateWriteFieldsMethod(ClassDefinition classDef, List<FieldDescriptor> fields, long[] offsets) {
+        MethodDefinition methodDef = classDef.declareMethod(
+                EnumSet.of(Access.PUBLIC),
+                "writeFields",
+                type(void.class),
+                arg("target", Object.class),
+                arg("output", DataOutput.class),
+                arg("objectWriter", ObjectFieldWriter.class)
+        ).addException(IOException.class);
+
+        methodDef.declareAnnotation(Override.class);
+
+        Variable target = methodDef.getScope().getVariable("target");
+        Variable output = methodDef.getScope().getVariable("output");
+        Variable objectWriter = methodDef.getScope().getVariable("objectWriter");
+
+        BytecodeBlock body = methodDef.getBody();
+
+        for (int i = 0; i < fields.size(); i++) {
+            FieldDescriptor field = fields.get(i);
+
+            BytecodeExpression value = invokeStatic(unsafeMethod("get", field), target, constantLong(offsets[i]));
+
+            if (field.isPrimitive()) {
+                body.append(output.invoke(dataMethod(DataOutput.class, "write", field), value));
+            } else {
+                body.append(objectWriter.invoke("write", void.class, value, constantInt(i)));
+            }
+        }
+
+        body.ret();
+    }
+
+    private static void generateReadFieldsMethod(ClassDefinition classDef, List<FieldDescriptor> fields, long[] offsets) {
+        MethodDefinition methodDef = classDef.declareMethod(
+                EnumSet.of(Access.PUBLIC),
+                "readFields",
+                type(void.class),
+                arg("input", DataInput.class),
+                arg("target", Object.class),
+                arg("objectReader", ObjectFieldReader.class)
+        ).addException(IOException.class);
+
+        methodDef.declareAnnotation(Override.class);
+
+        Variable input = methodDef.getScope().getVariable("input");
+        Variable target = methodDef.getScope().getVariable("target");
+        Variable objectReader = methodDef.getScope().getVariable("objectReader");
+
+        BytecodeBlock body = methodDef.getBody();
+
+        for (int i = 0; i < fields.size(); i++) {
+            FieldDescriptor field = fields.get(i);
+
+            BytecodeExpression value = field.isPrimitive()
+                    ? input.invoke(dataMethod(DataInput.class, "read", field))
+                    : objectReader.invoke("read", Object.class, constantInt(i));
+
+            body.append(invokeStatic(unsafeMethod("put", field), target, constantLong(offsets[i]), value));
+        }
+
+        body.ret();
+    }
+
+    /**
+     * Returns the {@link GridUnsafe} method, that gets or puts the value of a field, like {@link GridUnsafe#getIntField}.
+     */
+    private static Method unsafeMethod(String prefix, FieldDescriptor field) {
+        Class<?> valueType = field.isPrimitive() ? field.localClass() : Object.class;
+
+        String name = prefix + capitalizedName(valueType) + "Field";
+
+        try {
+            return prefix.equals("get")
+                    ? GridUnsafe.class.getMethod(name, Object.class, long.class)
+                    : GridUnsafe.class.getMethod(name, Object.class, long.class, valueType);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Unsafe method not found: " + name, e);
+        }
+    }
+
+    /**
+     * Returns the {@link DataInput} or {@link DataOutput} method, that reads or writes the value of a primitive field, like
+     * {@link DataOutput#writeInt}.
+     */
+    private static Method dataMethod(Class<?> dataClass, String prefix, FieldDescriptor field) {
+        Class<?> valueType = field.localClass();
+
+        String name = prefix + capitalizedName(valueType);
+
+        try {
+            if (prefix.equals("read")) {
+                return dataClass.getMethod(name);
+            }
+
+            // Bytes, shorts and chars are written with the methods accepting ints.
+            boolean widened = valueType == byte.class || valueType == short.class || valueType == char.class;
+
+            return dataClass.getMethod(name, widened ? int.class : valueType);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Data method not found: " + name, e);
+        }
+    }
+
+    private static String capitalizedName(Class<?> type) {
+        String name = type.getSimpleName();
+
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+}
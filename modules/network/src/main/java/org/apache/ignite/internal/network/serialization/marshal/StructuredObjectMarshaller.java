@@ -23,9 +23,10 @@ import java.util.BitSet;
 import java.util.List;
 import org.apache.ignite.internal.network.serialization.BuiltInTypeIds;
 import org.apache.ignite.internal.network.serialization.ClassDescriptor;
-import org.apache.ignite.internal.network.serialization.DescriptorRegistry;
+import org.apache.ignite.internal.network.serialization.ClassDescriptorRegistry;
 import org.apache.ignite.internal.network.serialization.FieldAccessor;
 import org.apache.ignite.internal.network.serialization.FieldDescriptor;
+import org.apache.ignite.internal.network.serialization.FieldsAccessor;
 import org.apache.ignite.internal.network.serialization.MergedField;
 import org.apache.ignite.internal.network.serialization.MergedLayer;
 import org.apache.ignite.internal.network.serialization.SpecialMethodInvocationException;
@@ -41,7 +42,7 @@ import org.jetbrains.annotations.Nullable;
  * (which are not {@link java.io.Externalizable}s) and arbitrary (non-serializable, non-externalizable) objects.
  */
 class StructuredObjectMarshaller implements DefaultFieldsReaderWriter {
-    private final DescriptorRegistry localDescriptors;
+    private final ClassDescriptorRegistry localDescriptors;
 
     private final TypedValueWriter valueWriter;
     private final TypedValueWriter unsharedWriter;
@@ -58,7 +59,7 @@ class StructuredObjectMarshaller implements DefaultFieldsReaderWriter {
     private final NullsBitsetWriter nullsBitsetWriter = new DefaultNullsBitsetWriter();
 
     StructuredObjectMarshaller(
-            DescriptorRegistry localDescriptors,
+            ClassDescriptorRegistry localDescriptors,
             TypedValueWriter valueWriter,
             TypedValueWriter unsharedWriter,
             TypedValueReader valueReader,
@@ -138,6 +139,14 @@ class StructuredObjectMarshaller implements DefaultFieldsReaderWriter {
             throws MarshalException, IOException {
         @Nullable BitSet nullsBitSet = nullsBitsetWriter.writeNullsBitSet(object, descriptor, output);
 
+        FieldsAccessor fieldsAccessor = localDescriptors.fieldsAccessor(descriptor);
+
+        if (fieldsAccessor != null) {
+            writeFieldsWithAccessor(object, descriptor, fieldsAccessor, nullsBitSet, output, context);
+
+            return;
+        }
+
         for (FieldDescriptor fieldDescriptor : descriptor.fields()) {
             if (cannotAvoidWritingNull(fieldDescriptor, descriptor, nullsBitSet)) {
                 writeField(object, fieldDescriptor, output, context);
@@ -145,6 +154,43 @@ class StructuredObjectMarshaller implements DefaultFieldsReaderWriter {
         }
     }
 
+    private void writeFieldsWithAccessor(
+            Object object,
+            ClassDescriptor descriptor,
+            FieldsAccessor fieldsAccessor,
+            @Nullable BitSet nullsBitSet,
+            IgniteDataOutput output,
+            MarshallingContext context
+    ) throws MarshalException, IOException {
+        try {
+            fieldsAccessor.writeFields(object, output, (fieldValue, fieldIndex) -> {
+                int maybeIndexInBitmap = descriptor.fieldIndexInNullsBitmap(fieldIndex);
+
+                if (maybeIndexInBitmap >= 0 && nullsBitSet.get(maybeIndexInBitmap)) {
+                    return;
+                }
+
+                try {
+                    valueWriter.write(fieldValue, descriptor.fields().get(fieldIndex), output, context);
+                } catch (MarshalException e) {
+                    throw new UncheckedMarshalException("Cannot write a field", e);
+                }
+            });
+        } catch (UncheckedMarshalException e) {
+            if (e.getCause() instanceof MarshalException) {
+                throw (MarshalException) e.getCause();
+            }
+
+            throw e;
+        }
+
+        for (FieldDescriptor fieldDescriptor : descriptor.fields()) {
+            if (fieldDescriptor.isPrimitive()) {
+                context.addUsedDescriptor(localDescriptors.getRequiredDescriptor(fieldDescriptor.typeDescriptorId()));
+            }
+        }
+    }
+
     static boolean cannotAvoidWritingNull(FieldDescriptor fieldDescriptor, ClassDescriptor descriptor, @Nullable BitSet nullsBitSet) {
         int maybeIndexInBitmap = descriptor.fieldIndexInNullsBitmap(fieldDescriptor.name());
 
@@ -315,6 +361,14 @@ class StructuredObjectMarshaller implements DefaultFieldsReaderWriter {
             throws IOException, UnmarshalException {
         @Nullable BitSet nullsBitSet = NullsBitsetReader.readNullsBitSet(input, remoteLayer);
 
+        FieldsAccessor fieldsAccessor = remoteLayer.fieldsMatchLocal() ? localDescriptors.fieldsAccessor(remoteLayer.local()) : null;
+
+        if (fieldsAccessor != null) {
+            fillFieldsWithAccessorFrom(input, object, remoteLayer, fieldsAccessor, nullsBitSet, context);
+
+            return;
+        }
+
         for (MergedField mergedField : remoteLayer.mergedFields()) {
             if (mergedField.hasRemote()) {
                 fillFieldWithNullSkippedCheckFrom(input, object, mergedField, remoteLayer, nullsBitSet, context);
@@ -324,6 +378,37 @@ class StructuredObjectMarshaller implements DefaultFieldsReaderWriter {
         }
     }
 
+    private void fillFieldsWithAccessorFrom(
+            IgniteDataInput input,
+            Object object,
+            ClassDescriptor remoteLayer,
+            FieldsAccessor fieldsAccessor,
+            @Nullable BitSet nullsBitSet,
+            UnmarshallingContext context
+    ) throws IOException, UnmarshalException {
+        try {
+            fieldsAccessor.readFields(input, object, fieldIndex -> {
+                int maybeIndexInBitmap = remoteLayer.fieldIndexInNullsBitmap(fieldIndex);
+
+                if (maybeIndexInBitmap >= 0 && nullsBitSet.get(maybeIndexInBitmap)) {
+                    return null;
+                }
+
+                try {
+                    return valueReader.read(input, remoteLayer.fields().get(fieldIndex), context);
+                } catch (UnmarshalException e) {
+                    throw new UncheckedUnmarshalException("Cannot read a field", e);
+                }
+            });
+        } catch (UncheckedUnmarshalException e) {
+            if (e.getCause() instanceof UnmarshalException) {
+                throw (UnmarshalException) e.getCause();
+            }
+
+            throw e;
+        }
+    }
+
     private void fillFieldWithNullSkippedCheckFrom(
             IgniteDataInput input,
             Object object,
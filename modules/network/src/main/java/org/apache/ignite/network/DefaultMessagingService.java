@@ -33,6 +33,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiPredicate;
@@ -40,6 +41,7 @@ import java.util.function.Function;
 import org.apache.ignite.internal.future.OrderingFuture;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.metrics.MetricManager;
 import org.apache.ignite.internal.network.NetworkMessagesFactory;
 import org.apache.ignite.internal.network.handshake.ChannelAlreadyExistsException;
 import org.apache.ignite.internal.network.message.ClassDescriptorMessage;
@@ -87,8 +89,18 @@ public class DefaultMessagingService extends AbstractMessagingService {
     /** Executor for outbound messages. */
     private final ExecutorService outboundExecutor;
 
-    /** Executor for inbound messages. */
-    private final ExecutorService inboundExecutor;
+    /** Node name. */
+    private final String nodeName;
+
+    /** Executor for inbound messages, created with the connection manager as the number of stripes comes from its configuration. */
+    private volatile StripedInboundExecutor inboundExecutor;
+
+    /** Network metrics. */
+    private final NetworkMetricSource metricSource;
+
+    /** Transport to the nodes running in the same JVM, {@code null} if the messages are always sent over the network. */
+    @Nullable
+    private volatile InJvmTransport inJvmTransport;
 
     // TODO: IGNITE-18493 - remove/move this
     @Nullable
@@ -109,13 +121,34 @@ public class DefaultMessagingService extends AbstractMessagingService {
             ClassDescriptorRegistry classDescriptorRegistry,
             UserObjectMarshaller marshaller
     ) {
+        this(nodeName, factory, topologyService, classDescriptorRegistry, marshaller, new NetworkMetricSource(new MetricManager()));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param factory Network messages factory.
+     * @param topologyService Topology service.
+     * @param classDescriptorRegistry Descriptor registry.
+     * @param marshaller Marshaller.
+     * @param metricSource Network metrics.
+     */
+    public DefaultMessagingService(
+            String nodeName,
+            NetworkMessagesFactory factory,
+            TopologyService topologyService,
+            ClassDescriptorRegistry classDescriptorRegistry,
+            UserObjectMarshaller marshaller,
+            NetworkMetricSource metricSource
+    ) {
+        this.nodeName = nodeName;
         this.factory = factory;
         this.topologyService = topologyService;
         this.classDescriptorRegistry = classDescriptorRegistry;
         this.marshaller = marshaller;
+        this.metricSource = metricSource;
 
         this.outboundExecutor = Executors.newSingleThreadExecutor(NamedThreadFactory.create(nodeName, "MessagingService-outbound-", LOG));
-        this.inboundExecutor = Executors.newSingleThreadExecutor(NamedThreadFactory.create(nodeName, "MessagingService-inbound-", LOG));
     }
 
     /**
@@ -125,9 +158,27 @@ public class DefaultMessagingService extends AbstractMessagingService {
      */
     public void setConnectionManager(ConnectionManager connectionManager) {
         this.connectionManager = connectionManager;
+        this.inboundExecutor = new StripedInboundExecutor(nodeName, connectionManager.networkConfiguration().inboundThreads());
+        metricSource.bind(connectionManager, inboundExecutor);
         connectionManager.addListener(this::onMessage);
     }
 
+    /**
+     * Sets the transport to the nodes running in the same JVM, called by {@link InJvmTransport#register}.
+     *
+     * @param inJvmTransport Transport.
+     */
+    void inJvmTransport(InJvmTransport inJvmTransport) {
+        this.inJvmTransport = inJvmTransport;
+    }
+
+    @Override
+    public void addMessageHandler(Class<?> messageGroup, NetworkMessageHandler handler) {
+        super.addMessageHandler(messageGroup, handler);
+
+        metricSource.onMessageGroupRegistered(getMessageGroupType(messageGroup));
+    }
+
     @Override
     public void weakSend(ClusterNode recipient, NetworkMessage msg) {
         send(recipient, msg);
@@ -218,9 +269,21 @@ public class DefaultMessagingService extends AbstractMessagingService {
             return CompletableFuture.completedFuture(null);
         }
 
+        DefaultMessagingService inJvmRecipient = inJvmRecipient(recipient.name());
+
+        if (inJvmRecipient != null) {
+            return sendInJvm(
+                    inJvmRecipient,
+                    recipient.name(),
+                    type,
+                    msg,
+                    payload -> correlationId != null ? responseFromMessage(payload, correlationId) : payload
+            );
+        }
+
         NetworkMessage message = correlationId != null ? responseFromMessage(msg, correlationId) : msg;
 
-        return sendMessage0(recipient.name(), type, recipientAddress, message);
+        return sendMessage0(recipient.name(), type, recipientAddress, message, msg.orderingKey());
     }
 
     private boolean shouldDropMessage(ClusterNode recipient, NetworkMessage msg) {
@@ -254,6 +317,16 @@ public class DefaultMessagingService extends AbstractMessagingService {
 
         requestsMap.put(correlationId, responseFuture);
 
+        if (metricSource.enabled()) {
+            long startNanos = System.nanoTime();
+
+            responseFuture.whenComplete((response, throwable) -> {
+                if (throwable == null) {
+                    metricSource.onInvokeCompleted(msg.groupType(), System.nanoTime() - startNanos);
+                }
+            });
+        }
+
         InetSocketAddress recipientAddress = new InetSocketAddress(recipient.address().host(), recipient.address().port());
 
         if (isSelf(recipient.name(), recipientAddress)) {
@@ -262,9 +335,17 @@ public class DefaultMessagingService extends AbstractMessagingService {
             return responseFuture;
         }
 
+        DefaultMessagingService inJvmRecipient = inJvmRecipient(recipient.name());
+
+        if (inJvmRecipient != null) {
+            return sendInJvm(inJvmRecipient, recipient.name(), type, msg, payload -> requestFromMessage(payload, correlationId))
+                    .thenCompose(unused -> responseFuture);
+        }
+
         InvokeRequest message = requestFromMessage(msg, correlationId);
 
-        return sendMessage0(recipient.name(), type, recipientAddress, message).thenCompose(unused -> responseFuture);
+        return sendMessage0(recipient.name(), type, recipientAddress, message, msg.orderingKey())
+                .thenCompose(unused -> responseFuture);
     }
 
     /**
@@ -274,6 +355,7 @@ public class DefaultMessagingService extends AbstractMessagingService {
      * @param type Channel type for send.
      * @param addr Target address.
      * @param message Message.
+     * @param orderingKey Ordering key of the message, the wrapped one for invocation requests and responses.
      *
      * @return Future of the send operation.
      */
@@ -281,10 +363,11 @@ public class DefaultMessagingService extends AbstractMessagingService {
             @Nullable String consistentId,
             ChannelType type,
             InetSocketAddress addr,
-            NetworkMessage message
+            NetworkMessage message,
+            int orderingKey
     ) {
         if (isInNetworkThread()) {
-            return CompletableFuture.supplyAsync(() -> sendMessage0(consistentId, type, addr, message), outboundExecutor)
+            return CompletableFuture.supplyAsync(() -> sendMessage0(consistentId, type, addr, message, orderingKey), outboundExecutor)
                     .thenCompose(Function.identity());
         }
 
@@ -296,26 +379,96 @@ public class DefaultMessagingService extends AbstractMessagingService {
             return failedFuture(new IgniteException("Failed to marshal message: " + e.getMessage(), e));
         }
 
-        OrderingFuture<NettySender> channel = connectionManager.channel(consistentId, type, addr);
+        OrderingFuture<NettySender> channel = connectionManager.channel(consistentId, type, addr, orderingKey);
 
         return channel.handle((sender, throwable) -> {
             if (throwable != null) {
                 if (throwable instanceof CompletionException && throwable.getCause() instanceof ChannelAlreadyExistsException) {
                     ChannelAlreadyExistsException e = (ChannelAlreadyExistsException) throwable.getCause();
 
-                    OrderingFuture<NettySender> channelFut = connectionManager.channel(e.consistentId(), type, addr);
+                    OrderingFuture<NettySender> channelFut = connectionManager.channel(e.consistentId(), type, addr, orderingKey);
 
                     return channelFut.thenComposeToCompletable(nettySender -> {
-                        return nettySender.send(new OutNetworkObject(message, descriptors));
+                        return sendToChannel(nettySender, type, message, descriptors);
                     });
                 }
 
                 throw new CompletionException(throwable);
             }
-            return sender.send(new OutNetworkObject(message, descriptors));
+            return sendToChannel(sender, type, message, descriptors);
         }).thenComposeToCompletable(Function.identity());
     }
 
+    private CompletableFuture<Void> sendToChannel(
+            NettySender sender,
+            ChannelType type,
+            NetworkMessage message,
+            List<ClassDescriptorMessage> descriptors
+    ) {
+        metricSource.onSent(sender.consistentId(), type);
+
+        return sender.send(new OutNetworkObject(message, descriptors));
+    }
+
+    /**
+     * Returns the messaging service of the recipient if it runs in the same JVM and is registered in the {@link InJvmTransport}.
+     *
+     * @param recipientConsistentId Consistent id of the recipient.
+     * @return Messaging service of the recipient or {@code null} if the message is to be sent over the network.
+     */
+    private @Nullable DefaultMessagingService inJvmRecipient(@Nullable String recipientConsistentId) {
+        InJvmTransport inJvmTransport = this.inJvmTransport;
+
+        if (inJvmTransport == null || recipientConsistentId == null) {
+            return null;
+        }
+
+        return inJvmTransport.messagingService(recipientConsistentId);
+    }
+
+    /**
+     * Hands a message over to a node running in the same JVM.
+     *
+     * @param recipientService Messaging service of the recipient.
+     * @param recipientConsistentId Consistent id of the recipient.
+     * @param type Channel type, the recipient handles the messages of the same channel type and ordering key in the order they are sent.
+     * @param msg Message.
+     * @param wrapper Function that wraps the message (or its copy) into an invocation request or response if needed.
+     * @return Future of the send operation.
+     */
+    private CompletableFuture<Void> sendInJvm(
+            DefaultMessagingService recipientService,
+            String recipientConsistentId,
+            ChannelType type,
+            NetworkMessage msg,
+            Function<NetworkMessage, NetworkMessage> wrapper
+    ) {
+        NetworkMessage payload;
+
+        try {
+            payload = InJvmTransport.shareable(msg) ? msg : copyForInJvmRecipient(msg);
+        } catch (Exception e) {
+            return failedFuture(new IgniteException("Failed to marshal message: " + e.getMessage(), e));
+        }
+
+        // Picks the stripe of the recipient's inbound executor the same way the connection is picked for the network.
+        short connectionIndex = (short) Math.floorMod(msg.orderingKey(), connectionManager.networkConfiguration().connectionsPerPeer());
+
+        metricSource.onSent(recipientConsistentId, type);
+
+        // User objects of the copied messages are unmarshalled with the descriptors of this node, which are valid in the whole JVM.
+        var obj = new InNetworkObject(wrapper.apply(payload), connectionManager.consistentId(), type.id(), connectionIndex,
+                classDescriptorRegistry);
+
+        return recipientService.onInJvmMessage(obj);
+    }
+
+    private NetworkMessage copyForInJvmRecipient(NetworkMessage msg) throws Exception {
+        msg.prepareMarshal(new IntOpenHashSet(), marshaller);
+
+        return InJvmTransport.copy(msg, connectionManager.serializationService().serializationRegistry());
+    }
+
     private List<ClassDescriptorMessage> beforeRead(NetworkMessage msg) throws Exception {
         IntSet ids = new IntOpenHashSet();
 
@@ -343,50 +496,86 @@ public class DefaultMessagingService extends AbstractMessagingService {
      */
     private void onMessage(InNetworkObject obj) {
         if (isInNetworkThread()) {
-            inboundExecutor.execute(() -> {
-                try {
-                    onMessage(obj);
-                } catch (Throwable e) {
-                    logAndRethrowIfError(obj, e);
-                }
-            });
+            executeInbound(obj);
 
             return;
         }
 
+        metricSource.onReceived(obj.consistentId(), obj.connectionId());
+
         NetworkMessage msg = obj.message();
-        DescriptorRegistry registry = obj.registry();
+
         try {
-            msg.unmarshal(marshaller, registry);
-        } catch (Exception e) {
-            throw new IgniteException("Failed to unmarshal message: " + e.getMessage(), e);
-        }
-        if (msg instanceof InvokeResponse) {
-            InvokeResponse response = (InvokeResponse) msg;
-            onInvokeResponse(response.message(), response.correlationId());
-            return;
-        }
+            DescriptorRegistry registry = obj.registry();
+            try {
+                msg.unmarshal(marshaller, registry);
+            } catch (Exception e) {
+                throw new IgniteException("Failed to unmarshal message: " + e.getMessage(), e);
+            }
+            if (msg instanceof InvokeResponse) {
+                InvokeResponse response = (InvokeResponse) msg;
+                onInvokeResponse(response.message(), response.correlationId());
+                return;
+            }
 
-        Long correlationId = null;
-        NetworkMessage message = msg;
+            Long correlationId = null;
+            NetworkMessage message = msg;
 
-        if (msg instanceof InvokeRequest) {
-            // Unwrap invocation request
-            InvokeRequest messageWithCorrelation = (InvokeRequest) msg;
-            correlationId = messageWithCorrelation.correlationId();
-            message = messageWithCorrelation.message();
-        }
+            if (msg instanceof InvokeRequest) {
+                // Unwrap invocation request
+                InvokeRequest messageWithCorrelation = (InvokeRequest) msg;
+                correlationId = messageWithCorrelation.correlationId();
+                message = messageWithCorrelation.message();
+            }
+
+            String senderConsistentId = obj.consistentId();
 
-        String senderConsistentId = obj.consistentId();
+            // Unfortunately, since the Messaging Service is used by ScaleCube itself, some messages can be sent
+            // before the node is added to the topology. ScaleCubeMessage handler guarantees to handle null sender consistent ID
+            // without throwing an exception.
+            assert message instanceof ScaleCubeMessage || senderConsistentId != null;
+
+            for (NetworkMessageHandler networkMessageHandler : getMessageHandlers(message.groupType())) {
+                networkMessageHandler.onReceived(message, senderConsistentId, correlationId);
+            }
+        } finally {
+            // Responses are handed over to the callers of invoke, their raw bytes are copied and not released.
+            if (!(msg instanceof InvokeResponse)) {
+                msg.releaseRawBytes();
+            }
+        }
+    }
 
-        // Unfortunately, since the Messaging Service is used by ScaleCube itself, some messages can be sent
-        // before the node is added to the topology. ScaleCubeMessage handler guarantees to handle null sender consistent ID
-        // without throwing an exception.
-        assert message instanceof ScaleCubeMessage || senderConsistentId != null;
+    /**
+     * Handles a message sent by a node running in the same JVM, see {@link InJvmTransport}. The message is handled asynchronously, like
+     * the messages received over the network.
+     *
+     * @param obj Incoming message wrapper.
+     * @return Future of the send operation.
+     */
+    private CompletableFuture<Void> onInJvmMessage(InNetworkObject obj) {
+        if (connectionManager.isStopped()) {
+            return failedFuture(new NodeStoppingException());
+        }
 
-        for (NetworkMessageHandler networkMessageHandler : getMessageHandlers(message.groupType())) {
-            networkMessageHandler.onReceived(message, senderConsistentId, correlationId);
+        try {
+            executeInbound(obj);
+        } catch (RejectedExecutionException e) {
+            // The node has stopped concurrently.
+            return failedFuture(new NodeStoppingException());
         }
+
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private void executeInbound(InNetworkObject obj) {
+        inboundExecutor.execute(obj.consistentId(), obj.connectionId(), obj.connectionIndex(), () -> {
+            try {
+                onMessage(obj);
+            } catch (Throwable e) {
+                logAndRethrowIfError(obj, e);
+            }
+        });
     }
 
     private static void logAndRethrowIfError(InNetworkObject obj, Throwable e) {
@@ -483,7 +672,12 @@ public class DefaultMessagingService extends AbstractMessagingService {
 
         requestsMap.clear();
 
-        IgniteUtils.shutdownAndAwaitTermination(inboundExecutor, 10, TimeUnit.SECONDS);
+        StripedInboundExecutor inboundExecutor = this.inboundExecutor;
+
+        if (inboundExecutor != null) {
+            inboundExecutor.shutdown();
+        }
+
         IgniteUtils.shutdownAndAwaitTermination(outboundExecutor, 10, TimeUnit.SECONDS);
     }
 
@@ -525,4 +719,11 @@ public class DefaultMessagingService extends AbstractMessagingService {
     public ConnectionManager connectionManager() {
         return connectionManager;
     }
+
+    /**
+     * Returns the executor of the inbound messages, {@code null} if the connection manager has not been set yet.
+     */
+    public @Nullable StripedInboundExecutor inboundExecutor() {
+        return inboundExecutor;
+    }
 }
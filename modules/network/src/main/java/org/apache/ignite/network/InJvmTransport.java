@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.network;
+
+import it.unimi.dsi.fastutil.ints.IntSet;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.apache.ignite.internal.network.direct.DirectMarshallingUtils;
+import org.apache.ignite.internal.network.direct.DirectMessageReader;
+import org.apache.ignite.internal.network.direct.DirectMessageWriter;
+import org.apache.ignite.internal.network.netty.ConnectionManager;
+import org.apache.ignite.lang.IgniteSystemProperties;
+import org.apache.ignite.network.serialization.MessageDeserializer;
+import org.apache.ignite.network.serialization.MessageSerializationRegistry;
+import org.apache.ignite.network.serialization.MessageSerializer;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Transport between the nodes running in the same JVM, for example, in embedded clusters and multi-node tests. Messages to the nodes
+ * registered in the transport are handed over to their messaging services directly, bypassing the serialization and the loopback
+ * connections, while the cluster membership is still maintained over the network.
+ *
+ * <p>Messages are passed by reference, unless they have fields that can not be shared between the nodes: user objects, which are
+ * marshalled by the sender and unmarshalled by the recipient, and {@link RawBytes}, which are released by the recipient. Such messages are
+ * copied by serializing them to a heap buffer.
+ */
+public class InJvmTransport {
+    /** Name of the system property that enables the transport for the nodes of this JVM. */
+    public static final String IGNITE_IN_JVM_TRANSPORT = "IGNITE_IN_JVM_TRANSPORT";
+
+    /** Initial size of the buffer the copied messages are serialized to. */
+    private static final int COPY_BUFFER_SIZE = 1024;
+
+    /** Transport shared by the nodes of this JVM. */
+    private static final InJvmTransport SHARED = new InJvmTransport();
+
+    /** Whether the messages of a class can be passed by reference, see the class description. */
+    private static final ClassValue<Boolean> SHAREABLE = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return !overridesDefault(type, "prepareMarshal", IntSet.class, Object.class) && !overridesDefault(type, "releaseRawBytes");
+        }
+    };
+
+    /** Messaging services of the registered nodes by their consistent ids. */
+    private final ConcurrentMap<String, DefaultMessagingService> services = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the transport shared by the nodes of this JVM if it is enabled with the {@link #IGNITE_IN_JVM_TRANSPORT} system property.
+     *
+     * @return Shared transport or {@code null} if it is disabled.
+     */
+    public static @Nullable InJvmTransport sharedIfEnabled() {
+        return IgniteSystemProperties.getBoolean(IGNITE_IN_JVM_TRANSPORT, false) ? SHARED : null;
+    }
+
+    /**
+     * Registers a node, so that the other registered nodes send messages to it through this transport.
+     *
+     * @param consistentId Consistent id of the node.
+     * @param messagingService Messaging service of the node, which must be bound to a connection manager.
+     */
+    public void register(String consistentId, DefaultMessagingService messagingService) {
+        messagingService.inJvmTransport(this);
+
+        services.put(consistentId, messagingService);
+    }
+
+    /**
+     * Unregisters a node, after which the messages to it are sent over the network.
+     *
+     * @param consistentId Consistent id of the node.
+     * @param messagingService Messaging service of the node.
+     */
+    public void unregister(String consistentId, DefaultMessagingService messagingService) {
+        services.remove(consistentId, messagingService);
+    }
+
+    /**
+     * Returns the messaging service of a registered node.
+     *
+     * @param consistentId Consistent id of the node.
+     * @return Messaging service or {@code null} if the node is not registered.
+     */
+    @Nullable DefaultMessagingService messagingService(String consistentId) {
+        return services.get(consistentId);
+    }
+
+    /**
+     * Returns {@code true} if the message can be passed to another node by reference.
+     *
+     * @param message Message.
+     * @return {@code true} if the message can be passed by reference, {@code false} if it must be {@link #copy copied}.
+     */
+    static boolean shareable(NetworkMessage message) {
+        return SHAREABLE.get(message.getClass());
+    }
+
+    /**
+     * Copies a message by serializing it to a heap buffer and deserializing it back. The user objects of the message must be marshalled
+     * with {@link NetworkMessage#prepareMarshal} beforehand, the copy contains them in the marshalled form.
+     *
+     * @param message Message.
+     * @param serializationRegistry Serialization registry.
+     * @return Copy of the message.
+     */
+    static NetworkMessage copy(NetworkMessage message, MessageSerializationRegistry serializationRegistry) {
+        MessageSerializer<NetworkMessage> serializer = serializationRegistry.createSerializer(message.groupType(), message.messageType());
+
+        var writer = new DirectMessageWriter(serializationRegistry, ConnectionManager.DIRECT_PROTOCOL_VERSION);
+
+        ByteBuffer buffer = ByteBuffer.allocate(COPY_BUFFER_SIZE);
+
+        while (true) {
+            writer.setBuffer(buffer);
+
+            if (serializer.writeMessage(message, writer)) {
+                break;
+            }
+
+            // The writer continues from where it stopped once it is given a buffer with more space.
+            buffer = ByteBuffer.allocate(buffer.capacity() * 2).put(buffer.flip());
+        }
+
+        buffer.flip();
+
+        MessageDeserializer<NetworkMessage> deserializer = serializationRegistry.createDeserializer(
+                DirectMarshallingUtils.getShort(buffer),
+                DirectMarshallingUtils.getShort(buffer)
+        );
+
+        var reader = new DirectMessageReader(serializationRegistry, ConnectionManager.DIRECT_PROTOCOL_VERSION);
+
+        reader.setCurrentReadClass(deserializer.klass());
+        reader.setBuffer(buffer);
+
+        boolean finished = deserializer.readMessage(reader);
+
+        assert finished && !buffer.hasRemaining() : "Message is not fully read: " + message;
+
+        return deserializer.getMessage();
+    }
+
+    private static boolean overridesDefault(Class<?> type, String name, Class<?>... parameterTypes) {
+        try {
+            Method method = type.getMethod(name, parameterTypes);
+
+            return method.getDeclaringClass() != NetworkMessage.class;
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Method not found: " + name, e);
+        }
+    }
+}
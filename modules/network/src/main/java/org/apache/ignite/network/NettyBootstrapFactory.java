@@ -21,16 +21,14 @@ import io.netty.bootstrap.Bootstrap;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
-import io.netty.channel.socket.nio.NioSocketChannel;
 import java.util.concurrent.TimeUnit;
 import org.apache.ignite.internal.manager.IgniteComponent;
 import org.apache.ignite.internal.network.configuration.InboundView;
 import org.apache.ignite.internal.network.configuration.NetworkConfiguration;
 import org.apache.ignite.internal.network.configuration.NetworkView;
 import org.apache.ignite.internal.network.configuration.OutboundView;
-import org.apache.ignite.internal.network.netty.NamedNioEventLoopGroup;
 import org.apache.ignite.internal.network.netty.NamedNioEventLoopGroup.NetworkThread;
+import org.apache.ignite.internal.network.netty.NettyTransport;
 
 /**
  * Netty bootstrap factory. Holds shared {@link EventLoopGroup} instances and encapsulates common Netty {@link Bootstrap} creation logic.
@@ -42,6 +40,9 @@ public class NettyBootstrapFactory implements IgniteComponent {
     /** Prefix for event loop group names. */
     private final String eventLoopGroupNamePrefix;
 
+    /** Netty transport of the event loop groups and channels, resolved on start. */
+    private NettyTransport transport;
+
     /** Server boss socket channel handler event loop group. */
     private EventLoopGroup bossGroup;
 
@@ -75,7 +76,7 @@ public class NettyBootstrapFactory implements IgniteComponent {
         Bootstrap clientBootstrap = new Bootstrap();
 
         clientBootstrap.group(clientWorkerGroup)
-                .channel(NioSocketChannel.class)
+                .channel(transport.socketChannelClass())
                 // See createServerBootstrap for netty configuration details.
                 .option(ChannelOption.SO_KEEPALIVE, clientConfiguration.soKeepAlive())
                 .option(ChannelOption.SO_LINGER, clientConfiguration.soLinger())
@@ -94,7 +95,7 @@ public class NettyBootstrapFactory implements IgniteComponent {
         ServerBootstrap serverBootstrap = new ServerBootstrap();
 
         serverBootstrap.group(bossGroup, workerGroup)
-                .channel(NioServerSocketChannel.class)
+                .channel(transport.serverSocketChannelClass())
                 /*
                  * The maximum queue length for incoming connection indications (a request to connect) is set
                  * to the backlog parameter. If a connection indication arrives when the queue is full,
@@ -132,9 +133,20 @@ public class NettyBootstrapFactory implements IgniteComponent {
     /** {@inheritDoc} */
     @Override
     public void start() {
-        bossGroup = NamedNioEventLoopGroup.create(eventLoopGroupNamePrefix + "-srv-accept");
-        workerGroup = NamedNioEventLoopGroup.create(eventLoopGroupNamePrefix + "-srv-worker");
-        clientWorkerGroup = NamedNioEventLoopGroup.create(eventLoopGroupNamePrefix + "-client");
+        transport = NettyTransport.resolve(networkConfiguration.value().transport());
+
+        bossGroup = transport.createEventLoopGroup(eventLoopGroupNamePrefix + "-srv-accept");
+        workerGroup = transport.createEventLoopGroup(eventLoopGroupNamePrefix + "-srv-worker");
+        clientWorkerGroup = transport.createEventLoopGroup(eventLoopGroupNamePrefix + "-client");
+    }
+
+    /**
+     * Returns the Netty transport used by the bootstraps, it may differ from the configured one if the latter is not available.
+     *
+     * @return Netty transport.
+     */
+    public NettyTransport transport() {
+        return transport;
     }
 
     /**
@@ -0,0 +1,387 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.network;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import org.apache.ignite.internal.metrics.AbstractMetricSource;
+import org.apache.ignite.internal.metrics.DistributionMetric;
+import org.apache.ignite.internal.metrics.LongAdderMetric;
+import org.apache.ignite.internal.metrics.MetricManager;
+import org.apache.ignite.internal.metrics.MetricSetBuilder;
+import org.apache.ignite.internal.network.netty.ConnectionManager;
+import org.apache.ignite.internal.network.netty.NettySender;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Metrics of the cluster network: the numbers of the sent and received messages in total, per remote node and per channel type, the
+ * latencies of the invocations per message group, the bytes sent and received over the established connections, the depths of the
+ * inbound and outbound queues and the numbers of the messages unacknowledged by the remote nodes.
+ *
+ * <p>The metric set is built when the source is enabled and is rebuilt in place, see {@link MetricManager#refresh}, when a remote node
+ * joins or leaves the topology or a message group gets its first handler. The metrics of a remote node are created when it joins and
+ * dropped when it leaves, so the messages of a node, that is not in the topology, are only counted in total. The metrics of a channel
+ * type, that is first seen on the sending or receiving path, are included on the next rebuild. The counters outlive the metric sets, so
+ * that their values are preserved.
+ */
+public class NetworkMetricSource extends AbstractMetricSource<NetworkMetricSource.Holder> {
+    /** Source name. */
+    public static final String SOURCE_NAME = "network";
+
+    /** Bounds of the invocation latency buckets in microseconds. */
+    private static final long[] LATENCY_BOUNDS = {
+            100, 250, 500, 1_000, 2_500, 5_000, 10_000, 25_000, 50_000, 100_000, 250_000, 500_000, 1_000_000
+    };
+
+    /** Metric manager, the source is registered in. */
+    private final MetricManager metricManager;
+
+    /** Number of the sent messages. */
+    private final LongAdderMetric sentMessages = new LongAdderMetric("SentMessages", "Number of the sent messages.");
+
+    /** Number of the received messages. */
+    private final LongAdderMetric receivedMessages = new LongAdderMetric("ReceivedMessages", "Number of the received messages.");
+
+    /** Latencies of the invocations. */
+    private final DistributionMetric invokeLatency = latencyMetric("InvokeLatency");
+
+    /** Metrics of the remote nodes in the topology by their consistent ids. */
+    private final ConcurrentMap<String, PeerMetrics> peers = new ConcurrentHashMap<>();
+
+    /** Metrics of the channel types by their ids. */
+    private final ConcurrentMap<Short, TrafficMetrics> channelTypes = new ConcurrentHashMap<>();
+
+    /** Latencies of the invocations by the message group types. */
+    private final ConcurrentMap<Short, DistributionMetric> groupInvokeLatencies = new ConcurrentHashMap<>();
+
+    /** Connection manager, {@code null} until the messaging service is started. */
+    private volatile @Nullable ConnectionManager connectionManager;
+
+    /** Inbound executor, {@code null} until the messaging service is started. */
+    private volatile @Nullable StripedInboundExecutor inboundExecutor;
+
+    /**
+     * Constructor.
+     *
+     * @param metricManager Metric manager, the source is registered in.
+     */
+    public NetworkMetricSource(MetricManager metricManager) {
+        super(SOURCE_NAME);
+
+        this.metricManager = metricManager;
+    }
+
+    /**
+     * Binds the source to the connections and the inbound executor of the started messaging service.
+     *
+     * @param connectionManager Connection manager.
+     * @param inboundExecutor Inbound executor.
+     */
+    void bind(ConnectionManager connectionManager, StripedInboundExecutor inboundExecutor) {
+        this.connectionManager = connectionManager;
+        this.inboundExecutor = inboundExecutor;
+    }
+
+    /**
+     * Records a message sent to a remote node.
+     *
+     * @param consistentId Consistent id of the remote node, {@code null} if it is not known yet.
+     * @param type Channel type.
+     */
+    void onSent(@Nullable String consistentId, ChannelType type) {
+        if (!enabled()) {
+            return;
+        }
+
+        sentMessages.increment();
+
+        TrafficMetrics peer = peer(consistentId);
+
+        if (peer != null) {
+            peer.sentMessages.increment();
+        }
+
+        metrics(channelTypes, type.id(), id -> new TrafficMetrics("channel." + type.name() + '.')).sentMessages.increment();
+    }
+
+    /**
+     * Records a message received from a remote node.
+     *
+     * @param consistentId Consistent id of the remote node, {@code null} if it is not known yet.
+     * @param channelTypeId Channel type id of the connection.
+     */
+    void onReceived(@Nullable String consistentId, short channelTypeId) {
+        if (!enabled()) {
+            return;
+        }
+
+        receivedMessages.increment();
+
+        TrafficMetrics peer = peer(consistentId);
+
+        if (peer != null) {
+            peer.receivedMessages.increment();
+        }
+
+        metrics(channelTypes, channelTypeId, id -> new TrafficMetrics("channel." + channelTypeName(id) + '.')).receivedMessages.increment();
+    }
+
+    /**
+     * Records a completed invocation.
+     *
+     * @param groupType Group type of the request message.
+     * @param durationNanos Time from sending the request to receiving the response in nanoseconds.
+     */
+    void onInvokeCompleted(short groupType, long durationNanos) {
+        if (!enabled()) {
+            return;
+        }
+
+        long micros = TimeUnit.NANOSECONDS.toMicros(durationNanos);
+
+        invokeLatency.add(micros);
+
+        metrics(groupInvokeLatencies, groupType, type -> latencyMetric("group." + type + ".InvokeLatency")).add(micros);
+    }
+
+    /**
+     * Adds the metrics of a node, that has joined the topology.
+     *
+     * @param node Node.
+     */
+    public void onNodeAppeared(ClusterNode node) {
+        peers.compute(node.name(), (consistentId, metrics) -> {
+            PeerMetrics peer = metrics == null ? new PeerMetrics("peer." + consistentId + '.') : metrics;
+
+            peer.nodeId = node.id();
+
+            return peer;
+        });
+
+        rebuild();
+    }
+
+    /**
+     * Drops the metrics of a node, that has left the topology. The metrics are kept, if the node has already re-joined the topology
+     * under the same consistent id.
+     *
+     * @param node Node.
+     */
+    public void onNodeDisappeared(ClusterNode node) {
+        PeerMetrics kept = peers.computeIfPresent(
+                node.name(),
+                (consistentId, metrics) -> node.id().equals(metrics.nodeId) ? null : metrics
+        );
+
+        if (kept == null) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Adds the invocation latencies of a message group, that has got a handler.
+     *
+     * @param groupType Group type.
+     */
+    void onMessageGroupRegistered(short groupType) {
+        if (groupInvokeLatencies.putIfAbsent(groupType, latencyMetric("group." + groupType + ".InvokeLatency")) == null) {
+            rebuild();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected Holder createHolder() {
+        return new Holder();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void init(MetricSetBuilder bldr, Holder holder) {
+        bldr.register(sentMessages);
+        bldr.register(receivedMessages);
+        bldr.register(invokeLatency);
+
+        bldr.longGauge(
+                "SentCompressedBytes",
+                "Number of the bytes sent over the compressed connections, after the compression.",
+                () -> compressionStatistic(cm -> cm.compression().sentCompressedBytes())
+        );
+        bldr.longGauge(
+                "SentUncompressedBytes",
+                "Number of the bytes sent over the compressed connections, before the compression.",
+                () -> compressionStatistic(cm -> cm.compression().sentUncompressedBytes())
+        );
+        bldr.longGauge(
+                "ReceivedCompressedBytes",
+                "Number of the bytes received over the compressed connections, before the decompression.",
+                () -> compressionStatistic(cm -> cm.compression().receivedCompressedBytes())
+        );
+        bldr.longGauge(
+                "ReceivedUncompressedBytes",
+                "Number of the bytes received over the compressed connections, after the decompression.",
+                () -> compressionStatistic(cm -> cm.compression().receivedUncompressedBytes())
+        );
+
+        bldr.longGauge("Connections", "Number of the connections with the remote nodes.", () -> senderStatistic(null, sender -> 1));
+
+        bldr.longGauge(
+                "InboundQueueSize",
+                "Number of the received messages waiting to be handled.",
+                () -> {
+                    StripedInboundExecutor executor = inboundExecutor;
+
+                    return executor == null ? 0 : executor.queueSize();
+                }
+        );
+
+        addQueueGauges(bldr, "", null);
+
+        peers.forEach((consistentId, metrics) -> {
+            metrics.register(bldr);
+
+            addQueueGauges(bldr, "peer." + consistentId + '.', consistentId);
+        });
+
+        channelTypes.values().forEach(metrics -> metrics.register(bldr));
+
+        groupInvokeLatencies.values().forEach(bldr::register);
+    }
+
+    private void addQueueGauges(MetricSetBuilder bldr, String prefix, @Nullable String consistentId) {
+        bldr.longGauge(
+                prefix + "OutboundPendingMessages",
+                "Number of the messages waiting to be written to the connections.",
+                () -> senderStatistic(consistentId, NettySender::pendingMessages)
+        );
+        bldr.longGauge(
+                prefix + "OutboundPendingBytes",
+                "Number of the bytes written to the connections and waiting to be sent.",
+                () -> senderStatistic(consistentId, NettySender::pendingBytes)
+        );
+        bldr.longGauge(
+                prefix + "UnacknowledgedMessages",
+                "Number of the sent messages, that are not acknowledged by the remote nodes.",
+                () -> {
+                    ConnectionManager cm = connectionManager;
+
+                    return cm == null ? 0 : cm.pendingAcknowledgements(consistentId);
+                }
+        );
+    }
+
+    private long compressionStatistic(ToLongFunction<ConnectionManager> statistic) {
+        ConnectionManager cm = connectionManager;
+
+        return cm == null ? 0 : statistic.applyAsLong(cm);
+    }
+
+    /**
+     * Sums a statistic of the connections.
+     *
+     * @param consistentId Consistent id of the remote node, {@code null} to sum over the connections with all the nodes.
+     * @param statistic Statistic of a connection.
+     * @return Sum of the statistic.
+     */
+    private long senderStatistic(@Nullable String consistentId, ToLongFunction<NettySender> statistic) {
+        ConnectionManager cm = connectionManager;
+
+        if (cm == null) {
+            return 0;
+        }
+
+        long sum = 0;
+
+        for (NettySender sender : cm.channels().values()) {
+            if (consistentId == null || consistentId.equals(sender.consistentId())) {
+                sum += statistic.applyAsLong(sender);
+            }
+        }
+
+        return sum;
+    }
+
+    private @Nullable TrafficMetrics peer(@Nullable String consistentId) {
+        return consistentId == null ? null : peers.get(consistentId);
+    }
+
+    /**
+     * Returns the metrics of the given key, creates them if there are none. The created metrics are included into the metric set on its
+     * next rebuild.
+     */
+    private static <K, V> V metrics(ConcurrentMap<K, V> map, K key, Function<K, V> factory) {
+        V metrics = map.get(key);
+
+        return metrics != null ? metrics : map.computeIfAbsent(key, factory);
+    }
+
+    /**
+     * Rebuilds the metric set, if the source is enabled, to include the metrics created since it was built and to drop the removed ones.
+     */
+    private void rebuild() {
+        try {
+            metricManager.refresh(this);
+        } catch (IllegalStateException ignored) {
+            // The source is not registered yet or is unregistered concurrently.
+        }
+    }
+
+    private static String channelTypeName(short id) {
+        ChannelType type = ChannelType.getChannel(id);
+
+        return type == null ? String.valueOf(id) : type.name();
+    }
+
+    private static DistributionMetric latencyMetric(String name) {
+        return new DistributionMetric(name, "Latency of the invocations in microseconds.", LATENCY_BOUNDS);
+    }
+
+    /** Numbers of the sent and received messages. */
+    private static class TrafficMetrics {
+        final LongAdderMetric sentMessages;
+
+        final LongAdderMetric receivedMessages;
+
+        TrafficMetrics(String prefix) {
+            sentMessages = new LongAdderMetric(prefix + "SentMessages", "Number of the sent messages.");
+            receivedMessages = new LongAdderMetric(prefix + "ReceivedMessages", "Number of the received messages.");
+        }
+
+        void register(MetricSetBuilder bldr) {
+            bldr.register(sentMessages);
+            bldr.register(receivedMessages);
+        }
+    }
+
+    /** Numbers of the messages sent to and received from a remote node. */
+    private static class PeerMetrics extends TrafficMetrics {
+        /** Id of the node, that has the consistent id in the topology. */
+        volatile String nodeId;
+
+        PeerMetrics(String prefix) {
+            super(prefix);
+        }
+    }
+
+    /** Holder. */
+    protected static class Holder implements AbstractMetricSource.Holder<Holder> {
+    }
+}
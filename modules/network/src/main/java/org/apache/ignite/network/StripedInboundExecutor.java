@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.network;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.thread.NamedThreadFactory;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Executor of the inbound messages that has a single-threaded stripe per group of connections. All the messages of a connection, which
+ * is identified by the sender and the connection id, are handled by the same stripe in the order they were received, while the messages
+ * of different connections are handled in parallel.
+ */
+public class StripedInboundExecutor {
+    private static final IgniteLogger LOG = Loggers.forClass(StripedInboundExecutor.class);
+
+    /** Stripes. */
+    private final ThreadPoolExecutor[] stripes;
+
+    /** Number of handled messages. */
+    private final LongAdder dispatchedMessages = new LongAdder();
+
+    /** Total time from the submission of the messages to the end of their handling in nanoseconds. */
+    private final LongAdder dispatchNanos = new LongAdder();
+
+    /**
+     * Constructor.
+     *
+     * @param nodeName Node name.
+     * @param stripeCount Number of stripes.
+     */
+    public StripedInboundExecutor(String nodeName, int stripeCount) {
+        assert stripeCount > 0 : stripeCount;
+
+        NamedThreadFactory threadFactory = NamedThreadFactory.create(nodeName, "MessagingService-inbound-", LOG);
+
+        stripes = new ThreadPoolExecutor[stripeCount];
+
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), threadFactory);
+        }
+    }
+
+    /**
+     * Submits a message handling task to the stripe of the connection.
+     *
+     * @param senderConsistentId Consistent id of the sender, {@code null} if the sender has not been added to the topology yet.
+     * @param connectionId Connection id.
+     * @param task Message handling task.
+     */
+    public void execute(@Nullable String senderConsistentId, short connectionId, Runnable task) {
+        execute(senderConsistentId, connectionId, (short) 0, task);
+    }
+
+    /**
+     * Submits a message handling task to the stripe of the connection.
+     *
+     * @param senderConsistentId Consistent id of the sender, {@code null} if the sender has not been added to the topology yet.
+     * @param connectionId Connection id.
+     * @param connectionIndex Index of the connection among the connections with the same id.
+     * @param task Message handling task.
+     */
+    public void execute(@Nullable String senderConsistentId, short connectionId, short connectionIndex, Runnable task) {
+        long submitNanos = System.nanoTime();
+
+        stripe(senderConsistentId, connectionId, connectionIndex).execute(() -> {
+            try {
+                task.run();
+            } finally {
+                dispatchedMessages.increment();
+                dispatchNanos.add(System.nanoTime() - submitNanos);
+            }
+        });
+    }
+
+    /** Returns the number of stripes. */
+    public int stripeCount() {
+        return stripes.length;
+    }
+
+    /** Returns the number of messages waiting in the queues of all the stripes. */
+    public int queueSize() {
+        int size = 0;
+
+        for (ThreadPoolExecutor stripe : stripes) {
+            size += stripe.getQueue().size();
+        }
+
+        return size;
+    }
+
+    /** Returns the number of messages waiting in the queue of the stripe. */
+    public int queueSize(int stripe) {
+        return stripes[stripe].getQueue().size();
+    }
+
+    /** Returns the number of handled messages. */
+    public long dispatchedMessages() {
+        return dispatchedMessages.sum();
+    }
+
+    /** Returns the total time from the submission of the messages to the end of their handling in nanoseconds. */
+    public long dispatchNanos() {
+        return dispatchNanos.sum();
+    }
+
+    /**
+     * Shuts down the stripes and waits for the termination of the running tasks.
+     */
+    public void shutdown() {
+        for (ThreadPoolExecutor stripe : stripes) {
+            stripe.shutdown();
+        }
+
+        for (ThreadPoolExecutor stripe : stripes) {
+            IgniteUtils.shutdownAndAwaitTermination(stripe, 10, TimeUnit.SECONDS);
+        }
+    }
+
+    private ThreadPoolExecutor stripe(@Nullable String senderConsistentId, short connectionId, short connectionIndex) {
+        int hash = 31 * (31 * (senderConsistentId == null ? 0 : senderConsistentId.hashCode()) + connectionId) + connectionIndex;
+
+        return stripes[IgniteUtils.safeAbs(hash) % stripes.length];
+    }
+}
@@ -34,6 +34,7 @@ import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.metrics.MetricManager;
 import org.apache.ignite.internal.network.NetworkMessagesFactory;
 import org.apache.ignite.internal.network.configuration.ClusterMembershipView;
 import org.apache.ignite.internal.network.configuration.NetworkConfiguration;
@@ -51,13 +52,16 @@ import org.apache.ignite.network.AbstractClusterService;
 import org.apache.ignite.network.ClusterNode;
 import org.apache.ignite.network.ClusterService;
 import org.apache.ignite.network.DefaultMessagingService;
+import org.apache.ignite.network.InJvmTransport;
 import org.apache.ignite.network.NettyBootstrapFactory;
 import org.apache.ignite.network.NetworkAddress;
+import org.apache.ignite.network.NetworkMetricSource;
 import org.apache.ignite.network.NodeFinder;
 import org.apache.ignite.network.NodeFinderFactory;
 import org.apache.ignite.network.NodeMetadata;
 import org.apache.ignite.network.TopologyEventHandler;
 import org.apache.ignite.network.serialization.MessageSerializationRegistry;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Cluster service factory that uses ScaleCube for messaging and topology services.
@@ -82,6 +86,32 @@ public class ScaleCubeClusterServiceFactory {
             NettyBootstrapFactory nettyBootstrapFactory,
             MessageSerializationRegistry serializationRegistry,
             StaleIds staleIds
+    ) {
+        return createClusterService(
+                consistentId,
+                networkConfiguration,
+                nettyBootstrapFactory,
+                serializationRegistry,
+                staleIds,
+                new MetricManager()
+        );
+    }
+
+    /**
+     * Creates a new {@link ClusterService} using the provided context. The created network will not be in the "started" state.
+     *
+     * @param networkConfiguration  Network configuration.
+     * @param nettyBootstrapFactory Bootstrap factory.
+     * @param metricManager Metric manager, the network metric source is registered in while the service is started.
+     * @return New cluster service.
+     */
+    public ClusterService createClusterService(
+            String consistentId,
+            NetworkConfiguration networkConfiguration,
+            NettyBootstrapFactory nettyBootstrapFactory,
+            MessageSerializationRegistry serializationRegistry,
+            StaleIds staleIds,
+            MetricManager metricManager
     ) {
         var messageFactory = new NetworkMessagesFactory();
 
@@ -89,12 +119,17 @@ public class ScaleCubeClusterServiceFactory {
 
         UserObjectSerializationContext userObjectSerialization = createUserObjectSerializationContext();
 
+        var metricSource = new NetworkMetricSource(metricManager);
+
+        InJvmTransport inJvmTransport = inJvmTransport();
+
         var messagingService = new DefaultMessagingService(
                 consistentId,
                 messageFactory,
                 topologyService,
                 userObjectSerialization.descriptorRegistry(),
-                userObjectSerialization.marshaller()
+                userObjectSerialization.marshaller(),
+                metricSource
         );
 
         return new AbstractClusterService(consistentId, topologyService, messagingService, serializationRegistry) {
@@ -155,10 +190,23 @@ public class ScaleCubeClusterServiceFactory {
                 topologyService.setCluster(cluster);
                 messagingService.setConnectionManager(connectionMgr);
 
+                metricManager.registerSource(metricSource);
+
+                if (inJvmTransport != null) {
+                    inJvmTransport.register(consistentId, messagingService);
+                }
+
                 topologyService.addEventHandler(new TopologyEventHandler() {
+                    @Override
+                    public void onAppeared(ClusterNode member) {
+                        metricSource.onNodeAppeared(member);
+                    }
+
                     @Override
                     public void onDisappeared(ClusterNode member) {
                         staleIds.markAsStale(member.id());
+
+                        metricSource.onNodeDisappeared(member);
                     }
                 });
 
@@ -177,6 +225,10 @@ public class ScaleCubeClusterServiceFactory {
                     return;
                 }
 
+                if (inJvmTransport != null) {
+                    inJvmTransport.unregister(consistentId, messagingService);
+                }
+
                 connectionMgr.initiateStopping();
 
                 cluster.shutdown();
@@ -199,6 +251,8 @@ public class ScaleCubeClusterServiceFactory {
                 // Messaging service checks connection manager's status before sending a message, so connection manager should be
                 // stopped before messaging service
                 messagingService.stop();
+
+                metricManager.unregisterSource(metricSource);
             }
 
             /** {@inheritDoc} */
@@ -244,6 +298,16 @@ public class ScaleCubeClusterServiceFactory {
                 .gossip(opts -> opts.gossipInterval(scaleCube.gossipInterval()));
     }
 
+    /**
+     * Returns the transport to the nodes running in the same JVM, the created {@link ClusterService} instances are registered in. Can be
+     * overridden in subclasses to use a transport that is not shared by the whole JVM.
+     *
+     * @return Transport or {@code null} if the messages are always sent over the network.
+     */
+    protected @Nullable InJvmTransport inJvmTransport() {
+        return InJvmTransport.sharedIfEnabled();
+    }
+
     /**
      * Creates everything that is needed for the user object serialization.
      *
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.network;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.network.serialization.ClassDescriptorFactory;
+import org.apache.ignite.internal.network.serialization.ClassDescriptorRegistry;
+import org.apache.ignite.internal.network.serialization.FieldsAccessor;
+import org.apache.ignite.internal.network.serialization.marshal.DefaultUserObjectMarshaller;
+import org.apache.ignite.internal.network.serialization.marshal.MarshalException;
+import org.apache.ignite.internal.network.serialization.marshal.UnmarshalException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * A micro-benchmark of {@link DefaultUserObjectMarshaller} with the generated {@link FieldsAccessor}s against the per-field access.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class FieldsAccessorBenchmark {
+    /** Whether the fields are accessed with the generated accessors. */
+    @Param({"true", "false"})
+    private boolean generateFieldsAccessors;
+
+    private ClassDescriptorRegistry registry;
+
+    private DefaultUserObjectMarshaller marshaller;
+
+    private ImmutableObject object;
+
+    private byte[] marshalled;
+
+    /**
+     * Prepares the marshaller and the marshalled object.
+     */
+    @Setup
+    public void setUp() throws MarshalException {
+        registry = new ClassDescriptorRegistry(generateFieldsAccessors);
+        marshaller = new DefaultUserObjectMarshaller(registry, new ClassDescriptorFactory(registry));
+
+        object = new ImmutableObject(42, 1_000_000_000_000L, 0.5, true, 'c', "value", UUID.randomUUID());
+
+        marshalled = marshaller.marshal(object).bytes();
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args args
+     * @throws Exception if something goes wrong
+     */
+    public static void main(String[] args) throws Exception {
+        Options build = new OptionsBuilder()
+                .include(FieldsAccessorBenchmark.class.getName() + ".*").build();
+
+        new Runner(build).run();
+    }
+
+    @Benchmark
+    public byte[] marshal() throws MarshalException {
+        return marshaller.marshal(object).bytes();
+    }
+
+    @Benchmark
+    public Object unmarshal() throws UnmarshalException {
+        return marshaller.unmarshal(marshalled, registry);
+    }
+
+    /**
+     * Immutable object with the primitive fields and the fields of common built-in types.
+     */
+    private static class ImmutableObject {
+        private final int intValue;
+        private final long longValue;
+        private final double doubleValue;
+        private final boolean booleanValue;
+        private final char charValue;
+        private final String stringValue;
+        private final UUID uuidValue;
+
+        private ImmutableObject(
+                int intValue,
+                long longValue,
+                double doubleValue,
+                boolean booleanValue,
+                char charValue,
+                String stringValue,
+                UUID uuidValue
+        ) {
+            this.intValue = intValue;
+            this.longValue = longValue;
+            this.doubleValue = doubleValue;
+            this.booleanValue = booleanValue;
+            this.charValue = charValue;
+            this.stringValue = stringValue;
+            this.uuidValue = uuidValue;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.network;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.socket.SocketChannel;
+import java.net.InetSocketAddress;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.network.netty.NettyTransport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * A micro-benchmark of the round-trip latency of the {@link NettyTransport Netty transports} over the loopback interface. A transport
+ * that is not available on the platform is replaced with its fallback, see {@link NettyTransport#resolve(String)}.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class NettyTransportBenchmark {
+    /** Name of the transport in the network configuration. */
+    @Param({"nio", "epoll", "io_uring"})
+    private String transportName;
+
+    /** Size of the echoed message in bytes. */
+    @Param({"64", "4096"})
+    private int messageSize;
+
+    private EventLoopGroup serverGroup;
+
+    private EventLoopGroup clientGroup;
+
+    private Channel serverChannel;
+
+    private Channel clientChannel;
+
+    private byte[] message;
+
+    /** Future of the current round trip, completed once the whole message is echoed back. */
+    private volatile CompletableFuture<Void> roundTrip;
+
+    /** Number of the echoed bytes of the current round trip, accessed from the client event loop only. */
+    private int received;
+
+    /**
+     * Starts the echo server and connects the client.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        NettyTransport transport = NettyTransport.resolve(transportName);
+
+        serverGroup = transport.createEventLoopGroup("bench-srv");
+        clientGroup = transport.createEventLoopGroup("bench-client");
+
+        message = new byte[messageSize];
+
+        serverChannel = new ServerBootstrap()
+                .group(serverGroup)
+                .channel(transport.serverSocketChannelClass())
+                .childOption(ChannelOption.TCP_NODELAY, true)
+                .childHandler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel ch) {
+                        ch.pipeline().addLast(new SimpleChannelInboundHandler<ByteBuf>(false) {
+                            @Override
+                            protected void channelRead0(ChannelHandlerContext ctx, ByteBuf msg) {
+                                ctx.writeAndFlush(msg);
+                            }
+                        });
+                    }
+                })
+                .bind(new InetSocketAddress("127.0.0.1", 0))
+                .sync()
+                .channel();
+
+        clientChannel = new Bootstrap()
+                .group(clientGroup)
+                .channel(transport.socketChannelClass())
+                .option(ChannelOption.TCP_NODELAY, true)
+                .handler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel ch) {
+                        ch.pipeline().addLast(new SimpleChannelInboundHandler<ByteBuf>() {
+                            @Override
+                            protected void channelRead0(ChannelHandlerContext ctx, ByteBuf msg) {
+                                received += msg.readableBytes();
+
+                                if (received == messageSize) {
+                                    received = 0;
+
+                                    roundTrip.complete(null);
+                                }
+                            }
+                        });
+                    }
+                })
+                .connect(serverChannel.localAddress())
+                .sync()
+                .channel();
+    }
+
+    /**
+     * Closes the channels and the event loops.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        clientChannel.close().sync();
+        serverChannel.close().sync();
+
+        clientGroup.shutdownGracefully(0, 1, TimeUnit.SECONDS).sync();
+        serverGroup.shutdownGracefully(0, 1, TimeUnit.SECONDS).sync();
+    }
+
+    /**
+     * Sends a message and waits for the echo.
+     */
+    @Benchmark
+    public void roundTrip() throws Exception {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+
+        roundTrip = future;
+
+        clientChannel.writeAndFlush(clientChannel.alloc().buffer(messageSize).writeBytes(message));
+
+        future.get(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args args
+     * @throws RunnerException If failed.
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(NettyTransportBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
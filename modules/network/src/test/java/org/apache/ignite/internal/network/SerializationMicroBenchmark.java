@@ -17,24 +17,41 @@
 
 package org.apache.ignite.internal.network;
 
+import static org.apache.ignite.utils.ClusterServiceTestUtils.defaultSerializationRegistry;
+
 import com.esotericsoftware.kryo.Kryo;
 import com.esotericsoftware.kryo.io.Input;
 import com.esotericsoftware.kryo.io.Output;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
 import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.network.direct.DirectMessageWriter;
 import org.apache.ignite.internal.network.messages.AllTypesMessage;
+import org.apache.ignite.internal.network.messages.TestMessagesFactory;
+import org.apache.ignite.internal.network.netty.ConnectionManager;
+import org.apache.ignite.internal.network.netty.InboundDecoder;
 import org.apache.ignite.internal.network.serialization.ClassDescriptorFactory;
 import org.apache.ignite.internal.network.serialization.ClassDescriptorRegistry;
+import org.apache.ignite.internal.network.serialization.PerSessionSerializationService;
+import org.apache.ignite.internal.network.serialization.SerializationService;
+import org.apache.ignite.internal.network.serialization.UserObjectSerializationContext;
 import org.apache.ignite.internal.network.serialization.marshal.DefaultUserObjectMarshaller;
 import org.apache.ignite.internal.network.serialization.marshal.MarshalException;
 import org.apache.ignite.internal.network.serialization.marshal.MarshalledObject;
 import org.apache.ignite.internal.network.serialization.marshal.UnmarshalException;
 import org.apache.ignite.internal.network.serialization.marshal.UserObjectMarshaller;
+import org.apache.ignite.network.NetworkMessage;
+import org.apache.ignite.network.RawBytes;
+import org.apache.ignite.network.serialization.MessageSerializationRegistry;
+import org.apache.ignite.network.serialization.MessageSerializer;
 import org.jetbrains.annotations.Nullable;
 import org.objenesis.strategy.StdInstantiatorStrategy;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -52,7 +69,7 @@ import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 /**
- * A micro-benchmark of {@link DefaultUserObjectMarshaller}.
+ * A micro-benchmark of {@link DefaultUserObjectMarshaller} and of decoding network messages by the {@link InboundDecoder}.
  */
 @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
 @Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
@@ -84,6 +101,15 @@ public class SerializationMicroBenchmark {
     static byte[] largeSerializedWithJava;
     static byte[] largeSerializedWithKryo;
 
+    /** Channel with an inbound decoder, that decodes network messages. */
+    static EmbeddedChannel decoderChannel;
+
+    /** Network message with a large {@code byte[]} field, copied on decoding. */
+    static ByteBuf byteArrayMessageSerialized;
+
+    /** Network message with a large {@link RawBytes} field, that references the inbound buffer. */
+    static ByteBuf rawBytesMessageSerialized;
+
     static {
         registry = new ClassDescriptorRegistry();
         var factory = new ClassDescriptorFactory(registry);
@@ -126,6 +152,25 @@ public class SerializationMicroBenchmark {
         System.out.println("Large Java: " + largeSerializedWithJava.length);
         System.out.println("Large UOS : " + largeSerializedWithUos.length);
         System.out.println("Large Kryo: " + largeSerializedWithKryo.length);
+
+        MessageSerializationRegistry messageRegistry = defaultSerializationRegistry();
+
+        var serializationService = new SerializationService(
+                messageRegistry,
+                new UserObjectSerializationContext(registry, factory, userObjectMarshaller)
+        );
+
+        decoderChannel = new EmbeddedChannel(new InboundDecoder(new PerSessionSerializationService(serializationService)));
+
+        byte[] payload = new byte[64 * 1024];
+
+        var messagesFactory = new TestMessagesFactory();
+
+        byteArrayMessageSerialized = serializeNetworkMessage(messageRegistry, messagesFactory.rawBytesMessage().byteArray(payload).build());
+        rawBytesMessageSerialized = serializeNetworkMessage(
+                messageRegistry,
+                messagesFactory.rawBytesMessage().rawBytes(RawBytes.wrap(payload)).build()
+        );
     }
 
     /**
@@ -267,6 +312,44 @@ public class SerializationMicroBenchmark {
         }
     }
 
+    @Benchmark
+    public Object deserialization_31_network_message_byte_array() {
+        return decodeNetworkMessage(byteArrayMessageSerialized);
+    }
+
+    @Benchmark
+    public Object deserialization_32_network_message_raw_bytes() {
+        return decodeNetworkMessage(rawBytesMessageSerialized);
+    }
+
+    private static Object decodeNetworkMessage(ByteBuf serialized) {
+        decoderChannel.writeInbound(serialized.retainedDuplicate());
+
+        NetworkMessage message = decoderChannel.readInbound();
+
+        message.releaseRawBytes();
+
+        return message;
+    }
+
+    private static ByteBuf serializeNetworkMessage(MessageSerializationRegistry messageRegistry, NetworkMessage message) {
+        var writer = new DirectMessageWriter(messageRegistry, ConnectionManager.DIRECT_PROTOCOL_VERSION);
+
+        MessageSerializer<NetworkMessage> serializer = messageRegistry.createSerializer(message.groupType(), message.messageType());
+
+        ByteBuffer buf = ByteBuffer.allocate(128 * 1024);
+
+        writer.setBuffer(buf);
+
+        if (!serializer.writeMessage(message, writer)) {
+            throw new IllegalStateException("Message does not fit the buffer: " + message);
+        }
+
+        buf.flip();
+
+        return Unpooled.directBuffer(buf.limit()).writeBytes(buf);
+    }
+
     private static byte[] serializeWithJdk(Object obj) {
         try (var bos = new ByteArrayOutputStream(); var oos = new ObjectOutputStream(bos)) {
             oos.writeObject(obj);
@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.network.netty;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/**
+ * Tests for {@link CompressionEncoder} and {@link CompressionDecoder}.
+ */
+public class CompressionEncoderTest extends BaseIgniteAbstractTest {
+    /** Compression statistics. */
+    private final NetworkCompression compression = new NetworkCompression(null);
+
+    /**
+     * Tests that the writes are accumulated until a flush and are compressed in blocks.
+     */
+    @ParameterizedTest
+    @EnumSource(value = CompressionCodec.class, names = {"LZ4", "ZSTD"})
+    public void testCompression(CompressionCodec codec) {
+        assumeTrue(codec.isAvailable(), () -> "Codec is not available: " + codec);
+
+        EmbeddedChannel channel = createChannel(codec, 1024);
+
+        var expected = new ByteArrayOutputStream();
+
+        List<ChannelFuture> futures = new ArrayList<>();
+
+        for (int i = 0; i < 20; i++) {
+            byte[] bytes = compressibleBytes(OutboundEncoder.CHUNK_SIZE);
+
+            expected.writeBytes(bytes);
+
+            futures.add(channel.write(Unpooled.wrappedBuffer(bytes)));
+        }
+
+        // The first blocks are written once there are enough bytes, the rest are held until the flush.
+        assertFalse(futures.get(futures.size() - 1).isDone());
+
+        channel.flush();
+
+        futures.forEach(future -> assertTrue(future.isSuccess()));
+
+        List<ByteBuf> frames = readFrames(channel);
+
+        assertTrue(frames.size() > 1, "Frames: " + frames.size());
+
+        for (ByteBuf frame : frames) {
+            assertEquals(codec.id(), frame.getByte(0));
+        }
+
+        assertArrayEquals(expected.toByteArray(), receive(frames));
+
+        assertEquals(expected.size(), compression.sentUncompressedBytes());
+        assertTrue(compression.sentCompressedBytes() < compression.sentUncompressedBytes());
+
+        assertEquals(compression.sentCompressedBytes(), compression.receivedCompressedBytes());
+        assertEquals(compression.sentUncompressedBytes(), compression.receivedUncompressedBytes());
+
+        assertFalse(channel.finish());
+    }
+
+    /**
+     * Tests that the bytes written at once, that are less than the threshold, are not compressed.
+     */
+    @Test
+    public void testThreshold() {
+        EmbeddedChannel channel = createChannel(CompressionCodec.LZ4, 1024);
+
+        byte[] bytes = compressibleBytes(1000);
+
+        channel.writeAndFlush(Unpooled.wrappedBuffer(bytes));
+
+        List<ByteBuf> frames = readFrames(channel);
+
+        assertEquals(1, frames.size());
+        assertEquals(CompressionCodec.NONE.id(), frames.get(0).getByte(0));
+
+        assertArrayEquals(bytes, receive(frames));
+
+        assertEquals(bytes.length, compression.sentUncompressedBytes());
+        assertEquals(bytes.length, compression.sentCompressedBytes());
+
+        assertFalse(channel.finish());
+    }
+
+    /**
+     * Tests that the blocks, that do not shrink, are sent uncompressed.
+     */
+    @Test
+    public void testIncompressibleBytes() {
+        EmbeddedChannel channel = createChannel(CompressionCodec.LZ4, 1024);
+
+        byte[] bytes = new byte[CompressionEncoder.BLOCK_SIZE * 2 + 1];
+
+        ThreadLocalRandom.current().nextBytes(bytes);
+
+        channel.writeAndFlush(Unpooled.wrappedBuffer(bytes));
+
+        List<ByteBuf> frames = readFrames(channel);
+
+        assertEquals(3, frames.size());
+
+        for (ByteBuf frame : frames) {
+            assertEquals(CompressionCodec.NONE.id(), frame.getByte(0));
+        }
+
+        assertArrayEquals(bytes, receive(frames));
+
+        assertFalse(channel.finish());
+    }
+
+    private EmbeddedChannel createChannel(CompressionCodec codec, int threshold) {
+        return new EmbeddedChannel(new CompressionEncoder(codec, threshold, compression));
+    }
+
+    private static List<ByteBuf> readFrames(EmbeddedChannel channel) {
+        List<ByteBuf> frames = new ArrayList<>();
+
+        ByteBuf frame;
+
+        while ((frame = channel.readOutbound()) != null) {
+            frames.add(frame);
+        }
+
+        return frames;
+    }
+
+    private byte[] receive(List<ByteBuf> frames) {
+        var channel = new EmbeddedChannel(new CompressionDecoder(compression));
+
+        for (ByteBuf frame : frames) {
+            channel.writeInbound(frame);
+        }
+
+        var received = new ByteArrayOutputStream();
+
+        ByteBuf buf;
+
+        while ((buf = channel.readInbound()) != null) {
+            byte[] bytes = new byte[buf.readableBytes()];
+
+            buf.readBytes(bytes);
+            buf.release();
+
+            received.writeBytes(bytes);
+        }
+
+        assertNull(channel.readInbound());
+        assertFalse(channel.finish());
+
+        return received.toByteArray();
+    }
+
+    private static byte[] compressibleBytes(int length) {
+        var sb = new StringBuilder(length);
+
+        while (sb.length() < length) {
+            sb.append("key-").append(ThreadLocalRandom.current().nextInt(100)).append(",value;");
+        }
+
+        return sb.substring(0, length).getBytes(StandardCharsets.US_ASCII);
+    }
+}
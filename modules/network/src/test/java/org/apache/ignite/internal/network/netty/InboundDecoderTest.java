@@ -21,6 +21,7 @@ import static org.apache.ignite.utils.ClusterServiceTestUtils.defaultSerializati
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
@@ -36,9 +37,12 @@ import java.util.concurrent.TimeUnit;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 import org.apache.ignite.internal.network.AllTypesMessageGenerator;
+import org.apache.ignite.internal.network.NetworkMessagesFactory;
 import org.apache.ignite.internal.network.direct.DirectMessageWriter;
+import org.apache.ignite.internal.network.message.InvokeResponse;
 import org.apache.ignite.internal.network.messages.AllTypesMessage;
 import org.apache.ignite.internal.network.messages.NestedMessageMessage;
+import org.apache.ignite.internal.network.messages.RawBytesMessage;
 import org.apache.ignite.internal.network.messages.TestMessage;
 import org.apache.ignite.internal.network.messages.TestMessagesFactory;
 import org.apache.ignite.internal.network.serialization.PerSessionSerializationService;
@@ -46,6 +50,7 @@ import org.apache.ignite.internal.network.serialization.SerializationService;
 import org.apache.ignite.internal.network.serialization.UserObjectSerializationContext;
 import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
 import org.apache.ignite.network.NetworkMessage;
+import org.apache.ignite.network.RawBytes;
 import org.apache.ignite.network.serialization.MessageSerializationRegistry;
 import org.apache.ignite.network.serialization.MessageSerializer;
 import org.junit.jupiter.api.Test;
@@ -235,6 +240,160 @@ public class InboundDecoderTest extends BaseIgniteAbstractTest {
         assertFalse(channel.finish());
     }
 
+    /**
+     * Tests that raw bytes fields reference the inbound buffer, which is freed once they are released.
+     */
+    @Test
+    public void testRawBytesReferenceInboundBuffer() {
+        var factory = new TestMessagesFactory();
+
+        RawBytesMessage msg = factory.rawBytesMessage()
+                .rawBytes(RawBytes.wrap(randomBytes(1000)))
+                .byteArray(randomBytes(100))
+                .nested(factory.rawBytesMessage().rawBytes(RawBytes.wrap(randomBytes(10))).build())
+                .build();
+
+        EmbeddedChannel channel = decoderChannel();
+
+        ByteBuf in = serialize(msg);
+
+        channel.writeInbound(in);
+
+        RawBytesMessage received = channel.readInbound();
+
+        assertEquals(msg, received);
+        assertTrue(received.rawBytes().buffer().isDirect());
+
+        // The inbound buffer is retained by the two raw bytes fields.
+        assertEquals(2, in.refCnt());
+
+        received.releaseRawBytes();
+
+        assertEquals(0, in.refCnt());
+        assertEquals(0, received.rawBytes().refCnt());
+        assertThrows(IllegalStateException.class, () -> received.nested().rawBytes().buffer());
+
+        assertFalse(channel.finish());
+    }
+
+    /**
+     * Tests that raw bytes, that arrive in several parts, are read once they are fully available.
+     */
+    @Test
+    public void testRawBytesInSeveralParts() {
+        RawBytesMessage msg = new TestMessagesFactory().rawBytesMessage()
+                .rawBytes(RawBytes.wrap(randomBytes(10_000)))
+                .build();
+
+        EmbeddedChannel channel = decoderChannel();
+
+        ByteBuf in = serialize(msg);
+
+        int half = in.readableBytes() / 2;
+
+        channel.writeInbound(in.readRetainedSlice(half));
+
+        assertNull(channel.readInbound());
+
+        channel.writeInbound(in);
+
+        RawBytesMessage received = channel.readInbound();
+
+        assertEquals(msg, received);
+
+        received.releaseRawBytes();
+
+        assertEquals(0, in.refCnt());
+
+        assertFalse(channel.finish());
+    }
+
+    /**
+     * Tests that raw bytes of invocation responses are copied, as they are not released by the network layer.
+     */
+    @Test
+    public void testRawBytesOfInvokeResponseAreCopied() {
+        RawBytesMessage msg = new TestMessagesFactory().rawBytesMessage()
+                .rawBytes(RawBytes.wrap(randomBytes(1000)))
+                .build();
+
+        InvokeResponse response = new NetworkMessagesFactory().invokeResponse()
+                .correlationId(1)
+                .message(msg)
+                .build();
+
+        EmbeddedChannel channel = decoderChannel();
+
+        ByteBuf in = serialize(response);
+
+        channel.writeInbound(in);
+
+        InvokeResponse received = channel.readInbound();
+
+        assertEquals(response, received);
+        assertEquals(0, in.refCnt());
+
+        assertFalse(channel.finish());
+    }
+
+    /**
+     * Tests that raw bytes of a message, that is never finished, are released when the channel is closed.
+     */
+    @Test
+    public void testRawBytesOfUnfinishedMessageReleasedOnClose() {
+        RawBytesMessage msg = new TestMessagesFactory().rawBytesMessage()
+                .rawBytes(RawBytes.wrap(randomBytes(1000)))
+                .byteArray(randomBytes(1000))
+                .build();
+
+        EmbeddedChannel channel = decoderChannel();
+
+        ByteBuf in = serialize(msg);
+
+        channel.writeInbound(in.readRetainedSlice(in.readableBytes() - 1));
+
+        assertNull(channel.readInbound());
+
+        in.release();
+
+        assertFalse(channel.finish());
+
+        assertEquals(0, in.refCnt());
+    }
+
+    private EmbeddedChannel decoderChannel() {
+        var serializationService = new SerializationService(registry, mock(UserObjectSerializationContext.class));
+
+        return new EmbeddedChannel(new InboundDecoder(new PerSessionSerializationService(serializationService)));
+    }
+
+    /**
+     * Serializes the given message into a direct buffer.
+     */
+    private ByteBuf serialize(NetworkMessage msg) {
+        var writer = new DirectMessageWriter(registry, ConnectionManager.DIRECT_PROTOCOL_VERSION);
+
+        MessageSerializer<NetworkMessage> serializer = registry.createSerializer(msg.groupType(), msg.messageType());
+
+        ByteBuffer buf = ByteBuffer.allocate(100_000);
+
+        writer.setBuffer(buf);
+
+        assertTrue(serializer.writeMessage(msg, writer));
+
+        buf.flip();
+
+        return allocator.directBuffer(buf.limit()).writeBytes(buf);
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+
+        new Random().nextBytes(bytes);
+
+        return bytes;
+    }
+
     /**
      * Source of parameters for the {@link #testAllTypes(long)} method. Creates seeds for a {@link AllTypesMessage} generation.
      *
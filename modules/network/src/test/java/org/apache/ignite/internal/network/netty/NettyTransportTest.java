@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.network.netty;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.netty.channel.EventLoopGroup;
+import org.apache.ignite.internal.network.configuration.NetworkConfigurationSchema;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.apache.ignite.network.NettyBootstrapFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/**
+ * Tests for {@link NettyTransport}.
+ */
+public class NettyTransportTest extends BaseIgniteAbstractTest {
+    @Test
+    public void testNioIsAlwaysAvailable() {
+        assertTrue(NettyTransport.NIO.isAvailable());
+
+        assertEquals(NettyTransport.NIO, NettyTransport.resolve(NetworkConfigurationSchema.NIO_TRANSPORT));
+    }
+
+    @ParameterizedTest
+    @EnumSource(NettyTransport.class)
+    public void testResolveFallsBackToAvailableTransport(NettyTransport transport) {
+        NettyTransport resolved = NettyTransport.resolve(transport.configName());
+
+        assertTrue(resolved.isAvailable());
+
+        if (transport.isAvailable()) {
+            assertEquals(transport, resolved);
+        } else {
+            // Fallbacks are declared before the transports they replace.
+            assertTrue(resolved.ordinal() < transport.ordinal());
+        }
+    }
+
+    @Test
+    public void testUnknownTransport() {
+        assertThrows(IllegalArgumentException.class, () -> NettyTransport.resolve("unknown"));
+    }
+
+    @ParameterizedTest
+    @EnumSource(NettyTransport.class)
+    public void testEventLoopGroupCreatesNetworkThreads(NettyTransport transport) throws Exception {
+        NettyTransport resolved = NettyTransport.resolve(transport.configName());
+
+        EventLoopGroup group = resolved.createEventLoopGroup("test");
+
+        try {
+            assertTrue(group.submit(NettyBootstrapFactory::isInNetworkThread).get());
+        } finally {
+            group.shutdownGracefully().sync();
+        }
+    }
+}
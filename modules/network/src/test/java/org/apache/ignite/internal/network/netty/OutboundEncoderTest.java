@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.network.netty;
+
+import static org.apache.ignite.utils.ClusterServiceTestUtils.defaultSerializationRegistry;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.stream.ChunkedWriteHandler;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.apache.ignite.internal.network.messages.TestMessage;
+import org.apache.ignite.internal.network.messages.TestMessagesFactory;
+import org.apache.ignite.internal.network.serialization.PerSessionSerializationService;
+import org.apache.ignite.internal.network.serialization.SerializationService;
+import org.apache.ignite.internal.network.serialization.UserObjectSerializationContext;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.apache.ignite.network.OutNetworkObject;
+import org.apache.ignite.network.serialization.MessageSerializationRegistry;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link OutboundEncoder}.
+ */
+public class OutboundEncoderTest extends BaseIgniteAbstractTest {
+    private static final TestMessagesFactory TEST_MESSAGES_FACTORY = new TestMessagesFactory();
+
+    /** Registry. */
+    private final MessageSerializationRegistry registry = defaultSerializationRegistry();
+
+    /**
+     * Tests that the messages written between two flushes are serialized into a single buffer.
+     */
+    @Test
+    public void testMessagesAreCoalescedUntilFlush() {
+        EmbeddedChannel channel = createOutboundChannel();
+
+        List<ChannelFuture> futures = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++) {
+            futures.add(channel.write(outObject("msg-" + i)));
+        }
+
+        assertNull(channel.readOutbound());
+
+        channel.flush();
+
+        ByteBuf buffer = channel.readOutbound();
+
+        assertNotNull(buffer);
+        assertNull(channel.readOutbound());
+
+        assertEquals(messages(0, 10), receive(List.of(buffer)));
+
+        futures.forEach(future -> assertTrue(future.isSuccess()));
+
+        assertFalse(channel.finish());
+    }
+
+    /**
+     * Tests that a batch larger than {@link OutboundEncoder#MAX_BATCH_SIZE} or larger than a single chunk keeps the order of the messages.
+     */
+    @Test
+    public void testLargeBatch() {
+        EmbeddedChannel channel = createOutboundChannel();
+
+        int count = OutboundEncoder.MAX_BATCH_SIZE * 2 + 1;
+
+        List<ChannelFuture> futures = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            futures.add(channel.write(outObject("msg-" + i)));
+        }
+
+        // A message that spans several chunks.
+        String large = "x".repeat(OutboundEncoder.CHUNK_SIZE * 3);
+
+        futures.add(channel.write(outObject(large)));
+
+        channel.flush();
+
+        List<ByteBuf> buffers = new ArrayList<>();
+
+        ByteBuf buffer;
+
+        while ((buffer = channel.readOutbound()) != null) {
+            buffers.add(buffer);
+        }
+
+        List<String> expected = messages(0, count);
+
+        expected.add(large);
+
+        assertEquals(expected, receive(buffers));
+
+        futures.forEach(future -> assertTrue(future.isSuccess()));
+
+        assertFalse(channel.finish());
+    }
+
+    private EmbeddedChannel createOutboundChannel() {
+        return new EmbeddedChannel(new ChunkedWriteHandler(), new OutboundEncoder(createSerializationService()));
+    }
+
+    private List<String> receive(List<ByteBuf> buffers) {
+        var channel = new EmbeddedChannel(new InboundDecoder(createSerializationService()));
+
+        for (ByteBuf buffer : buffers) {
+            channel.writeInbound(buffer);
+        }
+
+        List<String> received = new ArrayList<>();
+
+        TestMessage message;
+
+        while ((message = channel.readInbound()) != null) {
+            received.add(message.msg());
+        }
+
+        assertFalse(channel.finish());
+
+        return received;
+    }
+
+    private PerSessionSerializationService createSerializationService() {
+        return new PerSessionSerializationService(new SerializationService(registry, mock(UserObjectSerializationContext.class)));
+    }
+
+    private static OutNetworkObject outObject(String msg) {
+        return new OutNetworkObject(TEST_MESSAGES_FACTORY.testMessage().msg(msg).build(), Collections.emptyList());
+    }
+
+    private static List<String> messages(int from, int to) {
+        List<String> messages = new ArrayList<>();
+
+        for (int i = from; i < to; i++) {
+            messages.add("msg-" + i);
+        }
+
+        return messages;
+    }
+}
@@ -24,8 +24,14 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.anyShort;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.embedded.EmbeddedChannel;
 import java.util.Collections;
 import java.util.UUID;
@@ -98,6 +104,92 @@ public class RecoveryHandshakeTest {
         checkPipelineAfterHandshake(serverSideChannel);
         checkPipelineAfterHandshake(clientSideChannel);
 
+        // Connections without compression send the plain bytes.
+        assertNull(serverSideChannel.pipeline().get(CompressionEncoder.NAME));
+        assertNull(serverSideChannel.pipeline().get(CompressionDecoder.NAME));
+        assertNull(clientSideChannel.pipeline().get(CompressionEncoder.NAME));
+        assertNull(clientSideChannel.pipeline().get(CompressionDecoder.NAME));
+
+        assertFalse(serverSideChannel.finish());
+        assertFalse(clientSideChannel.finish());
+    }
+
+    @Test
+    public void testHandshakeWithCompression() throws Exception {
+        assumeTrue(CompressionCodec.LZ4.isAvailable(), "LZ4 is not available");
+
+        NetworkCompression compression = mock(NetworkCompression.class);
+
+        when(compression.proposedCodec(anyShort())).thenReturn(CompressionCodec.LZ4);
+        when(compression.acceptedCodec(CompressionCodec.LZ4.id())).thenReturn(CompressionCodec.LZ4);
+
+        RecoveryDescriptorProvider clientRecovery = createRecoveryDescriptorProvider();
+        RecoveryDescriptorProvider serverRecovery = createRecoveryDescriptorProvider();
+
+        UUID clientLaunchId = UUID.randomUUID();
+        RecoveryDescriptor serverRecoveryDescriptor = serverRecovery.getRecoveryDescriptor(
+                "client", clientLaunchId, CONNECTION_ID, (short) 0
+        );
+        addUnacknowledgedMessages(serverRecoveryDescriptor);
+
+        var clientHandshakeManager = new RecoveryClientHandshakeManager(
+                clientLaunchId,
+                "client",
+                CONNECTION_ID,
+                (short) 0,
+                clientRecovery,
+                new AllIdsAreFresh(),
+                channel -> {},
+                new AtomicBoolean(false),
+                compression
+        );
+
+        var serverHandshakeManager = new RecoveryServerHandshakeManager(
+                UUID.randomUUID(),
+                "server",
+                MESSAGE_FACTORY,
+                serverRecovery,
+                new AllIdsAreFresh(),
+                channel -> {},
+                new AtomicBoolean(false),
+                compression
+        );
+
+        var messageCaptor = new AtomicReference<TestMessage>();
+        EmbeddedChannel clientSideChannel = setupChannel(clientHandshakeManager, (inObject) -> {
+            NetworkMessage msg = inObject.message();
+
+            assertInstanceOf(TestMessage.class, msg);
+
+            messageCaptor.set((TestMessage) msg);
+        });
+
+        EmbeddedChannel serverSideChannel = setupChannel(serverHandshakeManager, noMessageListener);
+
+        exchangeServerToClient(serverSideChannel, clientSideChannel);
+        exchangeClientToServer(serverSideChannel, clientSideChannel);
+
+        // The uncompressed handshake finish message and the compressed resent message are received at once.
+        clientSideChannel.writeInbound(readAllOutbound(serverSideChannel));
+
+        assertNotNull(messageCaptor.get());
+
+        checkHandshakeNotCompleted(serverHandshakeManager);
+        checkHandshakeCompleted(clientHandshakeManager);
+
+        // The acknowledgement is compressed.
+        serverSideChannel.writeInbound(readAllOutbound(clientSideChannel));
+
+        checkHandshakeCompleted(serverHandshakeManager);
+
+        checkPipelineAfterHandshake(serverSideChannel);
+        checkPipelineAfterHandshake(clientSideChannel);
+
+        assertNotNull(serverSideChannel.pipeline().get(CompressionEncoder.NAME));
+        assertNotNull(serverSideChannel.pipeline().get(CompressionDecoder.NAME));
+        assertNotNull(clientSideChannel.pipeline().get(CompressionEncoder.NAME));
+        assertNotNull(clientSideChannel.pipeline().get(CompressionDecoder.NAME));
+
         assertFalse(serverSideChannel.finish());
         assertFalse(clientSideChannel.finish());
     }
@@ -108,7 +200,9 @@ public class RecoveryHandshakeTest {
         RecoveryDescriptorProvider serverRecovery = createRecoveryDescriptorProvider();
 
         UUID clientLaunchId = UUID.randomUUID();
-        RecoveryDescriptor serverRecoveryDescriptor = serverRecovery.getRecoveryDescriptor("client", clientLaunchId, CONNECTION_ID);
+        RecoveryDescriptor serverRecoveryDescriptor = serverRecovery.getRecoveryDescriptor(
+                "client", clientLaunchId, CONNECTION_ID, (short) 0
+        );
         addUnacknowledgedMessages(serverRecoveryDescriptor);
 
         RecoveryClientHandshakeManager clientHandshakeManager = createRecoveryClientHandshakeManager("client", clientLaunchId,
@@ -161,7 +255,9 @@ public class RecoveryHandshakeTest {
         RecoveryDescriptorProvider serverRecovery = createRecoveryDescriptorProvider();
 
         UUID serverLaunchId = UUID.randomUUID();
-        RecoveryDescriptor clientRecoveryDescriptor = clientRecovery.getRecoveryDescriptor("server", serverLaunchId, CONNECTION_ID);
+        RecoveryDescriptor clientRecoveryDescriptor = clientRecovery.getRecoveryDescriptor(
+                "server", serverLaunchId, CONNECTION_ID, (short) 0
+        );
         addUnacknowledgedMessages(clientRecoveryDescriptor);
 
         RecoveryClientHandshakeManager clientHandshakeManager = createRecoveryClientHandshakeManager(clientRecovery);
@@ -502,6 +598,18 @@ public class RecoveryHandshakeTest {
         serverSideChannel.writeInbound(outgoingMessageBuffer);
     }
 
+    private static ByteBuf readAllOutbound(EmbeddedChannel channel) {
+        CompositeByteBuf buf = Unpooled.compositeBuffer();
+
+        ByteBuf component;
+
+        while ((component = channel.readOutbound()) != null) {
+            buf.addComponent(true, component);
+        }
+
+        return buf;
+    }
+
     private final Consumer<InNetworkObject> noMessageListener = inNetworkObject ->
             fail("Received message while shouldn't have, [" + inNetworkObject.message() + "]");
 
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.network.serialization.marshal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.List;
+import org.apache.ignite.internal.network.serialization.ClassDescriptor;
+import org.apache.ignite.internal.network.serialization.ClassDescriptorFactory;
+import org.apache.ignite.internal.network.serialization.ClassDescriptorRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests for how {@link DefaultUserObjectMarshaller} reads and writes the fields with the generated
+ * {@link org.apache.ignite.internal.network.serialization.FieldsAccessor}s.
+ */
+class DefaultUserObjectMarshallerWithFieldsAccessorsTest {
+    @Test
+    void generatesAccessorsForArbitraryClasses() {
+        var registry = new ClassDescriptorRegistry();
+        ClassDescriptor descriptor = new ClassDescriptorFactory(registry).create(AllTypes.class);
+
+        assertThat(registry.fieldsAccessor(descriptor), is(notNullValue()));
+    }
+
+    @Test
+    void doesNotGenerateAccessorsWhenDisabled() {
+        var registry = new ClassDescriptorRegistry(false);
+        ClassDescriptor descriptor = new ClassDescriptorFactory(registry).create(AllTypes.class);
+
+        assertThat(registry.fieldsAccessor(descriptor), is(nullValue()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void marshalsAndUnmarshalsAllFieldTypes(boolean generateFieldsAccessors) throws Exception {
+        var object = new AllTypes(
+                (byte) 1, (short) 2, 3, 4L, 5.0f, 6.0, 'x', true, "str", null, List.of(1, 2), new AllTypes[]{null}
+        );
+
+        AllTypes unmarshalled = marshalAndUnmarshal(object, generateFieldsAccessors);
+
+        assertThat(unmarshalled.byteValue, is((byte) 1));
+        assertThat(unmarshalled.shortValue, is((short) 2));
+        assertThat(unmarshalled.intValue, is(3));
+        assertThat(unmarshalled.longValue, is(4L));
+        assertThat(unmarshalled.floatValue, is(5.0f));
+        assertThat(unmarshalled.doubleValue, is(6.0));
+        assertThat(unmarshalled.charValue, is('x'));
+        assertThat(unmarshalled.booleanValue, is(true));
+        assertThat(unmarshalled.stringValue, is("str"));
+        assertThat(unmarshalled.nullValue, is(nullValue()));
+        assertThat(unmarshalled.listValue, equalTo(List.of(1, 2)));
+        assertThat(unmarshalled.arrayValue.length, is(1));
+        assertThat(unmarshalled.arrayValue[0], is(nullValue()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void marshalsAndUnmarshalsClassHierarchies(boolean generateFieldsAccessors) throws Exception {
+        Child unmarshalled = marshalAndUnmarshal(new Child("parent", 42), generateFieldsAccessors);
+
+        assertThat(unmarshalled.parentValue, is("parent"));
+        assertThat(unmarshalled.childValue, is(42));
+    }
+
+    @Test
+    void generatedAccessorsProduceSameBytesAsPerFieldAccess() throws Exception {
+        var object = new Child("parent", 42);
+
+        assertThat(marshal(object, true).bytes(), equalTo(marshal(object, false).bytes()));
+    }
+
+    private static MarshalledObject marshal(Object object, boolean generateFieldsAccessors) throws MarshalException {
+        var registry = new ClassDescriptorRegistry(generateFieldsAccessors);
+
+        return new DefaultUserObjectMarshaller(registry, new ClassDescriptorFactory(registry)).marshal(object);
+    }
+
+    private static <T> T marshalAndUnmarshal(Object object, boolean generateFieldsAccessors) throws Exception {
+        var registry = new ClassDescriptorRegistry(generateFieldsAccessors);
+        var marshaller = new DefaultUserObjectMarshaller(registry, new ClassDescriptorFactory(registry));
+
+        MarshalledObject marshalled = marshaller.marshal(object);
+
+        return marshaller.unmarshal(marshalled.bytes(), registry);
+    }
+
+    private static class AllTypes {
+        private final byte byteValue;
+        private final short shortValue;
+        private final int intValue;
+        private final long longValue;
+        private final float floatValue;
+        private final double doubleValue;
+        private final char charValue;
+        private final boolean booleanValue;
+        private final String stringValue;
+        private final Object nullValue;
+        private final List<Integer> listValue;
+        private final AllTypes[] arrayValue;
+
+        private AllTypes(
+                byte byteValue,
+                short shortValue,
+                int intValue,
+                long longValue,
+                float floatValue,
+                double doubleValue,
+                char charValue,
+                boolean booleanValue,
+                String stringValue,
+                Object nullValue,
+                List<Integer> listValue,
+                AllTypes[] arrayValue
+        ) {
+            this.byteValue = byteValue;
+            this.shortValue = shortValue;
+            this.intValue = intValue;
+            this.longValue = longValue;
+            this.floatValue = floatValue;
+            this.doubleValue = doubleValue;
+            this.charValue = charValue;
+            this.booleanValue = booleanValue;
+            this.stringValue = stringValue;
+            this.nullValue = nullValue;
+            this.listValue = listValue;
+            this.arrayValue = arrayValue;
+        }
+    }
+
+    private static class Parent {
+        private final String parentValue;
+
+        private Parent(String parentValue) {
+            this.parentValue = parentValue;
+        }
+    }
+
+    private static class Child extends Parent {
+        private final int childValue;
+
+        private Child(String parentValue, int childValue) {
+            super(parentValue);
+
+            this.childValue = childValue;
+        }
+    }
+}
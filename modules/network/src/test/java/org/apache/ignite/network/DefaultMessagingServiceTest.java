@@ -320,11 +320,13 @@ class DefaultMessagingServiceTest extends BaseIgniteAbstractTest {
                     UUID launchId,
                     String consistentId,
                     short connectionId,
+                    short connectionIndex,
                     RecoveryDescriptorProvider recoveryDescriptorProvider) {
                 return new RecoveryClientHandshakeManager(
                         launchId,
                         consistentId,
                         connectionId,
+                        connectionIndex,
                         recoveryDescriptorProvider,
                         staleIdDetector,
                         channel -> {},
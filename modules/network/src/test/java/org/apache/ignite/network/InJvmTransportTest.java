@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.network;
+
+import static org.apache.ignite.utils.ClusterServiceTestUtils.defaultSerializationRegistry;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import org.apache.ignite.internal.network.messages.MessageWithMarshallable;
+import org.apache.ignite.internal.network.messages.RawBytesMessage;
+import org.apache.ignite.internal.network.messages.TestMessagesFactory;
+import org.apache.ignite.internal.network.serialization.ClassDescriptorFactory;
+import org.apache.ignite.internal.network.serialization.ClassDescriptorRegistry;
+import org.apache.ignite.internal.network.serialization.SimpleSerializableObject;
+import org.apache.ignite.internal.network.serialization.marshal.DefaultUserObjectMarshaller;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.apache.ignite.network.serialization.MessageSerializationRegistry;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link InJvmTransport}.
+ */
+public class InJvmTransportTest extends BaseIgniteAbstractTest {
+    private final TestMessagesFactory messageFactory = new TestMessagesFactory();
+
+    private final MessageSerializationRegistry serializationRegistry = defaultSerializationRegistry();
+
+    /**
+     * Tests that only the messages without user objects and raw bytes are passed by reference.
+     */
+    @Test
+    public void testShareable() {
+        assertTrue(InJvmTransport.shareable(messageFactory.testMessage().msg("test").build()));
+
+        assertFalse(InJvmTransport.shareable(messageFactory.messageWithMarshallable().marshallableMap(Map.of()).build()));
+        assertFalse(InJvmTransport.shareable(messageFactory.rawBytesMessage().rawBytes(RawBytes.wrap(new byte[1])).build()));
+    }
+
+    /**
+     * Tests that the user objects of a copied message are unmarshalled into new instances.
+     */
+    @Test
+    public void testCopyUserObjects() throws Exception {
+        var registry = new ClassDescriptorRegistry();
+        var marshaller = new DefaultUserObjectMarshaller(registry, new ClassDescriptorFactory(registry));
+
+        Map<String, SimpleSerializableObject> map = Map.of("key", new SimpleSerializableObject(42));
+
+        MessageWithMarshallable message = messageFactory.messageWithMarshallable().marshallableMap(map).build();
+
+        message.prepareMarshal(new IntOpenHashSet(), marshaller);
+
+        NetworkMessage copy = InJvmTransport.copy(message, serializationRegistry);
+
+        var recipientRegistry = new ClassDescriptorRegistry();
+
+        copy.unmarshal(new DefaultUserObjectMarshaller(recipientRegistry, new ClassDescriptorFactory(recipientRegistry)), registry);
+
+        assertThat(copy, is(instanceOf(MessageWithMarshallable.class)));
+
+        Map<String, SimpleSerializableObject> copiedMap = ((MessageWithMarshallable) copy).marshallableMap();
+
+        assertThat(copiedMap, is(equalTo(map)));
+        assertThat(copiedMap.get("key"), is(not(sameInstance(map.get("key")))));
+    }
+
+    /**
+     * Tests the copying of a message, that does not fit the initial buffer, and that the raw bytes of the copy do not reference the
+     * original ones.
+     */
+    @Test
+    public void testCopyLargeMessage() {
+        byte[] bytes = new byte[64 * 1024];
+
+        ThreadLocalRandom.current().nextBytes(bytes);
+
+        RawBytes rawBytes = RawBytes.wrap(bytes);
+
+        RawBytesMessage message = messageFactory.rawBytesMessage().rawBytes(rawBytes).byteArray(bytes).build();
+
+        RawBytesMessage copy = (RawBytesMessage) InJvmTransport.copy(message, serializationRegistry);
+
+        assertThat(copy.byteArray(), is(equalTo(bytes)));
+        assertThat(copy.rawBytes().toByteArray(), is(equalTo(bytes)));
+
+        copy.releaseRawBytes();
+
+        assertThat(rawBytes.refCnt(), is(1));
+    }
+}
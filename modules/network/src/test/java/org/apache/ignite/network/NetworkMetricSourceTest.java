@@ -0,0 +1,212 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.metrics.DistributionMetric;
+import org.apache.ignite.internal.metrics.LongMetric;
+import org.apache.ignite.internal.metrics.Metric;
+import org.apache.ignite.internal.metrics.MetricManager;
+import org.apache.ignite.internal.metrics.MetricSet;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link NetworkMetricSource}.
+ */
+public class NetworkMetricSourceTest extends BaseIgniteAbstractTest {
+    private final MetricManager metricManager = new MetricManager();
+
+    private final NetworkMetricSource source = new NetworkMetricSource(metricManager);
+
+    @BeforeEach
+    void setUp() {
+        metricManager.registerSource(source);
+    }
+
+    /**
+     * Tests that the messages are not counted while the source is disabled.
+     */
+    @Test
+    public void testDisabled() {
+        source.onNodeAppeared(node("id1", "node1"));
+        source.onSent("node1", ChannelType.DEFAULT);
+
+        assertFalse(source.enabled());
+
+        MetricSet metricSet = metricManager.enable(source);
+
+        assertEquals(0, this.<LongMetric>metric(metricSet, "SentMessages").value());
+        assertEquals(0, this.<LongMetric>metric(metricSet, "peer.node1.SentMessages").value());
+    }
+
+    /**
+     * Tests that the metrics of the remote nodes, that join the topology after the source is enabled, and the channel types, that become
+     * known meanwhile, are added to the metric set.
+     */
+    @Test
+    public void testNewPeersAndChannelTypes() {
+        MetricSet enabled = metricManager.enable(source);
+
+        source.onSent("node1", ChannelType.DEFAULT);
+        source.onSent("node1", ChannelType.DEFAULT);
+        source.onReceived("node2", ChannelType.DEFAULT.id());
+
+        // Nothing is rebuilt on the sending and receiving paths.
+        assertSame(enabled, currentMetricSet());
+
+        source.onNodeAppeared(node("id1", "node1"));
+        source.onNodeAppeared(node("id2", "node2"));
+
+        source.onSent("node1", ChannelType.DEFAULT);
+        source.onSent("node1", ChannelType.DEFAULT);
+        source.onReceived("node2", ChannelType.DEFAULT.id());
+
+        MetricSet metricSet = currentMetricSet();
+
+        assertEquals(4, this.<LongMetric>metric(metricSet, "SentMessages").value());
+        assertEquals(2, this.<LongMetric>metric(metricSet, "ReceivedMessages").value());
+
+        assertEquals(2, this.<LongMetric>metric(metricSet, "peer.node1.SentMessages").value());
+        assertEquals(0, this.<LongMetric>metric(metricSet, "peer.node1.ReceivedMessages").value());
+        assertEquals(1, this.<LongMetric>metric(metricSet, "peer.node2.ReceivedMessages").value());
+
+        String channelPrefix = "channel." + ChannelType.DEFAULT.name() + '.';
+
+        assertEquals(4, this.<LongMetric>metric(metricSet, channelPrefix + "SentMessages").value());
+        assertEquals(2, this.<LongMetric>metric(metricSet, channelPrefix + "ReceivedMessages").value());
+
+        // Not bound to a connection manager yet.
+        assertEquals(0, this.<LongMetric>metric(metricSet, "peer.node1.OutboundPendingMessages").value());
+    }
+
+    /**
+     * Tests that the metrics of a remote node are dropped, when it leaves the topology, unless it has re-joined under the same consistent
+     * id.
+     */
+    @Test
+    public void testPeerDisappeared() {
+        metricManager.enable(source);
+
+        source.onNodeAppeared(node("id1", "node1"));
+        source.onNodeAppeared(node("id2", "node2"));
+
+        // Node 2 is restarted, the new instance is seen before the old one leaves.
+        source.onNodeAppeared(node("id3", "node2"));
+
+        source.onNodeDisappeared(node("id1", "node1"));
+        source.onNodeDisappeared(node("id2", "node2"));
+
+        source.onSent("node1", ChannelType.DEFAULT);
+        source.onSent("node2", ChannelType.DEFAULT);
+
+        MetricSet metricSet = currentMetricSet();
+
+        assertEquals(2, this.<LongMetric>metric(metricSet, "SentMessages").value());
+        assertNull(metricSet.get("peer.node1.SentMessages"));
+        assertNull(metricSet.get("peer.node1.OutboundPendingMessages"));
+        assertEquals(1, this.<LongMetric>metric(metricSet, "peer.node2.SentMessages").value());
+    }
+
+    /**
+     * Tests that the messages of the remote nodes, whose consistent ids are not known yet, are counted in total only.
+     */
+    @Test
+    public void testUnknownPeer() {
+        metricManager.enable(source);
+
+        source.onReceived(null, ChannelType.DEFAULT.id());
+        source.onSent(null, ChannelType.DEFAULT);
+
+        MetricSet metricSet = currentMetricSet();
+
+        assertEquals(1, this.<LongMetric>metric(metricSet, "SentMessages").value());
+        assertEquals(1, this.<LongMetric>metric(metricSet, "ReceivedMessages").value());
+    }
+
+    /**
+     * Tests that a topology change doesn't enable a disabled source.
+     */
+    @Test
+    public void testTopologyChangeKeepsSourceDisabled() {
+        metricManager.enable(source);
+        metricManager.disable(source);
+
+        source.onNodeAppeared(node("id1", "node1"));
+        source.onNodeDisappeared(node("id1", "node1"));
+
+        assertFalse(source.enabled());
+        assertNull(currentMetricSet());
+    }
+
+    /**
+     * Tests the invocation latency histograms.
+     */
+    @Test
+    public void testInvokeLatency() {
+        metricManager.enable(source);
+
+        source.onMessageGroupRegistered((short) 5);
+
+        source.onInvokeCompleted((short) 5, TimeUnit.MICROSECONDS.toNanos(50));
+        source.onInvokeCompleted((short) 5, TimeUnit.MILLISECONDS.toNanos(2));
+        source.onInvokeCompleted((short) 7, TimeUnit.SECONDS.toNanos(5));
+
+        // Group 7 has no handler, it is included on the next rebuild.
+        assertNull(currentMetricSet().get("group.7.InvokeLatency"));
+
+        source.onNodeAppeared(node("id1", "node1"));
+
+        MetricSet metricSet = currentMetricSet();
+
+        assertEquals(3, total(metric(metricSet, "InvokeLatency")));
+        assertEquals(2, total(metric(metricSet, "group.5.InvokeLatency")));
+
+        long[] group7 = this.<DistributionMetric>metric(metricSet, "group.7.InvokeLatency").value();
+
+        assertEquals(1, group7[group7.length - 1]);
+    }
+
+    private static ClusterNode node(String id, String consistentId) {
+        return new ClusterNodeImpl(id, consistentId, new NetworkAddress("localhost", 3344));
+    }
+
+    private MetricSet currentMetricSet() {
+        return metricManager.metricSnapshot().get1().get(NetworkMetricSource.SOURCE_NAME);
+    }
+
+    private <M extends Metric> M metric(MetricSet metricSet, String name) {
+        M metric = metricSet.get(name);
+
+        assertNotNull(metric, name);
+
+        return metric;
+    }
+
+    private static long total(DistributionMetric metric) {
+        return Arrays.stream(metric.value()).sum();
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.network;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class StripedInboundExecutorTest extends BaseIgniteAbstractTest {
+    private final StripedInboundExecutor executor = new StripedInboundExecutor("test", 4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void preservesOrderOfConnection() {
+        List<Integer> handled = new CopyOnWriteArrayList<>();
+        List<Integer> expected = new ArrayList<>();
+
+        for (int i = 0; i < 1000; i++) {
+            int idx = i;
+
+            executor.execute("node", (short) 1, () -> handled.add(idx));
+
+            expected.add(i);
+        }
+
+        await().until(() -> executor.dispatchedMessages() == expected.size());
+
+        assertThat(handled, is(expected));
+        assertThat(executor.dispatchNanos(), greaterThan(0L));
+    }
+
+    @Test
+    void handlesConnectionsInParallel() throws Exception {
+        CountDownLatch blockedStarted = new CountDownLatch(1);
+        CountDownLatch unblock = new CountDownLatch(1);
+
+        short blockedConnectionId = 0;
+
+        executor.execute("node", blockedConnectionId, () -> {
+            blockedStarted.countDown();
+
+            try {
+                unblock.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        assertTrue(blockedStarted.await(10, TimeUnit.SECONDS));
+
+        // A message of the blocked connection waits in the queue.
+        executor.execute("node", blockedConnectionId, () -> {});
+
+        assertThat(executor.queueSize(), is(1));
+
+        // Find a connection of another stripe, its messages are not blocked.
+        short otherConnectionId = 1;
+        List<String> handled = new CopyOnWriteArrayList<>();
+
+        while (true) {
+            CountDownLatch handledLatch = new CountDownLatch(1);
+
+            executor.execute("node", otherConnectionId, () -> {
+                handled.add("other");
+                handledLatch.countDown();
+            });
+
+            if (handledLatch.await(100, TimeUnit.MILLISECONDS)) {
+                break;
+            }
+
+            otherConnectionId++;
+        }
+
+        assertThat(handled, contains("other"));
+
+        unblock.countDown();
+
+        await().until(() -> executor.queueSize() == 0);
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.ignite.internal.pagememory.configuration.schema;
 
 import org.apache.ignite.configuration.annotation.Config;
 import org.apache.ignite.configuration.annotation.Value;
+import org.apache.ignite.configuration.validation.OneOf;
 import org.apache.ignite.configuration.validation.Range;
 
 /**
@@ -26,6 +27,15 @@ import org.apache.ignite.configuration.validation.Range;
  */
 @Config
 public class PageMemoryCheckpointConfigurationSchema {
+    /** Page store files are accessed through the OS page cache, the implementation is chosen by {@link #useAsyncFileIoFactory}. */
+    public static final String BUFFERED_FILE_IO_MODE = "BUFFERED";
+
+    /** Page store files are accessed bypassing the OS page cache (using {@code O_DIRECT}) to avoid double caching of pages. */
+    public static final String DIRECT_FILE_IO_MODE = "DIRECT";
+
+    /** Pages are read from memory-mapped page store files. */
+    public static final String MAPPED_FILE_IO_MODE = "MAPPED";
+
     /** Checkpoint frequency in milliseconds. */
     @Range(min = 0)
     @Value(hasDefault = true)
@@ -51,6 +61,11 @@ public class PageMemoryCheckpointConfigurationSchema {
     @Value(hasDefault = true)
     public int compactionThreads = 4;
 
+    /** Maximum delta files compaction I/O rate in bytes per second, {@code 0} if the rate is not limited. */
+    @Range(min = 0)
+    @Value(hasDefault = true)
+    public long compactionMaxBytesPerSecond = 0;
+
     /** Timeout for checkpoint read lock acquisition in milliseconds. */
     @Range(min = 0)
     @Value(hasDefault = true)
@@ -61,7 +76,19 @@ public class PageMemoryCheckpointConfigurationSchema {
     @Value(hasDefault = true)
     public long logReadLockThresholdTimeout = 0;
 
+    /**
+     * Enables throttling of the threads that modify pages when they dirty pages faster than the checkpoint writes them, to avoid
+     * latency spikes caused by "too many dirty pages" checkpoints.
+     */
+    @Value(hasDefault = true)
+    public boolean writeThrottlingEnabled = true;
+
     /** Use an asynchronous file I/O operations provider. */
     @Value(hasDefault = true)
     public boolean useAsyncFileIoFactory = true;
+
+    /** File I/O mode of the page store files. */
+    @OneOf({BUFFERED_FILE_IO_MODE, DIRECT_FILE_IO_MODE, MAPPED_FILE_IO_MODE})
+    @Value(hasDefault = true)
+    public String fileIoMode = BUFFERED_FILE_IO_MODE;
 }
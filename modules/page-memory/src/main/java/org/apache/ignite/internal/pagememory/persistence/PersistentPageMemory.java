@@ -1751,6 +1751,28 @@ public class PersistentPageMemory implements PageMemory {
         return true;
     }
 
+    /**
+     * Returns the ratio of dirty pages to the maximum number of dirty pages (after which a checkpoint is forcibly triggered), from
+     * {@code 0.0} to {@code 1.0} (may slightly exceed it due to races).
+     */
+    public double dirtyPagesRatio() {
+        Segment[] segments = this.segments;
+
+        if (segments == null) {
+            return 0.0;
+        }
+
+        long dirtyPages = 0;
+        long maxDirtyPages = 0;
+
+        for (Segment seg : segments) {
+            dirtyPages += seg.dirtyPagesCntr.get();
+            maxDirtyPages += seg.maxDirtyPages;
+        }
+
+        return maxDirtyPages == 0 ? 0.0 : (double) dirtyPages / maxDirtyPages;
+    }
+
     /**
      * Returns number of pages used in checkpoint buffer.
      */
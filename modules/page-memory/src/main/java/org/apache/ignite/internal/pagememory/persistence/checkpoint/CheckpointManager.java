@@ -134,6 +134,7 @@ public class CheckpointManager {
                 igniteInstanceName,
                 workerListener,
                 checkpointConfig.compactionThreads(),
+                () -> checkpointConfig.compactionMaxBytesPerSecond().value(),
                 filePageStoreManager,
                 pageSize
         );
@@ -149,11 +150,16 @@ public class CheckpointManager {
                 checkpointConfig
         );
 
+        CheckpointPagesWriteThrottle writeThrottle = checkpointConfigView.writeThrottlingEnabled()
+                ? new CheckpointPagesWriteThrottle(checkpointer, () -> maxDirtyPagesRatio(dataRegions))
+                : null;
+
         checkpointTimeoutLock = new CheckpointTimeoutLock(
                 checkpointReadWriteLock,
                 checkpointConfigView.readLockTimeout(),
                 () -> safeToUpdateAllPageMemories(dataRegions),
-                checkpointer
+                checkpointer,
+                writeThrottle
         );
     }
 
@@ -252,6 +258,21 @@ public class CheckpointManager {
         return true;
     }
 
+    /**
+     * Returns the maximum {@link PersistentPageMemory#dirtyPagesRatio() dirty pages ratio} among all {@link DataRegion data regions}.
+     *
+     * @param dataRegions Data regions.
+     */
+    static double maxDirtyPagesRatio(Collection<? extends DataRegion<PersistentPageMemory>> dataRegions) {
+        double maxRatio = 0.0;
+
+        for (DataRegion<PersistentPageMemory> dataRegion : dataRegions) {
+            maxRatio = Math.max(maxRatio, dataRegion.pageMemory().dirtyPagesRatio());
+        }
+
+        return maxRatio;
+    }
+
     /**
      * Writes a page to delta file page store.
      *
@@ -17,10 +17,12 @@
 
 package org.apache.ignite.internal.pagememory.persistence.checkpoint;
 
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static java.util.concurrent.atomic.AtomicIntegerFieldUpdater.newUpdater;
 import static org.apache.ignite.internal.util.FastTimestamps.coarseCurrentTimeMillis;
 
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import org.apache.ignite.internal.pagememory.persistence.store.PageStore;
 
 /**
@@ -44,10 +46,20 @@ public class CheckpointMetricsTracker {
     private static final AtomicIntegerFieldUpdater<CheckpointMetricsTracker> COPY_ON_WRITE_PAGES_WRITTEN_UPDATER =
             newUpdater(CheckpointMetricsTracker.class, "copyOnWritePagesWritten");
 
+    private static final AtomicIntegerFieldUpdater<CheckpointMetricsTracker> THROTTLED_PAGE_MODIFICATIONS_UPDATER =
+            newUpdater(CheckpointMetricsTracker.class, "throttledPageModifications");
+
+    private static final AtomicLongFieldUpdater<CheckpointMetricsTracker> THROTTLE_PARK_TIME_NANOS_UPDATER =
+            AtomicLongFieldUpdater.newUpdater(CheckpointMetricsTracker.class, "throttleParkTimeNanos");
+
     private volatile int dataPagesWritten;
 
     private volatile int copyOnWritePagesWritten;
 
+    private volatile int throttledPageModifications;
+
+    private volatile long throttleParkTimeNanos;
+
     private final long checkpointStartTimestamp = coarseCurrentTimeMillis();
 
     private long checkpointWriteLockWaitStartTimestamp;
@@ -122,6 +134,36 @@ public class CheckpointMetricsTracker {
         return dataPagesWritten;
     }
 
+    /**
+     * Callback on throttling of a page-modifying thread by {@link CheckpointPagesWriteThrottle}.
+     *
+     * <p>Thread safe.
+     *
+     * @param parkNanos Time for which the thread is parked in nanos.
+     */
+    public void onPageModificationThrottled(long parkNanos) {
+        THROTTLED_PAGE_MODIFICATIONS_UPDATER.incrementAndGet(this);
+        THROTTLE_PARK_TIME_NANOS_UPDATER.addAndGet(this, parkNanos);
+    }
+
+    /**
+     * Returns the number of times page-modifying threads were throttled during the checkpoint.
+     *
+     * <p>Thread safe.
+     */
+    public int throttledPageModifications() {
+        return throttledPageModifications;
+    }
+
+    /**
+     * Returns the total time for which page-modifying threads were parked by throttling during the checkpoint in mills.
+     *
+     * <p>Thread safe.
+     */
+    public long throttleParkDuration() {
+        return NANOSECONDS.toMillis(throttleParkTimeNanos);
+    }
+
     /**
      * Callback before acquiring checkpoint write lock.
      *
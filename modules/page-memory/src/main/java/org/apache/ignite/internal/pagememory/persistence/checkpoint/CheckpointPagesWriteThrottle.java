@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.checkpoint;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.DoubleSupplier;
+import org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Speed-based throttling of the threads that modify pages while a checkpoint is in progress.
+ *
+ * <p>While the checkpoint is writing pages, new dirty pages keep accumulating in the data regions. If they reach the
+ * {@link PersistentPageMemory#safeToUpdate() threshold} before the checkpoint finishes, all page-modifying threads have to wait for the
+ * current checkpoint to end and for the next one to take its write lock, which shows up as a latency spike. To avoid this, the throttle
+ * compares the {@link PersistentPageMemory#dirtyPagesRatio() dirty pages ratio} with the progress of the current checkpoint and, when
+ * pages are dirtied faster than the checkpoint writes them, parks the threads before they take the checkpoint read lock. The park time
+ * grows exponentially while the lag persists and is reset as soon as the checkpoint catches up.
+ */
+public class CheckpointPagesWriteThrottle {
+    /** Dirty pages ratio up to which page-modifying threads are never throttled. */
+    static final double MIN_DIRTY_PAGES_RATIO = 0.5;
+
+    /** Starting park time in nanos. */
+    static final long STARTING_PARK_NANOS = 4_000;
+
+    /** Maximum park time in nanos. */
+    static final long MAX_PARK_NANOS = MILLISECONDS.toNanos(100);
+
+    /** Backoff ratio of the park time. */
+    private static final double BACKOFF_RATIO = 1.05;
+
+    /** Checkpointer. */
+    private final Checkpointer checkpointer;
+
+    /** Supplier of the maximum {@link PersistentPageMemory#dirtyPagesRatio() dirty pages ratio} among all data regions. */
+    private final DoubleSupplier dirtyPagesRatio;
+
+    /** Counter of consecutive throttled operations, used to calculate the park time. */
+    private final AtomicInteger exponentialBackoffCounter = new AtomicInteger();
+
+    /**
+     * Constructor.
+     *
+     * @param checkpointer Checkpointer.
+     * @param dirtyPagesRatio Supplier of the maximum {@link PersistentPageMemory#dirtyPagesRatio() dirty pages ratio} among all data
+     *      regions.
+     */
+    public CheckpointPagesWriteThrottle(Checkpointer checkpointer, DoubleSupplier dirtyPagesRatio) {
+        this.checkpointer = checkpointer;
+        this.dirtyPagesRatio = dirtyPagesRatio;
+    }
+
+    /**
+     * Parks the current thread if the pages are dirtied faster than the current checkpoint writes them.
+     *
+     * <p>Must be called before the checkpoint read lock is taken.
+     */
+    public void throttle() {
+        long parkNanos = parkTimeNanos();
+
+        if (parkNanos == 0) {
+            return;
+        }
+
+        CheckpointMetricsTracker tracker = checkpointer.currentCheckpointMetricsTracker();
+
+        if (tracker != null) {
+            tracker.onPageModificationThrottled(parkNanos);
+        }
+
+        LockSupport.parkNanos(parkNanos);
+    }
+
+    /**
+     * Calculates the time for which the current thread should be parked, {@code 0} if no throttling is needed.
+     */
+    long parkTimeNanos() {
+        double allowedDirtyPagesRatio = allowedDirtyPagesRatio(checkpointer.currentProgress());
+
+        if (dirtyPagesRatio.getAsDouble() <= allowedDirtyPagesRatio) {
+            if (exponentialBackoffCounter.get() != 0) {
+                exponentialBackoffCounter.set(0);
+            }
+
+            return 0;
+        }
+
+        int exponent = exponentialBackoffCounter.getAndIncrement();
+
+        return (long) Math.min(MAX_PARK_NANOS, STARTING_PARK_NANOS * Math.pow(BACKOFF_RATIO, exponent));
+    }
+
+    /**
+     * Returns the dirty pages ratio that is allowed for the progress of the checkpoint: it grows linearly from
+     * {@link #MIN_DIRTY_PAGES_RATIO} to {@code 1.0} as the pages of the checkpoint are written.
+     *
+     * @param progress Progress of the current checkpoint, {@code null} if there has not been a checkpoint yet.
+     */
+    static double allowedDirtyPagesRatio(@Nullable CheckpointProgressImpl progress) {
+        if (progress == null || !progress.inProgress()) {
+            // Without a checkpoint in progress, too many dirty pages will just trigger a new one.
+            return Double.MAX_VALUE;
+        }
+
+        int checkpointPages = progress.currentCheckpointPagesCount();
+
+        if (checkpointPages == 0) {
+            return Double.MAX_VALUE;
+        }
+
+        double checkpointProgress = Math.min(1.0, (double) progress.writtenPagesCounter().get() / checkpointPages);
+
+        return MIN_DIRTY_PAGES_RATIO + (1.0 - MIN_DIRTY_PAGES_RATIO) * checkpointProgress;
+    }
+}
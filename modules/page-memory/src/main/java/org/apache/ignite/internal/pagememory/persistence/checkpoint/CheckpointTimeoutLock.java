@@ -30,6 +30,7 @@ import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory;
 import org.apache.ignite.lang.IgniteInternalException;
 import org.apache.ignite.lang.NodeStoppingException;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Checkpoint lock for outer usage which should be used to protect data during writing to memory. It contains complex logic for the correct
@@ -51,6 +52,9 @@ public class CheckpointTimeoutLock {
     /** Service for triggering the checkpoint. */
     private final Checkpointer checkpointer;
 
+    /** Throttle of page-modifying threads, {@code null} if throttling is disabled. */
+    private final @Nullable CheckpointPagesWriteThrottle writeThrottle;
+
     /** Timeout for checkpoint read lock acquisition in milliseconds. */
     private volatile long checkpointReadLockTimeout;
 
@@ -71,11 +75,32 @@ public class CheckpointTimeoutLock {
             long checkpointReadLockTimeout,
             BooleanSupplier safeToUpdateAllPageMemories,
             Checkpointer checkpointer
+    ) {
+        this(checkpointReadWriteLock, checkpointReadLockTimeout, safeToUpdateAllPageMemories, checkpointer, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param checkpointReadWriteLock Checkpoint read-write lock.
+     * @param checkpointReadLockTimeout Timeout for checkpoint read lock acquisition in milliseconds.
+     * @param safeToUpdateAllPageMemories {@link PersistentPageMemory#safeToUpdate() Safe update check} for all page memories, should return
+     *      {@code false} if there are many dirty pages and a checkpoint is needed.
+     * @param checkpointer Service for triggering the checkpoint.
+     * @param writeThrottle Throttle of page-modifying threads, {@code null} if throttling is disabled.
+     */
+    public CheckpointTimeoutLock(
+            CheckpointReadWriteLock checkpointReadWriteLock,
+            long checkpointReadLockTimeout,
+            BooleanSupplier safeToUpdateAllPageMemories,
+            Checkpointer checkpointer,
+            @Nullable CheckpointPagesWriteThrottle writeThrottle
     ) {
         this.checkpointReadWriteLock = checkpointReadWriteLock;
         this.checkpointReadLockTimeout = checkpointReadLockTimeout;
         this.safeToUpdateAllPageMemories = safeToUpdateAllPageMemories;
         this.checkpointer = checkpointer;
+        this.writeThrottle = writeThrottle;
     }
 
     /**
@@ -109,6 +134,11 @@ public class CheckpointTimeoutLock {
             return;
         }
 
+        // Parks before the lock is taken, so that throttled threads do not delay the checkpoint write lock acquisition.
+        if (writeThrottle != null && !checkpointReadWriteLock.checkpointLockIsHeldByThread()) {
+            writeThrottle.throttle();
+        }
+
         long timeout = checkpointReadLockTimeout;
 
         long start = coarseCurrentTimeMillis();
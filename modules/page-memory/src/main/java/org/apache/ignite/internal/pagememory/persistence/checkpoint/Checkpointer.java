@@ -129,6 +129,9 @@ public class Checkpointer extends IgniteWorker {
     /** Checkpoint progress after releasing write lock. */
     private volatile @Nullable CheckpointProgressImpl afterReleaseWriteLockCheckpointProgress;
 
+    /** Metrics tracker of the current checkpoint. This field is updated only by checkpoint thread. */
+    private volatile @Nullable CheckpointMetricsTracker currentCheckpointMetricsTracker;
+
     /** Shutdown now. */
     private volatile boolean shutdownNow;
 
@@ -274,6 +277,8 @@ public class Checkpointer extends IgniteWorker {
         try {
             CheckpointMetricsTracker tracker = new CheckpointMetricsTracker();
 
+            currentCheckpointMetricsTracker = tracker;
+
             startCheckpointProgress();
 
             try {
@@ -347,12 +352,15 @@ public class Checkpointer extends IgniteWorker {
             if (chp.hasDelta()) {
                 if (log.isInfoEnabled()) {
                     log.info(String.format(
-                            "Checkpoint finished [checkpointId=%s, pages=%d, pagesWriteTime=%dms, fsyncTime=%dms, totalTime=%dms]",
+                            "Checkpoint finished [checkpointId=%s, pages=%d, pagesWriteTime=%dms, fsyncTime=%dms, totalTime=%dms, "
+                                    + "throttledPageModifications=%d, throttleParkTime=%dms]",
                             chp.progress.id(),
                             chp.dirtyPagesSize,
                             tracker.pagesWriteDuration(),
                             tracker.fsyncDuration(),
-                            tracker.totalDuration()
+                            tracker.totalDuration(),
+                            tracker.throttledPageModifications(),
+                            tracker.throttleParkDuration()
                     ));
                 }
             }
@@ -701,6 +709,20 @@ public class Checkpointer extends IgniteWorker {
         return afterReleaseWriteLockCheckpointProgress;
     }
 
+    /**
+     * Returns the progress of the current checkpoint, {@code null} if no checkpoint has occurred.
+     */
+    @Nullable CheckpointProgressImpl currentProgress() {
+        return currentCheckpointProgress;
+    }
+
+    /**
+     * Returns the metrics tracker of the current checkpoint, {@code null} if no checkpoint has occurred.
+     */
+    @Nullable CheckpointMetricsTracker currentCheckpointMetricsTracker() {
+        return currentCheckpointMetricsTracker;
+    }
+
     /**
      * Returns progress of scheduled checkpoint.
      */
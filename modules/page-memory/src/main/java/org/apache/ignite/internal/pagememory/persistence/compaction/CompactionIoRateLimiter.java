@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.compaction;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Limits the rate of the delta file compaction I/O, so that compaction does not take the disk bandwidth away from checkpoints and reads.
+ *
+ * <p>Every acquired byte reserves a time slot of {@code 1 / maxBytesPerSecond} seconds, threads that reserve a slot in the future are
+ * parked until it comes. Unused bandwidth is not accumulated, so compaction can not burst after being idle.
+ *
+ * <p>Thread safe.
+ */
+class CompactionIoRateLimiter {
+    /** Time in nanos from which the next acquired bytes are allowed to be processed. */
+    private final AtomicLong nextFreeSlotNanos = new AtomicLong(System.nanoTime());
+
+    /**
+     * Acquires permission to process the given number of bytes, parking the current thread if the rate limit is exceeded.
+     *
+     * @param bytes Number of bytes.
+     * @param maxBytesPerSecond Maximum I/O rate in bytes per second, non-positive value means that the rate is not limited.
+     * @return Time in nanos for which the thread was parked.
+     */
+    long acquire(long bytes, long maxBytesPerSecond) {
+        if (maxBytesPerSecond <= 0) {
+            return 0;
+        }
+
+        long costNanos = (long) ((double) bytes * SECONDS.toNanos(1) / maxBytesPerSecond);
+
+        long now;
+        long slotNanos;
+
+        while (true) {
+            now = System.nanoTime();
+
+            long nextFree = nextFreeSlotNanos.get();
+
+            slotNanos = nextFree - now > 0 ? nextFree : now;
+
+            if (nextFreeSlotNanos.compareAndSet(nextFree, slotNanos + costNanos)) {
+                break;
+            }
+        }
+
+        long waitNanos = slotNanos - now;
+
+        if (waitNanos <= 0) {
+            return 0;
+        }
+
+        long remaining = waitNanos;
+
+        while (remaining > 0) {
+            LockSupport.parkNanos(remaining);
+
+            remaining = slotNanos - System.nanoTime();
+        }
+
+        return waitNanos;
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.pagememory.persistence.compaction;
 
+import static java.util.Comparator.comparingInt;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.stream.Collectors.toCollection;
@@ -30,6 +31,7 @@ import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
 import org.apache.ignite.configuration.ConfigurationValue;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.pagememory.io.PageIo;
@@ -54,6 +56,9 @@ import org.jetbrains.annotations.Nullable;
  * {@link FilePageStore#getDeltaFileToCompaction() ready for compaction} will be collected and merged with their
  * {@link FilePageStore file page stores} until all delta files are compacted.
  *
+ * <p>Partitions with more delta files are compacted first, since reading their pages is the most expensive. The compaction I/O rate can be
+ * limited so that it does not compete for the disk with checkpoints.
+ *
  * <p>Delta file compaction process consists of:
  * <ul>
  *  <li>Copying pages from a delta file to a partition file.</li>
@@ -80,6 +85,33 @@ public class Compactor extends IgniteWorker {
     /** Page size in bytes. */
     private final int pageSize;
 
+    /** Supplier of the maximum compaction I/O rate in bytes per second, non-positive value means that the rate is not limited. */
+    private final LongSupplier maxBytesPerSecond;
+
+    /** Compaction I/O rate limiter. */
+    private final CompactionIoRateLimiter rateLimiter = new CompactionIoRateLimiter();
+
+    /**
+     * Creates new ignite worker with given parameters.
+     *
+     * @param log Logger.
+     * @param igniteInstanceName Name of the Ignite instance this runnable is used in.
+     * @param listener Listener for life-cycle events.
+     * @param threads Number of compaction threads.
+     * @param filePageStoreManager File page store manager.
+     * @param pageSize Page size in bytes.
+     */
+    public Compactor(
+            IgniteLogger log,
+            String igniteInstanceName,
+            @Nullable IgniteWorkerListener listener,
+            ConfigurationValue<Integer> threads,
+            FilePageStoreManager filePageStoreManager,
+            int pageSize
+    ) {
+        this(log, igniteInstanceName, listener, threads, () -> 0, filePageStoreManager, pageSize);
+    }
+
     /**
      * Creates new ignite worker with given parameters.
      *
@@ -87,6 +119,8 @@ public class Compactor extends IgniteWorker {
      * @param igniteInstanceName Name of the Ignite instance this runnable is used in.
      * @param listener Listener for life-cycle events.
      * @param threads Number of compaction threads.
+     * @param maxBytesPerSecond Supplier of the maximum compaction I/O rate in bytes per second, non-positive value means that the rate is
+     *      not limited.
      * @param filePageStoreManager File page store manager.
      * @param pageSize Page size in bytes.
      */
@@ -95,6 +129,7 @@ public class Compactor extends IgniteWorker {
             String igniteInstanceName,
             @Nullable IgniteWorkerListener listener,
             ConfigurationValue<Integer> threads,
+            LongSupplier maxBytesPerSecond,
             FilePageStoreManager filePageStoreManager,
             int pageSize
     ) {
@@ -118,6 +153,8 @@ public class Compactor extends IgniteWorker {
         }
 
         this.pageSize = pageSize;
+
+        this.maxBytesPerSecond = maxBytesPerSecond;
     }
 
     @Override
@@ -185,7 +222,7 @@ public class Compactor extends IgniteWorker {
      * <p>Only compactor is expected to call this method. When compaction is {@link #triggerCompaction() triggered} by other threads, we
      * need to compact all delta files for all partitions as long as the delta files exist. Delta files are compacted in batches (one for
      * each partition file) into several threads, which evenly reduces the load for all partition files on reading pages, since when reading
-     * pages, we must look for it from the oldest delta file.
+     * pages, we must look for it from the oldest delta file. Within a batch, partitions with the largest number of delta files go first.
      */
     void doCompaction() {
         while (true) {
@@ -201,6 +238,7 @@ public class Compactor extends IgniteWorker {
                         return new DeltaFileForCompaction(groupPartitionFilePageStore, deltaFileToCompaction);
                     })
                     .filter(Objects::nonNull)
+                    .sorted(comparingInt(DeltaFileForCompaction::deltaFileCount).reversed())
                     .collect(toCollection(ConcurrentLinkedQueue::new));
 
             if (queue.isEmpty()) {
@@ -337,6 +375,8 @@ public class Compactor extends IgniteWorker {
         // Copy pages deltaFilePageStore -> filePageStore.
         ByteBuffer buffer = getThreadLocalBuffer(pageSize);
 
+        long maxBytesPerSecond = this.maxBytesPerSecond.getAsLong();
+
         for (long pageIndex : deltaFilePageStore.pageIndexes()) {
             updateHeartbeat();
 
@@ -371,6 +411,9 @@ public class Compactor extends IgniteWorker {
             }
 
             filePageStore.write(pageId, buffer.rewind(), true);
+
+            // Both the read from the delta file and the write to the partition file are counted.
+            rateLimiter.acquire(2L * pageSize, maxBytesPerSecond);
         }
 
         // Fsync the file page store.
@@ -443,12 +486,21 @@ public class Compactor extends IgniteWorker {
 
         private final DeltaFilePageStoreIo deltaFilePageStoreIo;
 
+        /** Number of delta files of the partition at the moment of collection, used to prioritize the most fragmented partitions. */
+        private final int deltaFileCount;
+
         private DeltaFileForCompaction(
                 GroupPartitionPageStore<FilePageStore> groupPartitionFilePageStore,
                 DeltaFilePageStoreIo deltaFilePageStoreIo
         ) {
             this.groupPartitionFilePageStore = groupPartitionFilePageStore;
             this.deltaFilePageStoreIo = deltaFilePageStoreIo;
+
+            deltaFileCount = groupPartitionFilePageStore.pageStore().deltaFileCount();
+        }
+
+        private int deltaFileCount() {
+            return deltaFileCount;
         }
     }
 }
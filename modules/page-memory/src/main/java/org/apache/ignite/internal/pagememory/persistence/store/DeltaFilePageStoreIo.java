@@ -29,6 +29,7 @@ import static org.apache.ignite.internal.pagememory.util.PageIdUtils.pageIndex;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.file.Path;
+import java.util.BitSet;
 import org.apache.ignite.internal.fileio.FileIo;
 import org.apache.ignite.internal.fileio.FileIoFactory;
 import org.apache.ignite.internal.util.IgniteSpinBusyLock;
@@ -40,6 +41,12 @@ import org.apache.ignite.lang.IgniteInternalCheckedException;
 public class DeltaFilePageStoreIo extends AbstractFilePageStoreIo {
     private final DeltaFilePageStoreIoHeader header;
 
+    /**
+     * Bitmap of the {@link DeltaFilePageStoreIoHeader#pageIndexes() page indexes} of the delta file, allows reads of pages that are absent
+     * in the delta file to skip it without a binary search over the page indexes.
+     */
+    private final BitSet pageIndexesBitmap;
+
     /** Lock to prevent reads after merging with a file page store. */
     private final IgniteSpinBusyLock mergedBusyLock = new IgniteSpinBusyLock();
 
@@ -58,6 +65,14 @@ public class DeltaFilePageStoreIo extends AbstractFilePageStoreIo {
         super(ioFactory, filePath);
 
         this.header = header;
+
+        int[] pageIndexes = header.pageIndexes();
+
+        pageIndexesBitmap = new BitSet(pageIndexes.length == 0 ? 0 : pageIndexes[pageIndexes.length - 1] + 1);
+
+        for (int pageIndex : pageIndexes) {
+            pageIndexesBitmap.set(pageIndex);
+        }
     }
 
     /** {@inheritDoc} */
@@ -109,6 +124,10 @@ public class DeltaFilePageStoreIo extends AbstractFilePageStoreIo {
      * @param pageIdx Page index.
      */
     public long pageOffset(int pageIdx) {
+        if (!containsPage(pageIdx)) {
+            return -1;
+        }
+
         int searchResult = binarySearch(header.pageIndexes(), pageIdx);
 
         if (searchResult < 0) {
@@ -118,6 +137,15 @@ public class DeltaFilePageStoreIo extends AbstractFilePageStoreIo {
         return (long) searchResult * pageSize() + headerSize();
     }
 
+    /**
+     * Returns {@code true} if the delta file contains a page with the given index.
+     *
+     * @param pageIdx Page index.
+     */
+    public boolean containsPage(int pageIdx) {
+        return pageIdx >= 0 && pageIndexesBitmap.get(pageIdx);
+    }
+
     /**
      * Reads a page.
      *
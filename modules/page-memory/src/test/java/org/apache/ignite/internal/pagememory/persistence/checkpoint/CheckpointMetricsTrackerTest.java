@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.pagememory.persistence.checkpoint;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.apache.ignite.internal.testframework.IgniteTestUtils.waitForCondition;
 import static org.apache.ignite.internal.util.FastTimestamps.coarseCurrentTimeMillis;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -83,6 +84,24 @@ public class CheckpointMetricsTrackerTest {
         assertThat(tracker.dataPagesWritten(), equalTo(2));
     }
 
+    @Test
+    void testPageModificationThrottled() {
+        CheckpointMetricsTracker tracker = new CheckpointMetricsTracker();
+
+        assertThat(tracker.throttledPageModifications(), equalTo(0));
+        assertThat(tracker.throttleParkDuration(), equalTo(0L));
+
+        tracker.onPageModificationThrottled(MILLISECONDS.toNanos(10));
+
+        assertThat(tracker.throttledPageModifications(), equalTo(1));
+        assertThat(tracker.throttleParkDuration(), equalTo(10L));
+
+        tracker.onPageModificationThrottled(MILLISECONDS.toNanos(5));
+
+        assertThat(tracker.throttledPageModifications(), equalTo(2));
+        assertThat(tracker.throttleParkDuration(), equalTo(15L));
+    }
+
     @Test
     void testSplitAndSortCheckpointPages() throws Exception {
         CheckpointMetricsTracker tracker = new CheckpointMetricsTracker();
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.checkpoint;
+
+import static org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointPagesWriteThrottle.MAX_PARK_NANOS;
+import static org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointPagesWriteThrottle.MIN_DIRTY_PAGES_RATIO;
+import static org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointPagesWriteThrottle.STARTING_PARK_NANOS;
+import static org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointPagesWriteThrottle.allowedDirtyPagesRatio;
+import static org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointState.FINISHED;
+import static org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointState.LOCK_RELEASED;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+/**
+ * For {@link CheckpointPagesWriteThrottle} testing.
+ */
+public class CheckpointPagesWriteThrottleTest {
+    @Test
+    void testAllowedDirtyPagesRatio() {
+        assertThat(allowedDirtyPagesRatio(null), equalTo(Double.MAX_VALUE));
+
+        CheckpointProgressImpl progress = new CheckpointProgressImpl(0);
+
+        assertThat(allowedDirtyPagesRatio(progress), equalTo(Double.MAX_VALUE));
+
+        progress.transitTo(LOCK_RELEASED);
+
+        assertThat(allowedDirtyPagesRatio(progress), equalTo(Double.MAX_VALUE));
+
+        progress.initCounters(100);
+
+        assertThat(allowedDirtyPagesRatio(progress), equalTo(MIN_DIRTY_PAGES_RATIO));
+
+        progress.writtenPagesCounter().set(50);
+
+        assertThat(allowedDirtyPagesRatio(progress), equalTo(MIN_DIRTY_PAGES_RATIO + (1.0 - MIN_DIRTY_PAGES_RATIO) / 2));
+
+        progress.writtenPagesCounter().set(100);
+
+        assertThat(allowedDirtyPagesRatio(progress), equalTo(1.0));
+
+        progress.transitTo(FINISHED);
+
+        assertThat(allowedDirtyPagesRatio(progress), equalTo(Double.MAX_VALUE));
+    }
+
+    @Test
+    void testParkTime() {
+        CheckpointProgressImpl progress = new CheckpointProgressImpl(0);
+
+        progress.transitTo(LOCK_RELEASED);
+        progress.initCounters(100);
+
+        Checkpointer checkpointer = mock(Checkpointer.class);
+
+        when(checkpointer.currentProgress()).thenReturn(progress);
+
+        AtomicReference<Double> dirtyPagesRatio = new AtomicReference<>(0.0);
+
+        CheckpointPagesWriteThrottle throttle = new CheckpointPagesWriteThrottle(checkpointer, dirtyPagesRatio::get);
+
+        assertThat(throttle.parkTimeNanos(), equalTo(0L));
+
+        dirtyPagesRatio.set(MIN_DIRTY_PAGES_RATIO);
+
+        assertThat(throttle.parkTimeNanos(), equalTo(0L));
+
+        // Pages are dirtied faster than the checkpoint writes them.
+        dirtyPagesRatio.set(0.75);
+
+        assertThat(throttle.parkTimeNanos(), equalTo(STARTING_PARK_NANOS));
+        assertThat(throttle.parkTimeNanos(), greaterThan(STARTING_PARK_NANOS));
+
+        for (int i = 0; i < 1_000; i++) {
+            throttle.parkTimeNanos();
+        }
+
+        assertThat(throttle.parkTimeNanos(), equalTo(MAX_PARK_NANOS));
+
+        // The checkpoint has caught up.
+        progress.writtenPagesCounter().set(50);
+
+        assertThat(throttle.parkTimeNanos(), equalTo(0L));
+
+        progress.writtenPagesCounter().set(0);
+
+        assertThat(throttle.parkTimeNanos(), equalTo(STARTING_PARK_NANOS));
+    }
+
+    @Test
+    void testThrottleUpdatesMetrics() {
+        CheckpointProgressImpl progress = new CheckpointProgressImpl(0);
+
+        progress.transitTo(LOCK_RELEASED);
+        progress.initCounters(100);
+
+        CheckpointMetricsTracker tracker = new CheckpointMetricsTracker();
+
+        Checkpointer checkpointer = mock(Checkpointer.class);
+
+        when(checkpointer.currentProgress()).thenReturn(progress);
+        when(checkpointer.currentCheckpointMetricsTracker()).thenReturn(tracker);
+
+        CheckpointPagesWriteThrottle throttle = new CheckpointPagesWriteThrottle(checkpointer, () -> 1.0);
+
+        throttle.throttle();
+        throttle.throttle();
+
+        assertThat(tracker.throttledPageModifications(), equalTo(2));
+
+        progress.writtenPagesCounter().set(100);
+
+        throttle.throttle();
+
+        assertThat(tracker.throttledPageModifications(), equalTo(2));
+    }
+}
@@ -18,9 +18,11 @@
 package org.apache.ignite.internal.pagememory.persistence.compaction;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.apache.ignite.internal.testframework.IgniteTestUtils.runAsync;
 import static org.apache.ignite.internal.testframework.IgniteTestUtils.waitForCondition;
 import static org.apache.ignite.internal.util.GridUnsafe.bufferAddress;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
@@ -39,7 +41,9 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicReference;
 import org.apache.ignite.configuration.ConfigurationValue;
@@ -116,6 +120,48 @@ public class CompactorTest extends BaseIgniteAbstractTest {
         verify(deltaFilePageStoreIo, times(1)).stop(eq(true));
     }
 
+    @Test
+    void testMergeDeltaFileToMainFileWithRateLimit() throws Throwable {
+        // Two pages per second, each page is read and written.
+        Compactor compactor = new Compactor(
+                log,
+                "test",
+                null,
+                threadsConfig(1),
+                () -> 4L * PAGE_SIZE,
+                mock(FilePageStoreManager.class),
+                PAGE_SIZE
+        );
+
+        FilePageStore filePageStore = mock(FilePageStore.class);
+        DeltaFilePageStoreIo deltaFilePageStoreIo = mock(DeltaFilePageStoreIo.class);
+
+        when(filePageStore.removeDeltaFile(eq(deltaFilePageStoreIo))).thenReturn(true);
+
+        when(deltaFilePageStoreIo.pageIndexes()).thenReturn(new int[]{0, 1, 2});
+
+        when(deltaFilePageStoreIo.readWithMergedToFilePageStoreCheck(anyLong(), anyLong(), any(ByteBuffer.class), anyBoolean()))
+                .then(answer -> {
+                    ByteBuffer buffer = answer.getArgument(2);
+
+                    PageIo.setPageId(bufferAddress(buffer), 1);
+
+                    return true;
+                });
+
+        long startNanos = System.nanoTime();
+
+        compactor.mergeDeltaFileToMainFile(filePageStore, deltaFilePageStoreIo);
+
+        long duration = NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+        verify(filePageStore, times(3)).write(eq(1L), any(ByteBuffer.class), anyBoolean());
+        verify(filePageStore, times(1)).removeDeltaFile(eq(deltaFilePageStoreIo));
+
+        // The second and the third pages wait about 0.5 seconds each for their slots.
+        assertTrue(duration >= 900, "duration=" + duration);
+    }
+
     @Test
     void testDoCompaction() throws Throwable {
         FilePageStore filePageStore = mock(FilePageStore.class);
@@ -152,6 +198,41 @@ public class CompactorTest extends BaseIgniteAbstractTest {
         verify(compactor, times(1)).mergeDeltaFileToMainFile(any(FilePageStore.class), any(DeltaFilePageStoreIo.class));
     }
 
+    @Test
+    void testDoCompactionMostFragmentedPartitionsFirst() throws Throwable {
+        FilePageStoreManager filePageStoreManager = mock(FilePageStoreManager.class);
+
+        GroupPageStoresMap<FilePageStore> groupPageStoresMap = new GroupPageStoresMap<>(new LongOperationAsyncExecutor("test", log));
+
+        FilePageStore[] filePageStores = new FilePageStore[3];
+        int[] deltaFileCounts = {1, 3, 2};
+
+        for (int i = 0; i < filePageStores.length; i++) {
+            FilePageStore filePageStore = filePageStores[i] = mock(FilePageStore.class);
+
+            AtomicReference<DeltaFilePageStoreIo> deltaFilePageStoreIoRef = new AtomicReference<>(mock(DeltaFilePageStoreIo.class));
+
+            when(filePageStore.getDeltaFileToCompaction()).then(answer -> deltaFilePageStoreIoRef.getAndSet(null));
+            when(filePageStore.deltaFileCount()).thenReturn(deltaFileCounts[i]);
+
+            groupPageStoresMap.put(new GroupPartitionId(0, i), filePageStore);
+        }
+
+        when(filePageStoreManager.allPageStores()).then(answer -> groupPageStoresMap.getAll());
+
+        Compactor compactor = spy(new Compactor(log, "test", null, threadsConfig(1), filePageStoreManager, PAGE_SIZE));
+
+        List<FilePageStore> mergeOrder = new CopyOnWriteArrayList<>();
+
+        doAnswer(answer -> mergeOrder.add(answer.getArgument(0)))
+                .when(compactor)
+                .mergeDeltaFileToMainFile(any(FilePageStore.class), any(DeltaFilePageStoreIo.class));
+
+        compactor.doCompaction();
+
+        assertEquals(List.of(filePageStores[1], filePageStores[2], filePageStores[0]), mergeOrder);
+    }
+
     @Test
     void testBody() throws Exception {
         Compactor compactor = spy(new Compactor(log, "test", null, threadsConfig(1), mock(FilePageStoreManager.class), PAGE_SIZE));
@@ -74,6 +74,27 @@ public class DeltaFilePageStoreIoTest extends AbstractFilePageStoreIoTest {
         }
     }
 
+    @Test
+    void testContainsPage() throws Exception {
+        Path testFilePath = workDir.resolve("test");
+
+        DeltaFilePageStoreIoHeader header = new DeltaFilePageStoreIoHeader(DELTA_FILE_VERSION_1, 1, PAGE_SIZE, arr(1, 5, 100));
+
+        try (DeltaFilePageStoreIo filePageStoreIo = createFilePageStoreIo(testFilePath, header)) {
+            assertTrue(filePageStoreIo.containsPage(1));
+            assertTrue(filePageStoreIo.containsPage(5));
+            assertTrue(filePageStoreIo.containsPage(100));
+
+            assertFalse(filePageStoreIo.containsPage(0));
+            assertFalse(filePageStoreIo.containsPage(2));
+            assertFalse(filePageStoreIo.containsPage(99));
+            assertFalse(filePageStoreIo.containsPage(101));
+
+            assertEquals(2 * PAGE_SIZE, filePageStoreIo.pageOffset(5));
+            assertEquals(-1, filePageStoreIo.pageOffset(99));
+        }
+    }
+
     @Test
     void testHeaderSize() throws Exception {
         Path testFilePath = workDir.resolve("test");
@@ -65,4 +65,12 @@ public class RaftConfigurationSchema {
      */
     @Value(hasDefault = true)
     public boolean fsync = true;
+
+    /**
+     * Interval (in milliseconds) of sending coalesced heartbeats. If positive, heartbeats of all Raft groups led by the node are sent
+     * to every peer node as a single message once per interval, instead of a separate message per group. Non-positive value disables
+     * coalescing.
+     */
+    @Value(hasDefault = true)
+    public int heartbeatCoalescingInterval = 0;
 }
@@ -166,6 +166,8 @@ public class Loza implements RaftManager {
 
         opts.getRaftOptions().setSync(raftConfig.fsync());
 
+        opts.setHeartbeatCoalescingIntervalMs(raftConfig.heartbeatCoalescingInterval());
+
         raftServer.start();
     }
 
@@ -20,6 +20,7 @@ package org.apache.ignite.internal.raft.server.impl;
 import static java.util.Objects.requireNonNullElse;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toUnmodifiableList;
+import static org.apache.ignite.internal.raft.storage.impl.SegmentedLogStorageFactory.DFLT_SEGMENT_SIZE;
 
 import java.io.File;
 import java.io.IOException;
@@ -52,12 +53,14 @@ import org.apache.ignite.internal.raft.service.RaftGroupListener;
 import org.apache.ignite.internal.raft.storage.LogStorageFactory;
 import org.apache.ignite.internal.raft.storage.impl.DefaultLogStorageFactory;
 import org.apache.ignite.internal.raft.storage.impl.IgniteJraftServiceFactory;
+import org.apache.ignite.internal.raft.storage.impl.SegmentedLogStorageFactory;
 import org.apache.ignite.internal.raft.storage.impl.StripeAwareLogManager.Stripe;
 import org.apache.ignite.internal.raft.util.ThreadLocalOptimizedMarshaller;
 import org.apache.ignite.internal.replicator.ReplicationGroupId;
 import org.apache.ignite.internal.thread.NamedThreadFactory;
 import org.apache.ignite.lang.IgniteInternalException;
 import org.apache.ignite.lang.IgniteStringFormatter;
+import org.apache.ignite.lang.IgniteSystemProperties;
 import org.apache.ignite.network.ClusterService;
 import org.apache.ignite.raft.jraft.Closure;
 import org.apache.ignite.raft.jraft.Iterator;
@@ -79,6 +82,7 @@ import org.apache.ignite.raft.jraft.rpc.impl.IgniteRpcClient;
 import org.apache.ignite.raft.jraft.rpc.impl.IgniteRpcServer;
 import org.apache.ignite.raft.jraft.rpc.impl.RaftGroupEventsClientListener;
 import org.apache.ignite.raft.jraft.rpc.impl.core.AppendEntriesRequestInterceptor;
+import org.apache.ignite.raft.jraft.rpc.impl.core.HeartbeatCoalescer;
 import org.apache.ignite.raft.jraft.rpc.impl.core.NullAppendEntriesRequestInterceptor;
 import org.apache.ignite.raft.jraft.storage.impl.LogManagerImpl.StableClosureEvent;
 import org.apache.ignite.raft.jraft.storage.snapshot.SnapshotReader;
@@ -94,6 +98,12 @@ import org.jetbrains.annotations.TestOnly;
  * Raft server implementation on top of forked JRaft library.
  */
 public class JraftServerImpl implements RaftServer {
+    /**
+     * Name of the system property that makes Raft groups keep their logs in the segment files of a {@link SegmentedLogStorageFactory}
+     * instead of RocksDB.
+     */
+    public static final String IGNITE_RAFT_SEGMENTED_LOG_STORAGE = "IGNITE_RAFT_SEGMENTED_LOG_STORAGE";
+
     /** Cluster service. */
     private final ClusterService service;
 
@@ -162,7 +172,9 @@ public class JraftServerImpl implements RaftServer {
         this.service = service;
         this.dataPath = dataPath;
         this.nodeManager = new NodeManager();
-        this.logStorageFactory = new DefaultLogStorageFactory(dataPath.resolve("log"));
+        this.logStorageFactory = IgniteSystemProperties.getBoolean(IGNITE_RAFT_SEGMENTED_LOG_STORAGE, false)
+                ? new SegmentedLogStorageFactory(dataPath.resolve("log-segments"), DFLT_SEGMENT_SIZE, opts.getStripes())
+                : new DefaultLogStorageFactory(dataPath.resolve("log"));
         this.opts = opts;
         this.raftGroupEventsClientListener = raftGroupEventsClientListener;
 
@@ -231,6 +243,19 @@ public class JraftServerImpl implements RaftServer {
             opts.setClientExecutor(JRaftUtils.createClientExecutor(opts, opts.getServerName()));
         }
 
+        if (opts.getHeartbeatCoalescer() == null && opts.getHeartbeatCoalescingIntervalMs() > 0) {
+            var heartbeatCoalescer = new HeartbeatCoalescer(
+                    new IgniteRpcClient(service),
+                    opts.getRaftMessagesFactory(),
+                    opts.getScheduler(),
+                    opts.getHeartbeatCoalescingIntervalMs()
+            );
+
+            heartbeatCoalescer.start();
+
+            opts.setHeartbeatCoalescer(heartbeatCoalescer);
+        }
+
         if (opts.getVoteTimer() == null) {
             opts.setVoteTimer(JRaftUtils.createTimer(opts, "JRaft-VoteTimer"));
         }
@@ -312,6 +337,11 @@ public class JraftServerImpl implements RaftServer {
         assert nodes.isEmpty() : IgniteStringFormatter.format("Raft nodes {} are still running on the Ignite node {}", nodes.keySet(),
                 service.topologyService().localMember().name());
 
+        // The accumulated heartbeats are sent and their closures are run by the executors, that are shut down below.
+        if (opts.getHeartbeatCoalescer() != null) {
+            opts.getHeartbeatCoalescer().stop();
+        }
+
         rpcServer.shutdown();
 
         if (opts.getfSMCallerExecutorDisruptor() != null) {
@@ -37,6 +37,16 @@ public interface LogStorageFactory extends ManuallyCloseable {
      */
     LogStorage createLogStorage(String uri, RaftOptions raftOptions);
 
+    /**
+     * Destroys a log storage, releasing the resources, that are shared with the other log storages of the factory. The storage must be
+     * shut down before the call.
+     *
+     * @param uri Log storage URI.
+     */
+    default void destroyLogStorage(String uri) {
+        // No-op.
+    }
+
     /**
      * Closes the factory.
      */
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.raft.storage.impl;
+
+import java.util.List;
+import org.apache.ignite.raft.jraft.entity.LogEntry;
+import org.apache.ignite.raft.jraft.storage.LogStorage;
+
+/**
+ * Log storage, that shares its underlying storage with other log storages and is able to write the entries of several of them at once.
+ * {@link StripeAwareLogManager} appends the entries of all the storages of a stripe with {@link #appendEntriesToBatch(List)} and then
+ * commits them with a single {@link #commitWriteBatch()} call on any of the storages.
+ */
+public interface BatchedLogStorage extends LogStorage {
+    /**
+     * Appends log entries to the batch, shared between all the log storages of the same factory and the same thread.
+     *
+     * @param entries Log entries.
+     * @return {@code True} if the entries were added to the batch.
+     */
+    boolean appendEntriesToBatch(List<LogEntry> entries);
+
+    /**
+     * Writes the batch, previously filled by {@link #appendEntriesToBatch(List)} calls of this or other log storages of the same factory.
+     */
+    void commitWriteBatch();
+}
@@ -21,6 +21,7 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.rocksdb.RocksDB.DEFAULT_COLUMN_FAMILY;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -36,6 +37,7 @@ import org.apache.ignite.raft.jraft.option.RaftOptions;
 import org.apache.ignite.raft.jraft.storage.LogStorage;
 import org.apache.ignite.raft.jraft.util.ExecutorServiceHelper;
 import org.apache.ignite.raft.jraft.util.Platform;
+import org.jetbrains.annotations.Nullable;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ColumnFamilyOptions;
@@ -52,6 +54,12 @@ import org.rocksdb.util.SizeUnit;
 public class DefaultLogStorageFactory implements LogStorageFactory {
     private static final IgniteLogger LOG = Loggers.forClass(DefaultLogStorageFactory.class);
 
+    /** Initial capacity of the thread-local encoding buffer. */
+    private static final int MIN_ENCODE_BUFFER_SIZE = 4 * 1024;
+
+    /** Maximum capacity of the thread-local encoding buffer, larger log entries are encoded into temporary arrays. */
+    static final int MAX_ENCODE_BUFFER_SIZE = 1024 * 1024;
+
     /** Database path. */
     private final Path path;
 
@@ -79,6 +87,13 @@ public class DefaultLogStorageFactory implements LogStorageFactory {
     @SuppressWarnings("ThreadLocalNotStaticFinal")
     private final ThreadLocal<WriteBatch> threadLocalWriteBatch = new ThreadLocal<>();
 
+    /**
+     * Thread-local direct buffer, used by {@link RocksDbSharedLogStorage} to encode keys and values of log entries and to pass them to the
+     * {@link WriteBatch} without intermediate arrays. The batch copies the data on put, so the buffer is reused for the next entry.
+     */
+    @SuppressWarnings("ThreadLocalNotStaticFinal")
+    private final ThreadLocal<ByteBuffer> threadLocalEncodeBuffer = new ThreadLocal<>();
+
     /**
      * Constructor.
      *
@@ -163,6 +178,30 @@ public class DefaultLogStorageFactory implements LogStorageFactory {
         return writeBatch;
     }
 
+    /**
+     * Returns a cleared thread-local direct buffer with at least {@code size} bytes remaining.
+     *
+     * @param size Required size in bytes.
+     * @return Buffer or {@code null} if the required size exceeds {@link #MAX_ENCODE_BUFFER_SIZE}.
+     */
+    @Nullable ByteBuffer getThreadLocalEncodeBuffer(int size) {
+        if (size > MAX_ENCODE_BUFFER_SIZE) {
+            return null;
+        }
+
+        ByteBuffer buffer = threadLocalEncodeBuffer.get();
+
+        if (buffer == null || buffer.capacity() < size) {
+            int capacity = Math.max(MIN_ENCODE_BUFFER_SIZE, Integer.highestOneBit(size - 1) << 1);
+
+            buffer = ByteBuffer.allocateDirect(Math.min(capacity, MAX_ENCODE_BUFFER_SIZE));
+
+            threadLocalEncodeBuffer.set(buffer);
+        }
+
+        return buffer.clear();
+    }
+
     /**
      * Clears {@link WriteBatch} returned by {@link #getOrCreateThreadLocalWriteBatch()}.
      */
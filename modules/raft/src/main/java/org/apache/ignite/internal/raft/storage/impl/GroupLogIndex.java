@@ -0,0 +1,271 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.raft.storage.impl;
+
+/**
+ * In-memory index of the log of a Raft group, stored in the segments of the {@link SegmentedLogStorageFactory}. Maps log indexes to
+ * positions of the entries, a position is the segment id in the upper 32 bits and the offset in the segment in the lower ones.
+ *
+ * <p>Not thread-safe, guarded by the lock of the stripe of the factory, the group belongs to.
+ */
+class GroupLogIndex {
+    /** Position of a missing entry. */
+    static final long NO_POSITION = -1;
+
+    /** Initial capacity of the positions array. */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /** Id of the stripe of the factory, the group belongs to. */
+    private final int stripe;
+
+    /** Group id used in the segment records, unique within the stripe. */
+    private final int id;
+
+    /** Group name. */
+    private final String name;
+
+    /** First log index set by a prefix truncation or a reset, {@code -1} if it was never set. */
+    private long explicitFirstIndex = -1;
+
+    /** Log index of the entry at {@link #head}. */
+    private long baseIndex;
+
+    /** Positions of the entries, starting at {@link #head}. */
+    private long[] positions = new long[INITIAL_CAPACITY];
+
+    /** Index of the first position in the array. */
+    private int head;
+
+    /** Number of positions. */
+    private int size;
+
+    /** Whether the group is unregistered and must not be written to. */
+    private boolean destroyed;
+
+    /**
+     * Constructor.
+     *
+     * @param stripe Id of the stripe of the factory, the group belongs to.
+     * @param id Group id used in the segment records.
+     * @param name Group name.
+     */
+    GroupLogIndex(int stripe, int id, String name) {
+        this.stripe = stripe;
+        this.id = id;
+        this.name = name;
+    }
+
+    /** Returns the id of the stripe of the factory, the group belongs to. */
+    int stripe() {
+        return stripe;
+    }
+
+    /** Returns the group id used in the segment records. */
+    int id() {
+        return id;
+    }
+
+    /** Returns the group name. */
+    String name() {
+        return name;
+    }
+
+    /** Returns the first log index set by a prefix truncation or a reset, {@code -1} if it was never set. */
+    long explicitFirstIndex() {
+        return explicitFirstIndex;
+    }
+
+    /** Returns the first log index, same as the one of the RocksDB based storages. */
+    long firstIndex() {
+        if (explicitFirstIndex >= 0) {
+            return explicitFirstIndex;
+        }
+
+        return size > 0 ? baseIndex : 1;
+    }
+
+    /** Returns the log index of the first stored position, that may be a gap, or {@code 0} if there are no entries. */
+    long firstStoredIndex() {
+        return size > 0 ? baseIndex : 0;
+    }
+
+    /** Returns the last log index, {@code 0} if there are no entries. */
+    long lastIndex() {
+        return size > 0 ? baseIndex + size - 1 : 0;
+    }
+
+    /**
+     * Returns the position of the entry.
+     *
+     * @param index Log index.
+     * @return Position or {@link #NO_POSITION} if there is no such entry.
+     */
+    long position(long index) {
+        if (index < firstIndex() || index < baseIndex || index >= baseIndex + size) {
+            return NO_POSITION;
+        }
+
+        return positions[head + (int) (index - baseIndex)];
+    }
+
+    /**
+     * Returns the id of the oldest segment, that contains an entry of the group, or {@link Long#MAX_VALUE} if there are no entries.
+     */
+    long firstSegmentId() {
+        for (int i = head; i < head + size; i++) {
+            if (positions[i] != NO_POSITION) {
+                return segmentId(positions[i]);
+            }
+        }
+
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * Adds an entry. An entry with an index not greater than the last one replaces the entries starting with it.
+     *
+     * @param index Log index.
+     * @param position Entry position.
+     */
+    void add(long index, long position) {
+        if (size == 0 || index < baseIndex) {
+            clear();
+
+            baseIndex = index;
+        } else if (index <= lastIndex()) {
+            size = (int) (index - baseIndex);
+        } else {
+            // Appending with a gap, which is allowed by the log storage contract.
+            for (long i = lastIndex() + 1; i < index; i++) {
+                append(NO_POSITION);
+            }
+        }
+
+        append(position);
+    }
+
+    /**
+     * Discards the entries before the given index.
+     *
+     * @param firstIndexKept First log index kept.
+     */
+    void truncatePrefix(long firstIndexKept) {
+        explicitFirstIndex = firstIndexKept;
+
+        if (firstIndexKept <= baseIndex || size == 0) {
+            return;
+        }
+
+        if (firstIndexKept > lastIndex()) {
+            clear();
+
+            return;
+        }
+
+        int removed = (int) (firstIndexKept - baseIndex);
+
+        head += removed;
+        size -= removed;
+        baseIndex = firstIndexKept;
+    }
+
+    /**
+     * Discards the entries after the given index.
+     *
+     * @param lastIndexKept Last log index kept.
+     */
+    void truncateSuffix(long lastIndexKept) {
+        if (lastIndexKept < baseIndex) {
+            clear();
+        } else if (lastIndexKept < lastIndex()) {
+            size = (int) (lastIndexKept - baseIndex + 1);
+        }
+    }
+
+    /**
+     * Discards all the entries and sets the first log index.
+     *
+     * @param nextLogIndex Next log index.
+     */
+    void reset(long nextLogIndex) {
+        clear();
+
+        explicitFirstIndex = nextLogIndex;
+    }
+
+    /** Returns whether the group is unregistered. */
+    boolean destroyed() {
+        return destroyed;
+    }
+
+    /** Marks the group as unregistered. */
+    void markDestroyed() {
+        destroyed = true;
+    }
+
+    /**
+     * Makes a position out of the segment id and the offset in it.
+     *
+     * @param segmentId Segment id.
+     * @param offset Offset in the segment.
+     * @return Position.
+     */
+    static long toPosition(long segmentId, int offset) {
+        return (segmentId << 32) | offset;
+    }
+
+    /** Returns the segment id of a position. */
+    static long segmentId(long position) {
+        return position >>> 32;
+    }
+
+    /** Returns the offset in the segment of a position. */
+    static int offset(long position) {
+        return (int) position;
+    }
+
+    private void append(long position) {
+        if (head + size == positions.length) {
+            if (size <= positions.length / 2) {
+                // Reclaim the space of the truncated prefix.
+                System.arraycopy(positions, head, positions, 0, size);
+            } else {
+                long[] newPositions = new long[positions.length * 2];
+
+                System.arraycopy(positions, head, newPositions, 0, size);
+
+                positions = newPositions;
+            }
+
+            head = 0;
+        }
+
+        positions[head + size] = position;
+
+        size++;
+    }
+
+    private void clear() {
+        head = 0;
+        size = 0;
+
+        if (positions.length > INITIAL_CAPACITY) {
+            positions = new long[INITIAL_CAPACITY];
+        }
+    }
+}
@@ -0,0 +1,296 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.raft.storage.impl;
+
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32C;
+import org.apache.ignite.internal.util.GridUnsafe;
+
+/**
+ * Pre-allocated memory-mapped segment file of the {@link SegmentedLogStorageFactory}. The file is a sequence of records, each one is a
+ * header followed by a payload:
+ * <ul>
+ *     <li>Record type, 1 byte, {@code 0} marks the end of the written data.</li>
+ *     <li>Id of the Raft group, 4 bytes.</li>
+ *     <li>Value, 8 bytes: log index for entries and truncations, first log index for group records.</li>
+ *     <li>Payload length, 4 bytes.</li>
+ *     <li>CRC32C of the payload, 4 bytes.</li>
+ * </ul>
+ *
+ * <p>Records are appended under the lock of the stripe of the factory, while {@link #sync()} may be called concurrently with appends.
+ */
+class LogSegment {
+    /** End of the written data, the rest of a pre-allocated segment is filled with zeroes. */
+    static final byte RECORD_END = 0;
+
+    /** Log entry, the payload is the encoded entry. */
+    static final byte RECORD_ENTRY = 1;
+
+    /** Configuration log entry, the payload is the encoded entry. */
+    static final byte RECORD_CONF_ENTRY = 2;
+
+    /**
+     * Raft group registration, the value is the first log index if it was set explicitly and {@code -1} otherwise, the payload is the
+     * UTF-8 name of the group. Every segment starts with the records of all the groups known at the moment of its creation, so that
+     * the older segments can be deleted.
+     */
+    static final byte RECORD_GROUP = 3;
+
+    /** Log prefix truncation, the value is the first log index kept. */
+    static final byte RECORD_TRUNCATE_PREFIX = 4;
+
+    /** Log suffix truncation, the value is the last log index kept. */
+    static final byte RECORD_TRUNCATE_SUFFIX = 5;
+
+    /** Log reset, the value is the next log index. */
+    static final byte RECORD_RESET = 6;
+
+    /** Raft group unregistration on destruction of its log storage, the group is forgotten by the recovery. */
+    static final byte RECORD_UNREGISTER = 7;
+
+    /** Size of the record header. */
+    static final int HEADER_SIZE = 1 + Integer.BYTES + Long.BYTES + Integer.BYTES + Integer.BYTES;
+
+    /** Segment id, segments are ordered by their ids. */
+    private final long id;
+
+    /** Segment file. */
+    private final Path path;
+
+    /** Mapped file content. */
+    private final MappedByteBuffer buffer;
+
+    /** Position of the next record. */
+    private volatile int writePosition;
+
+    /** Position up to which the data was flushed to the disk. */
+    private volatile int syncedPosition;
+
+    /** Whether the segment is closed. Guarded by {@code this}. */
+    private boolean closed;
+
+    private LogSegment(long id, Path path, MappedByteBuffer buffer) {
+        this.id = id;
+        this.path = path;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Creates a new segment file of the given size.
+     *
+     * @param id Segment id.
+     * @param path Segment file.
+     * @param size Segment size in bytes.
+     * @return New segment.
+     * @throws IOException If failed to create the file.
+     */
+    static LogSegment create(long id, Path path, int size) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, CREATE_NEW, READ, WRITE)) {
+            // Mapping beyond the end of the file extends it to the full size.
+            return new LogSegment(id, path, channel.map(MapMode.READ_WRITE, 0, size));
+        }
+    }
+
+    /**
+     * Opens an existing segment file. The write position is not known until the records are {@link #setWritePosition recovered}.
+     *
+     * @param id Segment id.
+     * @param path Segment file.
+     * @return Opened segment.
+     * @throws IOException If failed to open the file.
+     */
+    static LogSegment open(long id, Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, READ, WRITE)) {
+            return new LogSegment(id, path, channel.map(MapMode.READ_WRITE, 0, channel.size()));
+        }
+    }
+
+    /** Returns the segment id. */
+    long id() {
+        return id;
+    }
+
+    /** Returns the segment size in bytes. */
+    int capacity() {
+        return buffer.capacity();
+    }
+
+    /** Returns the position of the next record. */
+    int writePosition() {
+        return writePosition;
+    }
+
+    /** Sets the position of the next record after recovery. */
+    void setWritePosition(int writePosition) {
+        this.writePosition = writePosition;
+        this.syncedPosition = writePosition;
+    }
+
+    /** Returns the number of bytes left for the records. */
+    int remaining() {
+        return buffer.capacity() - writePosition;
+    }
+
+    /**
+     * Returns a view of the segment content, positioned at the given offset. Views are not thread-safe, but different views may be used
+     * concurrently.
+     *
+     * @param offset Offset in the segment.
+     * @return View of the segment content.
+     */
+    ByteBuffer view(int offset) {
+        return buffer.duplicate().position(offset);
+    }
+
+    /**
+     * Appends a record with the payload written by the given writer.
+     *
+     * @param type Record type.
+     * @param groupId Raft group id.
+     * @param value Record value.
+     * @param payloadSize Size of the payload in bytes.
+     * @param payloadWriter Writer of the payload, must write exactly {@code payloadSize} bytes.
+     * @return Offset of the record.
+     */
+    int append(byte type, int groupId, long value, int payloadSize, PayloadWriter payloadWriter) {
+        assert HEADER_SIZE + payloadSize <= remaining() : "Segment overflow [id=" + id + ", size=" + payloadSize + ']';
+
+        int offset = writePosition;
+
+        ByteBuffer out = view(offset + HEADER_SIZE);
+
+        payloadWriter.write(out);
+
+        assert out.position() == offset + HEADER_SIZE + payloadSize : "Unexpected payload size [expected=" + payloadSize
+                + ", actual=" + (out.position() - offset - HEADER_SIZE) + ']';
+
+        // The header is written last: if the process crashes in the middle, the record type stays zero and the record is ignored on
+        // recovery.
+        view(offset + 1)
+                .putInt(groupId)
+                .putLong(value)
+                .putInt(payloadSize)
+                .putInt(crc(offset + HEADER_SIZE, payloadSize));
+
+        view(offset).put(type);
+
+        writePosition = offset + HEADER_SIZE + payloadSize;
+
+        return offset;
+    }
+
+    /**
+     * Computes CRC32C of a part of the segment.
+     *
+     * @param offset Offset of the data.
+     * @param length Length of the data.
+     * @return Checksum.
+     */
+    int crc(int offset, int length) {
+        var crc = new CRC32C();
+
+        crc.update(view(offset).limit(offset + length));
+
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Fills the segment with zeroes starting at the given offset, used to erase a torn record after a crash.
+     *
+     * @param offset Offset in the segment.
+     */
+    void erase(int offset) {
+        ByteBuffer out = view(offset);
+
+        while (out.hasRemaining()) {
+            out.put((byte) 0);
+        }
+    }
+
+    /**
+     * Flushes the records written so far to the disk. Concurrent calls are coalesced: a call returns without flushing if another one has
+     * already flushed all the records written before it was made.
+     */
+    void sync() {
+        int position = writePosition;
+
+        if (syncedPosition >= position) {
+            return;
+        }
+
+        synchronized (this) {
+            if (closed || syncedPosition >= position) {
+                return;
+            }
+
+            buffer.force();
+
+            syncedPosition = position;
+        }
+    }
+
+    /**
+     * Unmaps the segment.
+     */
+    synchronized void close() {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+
+        GridUnsafe.cleanDirectBuffer(buffer);
+    }
+
+    /**
+     * Unmaps the segment and deletes its file.
+     *
+     * @throws IOException If failed to delete the file.
+     */
+    void delete() throws IOException {
+        close();
+
+        Files.deleteIfExists(path);
+    }
+
+    @Override
+    public String toString() {
+        return "LogSegment [id=" + id + ", path=" + path + ", writePosition=" + writePosition + ']';
+    }
+
+    /** Writer of a record payload. */
+    @FunctionalInterface
+    interface PayloadWriter {
+        /**
+         * Writes the payload.
+         *
+         * @param out Buffer positioned at the start of the payload.
+         */
+        void write(ByteBuffer out);
+    }
+}
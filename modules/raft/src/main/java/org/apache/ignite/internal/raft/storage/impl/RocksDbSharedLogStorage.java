@@ -22,6 +22,7 @@ import static java.util.Arrays.copyOfRange;
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
@@ -42,7 +43,6 @@ import org.apache.ignite.raft.jraft.entity.codec.LogEntryDecoder;
 import org.apache.ignite.raft.jraft.entity.codec.LogEntryEncoder;
 import org.apache.ignite.raft.jraft.option.LogStorageOptions;
 import org.apache.ignite.raft.jraft.option.RaftOptions;
-import org.apache.ignite.raft.jraft.storage.LogStorage;
 import org.apache.ignite.raft.jraft.util.BytesUtil;
 import org.apache.ignite.raft.jraft.util.Describer;
 import org.apache.ignite.raft.jraft.util.Requires;
@@ -60,7 +60,7 @@ import org.rocksdb.WriteOptions;
  * Log storage that shares rocksdb instance with other log storages.
  * Stores key with groupId prefix to distinguish them from keys that belongs to other storages.
  */
-public class RocksDbSharedLogStorage implements LogStorage, Describer {
+public class RocksDbSharedLogStorage implements BatchedLogStorage, Describer {
     /** Logger. */
     private static final IgniteLogger LOG = Loggers.forClass(RocksDbSharedLogStorage.class);
 
@@ -410,11 +410,7 @@ public class RocksDbSharedLogStorage implements LogStorage, Describer {
 
                 long logIndex = entry.getId().getIndex();
                 byte[] valueBytes = this.logEntryEncoder.encode(entry);
-                byte[] newValueBytes = onDataAppend(logIndex, valueBytes);
-                this.db.put(this.dataHandle, this.writeOptions, createKey(logIndex), newValueBytes);
-                if (newValueBytes != valueBytes) {
-                    doSync();
-                }
+                this.db.put(this.dataHandle, this.writeOptions, createKey(logIndex), valueBytes);
                 return true;
             } catch (RocksDBException e) {
                 LOG.error("Fail to append entry.", e);
@@ -457,7 +453,8 @@ public class RocksDbSharedLogStorage implements LogStorage, Describer {
      * Appends log entries to the batch, received from {@link DefaultLogStorageFactory#getOrCreateThreadLocalWriteBatch()}. This batch is
      * shared between all instances of log, that belong to the given factory.
      */
-    boolean appendEntriesToBatch(List<LogEntry> entries) {
+    @Override
+    public boolean appendEntriesToBatch(List<LogEntry> entries) {
         if (entries == null || entries.isEmpty()) {
             return true;
         }
@@ -489,7 +486,8 @@ public class RocksDbSharedLogStorage implements LogStorage, Describer {
      * Writes batch, previously filled by {@link #appendEntriesToBatch(List)} calls, into a rocksdb storage and clears the batch by calling
      * {@link DefaultLogStorageFactory#clearThreadLocalWriteBatch()}.
      */
-    void commitWriteBatch() {
+    @Override
+    public void commitWriteBatch() {
         try {
             WriteBatch writeBatch = logStorageFactory.getOrCreateThreadLocalWriteBatch();
 
@@ -618,10 +616,34 @@ public class RocksDbSharedLogStorage implements LogStorage, Describer {
         return true;
     }
 
+    /**
+     * Adds a data entry to the batch. The key and the encoded entry are written into a thread-local direct buffer, which the batch copies
+     * on put, so that the entry is copied only once on its way to the batch.
+     */
     private void addDataBatch(LogEntry entry, WriteBatch batch) throws RocksDBException {
         long logIndex = entry.getId().getIndex();
-        byte[] content = this.logEntryEncoder.encode(entry);
-        batch.put(this.dataHandle, createKey(logIndex), onDataAppend(logIndex, content));
+
+        int keySize = groupStartPrefix.length + Long.BYTES;
+        int valueSize = logEntryEncoder.encodedSize(entry);
+
+        ByteBuffer buffer = logStorageFactory.getThreadLocalEncodeBuffer(keySize + valueSize);
+
+        if (buffer == null) {
+            batch.put(this.dataHandle, createKey(logIndex), this.logEntryEncoder.encode(entry));
+
+            return;
+        }
+
+        buffer.put(groupStartPrefix).putLong(logIndex);
+
+        logEntryEncoder.encode(entry, buffer);
+
+        buffer.flip();
+
+        ByteBuffer key = buffer.duplicate().limit(keySize);
+        ByteBuffer value = buffer.position(keySize);
+
+        batch.put(this.dataHandle, key, value);
     }
 
     private void truncatePrefixInBackground(long startIndex, long firstIndexKept) {
@@ -676,18 +698,6 @@ public class RocksDbSharedLogStorage implements LogStorage, Describer {
         onSync();
     }
 
-    /**
-     * Called before appending data entry.
-     *
-     * @param logIndex the log index
-     * @param value the data value in log entry.
-     * @return the new value
-     */
-    @SuppressWarnings("unused")
-    protected byte[] onDataAppend(long logIndex, byte[] value) {
-        return value;
-    }
-
     /**
      * Called when sync data into file system.
      */
@@ -0,0 +1,327 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.raft.storage.impl;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.raft.jraft.conf.Configuration;
+import org.apache.ignite.raft.jraft.conf.ConfigurationEntry;
+import org.apache.ignite.raft.jraft.conf.ConfigurationManager;
+import org.apache.ignite.raft.jraft.entity.EnumOutter;
+import org.apache.ignite.raft.jraft.entity.LogEntry;
+import org.apache.ignite.raft.jraft.entity.LogId;
+import org.apache.ignite.raft.jraft.entity.codec.LogEntryDecoder;
+import org.apache.ignite.raft.jraft.entity.codec.LogEntryEncoder;
+import org.apache.ignite.raft.jraft.option.LogStorageOptions;
+import org.apache.ignite.raft.jraft.option.RaftOptions;
+import org.apache.ignite.raft.jraft.util.BytesUtil;
+import org.apache.ignite.raft.jraft.util.Requires;
+
+/**
+ * Log storage that keeps its entries in the segment files of a {@link SegmentedLogStorageFactory}, shared with other log storages.
+ * Appended entries become durable when the segments are flushed by {@link #commitWriteBatch()}, which flushes the entries of all the log
+ * storages of the factory at once.
+ */
+public class SegmentedLogStorage implements BatchedLogStorage {
+    /** Logger. */
+    private static final IgniteLogger LOG = Loggers.forClass(SegmentedLogStorage.class);
+
+    /** Log factory instance, that created current log storage. */
+    private final SegmentedLogStorageFactory logStorageFactory;
+
+    /** Raft group name. */
+    private final String groupId;
+
+    /** Whether the segments should be flushed on every write. */
+    private final boolean sync;
+
+    /** RW lock. */
+    private final ReadWriteLock readWriteLock = new ReentrantReadWriteLock();
+
+    /** Storage use lock. Non-exclusive. */
+    private final Lock useLock = this.readWriteLock.readLock();
+
+    /** Storage manage lock. Exclusive. */
+    private final Lock manageLock = this.readWriteLock.writeLock();
+
+    /** Flag indicating whether storage is stopped. Guarded by readWriteLock. */
+    private boolean stopped;
+
+    /** Index of the group in the segments. */
+    private GroupLogIndex group;
+
+    /** Log entry encoder. */
+    private LogEntryEncoder logEntryEncoder;
+
+    /** Log entry decoder. */
+    private LogEntryDecoder logEntryDecoder;
+
+    /** Constructor. */
+    SegmentedLogStorage(SegmentedLogStorageFactory logStorageFactory, String groupId, RaftOptions raftOptions) {
+        Requires.requireNonNull(logStorageFactory);
+        Requires.requireNonNull(groupId);
+
+        this.logStorageFactory = logStorageFactory;
+        this.groupId = groupId;
+        this.sync = raftOptions.isSync();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean init(LogStorageOptions opts) {
+        Requires.requireNonNull(opts.getConfigurationManager(), "Null conf manager");
+        Requires.requireNonNull(opts.getLogEntryCodecFactory(), "Null log entry codec factory");
+        this.manageLock.lock();
+        try {
+            this.logEntryDecoder = opts.getLogEntryCodecFactory().decoder();
+            this.logEntryEncoder = opts.getLogEntryCodecFactory().encoder();
+            Requires.requireNonNull(this.logEntryDecoder, "Null log entry decoder");
+            Requires.requireNonNull(this.logEntryEncoder, "Null log entry encoder");
+
+            this.group = logStorageFactory.group(groupId);
+
+            load(opts.getConfigurationManager());
+
+            return true;
+        } catch (IOException e) {
+            LOG.error("Fail to init segmented log storage [groupId={}].", e, groupId);
+            return false;
+        } finally {
+            this.manageLock.unlock();
+        }
+    }
+
+    private void load(ConfigurationManager confManager) {
+        for (byte[] bs : logStorageFactory.readConfigurationEntries(group)) {
+            LogEntry entry = this.logEntryDecoder.decode(bs);
+
+            if (entry == null) {
+                LOG.warn("Fail to decode conf entry, the log data is: {}.", BytesUtil.toHex(bs));
+
+                continue;
+            }
+
+            ConfigurationEntry confEntry = new ConfigurationEntry();
+            confEntry.setId(new LogId(entry.getId().getIndex(), entry.getId().getTerm()));
+            confEntry.setConf(new Configuration(entry.getPeers(), entry.getLearners()));
+            if (entry.getOldPeers() != null) {
+                confEntry.setOldConf(new Configuration(entry.getOldPeers(), entry.getOldLearners()));
+            }
+            confManager.add(confEntry);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void shutdown() {
+        this.manageLock.lock();
+
+        try {
+            stopped = true;
+        } finally {
+            this.manageLock.unlock();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getFirstLogIndex() {
+        return logStorageFactory.firstLogIndex(group);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getLastLogIndex() {
+        return logStorageFactory.lastLogIndex(group);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public LogEntry getEntry(long index) {
+        this.useLock.lock();
+        try {
+            if (stopped) {
+                return null;
+            }
+
+            byte[] bs = logStorageFactory.read(group, index);
+
+            if (bs == null) {
+                return null;
+            }
+
+            LogEntry entry = this.logEntryDecoder.decode(bs);
+            if (entry == null) {
+                LOG.error("Bad log entry format for index={}, the log data is: {}.", index, BytesUtil.toHex(bs));
+            }
+            return entry;
+        } finally {
+            this.useLock.unlock();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getTerm(long index) {
+        LogEntry entry = getEntry(index);
+        if (entry != null) {
+            return entry.getId().getTerm();
+        }
+        return 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean appendEntry(LogEntry entry) {
+        return appendEntries(List.of(entry)) == 1;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int appendEntries(List<LogEntry> entries) {
+        if (entries == null || entries.isEmpty()) {
+            return 0;
+        }
+
+        if (!appendEntriesToBatch(entries)) {
+            return 0;
+        }
+
+        commitWriteBatch();
+
+        return entries.size();
+    }
+
+    /**
+     * Appends log entries to the current segment of the factory without flushing it.
+     */
+    @Override
+    public boolean appendEntriesToBatch(List<LogEntry> entries) {
+        if (entries == null || entries.isEmpty()) {
+            return true;
+        }
+
+        this.useLock.lock();
+        try {
+            if (stopped) {
+                LOG.warn("Storage stopped.");
+                return false;
+            }
+
+            logStorageFactory.append(group, entries, logEntryEncoder);
+
+            return true;
+        } catch (IOException e) {
+            LOG.error("Fail to append entries.", e);
+            return false;
+        } finally {
+            this.useLock.unlock();
+        }
+    }
+
+    /**
+     * Flushes the segments of the factory, if the Raft options require it. Flushes the entries of all the log storages of the factory, that
+     * were appended before the call.
+     */
+    @Override
+    public void commitWriteBatch() {
+        if (sync) {
+            logStorageFactory.sync();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean truncateSuffix(long lastIndexKept) {
+        this.useLock.lock();
+        try {
+            if (stopped) {
+                LOG.warn("Storage stopped.");
+                return false;
+            }
+
+            logStorageFactory.truncateSuffix(group, lastIndexKept);
+            commitWriteBatch();
+            return true;
+        } catch (IOException e) {
+            LOG.error("Fail to truncateSuffix {}.", e, lastIndexKept);
+            return false;
+        } finally {
+            this.useLock.unlock();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean reset(long nextLogIndex) {
+        if (nextLogIndex <= 0) {
+            throw new IllegalArgumentException("Invalid next log index.");
+        }
+
+        LogEntry entry = getEntry(nextLogIndex);
+
+        this.manageLock.lock();
+        try {
+            if (stopped) {
+                LOG.warn("Storage stopped.");
+                return false;
+            }
+
+            logStorageFactory.reset(group, nextLogIndex);
+        } catch (IOException e) {
+            LOG.error("Fail to reset next log index.", e);
+            return false;
+        } finally {
+            this.manageLock.unlock();
+        }
+
+        if (entry == null) {
+            entry = new LogEntry();
+            entry.setType(EnumOutter.EntryType.ENTRY_TYPE_NO_OP);
+            entry.setId(new LogId(nextLogIndex, 0));
+            LOG.warn("Entry not found for nextLogIndex {} when reset.", nextLogIndex);
+        }
+        return appendEntry(entry);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean truncatePrefix(long firstIndexKept) {
+        this.useLock.lock();
+        try {
+            if (stopped) {
+                LOG.warn("Storage stopped.");
+                return false;
+            }
+
+            logStorageFactory.truncatePrefix(group, firstIndexKept);
+            commitWriteBatch();
+            return true;
+        } catch (IOException e) {
+            LOG.error("Fail to truncatePrefix {}.", e, firstIndexKept);
+            return false;
+        } finally {
+            this.useLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,839 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.raft.storage.impl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apache.ignite.internal.raft.storage.impl.GroupLogIndex.NO_POSITION;
+import static org.apache.ignite.internal.raft.storage.impl.GroupLogIndex.offset;
+import static org.apache.ignite.internal.raft.storage.impl.GroupLogIndex.segmentId;
+import static org.apache.ignite.internal.raft.storage.impl.GroupLogIndex.toPosition;
+import static org.apache.ignite.internal.raft.storage.impl.LogSegment.HEADER_SIZE;
+import static org.apache.ignite.internal.raft.storage.impl.LogSegment.RECORD_CONF_ENTRY;
+import static org.apache.ignite.internal.raft.storage.impl.LogSegment.RECORD_END;
+import static org.apache.ignite.internal.raft.storage.impl.LogSegment.RECORD_ENTRY;
+import static org.apache.ignite.internal.raft.storage.impl.LogSegment.RECORD_GROUP;
+import static org.apache.ignite.internal.raft.storage.impl.LogSegment.RECORD_RESET;
+import static org.apache.ignite.internal.raft.storage.impl.LogSegment.RECORD_TRUNCATE_PREFIX;
+import static org.apache.ignite.internal.raft.storage.impl.LogSegment.RECORD_TRUNCATE_SUFFIX;
+import static org.apache.ignite.internal.raft.storage.impl.LogSegment.RECORD_UNREGISTER;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.raft.storage.LogStorageFactory;
+import org.apache.ignite.raft.jraft.entity.EnumOutter.EntryType;
+import org.apache.ignite.raft.jraft.entity.LogEntry;
+import org.apache.ignite.raft.jraft.entity.codec.LogEntryEncoder;
+import org.apache.ignite.raft.jraft.error.LogEntryCorruptedException;
+import org.apache.ignite.raft.jraft.option.RaftOptions;
+import org.apache.ignite.raft.jraft.storage.LogStorage;
+import org.apache.ignite.raft.jraft.util.Utils;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Implementation of the {@link LogStorageFactory} that creates {@link SegmentedLogStorage}s, which store Raft logs in append-only
+ * segment files instead of RocksDB.
+ *
+ * <p>Raft groups are spread over stripes, every stripe has its own directory, lock and sequence of segments. Logs of all the groups of a
+ * stripe are appended to the same pre-allocated memory-mapped {@link LogSegment segment}, which is flushed and replaced with a new one
+ * when it is full. Appending to the segment does not flush it: all the storages of a stripe of {@link StripeAwareLogManager}s append
+ * their entries first and then one of them flushes the segments once for the whole batch. An in-memory {@link GroupLogIndex index} maps
+ * log indexes of every group to the positions of its entries.
+ *
+ * <p>Truncations only update the index and are recorded in the segments, so that they are replayed on recovery. A segment, that no
+ * longer contains any entries in the indexes, is deleted as a whole. To make that possible, every segment starts with the records of all
+ * the known groups of the stripe, and the entries of the groups, that no longer append to the stripe, are copied to the current segment
+ * instead of keeping the oldest segment alive.
+ */
+public class SegmentedLogStorageFactory implements LogStorageFactory {
+    private static final IgniteLogger LOG = Loggers.forClass(SegmentedLogStorageFactory.class);
+
+    /** Default size of a segment file in bytes. */
+    public static final int DFLT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    /** Default number of stripes. */
+    public static final int DFLT_STRIPES = Utils.cpus();
+
+    /** Extension of the segment files. */
+    private static final String SEGMENT_FILE_EXTENSION = ".seg";
+
+    /** Prefix of the stripe directories. */
+    private static final String STRIPE_DIR_PREFIX = "stripe-";
+
+    /** Directory of the stripe directories. */
+    private final Path path;
+
+    /** Size of a segment file in bytes, a segment is larger only if it has to fit a larger entry. */
+    private final int segmentSize;
+
+    /** Number of stripes for the new groups. */
+    private final int stripeCount;
+
+    /** Group indexes by group names, for all the stripes. */
+    private final Map<String, GroupLogIndex> groups = new ConcurrentHashMap<>();
+
+    /** Stripes, initialized on start. */
+    private volatile Stripe[] stripes = new Stripe[0];
+
+    /**
+     * Constructor.
+     *
+     * @param path Directory of the segment files.
+     */
+    public SegmentedLogStorageFactory(Path path) {
+        this(path, DFLT_SEGMENT_SIZE, DFLT_STRIPES);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param path Directory of the segment files.
+     * @param segmentSize Size of a segment file in bytes.
+     * @param stripeCount Number of stripes.
+     */
+    public SegmentedLogStorageFactory(Path path, int segmentSize, int stripeCount) {
+        assert segmentSize > HEADER_SIZE : segmentSize;
+        assert stripeCount > 0 : stripeCount;
+
+        this.path = path;
+        this.segmentSize = segmentSize;
+        this.stripeCount = stripeCount;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void start() {
+        try {
+            Files.createDirectories(path);
+
+            int count = stripeCount;
+
+            // Groups stay in the stripes they were created in, even if the number of stripes has been reduced since then.
+            try (Stream<Path> list = Files.list(path)) {
+                for (Path dir : list.collect(Collectors.toList())) {
+                    String dirName = dir.getFileName().toString();
+
+                    if (Files.isDirectory(dir) && dirName.startsWith(STRIPE_DIR_PREFIX)) {
+                        count = Math.max(count, Integer.parseInt(dirName.substring(STRIPE_DIR_PREFIX.length())) + 1);
+                    }
+                }
+            }
+
+            Stripe[] stripes = new Stripe[count];
+
+            try {
+                for (int i = 0; i < count; i++) {
+                    var stripe = new Stripe(i, path.resolve(STRIPE_DIR_PREFIX + i));
+
+                    stripes[i] = stripe;
+
+                    Files.createDirectories(stripe.path);
+
+                    recover(stripe);
+
+                    if (stripe.currentSegment == null) {
+                        rollSegment(stripe, 0);
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                // Releases the segments, that have been opened before the failure.
+                for (Stripe stripe : stripes) {
+                    if (stripe != null) {
+                        stripe.segments.values().forEach(LogSegment::close);
+                    }
+                }
+
+                groups.clear();
+
+                throw e;
+            }
+
+            this.stripes = stripes;
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to start segmented log storage: " + path, e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        for (Stripe stripe : stripes) {
+            stripe.lock.writeLock().lock();
+
+            try {
+                for (LogSegment segment : stripe.segments.values()) {
+                    segment.sync();
+                    segment.close();
+                }
+
+                stripe.segments.clear();
+                stripe.groups.clear();
+
+                stripe.currentSegment = null;
+            } finally {
+                stripe.lock.writeLock().unlock();
+            }
+        }
+
+        groups.clear();
+
+        stripes = new Stripe[0];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public LogStorage createLogStorage(String uri, RaftOptions raftOptions) {
+        return new SegmentedLogStorage(this, uri, raftOptions);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void destroyLogStorage(String uri) {
+        GroupLogIndex group = groups.get(uri);
+
+        if (group == null) {
+            return;
+        }
+
+        Stripe stripe = stripe(group);
+
+        stripe.lock.writeLock().lock();
+
+        try {
+            if (groups.get(uri) != group) {
+                return;
+            }
+
+            appendRecord(stripe, RECORD_UNREGISTER, group.id(), 0, 0, out -> {});
+
+            groups.remove(uri);
+            stripe.groups.remove(uri);
+
+            group.markDestroyed();
+
+            deleteObsoleteSegments(stripe);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to destroy segmented log storage: " + uri, e);
+        } finally {
+            stripe.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the index of the group, registering the group if it is not known.
+     *
+     * @param name Group name.
+     * @return Group index.
+     * @throws IOException If failed to write the group record.
+     */
+    GroupLogIndex group(String name) throws IOException {
+        GroupLogIndex group = groups.get(name);
+
+        if (group != null) {
+            return group;
+        }
+
+        // Same distribution as the one of the striped disruptors.
+        Stripe stripe = stripes[Math.abs(name.hashCode() % stripeCount)];
+
+        stripe.lock.writeLock().lock();
+
+        try {
+            group = groups.get(name);
+
+            if (group == null) {
+                group = new GroupLogIndex(stripe.id, stripe.nextGroupId++, name);
+
+                stripe.groups.put(name, group);
+
+                appendGroupRecord(stripe, group);
+
+                groups.put(name, group);
+            }
+
+            return group;
+        } finally {
+            stripe.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the first log index of the group.
+     *
+     * @param group Group index.
+     * @return First log index.
+     */
+    long firstLogIndex(GroupLogIndex group) {
+        Stripe stripe = stripe(group);
+
+        stripe.lock.readLock().lock();
+
+        try {
+            return group.firstIndex();
+        } finally {
+            stripe.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the last log index of the group.
+     *
+     * @param group Group index.
+     * @return Last log index.
+     */
+    long lastLogIndex(GroupLogIndex group) {
+        Stripe stripe = stripe(group);
+
+        stripe.lock.readLock().lock();
+
+        try {
+            return group.lastIndex();
+        } finally {
+            stripe.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Reads an encoded log entry.
+     *
+     * @param group Group index.
+     * @param index Log index.
+     * @return Encoded entry or {@code null} if there is no such entry.
+     */
+    byte @Nullable [] read(GroupLogIndex group, long index) {
+        Stripe stripe = stripe(group);
+
+        stripe.lock.readLock().lock();
+
+        try {
+            long position = group.position(index);
+
+            return position == NO_POSITION ? null : readPayload(stripe, position);
+        } finally {
+            stripe.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Reads all configuration entries of the group.
+     *
+     * @param group Group index.
+     * @return Encoded configuration entries in the order of their log indexes.
+     */
+    List<byte[]> readConfigurationEntries(GroupLogIndex group) {
+        Stripe stripe = stripe(group);
+
+        stripe.lock.readLock().lock();
+
+        try {
+            List<byte[]> entries = new ArrayList<>();
+
+            for (long index = group.firstIndex(); index <= group.lastIndex(); index++) {
+                long position = group.position(index);
+
+                if (position != NO_POSITION && recordType(stripe, position) == RECORD_CONF_ENTRY) {
+                    entries.add(readPayload(stripe, position));
+                }
+            }
+
+            return entries;
+        } finally {
+            stripe.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Appends entries to the current segment of the stripe of the group without flushing it.
+     *
+     * @param group Group index.
+     * @param entries Log entries.
+     * @param encoder Log entry encoder.
+     * @throws IOException If failed to create a new segment.
+     */
+    void append(GroupLogIndex group, List<LogEntry> entries, LogEntryEncoder encoder) throws IOException {
+        Stripe stripe = stripe(group);
+
+        stripe.lock.writeLock().lock();
+
+        try {
+            checkNotDestroyed(group);
+
+            for (LogEntry entry : entries) {
+                byte type = entry.getType() == EntryType.ENTRY_TYPE_CONFIGURATION ? RECORD_CONF_ENTRY : RECORD_ENTRY;
+                long index = entry.getId().getIndex();
+                int size = encoder.encodedSize(entry);
+
+                // Entries are encoded directly into the mapped segment.
+                int offset = appendRecord(stripe, type, group.id(), index, size, out -> encoder.encode(entry, out));
+
+                group.add(index, toPosition(stripe.currentSegment.id(), offset));
+            }
+        } finally {
+            stripe.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Flushes all the appended records of all the stripes to the disk.
+     */
+    void sync() {
+        for (Stripe stripe : stripes) {
+            for (LogSegment segment : stripe.segments.values()) {
+                segment.sync();
+            }
+        }
+    }
+
+    /**
+     * Discards the entries of the group before the given index and deletes the segments, that are no longer needed.
+     *
+     * @param group Group index.
+     * @param firstIndexKept First log index kept.
+     * @throws IOException If failed to write the record or to delete a segment.
+     */
+    void truncatePrefix(GroupLogIndex group, long firstIndexKept) throws IOException {
+        Stripe stripe = stripe(group);
+
+        stripe.lock.writeLock().lock();
+
+        try {
+            checkNotDestroyed(group);
+
+            appendRecord(stripe, RECORD_TRUNCATE_PREFIX, group.id(), firstIndexKept, 0, out -> {});
+
+            group.truncatePrefix(firstIndexKept);
+
+            deleteObsoleteSegments(stripe);
+        } finally {
+            stripe.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Discards the entries of the group after the given index.
+     *
+     * @param group Group index.
+     * @param lastIndexKept Last log index kept.
+     * @throws IOException If failed to write the record.
+     */
+    void truncateSuffix(GroupLogIndex group, long lastIndexKept) throws IOException {
+        Stripe stripe = stripe(group);
+
+        stripe.lock.writeLock().lock();
+
+        try {
+            checkNotDestroyed(group);
+
+            appendRecord(stripe, RECORD_TRUNCATE_SUFFIX, group.id(), lastIndexKept, 0, out -> {});
+
+            group.truncateSuffix(lastIndexKept);
+        } finally {
+            stripe.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Discards all the entries of the group and sets its first log index.
+     *
+     * @param group Group index.
+     * @param nextLogIndex Next log index.
+     * @throws IOException If failed to write the record or to delete a segment.
+     */
+    void reset(GroupLogIndex group, long nextLogIndex) throws IOException {
+        Stripe stripe = stripe(group);
+
+        stripe.lock.writeLock().lock();
+
+        try {
+            checkNotDestroyed(group);
+
+            appendRecord(stripe, RECORD_RESET, group.id(), nextLogIndex, 0, out -> {});
+
+            group.reset(nextLogIndex);
+
+            deleteObsoleteSegments(stripe);
+        } finally {
+            stripe.lock.writeLock().unlock();
+        }
+    }
+
+    /** Returns the number of segment files of all the stripes. */
+    int segmentCount() {
+        int count = 0;
+
+        for (Stripe stripe : stripes) {
+            count += stripe.segments.size();
+        }
+
+        return count;
+    }
+
+    private Stripe stripe(GroupLogIndex group) {
+        return stripes[group.stripe()];
+    }
+
+    private static void checkNotDestroyed(GroupLogIndex group) throws IOException {
+        // Records of a destroyed group would make the segments unreadable on recovery.
+        if (group.destroyed()) {
+            throw new IOException("Log storage is destroyed: " + group.name());
+        }
+    }
+
+    private static byte recordType(Stripe stripe, long position) {
+        return stripe.segments.get(segmentId(position)).view(offset(position)).get();
+    }
+
+    private static byte[] readPayload(Stripe stripe, long position) {
+        ByteBuffer view = stripe.segments.get(segmentId(position)).view(offset(position) + 1 + Integer.BYTES + Long.BYTES);
+
+        byte[] payload = new byte[view.getInt()];
+
+        view.position(view.position() + Integer.BYTES).get(payload);
+
+        return payload;
+    }
+
+    private int appendRecord(Stripe stripe, byte type, int groupId, long value, int payloadSize, LogSegment.PayloadWriter payloadWriter)
+            throws IOException {
+        if (stripe.currentSegment.remaining() < HEADER_SIZE + payloadSize) {
+            rollSegment(stripe, payloadSize);
+        }
+
+        return stripe.currentSegment.append(type, groupId, value, payloadSize, payloadWriter);
+    }
+
+    private void appendGroupRecord(Stripe stripe, GroupLogIndex group) throws IOException {
+        byte[] name = group.name().getBytes(UTF_8);
+
+        appendRecord(stripe, RECORD_GROUP, group.id(), group.explicitFirstIndex(), name.length, out -> out.put(name));
+    }
+
+    /**
+     * Flushes the current segment of the stripe and replaces it with a new one, that starts with the records of all the known groups of
+     * the stripe. The flush guarantees, that only the last segment may end with a torn record after a crash.
+     *
+     * @param stripe Stripe.
+     * @param payloadSize Size of the payload of the record, that did not fit the current segment.
+     */
+    private void rollSegment(Stripe stripe, int payloadSize) throws IOException {
+        int groupRecordsSize = 0;
+
+        for (GroupLogIndex group : stripe.groups.values()) {
+            groupRecordsSize += HEADER_SIZE + group.name().getBytes(UTF_8).length;
+        }
+
+        long id = 0;
+
+        if (stripe.currentSegment != null) {
+            stripe.currentSegment.sync();
+
+            id = stripe.currentSegment.id() + 1;
+        }
+
+        int size = Math.max(segmentSize, groupRecordsSize + HEADER_SIZE + payloadSize);
+
+        LogSegment segment = LogSegment.create(id, stripe.path.resolve(segmentFileName(id)), size);
+
+        stripe.segments.put(id, segment);
+
+        stripe.currentSegment = segment;
+
+        for (GroupLogIndex group : stripe.groups.values()) {
+            appendGroupRecord(stripe, group);
+        }
+    }
+
+    /**
+     * Deletes the segments of the stripe, that precede the oldest segment with entries of any group. If the oldest segment is only kept
+     * by the groups, that have not appended anything to the current segment, their entries are copied to the current segment first.
+     */
+    private void deleteObsoleteSegments(Stripe stripe) throws IOException {
+        relocateIdleGroups(stripe);
+
+        long firstNeededId = stripe.currentSegment.id();
+
+        for (GroupLogIndex group : stripe.groups.values()) {
+            firstNeededId = Math.min(firstNeededId, group.firstSegmentId());
+        }
+
+        NavigableMap<Long, LogSegment> obsoleteSegments = stripe.segments.headMap(firstNeededId, false);
+
+        if (obsoleteSegments.isEmpty()) {
+            return;
+        }
+
+        // The records, that make the segments obsolete, and the copied entries of the idle groups must be durable before the segments are
+        // deleted.
+        stripe.currentSegment.sync();
+
+        Iterator<LogSegment> it = obsoleteSegments.values().iterator();
+
+        while (it.hasNext()) {
+            LogSegment segment = it.next();
+
+            it.remove();
+
+            segment.delete();
+        }
+    }
+
+    /**
+     * Copies the entries of the groups, that keep the oldest segment of the stripe, to the current segment, if none of those groups has
+     * appended anything to the current segment. Otherwise the oldest segment is still needed and copying would not help to delete it.
+     */
+    private void relocateIdleGroups(Stripe stripe) throws IOException {
+        long currentId = stripe.currentSegment.id();
+
+        long oldestId = currentId;
+
+        for (GroupLogIndex group : stripe.groups.values()) {
+            oldestId = Math.min(oldestId, group.firstSegmentId());
+        }
+
+        if (oldestId == currentId) {
+            return;
+        }
+
+        List<GroupLogIndex> idleGroups = new ArrayList<>();
+
+        for (GroupLogIndex group : stripe.groups.values()) {
+            if (group.firstSegmentId() != oldestId) {
+                continue;
+            }
+
+            if (segmentId(group.position(group.lastIndex())) == currentId) {
+                return;
+            }
+
+            idleGroups.add(group);
+        }
+
+        for (GroupLogIndex group : idleGroups) {
+            long firstIndex = group.firstStoredIndex();
+            long[] positions = new long[(int) (group.lastIndex() - firstIndex + 1)];
+
+            // Positions are copied first, because adding an entry with an existing index discards the following ones.
+            for (int i = 0; i < positions.length; i++) {
+                positions[i] = group.position(firstIndex + i);
+            }
+
+            for (int i = 0; i < positions.length; i++) {
+                if (positions[i] == NO_POSITION) {
+                    continue;
+                }
+
+                byte type = recordType(stripe, positions[i]);
+                byte[] payload = readPayload(stripe, positions[i]);
+
+                int offset = appendRecord(stripe, type, group.id(), firstIndex + i, payload.length, out -> out.put(payload));
+
+                group.add(firstIndex + i, toPosition(stripe.currentSegment.id(), offset));
+            }
+
+            LOG.info("Copied log entries of an idle group to the current segment [group={}, segment={}]", group.name(),
+                    stripe.currentSegment);
+        }
+    }
+
+    /**
+     * Reads the existing segments of the stripe and rebuilds its group indexes.
+     */
+    private void recover(Stripe stripe) throws IOException {
+        List<Path> files;
+
+        try (Stream<Path> list = Files.list(stripe.path)) {
+            files = list.filter(file -> file.getFileName().toString().endsWith(SEGMENT_FILE_EXTENSION))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+
+        Map<Integer, GroupLogIndex> groupsById = new HashMap<>();
+
+        for (int i = 0; i < files.size(); i++) {
+            Path file = files.get(i);
+
+            String fileName = file.getFileName().toString();
+
+            long id = Long.parseLong(fileName.substring(0, fileName.length() - SEGMENT_FILE_EXTENSION.length()));
+
+            LogSegment segment = LogSegment.open(id, file);
+
+            stripe.segments.put(id, segment);
+
+            segment.setWritePosition(replay(stripe, segment, groupsById, i == files.size() - 1));
+
+            stripe.currentSegment = segment;
+        }
+
+        for (GroupLogIndex group : groupsById.values()) {
+            stripe.groups.put(group.name(), group);
+
+            groups.put(group.name(), group);
+        }
+
+        if (!files.isEmpty()) {
+            LOG.info("Recovered segmented log storage [path={}, segments={}, groups={}]", stripe.path, files.size(), stripe.groups.size());
+        }
+    }
+
+    /**
+     * Applies the records of the segment to the group indexes.
+     *
+     * @param last Whether the segment is the last one of the stripe, the only one that may end with a torn record.
+     * @return Position after the last valid record.
+     * @throws LogEntryCorruptedException If a record of a segment, that is not the last one, is corrupted.
+     */
+    private static int replay(Stripe stripe, LogSegment segment, Map<Integer, GroupLogIndex> groupsById, boolean last) {
+        int offset = 0;
+
+        while (offset + HEADER_SIZE <= segment.capacity()) {
+            ByteBuffer header = segment.view(offset);
+
+            byte type = header.get();
+
+            if (type == RECORD_END) {
+                break;
+            }
+
+            int groupId = header.getInt();
+            long value = header.getLong();
+            int payloadSize = header.getInt();
+            int crc = header.getInt();
+
+            if (payloadSize < 0 || payloadSize > segment.capacity() - offset - HEADER_SIZE
+                    || segment.crc(offset + HEADER_SIZE, payloadSize) != crc) {
+                // Segments are synced before rolling, so only the last record of the last segment may be torn by a crash.
+                if (!last) {
+                    throw new LogEntryCorruptedException("Corrupted record in log segment [segment=" + segment + ", offset=" + offset
+                            + ']');
+                }
+
+                LOG.warn("Discarding torn record of log segment [segment={}, offset={}]", segment, offset);
+
+                segment.erase(offset);
+
+                break;
+            }
+
+            // Group ids of the unregistered groups are not reused.
+            stripe.nextGroupId = Math.max(stripe.nextGroupId, groupId + 1);
+
+            if (type == RECORD_GROUP) {
+                if (!groupsById.containsKey(groupId)) {
+                    byte[] name = new byte[payloadSize];
+
+                    header.get(name);
+
+                    var group = new GroupLogIndex(stripe.id, groupId, new String(name, UTF_8));
+
+                    if (value >= 0) {
+                        group.reset(value);
+                    }
+
+                    groupsById.put(groupId, group);
+                }
+            } else {
+                GroupLogIndex group = groupsById.get(groupId);
+
+                if (group == null) {
+                    throw new IllegalStateException("Unknown group in log segment [segment=" + segment + ", offset=" + offset
+                            + ", groupId=" + groupId + ']');
+                }
+
+                switch (type) {
+                    case RECORD_ENTRY:
+                    case RECORD_CONF_ENTRY:
+                        group.add(value, toPosition(segment.id(), offset));
+                        break;
+
+                    case RECORD_TRUNCATE_PREFIX:
+                        group.truncatePrefix(value);
+                        break;
+
+                    case RECORD_TRUNCATE_SUFFIX:
+                        group.truncateSuffix(value);
+                        break;
+
+                    case RECORD_RESET:
+                        group.reset(value);
+                        break;
+
+                    case RECORD_UNREGISTER:
+                        groupsById.remove(groupId);
+                        break;
+
+                    default:
+                        throw new IllegalStateException("Unknown record type in log segment [segment=" + segment + ", offset=" + offset
+                                + ", type=" + type + ']');
+                }
+            }
+
+            offset += HEADER_SIZE + payloadSize;
+        }
+
+        return offset;
+    }
+
+    private static String segmentFileName(long id) {
+        return String.format("%020d", id) + SEGMENT_FILE_EXTENSION;
+    }
+
+    /** Segments of a stripe of the groups. */
+    private static class Stripe {
+        /** Stripe id. */
+        final int id;
+
+        /** Directory of the segment files. */
+        final Path path;
+
+        /** Guards the segments and the group indexes of the stripe. Flushing a segment does not need the lock. */
+        final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+        /** Segments by their ids. */
+        final NavigableMap<Long, LogSegment> segments = new ConcurrentSkipListMap<>();
+
+        /** Group indexes by group names. */
+        final Map<String, GroupLogIndex> groups = new HashMap<>();
+
+        /** Segment the records are appended to. */
+        LogSegment currentSegment;
+
+        /** Id for the next registered group. */
+        int nextGroupId;
+
+        Stripe(int id, Path path) {
+            this.id = id;
+            this.path = path;
+        }
+    }
+}
@@ -51,7 +51,7 @@ public class StripeAwareLogManager extends LogManagerImpl {
     private int maxAppendBufferSize;
 
     /**
-     * Whether the log storage is a {@link RocksDbSharedLogStorage} or not.
+     * Whether the log storage is a {@link BatchedLogStorage} or not.
      * It requires special treatment in order to better optimize writes.
      */
     private boolean sharedLogStorage;
@@ -69,7 +69,7 @@ public class StripeAwareLogManager extends LogManagerImpl {
     public boolean init(LogManagerOptions opts) {
         LogStorage logStorage = opts.getLogStorage();
 
-        this.sharedLogStorage = logStorage instanceof RocksDbSharedLogStorage;
+        this.sharedLogStorage = logStorage instanceof BatchedLogStorage;
         this.logStorage = logStorage;
         this.maxAppendBufferSize = opts.getRaftOptions().getMaxAppendBufferSize();
 
@@ -84,7 +84,7 @@ public class StripeAwareLogManager extends LogManagerImpl {
     @Override
     protected int appendToLogStorage(List<LogEntry> toAppend) {
         if (sharedLogStorage) {
-            return ((RocksDbSharedLogStorage) logStorage).appendEntriesToBatch(toAppend) ? toAppend.size() : 0;
+            return ((BatchedLogStorage) logStorage).appendEntriesToBatch(toAppend) ? toAppend.size() : 0;
         } else {
             return logStorage.appendEntries(toAppend);
         }
@@ -126,11 +126,11 @@ public class StripeAwareLogManager extends LogManagerImpl {
         }
 
         /**
-         * Delegates to {@link RocksDbSharedLogStorage#commitWriteBatch()} if it can. No-op otherwise.
+         * Delegates to {@link BatchedLogStorage#commitWriteBatch()} if it can. No-op otherwise.
          */
         void commitWriteBatch() {
             if (sharedLogStorage) {
-                ((RocksDbSharedLogStorage) logStorage).commitWriteBatch();
+                ((BatchedLogStorage) logStorage).commitWriteBatch();
             }
         }
 
@@ -190,7 +190,7 @@ public class StripeAwareLogManager extends LogManagerImpl {
      * <br>
      * It accumulates data from different {@link AppendBatcher} instances, allowing to flush data from several log storages all at once.
      * <br>
-     * Also supports batch log updates for {@link RocksDbSharedLogStorage}.
+     * Also supports batch log updates for {@link BatchedLogStorage}s.
      */
     public static class Stripe {
         /** Cumulative data size of all data entries, not yet flushed in this stripe. */
@@ -16,6 +16,7 @@
  */
 package org.apache.ignite.raft.jraft.entity.codec;
 
+import java.nio.ByteBuffer;
 import org.apache.ignite.raft.jraft.entity.LogEntry;
 
 /**
@@ -29,4 +30,25 @@ public interface LogEntryEncoder {
      * @return encoded byte array
      */
     byte[] encode(LogEntry log);
+
+    /**
+     * Returns the size of the encoded log entry in bytes.
+     *
+     * @param log log entry
+     * @return size of the encoded log entry
+     */
+    default int encodedSize(LogEntry log) {
+        return encode(log).length;
+    }
+
+    /**
+     * Encode a log entry into a buffer, starting at its current position. The position is advanced by {@link #encodedSize(LogEntry)}
+     * bytes. Allows to encode log entries into reusable (possibly direct) buffers without an intermediate byte array.
+     *
+     * @param log log entry
+     * @param out buffer with at least {@link #encodedSize(LogEntry)} bytes remaining
+     */
+    default void encode(LogEntry log, ByteBuffer out) {
+        out.put(encode(log));
+    }
 }
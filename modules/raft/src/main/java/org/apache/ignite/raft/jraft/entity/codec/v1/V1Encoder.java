@@ -17,15 +17,13 @@
 package org.apache.ignite.raft.jraft.entity.codec.v1;
 
 import java.nio.ByteBuffer;
-import java.util.ArrayList;
+import java.nio.ByteOrder;
 import java.util.List;
 import org.apache.ignite.raft.jraft.entity.EnumOutter.EntryType;
 import org.apache.ignite.raft.jraft.entity.LogEntry;
 import org.apache.ignite.raft.jraft.entity.LogId;
 import org.apache.ignite.raft.jraft.entity.PeerId;
 import org.apache.ignite.raft.jraft.entity.codec.LogEntryEncoder;
-import org.apache.ignite.raft.jraft.util.AsciiStringUtil;
-import org.apache.ignite.raft.jraft.util.Bits;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -40,121 +38,124 @@ public final class V1Encoder implements LogEntryEncoder {
     // Refactored to look closer to Ignites code style.
     @Override
     public byte[] encode(final LogEntry log) {
+        byte[] content = new byte[encodedSize(log)];
+
+        encode(log, ByteBuffer.wrap(content));
+
+        return content;
+    }
+
+    @Override
+    public int encodedSize(LogEntry log) {
         EntryType type = log.getType();
         LogId id = log.getId();
-        List<PeerId> peers = log.getPeers();
-        List<PeerId> oldPeers = log.getOldPeers();
-        List<PeerId> learners = log.getLearners();
-        List<PeerId> oldLearners = log.getOldLearners();
-        ByteBuffer data = log.getData();
 
         int totalLen = LogEntryV1CodecFactory.PAYLOAD_OFFSET;
-        int typeNumber = type.getNumber();
-        long index = id.getIndex();
-        long term = id.getTerm();
 
-        totalLen += sizeInBytes(typeNumber) + sizeInBytes(index) + sizeInBytes(term) + 8;
-
-        List<String> peerStrs = null;
-        List<String> oldPeerStrs = null;
-        List<String> learnerStrs = null;
-        List<String> oldLearnerStrs = null;
+        totalLen += sizeInBytes(type.getNumber()) + sizeInBytes(id.getIndex()) + sizeInBytes(id.getTerm()) + Long.BYTES;
 
         if (type != EntryType.ENTRY_TYPE_DATA) {
-            peerStrs = new ArrayList<>();
-            totalLen += nodesListSizeInBytes(peers, peerStrs);
-
-            oldPeerStrs = new ArrayList<>();
-            totalLen += nodesListSizeInBytes(oldPeers, oldPeerStrs);
-
-            learnerStrs = new ArrayList<>();
-            totalLen += nodesListSizeInBytes(learners, learnerStrs);
-
-            oldLearnerStrs = new ArrayList<>();
-            totalLen += nodesListSizeInBytes(oldLearners, oldLearnerStrs);
+            totalLen += nodesListSizeInBytes(log.getPeers());
+            totalLen += nodesListSizeInBytes(log.getOldPeers());
+            totalLen += nodesListSizeInBytes(log.getLearners());
+            totalLen += nodesListSizeInBytes(log.getOldLearners());
         }
 
-        if (type != EntryType.ENTRY_TYPE_CONFIGURATION) {
-            int bodyLen = data != null ? data.remaining() : 0;
-            totalLen += bodyLen;
+        ByteBuffer data = log.getData();
+
+        if (type != EntryType.ENTRY_TYPE_CONFIGURATION && data != null) {
+            totalLen += data.remaining();
         }
 
-        byte[] content = new byte[totalLen];
-        content[0] = LogEntryV1CodecFactory.MAGIC;
-        int pos = LogEntryV1CodecFactory.PAYLOAD_OFFSET;
+        return totalLen;
+    }
 
-        pos = writeLong(typeNumber, content, pos);
-        pos = writeLong(index, content, pos);
-        pos = writeLong(term, content, pos);
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The buffer must use {@link ByteOrder#BIG_ENDIAN big-endian} byte order, which is the default one. The data of the entry may be
+     * either a heap or a direct buffer.
+     */
+    @Override
+    public void encode(LogEntry log, ByteBuffer out) {
+        assert out.order() == ByteOrder.BIG_ENDIAN : out.order();
 
-        Bits.putLong(content, pos, log.getChecksum());
-        pos += Long.BYTES;
+        EntryType type = log.getType();
+        LogId id = log.getId();
 
-        if (type != EntryType.ENTRY_TYPE_DATA) {
-            pos = writeNodesList(pos, content, peerStrs);
+        out.put(LogEntryV1CodecFactory.MAGIC);
 
-            pos = writeNodesList(pos, content, oldPeerStrs);
+        writeLong(type.getNumber(), out);
+        writeLong(id.getIndex(), out);
+        writeLong(id.getTerm(), out);
 
-            pos = writeNodesList(pos, content, learnerStrs);
+        out.putLong(log.getChecksum());
 
-            pos = writeNodesList(pos, content, oldLearnerStrs);
+        if (type != EntryType.ENTRY_TYPE_DATA) {
+            writeNodesList(log.getPeers(), out);
+            writeNodesList(log.getOldPeers(), out);
+            writeNodesList(log.getLearners(), out);
+            writeNodesList(log.getOldLearners(), out);
         }
 
+        ByteBuffer data = log.getData();
+
         if (type != EntryType.ENTRY_TYPE_CONFIGURATION && data != null) {
-            System.arraycopy(data.array(), data.position(), content, pos, data.remaining());
+            // Duplicate to leave the position of the entry data intact.
+            out.put(data.duplicate());
         }
-
-        return content;
     }
 
-    private static int nodesListSizeInBytes(@Nullable List<PeerId> nodes, List<String> nodeStrs) {
-        int size = 0;
+    private static int nodesListSizeInBytes(@Nullable List<PeerId> nodes) {
+        if (nodes == null) {
+            return sizeInBytes(0);
+        }
 
-        if (nodes != null) {
-            for (PeerId node : nodes) {
-                String nodeStr = node.toString();
+        int size = sizeInBytes(nodes.size());
 
-                nodeStrs.add(nodeStr);
-                size += 2 + nodeStr.length();
-            }
+        for (PeerId node : nodes) {
+            size += Short.BYTES + node.toString().length();
         }
 
-        return size + sizeInBytes(nodeStrs.size());
+        return size;
     }
 
-    private static int writeNodesList(int pos, byte[] content, List<String> nodeStrs) {
-        pos = writeLong(nodeStrs.size(), content, pos);
+    private static void writeNodesList(@Nullable List<PeerId> nodes, ByteBuffer out) {
+        if (nodes == null) {
+            writeLong(0, out);
+
+            return;
+        }
+
+        writeLong(nodes.size(), out);
 
-        for (String nodeStr : nodeStrs) {
+        for (PeerId node : nodes) {
+            String nodeStr = node.toString();
             int length = nodeStr.length();
 
-            Bits.putShort(content, pos, (short) length);
-            pos += 2;
+            out.putShort((short) length);
 
-            AsciiStringUtil.unsafeEncode(nodeStr, content, pos);
-            pos += length;
+            for (int i = 0; i < length; i++) {
+                out.put((byte) nodeStr.charAt(i));
+            }
         }
-
-        return pos;
     }
 
     // Based on DirectByteBufferStreamImplV1.
-    private static int writeLong(long val, byte[] out, int pos) {
+    private static void writeLong(long val, ByteBuffer out) {
         while ((val & 0xFFFF_FFFF_FFFF_FF80L) != 0) {
             byte b = (byte) (val | 0x80);
 
-            out[pos++] = b;
+            out.put(b);
 
             val >>>= 7;
         }
 
-        out[pos++] = (byte) val;
-
-        return pos;
+        out.put((byte) val);
     }
 
     /**
-     * Returns the number of bytes, required by the {@link #writeLong(long, byte[], int)} to write the value.
+     * Returns the number of bytes, required by the {@link #writeLong(long, ByteBuffer)} to write the value.
     */
     private static int sizeInBytes(long val) {
         if (val >= 0) {
@@ -32,6 +32,7 @@ import org.apache.ignite.raft.jraft.core.ReadOnlyServiceImpl;
 import org.apache.ignite.raft.jraft.core.Replicator;
 import org.apache.ignite.raft.jraft.core.Scheduler;
 import org.apache.ignite.raft.jraft.disruptor.StripedDisruptor;
+import org.apache.ignite.raft.jraft.rpc.impl.core.HeartbeatCoalescer;
 import org.apache.ignite.raft.jraft.storage.SnapshotThrottle;
 import org.apache.ignite.raft.jraft.storage.impl.LogManagerImpl;
 import org.apache.ignite.raft.jraft.util.Copiable;
@@ -191,6 +192,16 @@ public class NodeOptions extends RpcOptions implements Copiable<NodeOptions> {
      */
     private Scheduler scheduler;
 
+    /**
+     * Interval of sending coalesced heartbeats in milliseconds, heartbeats are not coalesced if the value is non-positive.
+     */
+    private int heartbeatCoalescingIntervalMs = 0;
+
+    /**
+     * Node-level sender of coalesced heartbeats, {@code null} if heartbeats are not coalesced.
+     */
+    private HeartbeatCoalescer heartbeatCoalescer;
+
     /**
      * The election timer.
      */
@@ -538,6 +549,22 @@ public class NodeOptions extends RpcOptions implements Copiable<NodeOptions> {
         this.scheduler = scheduler;
     }
 
+    public int getHeartbeatCoalescingIntervalMs() {
+        return this.heartbeatCoalescingIntervalMs;
+    }
+
+    public void setHeartbeatCoalescingIntervalMs(int heartbeatCoalescingIntervalMs) {
+        this.heartbeatCoalescingIntervalMs = heartbeatCoalescingIntervalMs;
+    }
+
+    public @Nullable HeartbeatCoalescer getHeartbeatCoalescer() {
+        return this.heartbeatCoalescer;
+    }
+
+    public void setHeartbeatCoalescer(HeartbeatCoalescer heartbeatCoalescer) {
+        this.heartbeatCoalescer = heartbeatCoalescer;
+    }
+
     public Timer getElectionTimer() {
         return this.electionTimer;
     }
@@ -648,6 +675,8 @@ public class NodeOptions extends RpcOptions implements Copiable<NodeOptions> {
         nodeOptions.setStripedExecutor(this.getStripedExecutor());
         nodeOptions.setServerName(this.getServerName());
         nodeOptions.setScheduler(this.getScheduler());
+        nodeOptions.setHeartbeatCoalescingIntervalMs(this.getHeartbeatCoalescingIntervalMs());
+        nodeOptions.setHeartbeatCoalescer(this.getHeartbeatCoalescer());
         nodeOptions.setClientExecutor(this.getClientExecutor());
         nodeOptions.setNodeApplyDisruptor(this.getNodeApplyDisruptor());
         nodeOptions.setfSMCallerExecutorDisruptor(this.getfSMCallerExecutorDisruptor());
@@ -40,4 +40,9 @@ public interface ActionRequest extends Message {
      * @return {@code True} for linearizable reading.
      */
     boolean readOnlySafe();
+
+    @Override
+    default int orderingKey() {
+        return groupId().hashCode();
+    }
 }
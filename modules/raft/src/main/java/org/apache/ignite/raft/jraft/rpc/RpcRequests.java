@@ -95,6 +95,11 @@ public final class RpcRequests {
         RaftOutter.SnapshotMeta meta();
 
         String uri();
+
+        @Override
+        default int orderingKey() {
+            return groupId().hashCode();
+        }
     }
 
     @Transferable(value = RaftMessageGroup.RpcRequestsMessageGroup.INSTALL_SNAPSHOT_RESPONSE)
@@ -113,6 +118,11 @@ public final class RpcRequests {
         String peerId();
 
         long term();
+
+        @Override
+        default int orderingKey() {
+            return groupId().hashCode();
+        }
     }
 
     @Transferable(value = RaftMessageGroup.RpcRequestsMessageGroup.TIMEOUT_NOW_RESPONSE)
@@ -143,6 +153,11 @@ public final class RpcRequests {
         long lastLogIndex();
 
         boolean preVote();
+
+        @Override
+        default int orderingKey() {
+            return groupId().hashCode();
+        }
     }
 
     @Transferable(value = RaftMessageGroup.RpcRequestsMessageGroup.REQUEST_VOTE_RESPONSE)
@@ -186,6 +201,11 @@ public final class RpcRequests {
         default HybridTimestamp timestamp() {
             return hybridTimestamp(timestampLong());
         }
+
+        @Override
+        default int orderingKey() {
+            return groupId().hashCode();
+        }
     }
 
     @Transferable(value = RaftMessageGroup.RpcRequestsMessageGroup.APPEND_ENTRIES_RESPONSE)
@@ -239,6 +259,11 @@ public final class RpcRequests {
 
         @Nullable
         String peerId();
+
+        @Override
+        default int orderingKey() {
+            return groupId().hashCode();
+        }
     }
 
     @Transferable(value = RaftMessageGroup.RpcRequestsMessageGroup.READ_INDEX_RESPONSE)
@@ -247,4 +272,21 @@ public final class RpcRequests {
 
         boolean success();
     }
+
+    /**
+     * Heartbeats of several Raft groups sent by the local node to the same peer node as a single message.
+     */
+    @Transferable(value = RaftMessageGroup.RpcRequestsMessageGroup.COALESCED_HEARTBEAT_REQUEST)
+    public interface CoalescedHeartbeatRequest extends Message {
+        List<AppendEntriesRequest> heartbeats();
+    }
+
+    /**
+     * Responses to the heartbeats of a {@link CoalescedHeartbeatRequest}, in the order of the requests. Every response is either an
+     * {@link AppendEntriesResponse} or an {@link ErrorResponse}.
+     */
+    @Transferable(value = RaftMessageGroup.RpcRequestsMessageGroup.COALESCED_HEARTBEAT_RESPONSE)
+    public interface CoalescedHeartbeatResponse extends Message {
+        List<Message> responses();
+    }
 }
@@ -53,6 +53,7 @@ import org.apache.ignite.raft.jraft.rpc.impl.cli.SnapshotRequestProcessor;
 import org.apache.ignite.raft.jraft.rpc.impl.cli.TransferLeaderRequestProcessor;
 import org.apache.ignite.raft.jraft.rpc.impl.core.AppendEntriesRequestInterceptor;
 import org.apache.ignite.raft.jraft.rpc.impl.core.AppendEntriesRequestProcessor;
+import org.apache.ignite.raft.jraft.rpc.impl.core.CoalescedHeartbeatRequestProcessor;
 import org.apache.ignite.raft.jraft.rpc.impl.core.GetFileRequestProcessor;
 import org.apache.ignite.raft.jraft.rpc.impl.core.InstallSnapshotRequestProcessor;
 import org.apache.ignite.raft.jraft.rpc.impl.core.InterceptingAppendEntriesRequestProcessor;
@@ -102,6 +103,7 @@ public class IgniteRpcServer implements RpcServer<Void> {
             new InterceptingAppendEntriesRequestProcessor(rpcExecutor, raftMessagesFactory,  appendEntriesRequestFilter);
         registerConnectionClosedEventListener(appendEntriesRequestProcessor);
         registerProcessor(appendEntriesRequestProcessor);
+        registerProcessor(new CoalescedHeartbeatRequestProcessor(rpcExecutor, raftMessagesFactory, appendEntriesRequestProcessor));
         registerProcessor(new GetFileRequestProcessor(rpcExecutor, raftMessagesFactory));
         registerProcessor(new InstallSnapshotRequestProcessor(rpcExecutor, raftMessagesFactory));
         registerProcessor(new RequestVoteRequestProcessor(rpcExecutor, raftMessagesFactory));
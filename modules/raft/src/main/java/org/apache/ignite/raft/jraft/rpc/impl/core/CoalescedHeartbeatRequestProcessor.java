@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.raft.jraft.rpc.impl.core;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.apache.ignite.network.ClusterNode;
+import org.apache.ignite.network.NetworkAddress;
+import org.apache.ignite.raft.jraft.NodeManager;
+import org.apache.ignite.raft.jraft.RaftMessagesFactory;
+import org.apache.ignite.raft.jraft.rpc.Message;
+import org.apache.ignite.raft.jraft.rpc.RpcContext;
+import org.apache.ignite.raft.jraft.rpc.RpcProcessor;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.AppendEntriesRequest;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.CoalescedHeartbeatRequest;
+
+/**
+ * Coalesced heartbeat request processor. Every heartbeat is handled by the {@link AppendEntriesRequestProcessor} as if it was received
+ * separately, the responses are sent back as a single message once all of them are ready.
+ */
+public class CoalescedHeartbeatRequestProcessor implements RpcProcessor<CoalescedHeartbeatRequest> {
+    /** The executor. */
+    private final Executor executor;
+
+    /** Message factory. */
+    private final RaftMessagesFactory msgFactory;
+
+    /** Processor of the individual heartbeats. */
+    private final AppendEntriesRequestProcessor heartbeatProcessor;
+
+    /**
+     * Constructor.
+     *
+     * @param executor The executor.
+     * @param msgFactory Message factory.
+     * @param heartbeatProcessor Processor of the individual heartbeats.
+     */
+    public CoalescedHeartbeatRequestProcessor(
+            Executor executor,
+            RaftMessagesFactory msgFactory,
+            AppendEntriesRequestProcessor heartbeatProcessor
+    ) {
+        this.executor = executor;
+        this.msgFactory = msgFactory;
+        this.heartbeatProcessor = heartbeatProcessor;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void handleRequest(RpcContext rpcCtx, CoalescedHeartbeatRequest request) {
+        List<AppendEntriesRequest> heartbeats = request.heartbeats();
+
+        Message[] responses = new Message[heartbeats.size()];
+
+        if (responses.length == 0) {
+            rpcCtx.sendResponse(msgFactory.coalescedHeartbeatResponse().responses(List.of()).build());
+
+            return;
+        }
+
+        var remaining = new AtomicInteger(responses.length);
+
+        for (int i = 0; i < responses.length; i++) {
+            int idx = i;
+
+            var heartbeatCtx = new HeartbeatRpcContext(rpcCtx, response -> {
+                responses[idx] = (Message) response;
+
+                if (remaining.decrementAndGet() == 0) {
+                    rpcCtx.sendResponse(msgFactory.coalescedHeartbeatResponse().responses(Arrays.asList(responses)).build());
+                }
+            });
+
+            heartbeatProcessor.handleRequest(heartbeatCtx, heartbeats.get(i));
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String interest() {
+        return CoalescedHeartbeatRequest.class.getName();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Executor executor() {
+        return executor;
+    }
+
+    /**
+     * Context of a single heartbeat of a coalesced request, collects the response instead of sending it.
+     */
+    private static class HeartbeatRpcContext implements RpcContext {
+        private final RpcContext parent;
+
+        private final Consumer<Object> responseConsumer;
+
+        HeartbeatRpcContext(RpcContext parent, Consumer<Object> responseConsumer) {
+            this.parent = parent;
+            this.responseConsumer = responseConsumer;
+        }
+
+        @Override
+        public NodeManager getNodeManager() {
+            return parent.getNodeManager();
+        }
+
+        @Override
+        public void sendResponse(Object responseObj) {
+            responseConsumer.accept(responseObj);
+        }
+
+        @Override
+        public void sendResponseAsync(Object responseObj) {
+            responseConsumer.accept(responseObj);
+        }
+
+        @Override
+        public NetworkAddress getRemoteAddress() {
+            return parent.getRemoteAddress();
+        }
+
+        @Override
+        public ClusterNode getSender() {
+            return parent.getSender();
+        }
+
+        @Override
+        public String getLocalConsistentId() {
+            return parent.getLocalConsistentId();
+        }
+    }
+}
@@ -95,6 +95,12 @@ public class DefaultRaftClientService extends AbstractClientService implements R
             k -> nodeOptions.getStripedExecutor().next());
 
         if (connect(peerId)) { // Replicator should be started asynchronously by node joined event.
+            final HeartbeatCoalescer heartbeatCoalescer = nodeOptions.getHeartbeatCoalescer();
+
+            if (heartbeatCoalescer != null && HeartbeatCoalescer.isHeartbeat(request, timeoutMs)) {
+                return heartbeatCoalescer.heartbeat(peerId, request, timeoutMs, done, executor);
+            }
+
             return invokeWithDone(peerId, request, done, timeoutMs, executor);
         }
 
@@ -0,0 +1,347 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.raft.jraft.rpc.impl.core;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.raft.jraft.RaftMessagesFactory;
+import org.apache.ignite.raft.jraft.Status;
+import org.apache.ignite.raft.jraft.core.Scheduler;
+import org.apache.ignite.raft.jraft.entity.PeerId;
+import org.apache.ignite.raft.jraft.error.InvokeTimeoutException;
+import org.apache.ignite.raft.jraft.error.RaftError;
+import org.apache.ignite.raft.jraft.rpc.InvokeCallback;
+import org.apache.ignite.raft.jraft.rpc.Message;
+import org.apache.ignite.raft.jraft.rpc.RpcClient;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.AppendEntriesRequest;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.AppendEntriesResponse;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.CoalescedHeartbeatRequest;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.CoalescedHeartbeatResponse;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.ErrorResponse;
+import org.apache.ignite.raft.jraft.rpc.RpcResponseClosure;
+import org.jetbrains.annotations.TestOnly;
+
+/**
+ * Node-level sender of heartbeats. Heartbeats of all Raft groups led by the local node are accumulated per peer node and sent once per
+ * tick as a single {@link CoalescedHeartbeatRequest}, so the number of heartbeat messages depends on the number of nodes rather than on
+ * the number of Raft groups. Responses are fanned out to the closures of the individual heartbeats, which see exactly the same outcomes
+ * as if the heartbeats had been sent one by one.
+ */
+public class HeartbeatCoalescer {
+    private static final IgniteLogger LOG = Loggers.forClass(HeartbeatCoalescer.class);
+
+    /** RPC client. */
+    private final RpcClient rpcClient;
+
+    /** Message factory. */
+    private final RaftMessagesFactory msgFactory;
+
+    /** Scheduler of ticks. */
+    private final Scheduler scheduler;
+
+    /** Tick interval in milliseconds. */
+    private final int intervalMs;
+
+    /** Heartbeats waiting for the next tick, by the consistent id of the peer node. */
+    private final ConcurrentMap<String, Queue<PendingHeartbeat>> pending = new ConcurrentHashMap<>();
+
+    /** Number of sent coalesced requests. */
+    private final LongAdder coalescedRequests = new LongAdder();
+
+    /** Number of heartbeats sent as a part of coalesced requests. */
+    private final LongAdder coalescedHeartbeats = new LongAdder();
+
+    /** Tick task. */
+    private volatile ScheduledFuture<?> tickTask;
+
+    /** Whether the coalescer is stopped, heartbeats are sent without waiting for a tick after that. */
+    private volatile boolean stopped;
+
+    /**
+     * Constructor.
+     *
+     * @param rpcClient RPC client.
+     * @param msgFactory Message factory.
+     * @param scheduler Scheduler of ticks.
+     * @param intervalMs Tick interval in milliseconds.
+     */
+    public HeartbeatCoalescer(RpcClient rpcClient, RaftMessagesFactory msgFactory, Scheduler scheduler, int intervalMs) {
+        assert intervalMs > 0 : intervalMs;
+
+        this.rpcClient = rpcClient;
+        this.msgFactory = msgFactory;
+        this.scheduler = scheduler;
+        this.intervalMs = intervalMs;
+    }
+
+    /**
+     * Starts sending the accumulated heartbeats.
+     */
+    public void start() {
+        tickTask = scheduler.scheduleAtFixedRate(this::flush, intervalMs, intervalMs, MILLISECONDS);
+    }
+
+    /**
+     * Stops the ticks and sends the accumulated heartbeats. Must be called before the executors of the closures are shut down.
+     */
+    public void stop() {
+        stopped = true;
+
+        ScheduledFuture<?> task = tickTask;
+
+        if (task != null) {
+            task.cancel(false);
+        }
+
+        flush();
+    }
+
+    /**
+     * Returns {@code true} if the request is a heartbeat that may be coalesced. Probe requests also have no entries, but they carry empty
+     * data and are sent without a timeout, they are never coalesced, as a coalesced request is sent with a timeout.
+     *
+     * @param request Append entries request.
+     * @param timeoutMs Response timeout in milliseconds.
+     * @return {@code true} if the request is a heartbeat.
+     */
+    public static boolean isHeartbeat(AppendEntriesRequest request, int timeoutMs) {
+        return request.entriesList() == null && request.data() == null && timeoutMs > 0;
+    }
+
+    /**
+     * Enqueues a heartbeat till the next tick.
+     *
+     * @param peerId Destination peer.
+     * @param request Heartbeat request.
+     * @param timeoutMs Response timeout in milliseconds.
+     * @param done Closure to run on the response.
+     * @param executor Executor to run the closure.
+     * @return Future that is completed with the response.
+     */
+    public Future<Message> heartbeat(
+            PeerId peerId,
+            AppendEntriesRequest request,
+            int timeoutMs,
+            RpcResponseClosure<AppendEntriesResponse> done,
+            Executor executor
+    ) {
+        assert isHeartbeat(request, timeoutMs) : request;
+
+        var heartbeat = new PendingHeartbeat(peerId, request, timeoutMs, done, executor);
+
+        // The queue is added to under the lock of the map entry, so that it is not pruned concurrently, see flush().
+        pending.compute(peerId.getConsistentId(), (id, queue) -> {
+            if (queue == null) {
+                queue = new ConcurrentLinkedQueue<>();
+            }
+
+            queue.add(heartbeat);
+
+            return queue;
+        });
+
+        if (stopped) {
+            // The last tick may have been missed.
+            flush();
+        }
+
+        return heartbeat.future;
+    }
+
+    /** Returns the number of sent coalesced requests. */
+    public long coalescedRequests() {
+        return coalescedRequests.sum();
+    }
+
+    /** Returns the number of heartbeats sent as a part of coalesced requests. */
+    public long coalescedHeartbeats() {
+        return coalescedHeartbeats.sum();
+    }
+
+    /**
+     * Sends the accumulated heartbeats, one message per peer node.
+     */
+    void flush() {
+        for (Map.Entry<String, Queue<PendingHeartbeat>> e : pending.entrySet()) {
+            List<PendingHeartbeat> batch = new ArrayList<>();
+
+            PendingHeartbeat heartbeat;
+
+            while ((heartbeat = e.getValue().poll()) != null) {
+                batch.add(heartbeat);
+            }
+
+            if (batch.isEmpty()) {
+                // No heartbeats since the previous tick, e.g. the peer has left. The queue is removed unless a heartbeat has been added.
+                pending.computeIfPresent(e.getKey(), (id, queue) -> queue.isEmpty() ? null : queue);
+            } else {
+                send(batch);
+            }
+        }
+    }
+
+    /** Returns the number of peer nodes with the heartbeat queues. */
+    @TestOnly
+    int queuedPeers() {
+        return pending.size();
+    }
+
+    private void send(List<PendingHeartbeat> batch) {
+        PendingHeartbeat first = batch.get(0);
+
+        if (batch.size() == 1) {
+            invoke(first.peerId, first.request, first.timeoutMs, first.executor, first::complete);
+
+            return;
+        }
+
+        List<AppendEntriesRequest> requests = new ArrayList<>(batch.size());
+
+        int timeoutMs = 0;
+
+        for (PendingHeartbeat heartbeat : batch) {
+            requests.add(heartbeat.request);
+
+            timeoutMs = Math.max(timeoutMs, heartbeat.timeoutMs);
+        }
+
+        CoalescedHeartbeatRequest request = msgFactory.coalescedHeartbeatRequest()
+                .heartbeats(requests)
+                .build();
+
+        coalescedRequests.increment();
+        coalescedHeartbeats.add(batch.size());
+
+        invoke(first.peerId, request, timeoutMs, first.executor, (result, err) -> {
+            if (err == null && result instanceof CoalescedHeartbeatResponse) {
+                List<Message> responses = ((CoalescedHeartbeatResponse) result).responses();
+
+                assert responses.size() == batch.size() : "Expected " + batch.size() + " responses, got " + responses.size();
+
+                for (int i = 0; i < batch.size(); i++) {
+                    batch.get(i).complete(responses.get(i), null);
+                }
+            } else {
+                // The whole request has failed, or the peer has responded with a single error.
+                for (PendingHeartbeat heartbeat : batch) {
+                    heartbeat.complete(result, err);
+                }
+            }
+        });
+    }
+
+    private void invoke(PeerId peerId, Message request, int timeoutMs, Executor executor, BiConsumer<Message, Throwable> callback) {
+        try {
+            rpcClient.invokeAsync(peerId, request, null, new InvokeCallback() {
+                @Override
+                public void complete(Object result, Throwable err) {
+                    callback.accept((Message) result, err);
+                }
+
+                @Override
+                public Executor executor() {
+                    return executor;
+                }
+            }, timeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            executor.execute(() -> callback.accept(null, e));
+        } catch (Exception e) {
+            executor.execute(() -> callback.accept(null, e));
+        }
+    }
+
+    /** Heartbeat waiting for the next tick. */
+    private static class PendingHeartbeat {
+        final PeerId peerId;
+
+        final AppendEntriesRequest request;
+
+        final int timeoutMs;
+
+        final RpcResponseClosure<AppendEntriesResponse> done;
+
+        final Executor executor;
+
+        final CompletableFuture<Message> future = new CompletableFuture<>();
+
+        PendingHeartbeat(
+                PeerId peerId,
+                AppendEntriesRequest request,
+                int timeoutMs,
+                RpcResponseClosure<AppendEntriesResponse> done,
+                Executor executor
+        ) {
+            this.peerId = peerId;
+            this.request = request;
+            this.timeoutMs = timeoutMs;
+            this.done = done;
+            this.executor = executor;
+        }
+
+        /** Runs the closure in its executor the same way as a heartbeat sent with a separate request. */
+        void complete(Message result, Throwable err) {
+            executor.execute(() -> {
+                try {
+                    if (err == null) {
+                        Status status = Status.OK();
+
+                        if (result instanceof ErrorResponse) {
+                            ErrorResponse errorResponse = (ErrorResponse) result;
+
+                            status = new Status(errorResponse.errorCode(), errorResponse.errorMsg());
+                        }
+
+                        if (status.isOk()) {
+                            done.setResponse((AppendEntriesResponse) result);
+                        }
+
+                        done.run(status);
+                    } else {
+                        done.run(new Status(err instanceof InvokeTimeoutException ? RaftError.ETIMEDOUT : RaftError.EINTERNAL,
+                                "RPC exception:" + err.getMessage()));
+                    }
+                } catch (Throwable t) {
+                    LOG.error("Fail to run RpcResponseClosure, the request is {}.", t, request);
+                }
+
+                if (err == null) {
+                    future.complete(result);
+                } else {
+                    future.completeExceptionally(err);
+                }
+            });
+        }
+    }
+}
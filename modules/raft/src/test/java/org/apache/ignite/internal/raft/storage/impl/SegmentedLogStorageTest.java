@@ -0,0 +1,323 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.raft.storage.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.ignite.raft.jraft.JRaftUtils;
+import org.apache.ignite.raft.jraft.conf.ConfigurationManager;
+import org.apache.ignite.raft.jraft.entity.EnumOutter;
+import org.apache.ignite.raft.jraft.entity.LogEntry;
+import org.apache.ignite.raft.jraft.entity.LogId;
+import org.apache.ignite.raft.jraft.entity.codec.v1.LogEntryV1CodecFactory;
+import org.apache.ignite.raft.jraft.error.LogEntryCorruptedException;
+import org.apache.ignite.raft.jraft.option.LogStorageOptions;
+import org.apache.ignite.raft.jraft.option.RaftOptions;
+import org.apache.ignite.raft.jraft.storage.LogStorage;
+import org.apache.ignite.raft.jraft.storage.impl.BaseLogStorageTest;
+import org.apache.ignite.raft.jraft.test.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Segmented log storage test. */
+public class SegmentedLogStorageTest extends BaseLogStorageTest {
+    /** Segment size, small enough for the tests to roll the segments. */
+    private static final int SEGMENT_SIZE = 64 * 1024;
+
+    /** Number of stripes, a single one for the groups of the tests to share the segments. */
+    private static final int STRIPES = 1;
+
+    /** Log storage provider. */
+    private SegmentedLogStorageFactory logStorageProvider;
+
+    /** {@inheritDoc} */
+    @BeforeEach
+    @Override
+    public void setup() throws Exception {
+        logStorageProvider = new SegmentedLogStorageFactory(this.path, SEGMENT_SIZE, STRIPES);
+
+        logStorageProvider.start();
+
+        super.setup();
+    }
+
+    /** {@inheritDoc} */
+    @AfterEach
+    @Override
+    public void teardown() {
+        super.teardown();
+
+        logStorageProvider.close();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected LogStorage newLogStorage() {
+        return logStorageProvider.createLogStorage("test", new RaftOptions());
+    }
+
+    @Test
+    public void testRecoveryAfterRestart() {
+        LogStorage otherStorage = newLogStorage("other");
+
+        LogEntry confEntry = new LogEntry(EnumOutter.EntryType.ENTRY_TYPE_CONFIGURATION);
+        confEntry.setId(new LogId(10, 1));
+        confEntry.setPeers(JRaftUtils.getConfiguration("localhost:8081,localhost:8082").listPeers());
+
+        List<LogEntry> entries = largeEntries(0, 10);
+        entries.add(confEntry);
+
+        assertEquals(11, logStorage.appendEntries(entries));
+        assertEquals(10, otherStorage.appendEntries(largeEntries(0, 10)));
+
+        assertTrue(logStorage.truncatePrefix(3));
+        assertTrue(logStorage.truncateSuffix(10));
+        assertTrue(otherStorage.reset(5));
+
+        restart();
+
+        var confManager = new ConfigurationManager();
+
+        logStorage = logStorageProvider.createLogStorage("test", new RaftOptions());
+        assertTrue(logStorage.init(newLogStorageOptions(confManager)));
+
+        otherStorage = newLogStorage("other");
+
+        assertEquals(3, logStorage.getFirstLogIndex());
+        assertEquals(10, logStorage.getLastLogIndex());
+        assertNull(logStorage.getEntry(2));
+
+        for (int i = 3; i < 10; i++) {
+            assertEquals(entries.get(i), logStorage.getEntry(i));
+        }
+
+        assertEquals(confEntry, logStorage.getEntry(10));
+        assertEquals("localhost:8081,localhost:8082", confManager.getLastConfiguration().getConf().toString());
+
+        assertEquals(5, otherStorage.getFirstLogIndex());
+        assertEquals(5, otherStorage.getLastLogIndex());
+        assertEquals(5, otherStorage.getTerm(5));
+
+        otherStorage.shutdown();
+    }
+
+    @Test
+    public void testObsoleteSegmentsAreDeleted() {
+        LogStorage otherStorage = newLogStorage("other");
+
+        for (int i = 0; i < 100; i += 10) {
+            assertEquals(10, logStorage.appendEntries(largeEntries(i, 10)));
+            assertEquals(10, otherStorage.appendEntries(largeEntries(i, 10)));
+        }
+
+        int segmentCount = logStorageProvider.segmentCount();
+
+        assertTrue(segmentCount > 2, "Segments: " + segmentCount);
+
+        // Segments are still needed by the other group.
+        assertTrue(logStorage.truncatePrefix(99));
+        assertEquals(segmentCount, logStorageProvider.segmentCount());
+
+        assertTrue(otherStorage.truncatePrefix(99));
+        assertTrue(logStorageProvider.segmentCount() < segmentCount);
+
+        assertEquals(99, logStorage.getEntry(99).getId().getIndex());
+        assertEquals(99, otherStorage.getEntry(99).getId().getIndex());
+
+        restart();
+
+        logStorage = newLogStorage("test");
+        otherStorage = newLogStorage("other");
+
+        assertEquals(99, logStorage.getFirstLogIndex());
+        assertEquals(99, logStorage.getLastLogIndex());
+        assertEquals(99, logStorage.getEntry(99).getId().getIndex());
+        assertEquals(99, otherStorage.getFirstLogIndex());
+        assertEquals(99, otherStorage.getEntry(99).getId().getIndex());
+
+        otherStorage.shutdown();
+    }
+
+    @Test
+    public void testIdleGroupDoesNotKeepSegments() {
+        LogStorage idleStorage = newLogStorage("idle");
+
+        LogEntry idleEntry = TestUtils.mockEntry(1, 1, 4 * 1024);
+
+        assertTrue(idleStorage.appendEntry(idleEntry));
+
+        for (int i = 0; i < 100; i += 10) {
+            assertEquals(10, logStorage.appendEntries(largeEntries(i, 10)));
+            assertTrue(logStorage.truncatePrefix(i + 9));
+        }
+
+        int segmentCount = logStorageProvider.segmentCount();
+
+        assertTrue(segmentCount <= 2, "Segments: " + segmentCount);
+
+        assertEquals(idleEntry, idleStorage.getEntry(1));
+
+        idleStorage.shutdown();
+
+        restart();
+
+        logStorage = newLogStorage("test");
+        idleStorage = newLogStorage("idle");
+
+        assertEquals(1, idleStorage.getFirstLogIndex());
+        assertEquals(1, idleStorage.getLastLogIndex());
+        assertEquals(idleEntry, idleStorage.getEntry(1));
+        assertEquals(99, logStorage.getFirstLogIndex());
+        assertEquals(99, logStorage.getEntry(99).getId().getIndex());
+
+        idleStorage.shutdown();
+    }
+
+    @Test
+    public void testDestroyedGroupDoesNotKeepSegments() {
+        LogStorage otherStorage = newLogStorage("other");
+
+        assertEquals(10, otherStorage.appendEntries(largeEntries(0, 10)));
+
+        for (int i = 0; i < 100; i += 10) {
+            assertEquals(10, logStorage.appendEntries(largeEntries(i, 10)));
+        }
+
+        otherStorage.shutdown();
+
+        logStorageProvider.destroyLogStorage("other");
+
+        int segmentCount = logStorageProvider.segmentCount();
+
+        assertTrue(logStorage.truncatePrefix(99));
+        assertTrue(logStorageProvider.segmentCount() < segmentCount);
+
+        restart();
+
+        logStorage = newLogStorage("test");
+        otherStorage = newLogStorage("other");
+
+        assertEquals(1, otherStorage.getFirstLogIndex());
+        assertEquals(0, otherStorage.getLastLogIndex());
+        assertEquals(99, logStorage.getEntry(99).getId().getIndex());
+
+        otherStorage.shutdown();
+    }
+
+    @Test
+    public void testTornRecordOfLastSegmentIsDiscarded() throws Exception {
+        assertEquals(100, logStorage.appendEntries(largeEntries(0, 100)));
+
+        assertTrue(logStorageProvider.segmentCount() > 1);
+
+        logStorage.shutdown();
+        logStorageProvider.close();
+
+        corruptLastRecord(segmentFiles().get(segmentFiles().size() - 1));
+
+        logStorageProvider = new SegmentedLogStorageFactory(this.path, SEGMENT_SIZE, STRIPES);
+        logStorageProvider.start();
+
+        logStorage = newLogStorage("test");
+
+        assertEquals(98, logStorage.getLastLogIndex());
+        assertEquals(98, logStorage.getEntry(98).getId().getIndex());
+        assertNull(logStorage.getEntry(99));
+    }
+
+    @Test
+    public void testCorruptedRecordOfOlderSegmentFailsRecovery() throws Exception {
+        assertEquals(100, logStorage.appendEntries(largeEntries(0, 100)));
+
+        assertTrue(logStorageProvider.segmentCount() > 1);
+
+        logStorage.shutdown();
+        logStorageProvider.close();
+
+        corruptLastRecord(segmentFiles().get(0));
+
+        logStorageProvider = new SegmentedLogStorageFactory(this.path, SEGMENT_SIZE, STRIPES);
+
+        assertThrows(LogEntryCorruptedException.class, logStorageProvider::start);
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.walk(this.path)) {
+            return files.filter(file -> file.toString().endsWith(".seg")).sorted().collect(Collectors.toList());
+        }
+    }
+
+    /** Corrupts the payload of the last record of the segment. */
+    private static void corruptLastRecord(Path segment) throws IOException {
+        byte[] bytes = Files.readAllBytes(segment);
+
+        int lastByte = bytes.length - 1;
+
+        while (bytes[lastByte] == 0) {
+            lastByte--;
+        }
+
+        bytes[lastByte] = 0;
+
+        Files.write(segment, bytes);
+    }
+
+    private LogStorage newLogStorage(String groupId) {
+        LogStorage storage = logStorageProvider.createLogStorage(groupId, new RaftOptions());
+
+        assertTrue(storage.init(newLogStorageOptions(new ConfigurationManager())));
+
+        return storage;
+    }
+
+    private static LogStorageOptions newLogStorageOptions(ConfigurationManager confManager) {
+        LogStorageOptions opts = new LogStorageOptions();
+        opts.setConfigurationManager(confManager);
+        opts.setLogEntryCodecFactory(LogEntryV1CodecFactory.getInstance());
+        return opts;
+    }
+
+    private void restart() {
+        logStorage.shutdown();
+        logStorageProvider.close();
+
+        logStorageProvider = new SegmentedLogStorageFactory(this.path, SEGMENT_SIZE, STRIPES);
+        logStorageProvider.start();
+    }
+
+    private static List<LogEntry> largeEntries(int fromIndex, int count) {
+        List<LogEntry> entries = new ArrayList<>(count);
+
+        for (int i = fromIndex; i < fromIndex + count; i++) {
+            entries.add(TestUtils.mockEntry(i, i, 4 * 1024));
+        }
+
+        return entries;
+    }
+}
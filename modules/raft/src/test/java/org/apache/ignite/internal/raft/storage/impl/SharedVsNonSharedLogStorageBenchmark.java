@@ -29,6 +29,7 @@ import java.util.UUID;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.function.Function;
 import java.util.stream.IntStream;
 import org.apache.ignite.internal.raft.storage.LogStorageFactory;
 import org.apache.ignite.raft.jraft.Lifecycle;
@@ -175,19 +176,27 @@ public class SharedVsNonSharedLogStorageBenchmark {
         String randomUuid = UUID.randomUUID().toString();
         List<String> grps = IntStream.range(0, groups).mapToObj(cnt -> randomUuid + "_part_" + cnt).collect(toList());
 
-        testShared(batchSize, logSize, totalLogs, grps);
+        testShared("shared", DefaultLogStorageFactory::new, batchSize, logSize, totalLogs, grps);
+        testShared("segmented", SegmentedLogStorageFactory::new, batchSize, logSize, totalLogs, grps);
         testIsolated(batchSize, logSize, totalLogs, grps);
     }
 
-    private static void testShared(int batchSize, int logSize, int totalLogs, List<String> grps) throws Exception {
-        System.out.println(">>> Testing shared");
-
-        Path benchmarkPath = Files.createTempDirectory("storage_benchmark_shared");
+    private static void testShared(
+            String name,
+            Function<Path, LogStorageFactory> providerFactory,
+            int batchSize,
+            int logSize,
+            int totalLogs,
+            List<String> grps
+    ) throws Exception {
+        System.out.println(">>> Testing " + name);
+
+        Path benchmarkPath = Files.createTempDirectory("storage_benchmark_" + name);
         String testPath = benchmarkPath.toString();
 
         System.out.println("Test log storage path: " + testPath);
 
-        LogStorageFactory provider = new DefaultLogStorageFactory(benchmarkPath);
+        LogStorageFactory provider = providerFactory.apply(benchmarkPath);
 
         provider.start();
 
@@ -27,6 +27,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -157,4 +158,54 @@ public abstract class BaseLogEntryCodecFactoryTest {
         assertEquals(5, nentry.getData().remaining());
     }
 
+    @Test
+    public void testEncodeIntoBuffer() {
+        ByteBuffer data = ByteBuffer.allocateDirect(5).put("hello".getBytes(UTF_8)).flip();
+
+        LogEntry entry = new LogEntry(EnumOutter.EntryType.ENTRY_TYPE_DATA);
+        entry.setId(new LogId(100, 3));
+        entry.setChecksum(123456L);
+        entry.setData(data);
+
+        checkEncodeIntoBuffer(entry);
+
+        // Data of the entry is left intact.
+        assertEquals(0, data.position());
+        assertEquals(5, data.remaining());
+
+        LogEntry confEntry = new LogEntry(EnumOutter.EntryType.ENTRY_TYPE_CONFIGURATION);
+        confEntry.setId(new LogId(1L << 40, 1L << 20));
+        confEntry.setPeers(Arrays.asList(new PeerId("localhost", 99, 1), new PeerId("localhost", 100, 2)));
+        confEntry.setLearners(List.of(new PeerId("localhost", 101, 3)));
+
+        checkEncodeIntoBuffer(confEntry);
+    }
+
+    private void checkEncodeIntoBuffer(LogEntry entry) {
+        int size = this.encoder.encodedSize(entry);
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(size + 2);
+
+        buffer.position(1);
+
+        this.encoder.encode(entry, buffer);
+
+        assertEquals(size + 1, buffer.position());
+
+        byte[] content = new byte[size];
+
+        buffer.flip().position(1);
+        buffer.get(content);
+
+        assertArrayEquals(this.encoder.encode(entry), content);
+
+        LogEntry nentry = this.decoder.decode(content);
+
+        assertNotNull(nentry);
+        assertEquals(entry.getId(), nentry.getId());
+        assertEquals(entry.getType(), nentry.getType());
+        assertEquals(entry.getPeers(), nentry.getPeers());
+        assertEquals(entry.getLearners(), nentry.getLearners());
+    }
+
 }
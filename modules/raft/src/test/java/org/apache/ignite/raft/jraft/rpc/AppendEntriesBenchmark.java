@@ -20,6 +20,11 @@ import java.nio.ByteBuffer;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import org.apache.ignite.raft.jraft.RaftMessagesFactory;
+import org.apache.ignite.raft.jraft.entity.EnumOutter.EntryType;
+import org.apache.ignite.raft.jraft.entity.LogEntry;
+import org.apache.ignite.raft.jraft.entity.LogId;
+import org.apache.ignite.raft.jraft.entity.codec.LogEntryEncoder;
+import org.apache.ignite.raft.jraft.entity.codec.v1.LogEntryV1CodecFactory;
 import org.apache.ignite.raft.jraft.util.AdaptiveBufAllocator;
 import org.apache.ignite.raft.jraft.util.ByteBufferCollector;
 import org.apache.ignite.raft.jraft.util.ByteString;
@@ -94,6 +99,11 @@ public class AppendEntriesBenchmark {
     private static final ThreadLocal<AdaptiveBufAllocator.Handle> handleThreadLocal = ThreadLocal
         .withInitial(AdaptiveBufAllocator.DEFAULT::newHandle);
 
+    /** Reusable direct buffer for {@link #encodeToDirectBuffer()}, same as the one of the shared log storage. */
+    private static final ThreadLocal<ByteBuffer> encodeBufferThreadLocal = new ThreadLocal<>();
+
+    private static final LogEntryEncoder encoder = LogEntryV1CodecFactory.getInstance().encoder();
+
     private int entryCount;
     private int sizeOfEntry;
 
@@ -158,6 +168,64 @@ public class AppendEntriesBenchmark {
         sendEntries4();
     }
 
+    /**
+     * Encodes log entries into new arrays, the way they used to be appended to the log storage.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public long encodeToArray() {
+        long total = 0;
+
+        for (int i = 0; i < entryCount; i++) {
+            total += encoder.encode(logEntry(i)).length;
+        }
+
+        return total;
+    }
+
+    /**
+     * Encodes log entries into a reusable direct buffer, the way they are appended to the shared log storage.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public long encodeToDirectBuffer() {
+        long total = 0;
+
+        for (int i = 0; i < entryCount; i++) {
+            LogEntry entry = logEntry(i);
+
+            int size = encoder.encodedSize(entry);
+
+            ByteBuffer buffer = encodeBufferThreadLocal.get();
+
+            if (buffer == null || buffer.capacity() < size) {
+                buffer = ByteBuffer.allocateDirect(size);
+
+                encodeBufferThreadLocal.set(buffer);
+            }
+
+            buffer.clear();
+
+            encoder.encode(entry, buffer);
+
+            total += buffer.position();
+        }
+
+        return total;
+    }
+
+    private LogEntry logEntry(int index) {
+        final byte[] bytes = new byte[sizeOfEntry];
+        ThreadLocalRandom.current().nextBytes(bytes);
+
+        final LogEntry entry = new LogEntry(EntryType.ENTRY_TYPE_DATA);
+        entry.setId(new LogId(index, 1));
+        entry.setData(ByteBuffer.wrap(bytes));
+        return entry;
+    }
+
     private byte[] sendEntries1() {
         final AppendEntriesRequestBuilder rb = msgFactory.appendEntriesRequest();
         fillCommonFields(rb);
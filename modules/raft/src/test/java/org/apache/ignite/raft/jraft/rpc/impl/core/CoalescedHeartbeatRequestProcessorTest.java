@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.raft.jraft.rpc.impl.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.ignite.raft.jraft.RaftMessagesFactory;
+import org.apache.ignite.raft.jraft.rpc.Message;
+import org.apache.ignite.raft.jraft.rpc.RpcContext;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.AppendEntriesRequest;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.AppendEntriesResponse;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.CoalescedHeartbeatRequest;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.CoalescedHeartbeatResponse;
+import org.apache.ignite.raft.jraft.test.MockAsyncContext;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link CoalescedHeartbeatRequestProcessor}.
+ */
+public class CoalescedHeartbeatRequestProcessorTest {
+    private final RaftMessagesFactory msgFactory = new RaftMessagesFactory();
+
+    private final AppendEntriesRequestProcessor heartbeatProcessor = mock(AppendEntriesRequestProcessor.class);
+
+    private final CoalescedHeartbeatRequestProcessor processor =
+            new CoalescedHeartbeatRequestProcessor(Runnable::run, msgFactory, heartbeatProcessor);
+
+    private final MockAsyncContext asyncContext = new MockAsyncContext();
+
+    @Test
+    public void testInterest() {
+        assertEquals(CoalescedHeartbeatRequest.class.getName(), processor.interest());
+    }
+
+    @Test
+    public void testResponsesKeepRequestOrder() {
+        List<RpcContext> heartbeatContexts = new ArrayList<>();
+        List<AppendEntriesRequest> heartbeats = new ArrayList<>();
+
+        doAnswer(invocation -> {
+            heartbeatContexts.add(invocation.getArgument(0));
+            heartbeats.add(invocation.getArgument(1));
+
+            return null;
+        }).when(heartbeatProcessor).handleRequest(any(), any());
+
+        processor.handleRequest(asyncContext, msgFactory.coalescedHeartbeatRequest()
+                .heartbeats(List.of(heartbeat("group1", 1), heartbeat("group2", 2), heartbeat("group3", 3)))
+                .build());
+
+        assertEquals(3, heartbeats.size());
+
+        // Heartbeats are answered out of order, the coalesced response is sent once all of them are answered.
+        for (int i = heartbeats.size() - 1; i >= 0; i--) {
+            assertNull(asyncContext.getResponseObject());
+
+            heartbeatContexts.get(i).sendResponse(msgFactory.appendEntriesResponse()
+                    .term(heartbeats.get(i).term())
+                    .success(true)
+                    .lastLogIndex(0)
+                    .build());
+        }
+
+        List<Message> responses = asyncContext.as(CoalescedHeartbeatResponse.class).responses();
+
+        assertEquals(3, responses.size());
+
+        for (int i = 0; i < responses.size(); i++) {
+            assertEquals(i + 1, ((AppendEntriesResponse) responses.get(i)).term());
+        }
+    }
+
+    @Test
+    public void testEmptyRequest() {
+        processor.handleRequest(asyncContext, msgFactory.coalescedHeartbeatRequest().heartbeats(List.of()).build());
+
+        assertEquals(0, asyncContext.as(CoalescedHeartbeatResponse.class).responses().size());
+    }
+
+    private AppendEntriesRequest heartbeat(String groupId, long term) {
+        return msgFactory.appendEntriesRequest()
+                .groupId(groupId)
+                .serverId("node0")
+                .peerId("node1")
+                .term(term)
+                .prevLogTerm(term)
+                .prevLogIndex(1)
+                .committedIndex(1)
+                .build();
+    }
+}
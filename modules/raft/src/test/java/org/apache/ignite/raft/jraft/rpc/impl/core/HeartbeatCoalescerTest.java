@@ -0,0 +1,275 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.raft.jraft.rpc.impl.core;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import org.apache.ignite.raft.jraft.RaftMessagesFactory;
+import org.apache.ignite.raft.jraft.Status;
+import org.apache.ignite.raft.jraft.core.Scheduler;
+import org.apache.ignite.raft.jraft.entity.PeerId;
+import org.apache.ignite.raft.jraft.error.InvokeTimeoutException;
+import org.apache.ignite.raft.jraft.error.RaftError;
+import org.apache.ignite.raft.jraft.rpc.InvokeCallback;
+import org.apache.ignite.raft.jraft.rpc.Message;
+import org.apache.ignite.raft.jraft.rpc.RaftRpcFactory;
+import org.apache.ignite.raft.jraft.rpc.RpcClient;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.AppendEntriesRequest;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.AppendEntriesResponse;
+import org.apache.ignite.raft.jraft.rpc.RpcRequests.CoalescedHeartbeatRequest;
+import org.apache.ignite.raft.jraft.rpc.RpcResponseClosureAdapter;
+import org.apache.ignite.raft.jraft.util.ByteString;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * Tests for {@link HeartbeatCoalescer}.
+ */
+public class HeartbeatCoalescerTest {
+    private static final Executor DIRECT_EXECUTOR = Runnable::run;
+
+    private final RaftMessagesFactory msgFactory = new RaftMessagesFactory();
+
+    private final RpcClient rpcClient = mock(RpcClient.class);
+
+    private final HeartbeatCoalescer coalescer = new HeartbeatCoalescer(rpcClient, msgFactory, mock(Scheduler.class), 10);
+
+    private final PeerId peer1 = PeerId.parsePeer("node1");
+
+    private final PeerId peer2 = PeerId.parsePeer("node2");
+
+    @Test
+    public void testHeartbeatsToSamePeerAreCoalesced() throws Exception {
+        respondWith(request -> {
+            if (request instanceof CoalescedHeartbeatRequest) {
+                List<Message> responses = new ArrayList<>();
+
+                for (AppendEntriesRequest heartbeat : ((CoalescedHeartbeatRequest) request).heartbeats()) {
+                    responses.add(response(heartbeat));
+                }
+
+                return msgFactory.coalescedHeartbeatResponse().responses(responses).build();
+            }
+
+            return response((AppendEntriesRequest) request);
+        });
+
+        List<HeartbeatClosure> closures = List.of(new HeartbeatClosure(), new HeartbeatClosure(), new HeartbeatClosure());
+
+        coalescer.heartbeat(peer1, heartbeat("group1", 1), 100, closures.get(0), DIRECT_EXECUTOR);
+        coalescer.heartbeat(peer1, heartbeat("group2", 2), 200, closures.get(1), DIRECT_EXECUTOR);
+        coalescer.heartbeat(peer2, heartbeat("group3", 3), 100, closures.get(2), DIRECT_EXECUTOR);
+
+        verify(rpcClient, times(0)).invokeAsync(any(), any(), any(), any(), anyLong());
+
+        coalescer.flush();
+
+        ArgumentCaptor<Object> request = ArgumentCaptor.forClass(Object.class);
+
+        verify(rpcClient).invokeAsync(eq(peer1), request.capture(), any(), any(), eq(200L));
+        assertInstanceOf(CoalescedHeartbeatRequest.class, request.getValue());
+        assertEquals(2, ((CoalescedHeartbeatRequest) request.getValue()).heartbeats().size());
+
+        // A single heartbeat is sent as is.
+        verify(rpcClient).invokeAsync(eq(peer2), request.capture(), any(), any(), eq(100L));
+        assertInstanceOf(AppendEntriesRequest.class, request.getValue());
+
+        for (int i = 0; i < closures.size(); i++) {
+            HeartbeatClosure closure = closures.get(i);
+
+            assertTrue(closure.status.isOk());
+            assertEquals(i + 1, closure.getResponse().term());
+        }
+
+        assertEquals(1, coalescer.coalescedRequests());
+        assertEquals(2, coalescer.coalescedHeartbeats());
+
+        // Nothing is sent if there are no heartbeats.
+        coalescer.flush();
+
+        verify(rpcClient, times(2)).invokeAsync(any(), any(), any(), any(), anyLong());
+    }
+
+    @Test
+    public void testErrorResponseOfSingleHeartbeat() throws Exception {
+        respondWith(request -> msgFactory.coalescedHeartbeatResponse()
+                .responses(List.of(
+                        response(((CoalescedHeartbeatRequest) request).heartbeats().get(0)),
+                        RaftRpcFactory.DEFAULT.newResponse(msgFactory, RaftError.ENOENT, "Peer id not found")
+                ))
+                .build());
+
+        var closure1 = new HeartbeatClosure();
+        var closure2 = new HeartbeatClosure();
+
+        coalescer.heartbeat(peer1, heartbeat("group1", 1), 100, closure1, DIRECT_EXECUTOR);
+        coalescer.heartbeat(peer1, heartbeat("group2", 1), 100, closure2, DIRECT_EXECUTOR);
+
+        coalescer.flush();
+
+        assertTrue(closure1.status.isOk());
+        assertEquals(1, closure1.getResponse().term());
+
+        assertFalse(closure2.status.isOk());
+        assertEquals(RaftError.ENOENT, closure2.status.getRaftError());
+        assertNull(closure2.getResponse());
+    }
+
+    @Test
+    public void testFailedCoalescedRequest() throws Exception {
+        when(rpcClient.invokeAsync(any(), any(), any(), any(), anyLong())).thenAnswer(invocation -> {
+            InvokeCallback callback = invocation.getArgument(3);
+
+            callback.complete(null, new InvokeTimeoutException());
+
+            return new CompletableFuture<>();
+        });
+
+        var closure1 = new HeartbeatClosure();
+        var closure2 = new HeartbeatClosure();
+
+        coalescer.heartbeat(peer1, heartbeat("group1", 1), 100, closure1, DIRECT_EXECUTOR);
+        coalescer.heartbeat(peer1, heartbeat("group2", 1), 100, closure2, DIRECT_EXECUTOR);
+
+        coalescer.flush();
+
+        assertEquals(RaftError.ETIMEDOUT, closure1.status.getRaftError());
+        assertEquals(RaftError.ETIMEDOUT, closure2.status.getRaftError());
+    }
+
+    @Test
+    public void testStopSendsPendingHeartbeats() throws Exception {
+        respondWith(request -> response((AppendEntriesRequest) request));
+
+        var closure = new HeartbeatClosure();
+
+        coalescer.heartbeat(peer1, heartbeat("group1", 1), 100, closure, DIRECT_EXECUTOR);
+
+        coalescer.stop();
+
+        assertTrue(closure.status.isOk());
+
+        // Heartbeats are not delayed after the coalescer is stopped.
+        var lateClosure = new HeartbeatClosure();
+
+        coalescer.heartbeat(peer1, heartbeat("group1", 1), 100, lateClosure, DIRECT_EXECUTOR);
+
+        assertTrue(lateClosure.status.isOk());
+    }
+
+    @Test
+    public void testIdlePeersArePruned() throws Exception {
+        respondWith(request -> response((AppendEntriesRequest) request));
+
+        coalescer.heartbeat(peer1, heartbeat("group1", 1), 100, new HeartbeatClosure(), DIRECT_EXECUTOR);
+        coalescer.heartbeat(peer2, heartbeat("group2", 1), 100, new HeartbeatClosure(), DIRECT_EXECUTOR);
+
+        coalescer.flush();
+
+        assertEquals(2, coalescer.queuedPeers());
+
+        coalescer.heartbeat(peer1, heartbeat("group1", 1), 100, new HeartbeatClosure(), DIRECT_EXECUTOR);
+
+        // No heartbeats to the second peer since the previous tick.
+        coalescer.flush();
+
+        assertEquals(1, coalescer.queuedPeers());
+
+        coalescer.flush();
+
+        assertEquals(0, coalescer.queuedPeers());
+    }
+
+    @Test
+    public void testProbeIsNotHeartbeat() {
+        assertTrue(HeartbeatCoalescer.isHeartbeat(heartbeat("group1", 1), 100));
+
+        AppendEntriesRequest probe = msgFactory.appendEntriesRequest()
+                .groupId("group1")
+                .serverId("node0")
+                .peerId("node1")
+                .term(1)
+                .prevLogTerm(1)
+                .prevLogIndex(1)
+                .committedIndex(1)
+                .data(ByteString.EMPTY)
+                .build();
+
+        assertFalse(HeartbeatCoalescer.isHeartbeat(probe, -1));
+        assertFalse(HeartbeatCoalescer.isHeartbeat(probe, 100));
+        assertFalse(HeartbeatCoalescer.isHeartbeat(heartbeat("group1", 1), -1));
+    }
+
+    private void respondWith(Function<Object, Message> responder) throws Exception {
+        when(rpcClient.invokeAsync(any(), any(), any(), any(), anyLong())).thenAnswer(invocation -> {
+            Message response = responder.apply(invocation.getArgument(1));
+
+            InvokeCallback callback = invocation.getArgument(3);
+
+            callback.complete(response, null);
+
+            return completedFuture(response);
+        });
+    }
+
+    private AppendEntriesRequest heartbeat(String groupId, long term) {
+        return msgFactory.appendEntriesRequest()
+                .groupId(groupId)
+                .serverId("node0")
+                .peerId("node1")
+                .term(term)
+                .prevLogTerm(term)
+                .prevLogIndex(1)
+                .committedIndex(1)
+                .build();
+    }
+
+    private AppendEntriesResponse response(AppendEntriesRequest heartbeat) {
+        return msgFactory.appendEntriesResponse()
+                .term(heartbeat.term())
+                .success(true)
+                .lastLogIndex(heartbeat.prevLogIndex())
+                .build();
+    }
+
+    private static class HeartbeatClosure extends RpcResponseClosureAdapter<AppendEntriesResponse> {
+        Status status;
+
+        @Override
+        public void run(Status status) {
+            this.status = status;
+        }
+    }
+}
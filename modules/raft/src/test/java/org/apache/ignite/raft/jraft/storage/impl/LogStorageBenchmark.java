@@ -19,6 +19,7 @@ package org.apache.ignite.raft.jraft.storage.impl;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import org.apache.ignite.internal.raft.storage.impl.DefaultLogStorageFactory;
 import org.apache.ignite.raft.jraft.conf.ConfigurationManager;
 import org.apache.ignite.raft.jraft.entity.LogEntry;
 import org.apache.ignite.raft.jraft.entity.codec.v1.LogEntryV1CodecFactory;
@@ -128,15 +129,39 @@ public class LogStorageBenchmark {
         int logSize = 16 * 1024;
         int totalLogs = 30 * 1024;
 
-        LogStorage logStorage = new RocksDBLogStorage(testPath, new RaftOptions());
-        //LogStorage logStorage = new LocalLogStorage(testPath, new RaftOptions());
+        // "shared" runs the benchmark against the RocksDbSharedLogStorage, which encodes data entries into pooled direct buffers
+        // instead of intermediate arrays; "jraft" runs it against the RocksDBLogStorage, which encodes them into arrays.
+        String storageType = SystemPropertyUtil.get("log.storage", "jraft");
+
+        DefaultLogStorageFactory sharedFactory = null;
+
+        LogStorage logStorage;
+
+        if ("shared".equals(storageType)) {
+            sharedFactory = new DefaultLogStorageFactory(Paths.get(testPath));
+            sharedFactory.start();
+
+            logStorage = sharedFactory.createLogStorage("benchmark", new RaftOptions());
+        } else {
+            logStorage = new RocksDBLogStorage(testPath, new RaftOptions());
+        }
+
+        System.out.println("Log storage: " + storageType);
 
         LogStorageOptions opts = new LogStorageOptions();
         opts.setConfigurationManager(new ConfigurationManager());
         opts.setLogEntryCodecFactory(LogEntryV1CodecFactory.getInstance());
         logStorage.init(opts);
 
-        new LogStorageBenchmark(logStorage, logSize, totalLogs, batchSize).doTest();
+        try {
+            new LogStorageBenchmark(logStorage, logSize, totalLogs, batchSize).doTest();
+        } finally {
+            logStorage.shutdown();
+
+            if (sharedFactory != null) {
+                sharedFactory.close();
+            }
+        }
     }
 
 }
@@ -206,16 +206,25 @@ public class Replica {
                                     acceptLease(msg.leaseStartTime(), msg.leaseExpirationTime());
 
                             if (leader.equals(localNode)) {
+                                listener.onLeaseAccepted(msg.leaseStartTime(), msg.leaseExpirationTime());
+
                                 return respFut;
                             } else {
+                                // The listener is notified only once the local replica has become the leader, as until then it may
+                                // be behind the leader.
                                 return raftClient.transferLeadership(new Peer(localNode.name()))
+                                        .thenRun(() -> listener.onLeaseAccepted(msg.leaseStartTime(), msg.leaseExpirationTime()))
                                         .thenCompose(ignored -> respFut);
                             }
                         });
             } else {
                 if (leader.equals(localNode)) {
                     return waitForActualState(msg.leaseExpirationTime().getPhysical())
-                            .thenCompose(v -> acceptLease(msg.leaseStartTime(), msg.leaseExpirationTime()));
+                            .thenCompose(v -> {
+                                listener.onLeaseAccepted(msg.leaseStartTime(), msg.leaseExpirationTime());
+
+                                return acceptLease(msg.leaseStartTime(), msg.leaseExpirationTime());
+                            });
                 } else {
                     return proposeLeaseRedirect(leader);
                 }
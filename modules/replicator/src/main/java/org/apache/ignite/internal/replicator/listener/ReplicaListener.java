@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.replicator.listener;
 
 import java.util.concurrent.CompletableFuture;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.replicator.message.ReplicaRequest;
 import org.apache.ignite.network.ClusterNode;
 
@@ -44,6 +45,17 @@ public interface ReplicaListener {
         // No-op.
     }
 
+    /**
+     * Callback on accepting a lease granted by the placement driver to the local replica. Is called once the local replica is known to be
+     * the Raft leader, that is after the leadership transfer, if the lease has been granted to a follower.
+     *
+     * @param leaseStartTime Lease start time.
+     * @param leaseExpirationTime Lease expiration time.
+     */
+    default void onLeaseAccepted(HybridTimestamp leaseStartTime, HybridTimestamp leaseExpirationTime) {
+        // No-op.
+    }
+
     /**
      * Callback on replica shutdown.
      */
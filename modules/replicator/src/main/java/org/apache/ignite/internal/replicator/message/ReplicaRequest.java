@@ -32,4 +32,10 @@ public interface ReplicaRequest extends NetworkMessage {
      */
     @Marshallable
     ReplicationGroupId groupId();
+
+    /** Requests to a replica are ordered within the replication group. */
+    @Override
+    default int orderingKey() {
+        return groupId().hashCode();
+    }
 }
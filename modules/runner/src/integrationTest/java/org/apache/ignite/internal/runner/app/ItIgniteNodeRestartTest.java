@@ -371,6 +371,8 @@ public class ItIgniteNodeRestartTest extends BaseIgniteRestartTest {
 
         var schemaSyncService = new SchemaSyncServiceImpl(metaStorageMgr.clusterTime(), delayDurationMsSupplier);
 
+        var metricManager = new MetricManager();
+
         TableManager tableManager = new TableManager(
                 name,
                 registry,
@@ -398,13 +400,12 @@ public class ItIgniteNodeRestartTest extends BaseIgniteRestartTest {
                 null,
                 schemaSyncService,
                 catalogManager,
-                new HybridTimestampTracker()
+                new HybridTimestampTracker(),
+                metricManager
         );
 
         var indexManager = new IndexManager(tablesConfig, schemaManager, tableManager);
 
-        var metricManager = new MetricManager();
-
         SqlQueryProcessor qryEngine = new SqlQueryProcessor(
                 registry,
                 clusterSvc,
@@ -97,6 +97,8 @@ import org.apache.ignite.internal.metrics.configuration.MetricConfiguration;
 import org.apache.ignite.internal.metrics.sources.JvmMetricSource;
 import org.apache.ignite.internal.network.configuration.NetworkConfiguration;
 import org.apache.ignite.internal.network.configuration.NetworkConfigurationSchema;
+import org.apache.ignite.internal.network.file.FileTransferService;
+import org.apache.ignite.internal.network.file.FileTransferServiceImpl;
 import org.apache.ignite.internal.network.recovery.VaultStateIds;
 import org.apache.ignite.internal.placementdriver.PlacementDriverManager;
 import org.apache.ignite.internal.raft.Loza;
@@ -192,6 +194,16 @@ public class IgniteImpl implements Ignite {
      */
     private static final Path PARTITIONS_STORE_PATH = Paths.get("db");
 
+    /**
+     * Path for the files received by the {@link FileTransferService} component.
+     */
+    private static final Path FILE_TRANSFER_PATH = Paths.get("file-transfer");
+
+    /**
+     * Path for the partition storage files shipped on rebalance.
+     */
+    private static final Path SNAPSHOT_FILES_PATH = Paths.get("snapshot-files");
+
     /** Ignite node name. */
     private final String name;
 
@@ -289,6 +301,9 @@ public class IgniteImpl implements Ignite {
 
     private final ClockWaiter clockWaiter;
 
+    /** File transfer service, used to ship partition storage files on rebalance. */
+    private final FileTransferService fileTransferService;
+
     private final OutgoingSnapshotsManager outgoingSnapshotsManager;
 
     private final RestAddressReporter restAddressReporter;
@@ -357,7 +372,8 @@ public class IgniteImpl implements Ignite {
                 networkConfiguration,
                 nettyBootstrapFactory,
                 serializationRegistry,
-                new VaultStateIds(vaultMgr)
+                new VaultStateIds(vaultMgr),
+                metricManager
         );
 
         clock = new HybridClockImpl();
@@ -521,7 +537,19 @@ public class IgniteImpl implements Ignite {
 
         volatileLogStorageFactoryCreator = new VolatileLogStorageFactoryCreator(workDir.resolve("volatile-log-spillout"));
 
-        outgoingSnapshotsManager = new OutgoingSnapshotsManager(clusterSvc.messagingService());
+        fileTransferService = FileTransferServiceImpl.create(
+                name,
+                clusterSvc.topologyService(),
+                clusterSvc.messagingService(),
+                networkConfiguration.fileTransfer(),
+                workDir.resolve(FILE_TRANSFER_PATH)
+        );
+
+        outgoingSnapshotsManager = new OutgoingSnapshotsManager(
+                clusterSvc.messagingService(),
+                fileTransferService,
+                workDir.resolve(SNAPSHOT_FILES_PATH)
+        );
 
         SchemaSynchronizationConfiguration schemaSyncConfig = clusterConfigRegistry.getConfiguration(
                 SchemaSynchronizationConfiguration.KEY
@@ -566,7 +594,8 @@ public class IgniteImpl implements Ignite {
                 distributionZoneManager,
                 schemaSyncService,
                 catalogManager,
-                observableTimestampTracker
+                observableTimestampTracker,
+                metricManager
         );
 
         indexManager = new IndexManager(tablesConfig, schemaManager, distributedTblMgr);
@@ -777,6 +806,7 @@ public class IgniteImpl implements Ignite {
                                     dataStorageMgr,
                                     schemaManager,
                                     volatileLogStorageFactoryCreator,
+                                    fileTransferService,
                                     outgoingSnapshotsManager,
                                     distributedTblMgr,
                                     indexManager,
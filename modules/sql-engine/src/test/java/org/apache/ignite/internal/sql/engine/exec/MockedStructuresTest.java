@@ -600,7 +600,8 @@ public class MockedStructuresTest extends IgniteAbstractTest {
                 distributionZoneManager,
                 schemaSyncService,
                 catalogManager,
-                new HybridTimestampTracker()
+                new HybridTimestampTracker(),
+                metricManager
         );
 
         tableManager.start();
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.engine;
+
+import java.nio.file.Path;
+import java.util.List;
+import org.apache.ignite.internal.close.ManuallyCloseable;
+import org.apache.ignite.internal.storage.StorageException;
+
+/**
+ * Point-in-time snapshot of a partition, that can be written as storage files, see {@link PartitionFilesStorage}.
+ */
+public interface PartitionFilesSnapshot extends ManuallyCloseable {
+    /**
+     * Writes the snapshot content into the given directory.
+     *
+     * @param dir Directory for the files, must exist.
+     * @return Written files.
+     * @throws StorageException If the files could not be written.
+     */
+    List<Path> writeFiles(Path dir);
+
+    /**
+     * Releases the snapshot, it can not be written after that.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.engine;
+
+import java.nio.file.Path;
+import java.util.List;
+import org.apache.ignite.internal.storage.StorageException;
+
+/**
+ * Optional capability of a {@link MvTableStorage} to transfer whole partitions as storage files instead of row by row, used by the
+ * rebalance. Storages that support it implement this interface alongside {@link MvTableStorage}.
+ */
+public interface PartitionFilesStorage {
+    /**
+     * Takes a point-in-time snapshot of the partition data and its indexes. The method is cheap, the files are written later by
+     * {@link PartitionFilesSnapshot#writeFiles}, while the partition keeps accepting writes.
+     *
+     * @param partitionId Partition ID.
+     * @return Snapshot that must be closed after use.
+     * @throws StorageException If the partition does not exist or the storage is closed.
+     */
+    PartitionFilesSnapshot createPartitionFilesSnapshot(int partitionId);
+
+    /**
+     * Loads the files written by {@link PartitionFilesSnapshot#writeFiles} on another node into the partition. The partition must be in
+     * the process of rebalance, the files are moved into the storage if possible.
+     *
+     * <p>If the method fails, the partition is left empty, so that the rebalance can proceed by copying the rows.
+     *
+     * @param partitionId Partition ID.
+     * @param files Files to load.
+     * @throws StorageException If the files could not be loaded.
+     */
+    void ingestPartitionFiles(int partitionId, List<Path> files);
+}
@@ -18,6 +18,9 @@
 package org.apache.ignite.internal.storage.pagememory;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryCheckpointConfigurationSchema.BUFFERED_FILE_IO_MODE;
+import static org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryCheckpointConfigurationSchema.DIRECT_FILE_IO_MODE;
+import static org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryCheckpointConfigurationSchema.MAPPED_FILE_IO_MODE;
 import static org.apache.ignite.internal.storage.pagememory.configuration.schema.BasePageMemoryStorageEngineConfigurationSchema.DEFAULT_DATA_REGION_NAME;
 import static org.apache.ignite.internal.util.IgniteUtils.closeAll;
 
@@ -30,9 +33,12 @@ import org.apache.ignite.configuration.notifications.ConfigurationNamedListListe
 import org.apache.ignite.configuration.notifications.ConfigurationNotificationEvent;
 import org.apache.ignite.internal.components.LongJvmPauseDetector;
 import org.apache.ignite.internal.fileio.AsyncFileIoFactory;
+import org.apache.ignite.internal.fileio.DirectFileIoFactory;
 import org.apache.ignite.internal.fileio.FileIoFactory;
+import org.apache.ignite.internal.fileio.MappedFileIoFactory;
 import org.apache.ignite.internal.fileio.RandomAccessFileIoFactory;
 import org.apache.ignite.internal.pagememory.PageMemory;
+import org.apache.ignite.internal.pagememory.configuration.schema.PageMemoryCheckpointView;
 import org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfiguration;
 import org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionView;
 import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
@@ -116,9 +122,7 @@ public class PersistentPageMemoryStorageEngine implements StorageEngine {
         int pageSize = engineConfig.pageSize().value();
 
         try {
-            FileIoFactory fileIoFactory = engineConfig.checkpoint().useAsyncFileIoFactory().value()
-                    ? new AsyncFileIoFactory()
-                    : new RandomAccessFileIoFactory();
+            FileIoFactory fileIoFactory = fileIoFactory(engineConfig.checkpoint().value());
 
             filePageStoreManager = new FilePageStoreManager(
                     igniteInstanceName,
@@ -203,6 +207,24 @@ public class PersistentPageMemoryStorageEngine implements StorageEngine {
         return checkpointManager;
     }
 
+    /**
+     * Returns the {@link FileIoFactory} for the page store files according to the configured file I/O mode.
+     *
+     * @param checkpointConfig Checkpoint configuration.
+     */
+    static FileIoFactory fileIoFactory(PageMemoryCheckpointView checkpointConfig) {
+        switch (checkpointConfig.fileIoMode()) {
+            case BUFFERED_FILE_IO_MODE:
+                return checkpointConfig.useAsyncFileIoFactory() ? new AsyncFileIoFactory() : new RandomAccessFileIoFactory();
+            case DIRECT_FILE_IO_MODE:
+                return new DirectFileIoFactory();
+            case MAPPED_FILE_IO_MODE:
+                return new MappedFileIoFactory();
+            default:
+                throw new IllegalArgumentException("Unexpected file I/O mode: " + checkpointConfig.fileIoMode());
+        }
+    }
+
     /**
      * Creates, starts and adds a new data region to the engine.
      *
@@ -41,6 +41,7 @@ import static org.apache.ignite.internal.storage.rocksdb.instance.SharedRocksDbI
 import static org.apache.ignite.internal.storage.util.StorageUtils.throwExceptionDependingOnStorageState;
 import static org.apache.ignite.internal.storage.util.StorageUtils.throwExceptionDependingOnStorageStateOnRebalance;
 import static org.apache.ignite.internal.storage.util.StorageUtils.throwExceptionIfStorageInProgressOfRebalance;
+import static org.apache.ignite.internal.storage.util.StorageUtils.throwExceptionIfStorageNotInProgressOfRebalance;
 import static org.apache.ignite.internal.util.ArrayUtils.BYTE_EMPTY_ARRAY;
 
 import java.nio.ByteBuffer;
@@ -1460,6 +1461,15 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
         }
     }
 
+    /**
+     * Checks that the storage is in the process of rebalancing.
+     *
+     * @throws StorageRebalanceException If the storage is not in the process of rebalancing.
+     */
+    void checkRebalanceInProgress() {
+        throwExceptionIfStorageNotInProgressOfRebalance(state.get(), this::createStorageInfo);
+    }
+
     /**
      * Completes storage rebalancing.
      *
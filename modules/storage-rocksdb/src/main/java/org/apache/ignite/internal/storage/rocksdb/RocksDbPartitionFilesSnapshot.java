@@ -0,0 +1,243 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.rocksdb;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.apache.ignite.internal.rocksdb.ColumnFamily;
+import org.apache.ignite.internal.rocksdb.RocksUtils;
+import org.apache.ignite.internal.storage.StorageClosedException;
+import org.apache.ignite.internal.storage.StorageException;
+import org.apache.ignite.internal.storage.engine.PartitionFilesSnapshot;
+import org.apache.ignite.internal.util.IgniteSpinBusyLock;
+import org.jetbrains.annotations.Nullable;
+import org.rocksdb.AbstractComparator;
+import org.rocksdb.EnvOptions;
+import org.rocksdb.Options;
+import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
+import org.rocksdb.Slice;
+import org.rocksdb.Snapshot;
+import org.rocksdb.SstFileWriter;
+
+/**
+ * Point-in-time snapshot of a RocksDB partition, written as SST files: one file per non-empty key range of the partition data, its GC
+ * queue and its indexes, plus a manifest with the IDs of the shipped indexes, because empty index ranges have no files.
+ *
+ * <p>Key ranges are the same on every node, so the files are ingested by the receiver as is, see
+ * {@link RocksDbTableStorage#ingestPartitionFiles}.
+ */
+class RocksDbPartitionFilesSnapshot implements PartitionFilesSnapshot {
+    /** Name of the file with the partition data. */
+    static final String PARTITION_FILE = "partition.sst";
+
+    /** Name of the file with the GC queue of the partition. */
+    static final String GC_QUEUE_FILE = "gc.sst";
+
+    /** Prefix of the names of the files with the index data, followed by the index ID. */
+    static final String INDEX_FILE_PREFIX = "index-";
+
+    /** Suffix of the names of the files with the index data. */
+    static final String INDEX_FILE_SUFFIX = ".sst";
+
+    /** Name of the file with the IDs of the shipped indexes, one per line. */
+    static final String MANIFEST_FILE = "manifest";
+
+    private final RocksDB db;
+
+    /** Busy lock of the table storage, the snapshot can not be used after the storage is closed. */
+    private final IgniteSpinBusyLock busyLock;
+
+    private final Snapshot snapshot;
+
+    private final List<KeyRange> ranges;
+
+    private final Set<Integer> indexIds;
+
+    /** Whether the snapshot was released. Guarded by {@code this}. */
+    private boolean closed;
+
+    /**
+     * Constructor, takes the snapshot.
+     *
+     * @param db RocksDB instance.
+     * @param busyLock Busy lock of the table storage.
+     * @param ranges Key ranges of the partition.
+     * @param indexIds IDs of the shipped indexes, whose ranges are included.
+     */
+    RocksDbPartitionFilesSnapshot(RocksDB db, IgniteSpinBusyLock busyLock, List<KeyRange> ranges, Set<Integer> indexIds) {
+        this.db = db;
+        this.busyLock = busyLock;
+        this.ranges = ranges;
+        this.indexIds = indexIds;
+
+        snapshot = db.getSnapshot();
+    }
+
+    @Override
+    public synchronized List<Path> writeFiles(Path dir) {
+        if (closed || !busyLock.enterBusy()) {
+            throw new StorageClosedException();
+        }
+
+        try {
+            var files = new ArrayList<Path>();
+
+            for (KeyRange range : ranges) {
+                Path file = dir.resolve(range.fileName);
+
+                if (writeRange(range, file)) {
+                    files.add(file);
+                }
+            }
+
+            Path manifest = dir.resolve(MANIFEST_FILE);
+
+            Files.write(manifest, indexIds.stream().map(String::valueOf).collect(toList()), UTF_8);
+
+            files.add(manifest);
+
+            return files;
+        } catch (RocksDBException | IOException e) {
+            throw new StorageException("Failed to write partition files: " + dir, e);
+        } finally {
+            busyLock.leaveBusy();
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+
+        // The snapshot is released together with the database, if the storage is already closed.
+        if (busyLock.enterBusy()) {
+            try {
+                db.releaseSnapshot(snapshot);
+            } finally {
+                busyLock.leaveBusy();
+            }
+        }
+    }
+
+    /**
+     * Writes a key range into an SST file.
+     *
+     * @return {@code False} if the range is empty and the file was not created.
+     */
+    private boolean writeRange(KeyRange range, Path file) throws RocksDBException {
+        try (
+                var upperBound = new Slice(range.upperBound);
+                var readOptions = new ReadOptions().setSnapshot(snapshot).setIterateUpperBound(upperBound);
+                RocksIterator it = range.cf.newIterator(readOptions)
+        ) {
+            it.seek(range.lowerBound);
+
+            if (!it.isValid()) {
+                RocksUtils.checkIterator(it);
+
+                return false;
+            }
+
+            // Ingestion requires the comparator of the file to be the same as the one of the column family.
+            AbstractComparator comparator = range.sorted ? ColumnFamilyUtils.comparatorFromCfName(range.cf.nameBytes()) : null;
+
+            try (
+                    var envOptions = new EnvOptions();
+                    var options = new Options();
+                    var writer = new SstFileWriter(envOptions, comparator == null ? options : options.setComparator(comparator))
+            ) {
+                writer.open(file.toString());
+
+                for (; it.isValid(); it.next()) {
+                    writer.put(it.key(), it.value());
+                }
+
+                RocksUtils.checkIterator(it);
+
+                writer.finish();
+            } finally {
+                if (comparator != null) {
+                    comparator.close();
+                }
+            }
+
+            return true;
+        }
+    }
+
+    /**
+     * Returns the index ID from the name of an index file, or {@code null} if it is not an index file.
+     */
+    static @Nullable Integer indexId(String fileName) {
+        if (!fileName.startsWith(INDEX_FILE_PREFIX) || !fileName.endsWith(INDEX_FILE_SUFFIX)) {
+            return null;
+        }
+
+        try {
+            return Integer.valueOf(fileName.substring(INDEX_FILE_PREFIX.length(), fileName.length() - INDEX_FILE_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /** Key range of a column family, written as a single file. */
+    static class KeyRange {
+        final String fileName;
+
+        final ColumnFamily cf;
+
+        final byte[] lowerBound;
+
+        final byte[] upperBound;
+
+        /** Whether the column family is a sorted index one, with a custom comparator. */
+        final boolean sorted;
+
+        KeyRange(String fileName, ColumnFamily cf, byte[] lowerBound, byte[] upperBound, boolean sorted) {
+            this.fileName = fileName;
+            this.cf = cf;
+            this.lowerBound = lowerBound;
+            this.upperBound = upperBound;
+            this.sorted = sorted;
+        }
+
+        /** Creates the key range of the index data of a partition. */
+        static KeyRange forIndex(int indexId, ColumnFamily indexCf, byte[] partitionPrefix, boolean sorted) {
+            return new KeyRange(
+                    INDEX_FILE_PREFIX + indexId + INDEX_FILE_SUFFIX,
+                    indexCf,
+                    partitionPrefix,
+                    RocksUtils.incrementPrefix(partitionPrefix),
+                    sorted
+            );
+        }
+    }
+}
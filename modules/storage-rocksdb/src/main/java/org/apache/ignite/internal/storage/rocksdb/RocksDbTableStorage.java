@@ -21,33 +21,49 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.concurrent.CompletableFuture.failedFuture;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 import static org.apache.ignite.internal.storage.rocksdb.RocksDbMetaStorage.PARTITION_CONF_PREFIX;
 import static org.apache.ignite.internal.storage.rocksdb.RocksDbMetaStorage.PARTITION_META_PREFIX;
 import static org.apache.ignite.internal.storage.rocksdb.RocksDbMetaStorage.createKey;
+import static org.apache.ignite.internal.storage.rocksdb.RocksDbPartitionFilesSnapshot.GC_QUEUE_FILE;
+import static org.apache.ignite.internal.storage.rocksdb.RocksDbPartitionFilesSnapshot.MANIFEST_FILE;
+import static org.apache.ignite.internal.storage.rocksdb.RocksDbPartitionFilesSnapshot.PARTITION_FILE;
 import static org.apache.ignite.internal.storage.rocksdb.instance.SharedRocksDbInstance.DFLT_WRITE_OPTS;
 import static org.apache.ignite.internal.storage.util.StorageUtils.createMissingMvPartitionErrorMessage;
 import static org.apache.ignite.internal.util.ArrayUtils.BYTE_EMPTY_ARRAY;
 import static org.apache.ignite.internal.util.IgniteUtils.inBusyLock;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.ignite.internal.rocksdb.ColumnFamily;
 import org.apache.ignite.internal.storage.MvPartitionStorage;
 import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.StorageRebalanceException;
 import org.apache.ignite.internal.storage.engine.MvTableStorage;
+import org.apache.ignite.internal.storage.engine.PartitionFilesSnapshot;
+import org.apache.ignite.internal.storage.engine.PartitionFilesStorage;
 import org.apache.ignite.internal.storage.engine.StorageTableDescriptor;
 import org.apache.ignite.internal.storage.index.HashIndexStorage;
 import org.apache.ignite.internal.storage.index.IndexStorage;
 import org.apache.ignite.internal.storage.index.SortedIndexStorage;
 import org.apache.ignite.internal.storage.index.StorageHashIndexDescriptor;
 import org.apache.ignite.internal.storage.index.StorageSortedIndexDescriptor;
+import org.apache.ignite.internal.storage.rocksdb.RocksDbPartitionFilesSnapshot.KeyRange;
 import org.apache.ignite.internal.storage.rocksdb.index.RocksDbBinaryTupleComparator;
 import org.apache.ignite.internal.storage.rocksdb.index.RocksDbHashIndexStorage;
 import org.apache.ignite.internal.storage.rocksdb.index.RocksDbSortedIndexStorage;
@@ -60,6 +76,7 @@ import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.FlushOptions;
+import org.rocksdb.IngestExternalFileOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.WriteBatch;
@@ -67,7 +84,7 @@ import org.rocksdb.WriteBatch;
 /**
  * Table storage implementation based on {@link RocksDB} instance.
  */
-public class RocksDbTableStorage implements MvTableStorage {
+public class RocksDbTableStorage implements MvTableStorage, PartitionFilesStorage {
     private final SharedRocksDbInstance rocksDb;
 
     /** Partition storages. */
@@ -478,6 +495,140 @@ public class RocksDbTableStorage implements MvTableStorage {
         }));
     }
 
+    @Override
+    public PartitionFilesSnapshot createPartitionFilesSnapshot(int partitionId) {
+        return inBusyLock(busyLock, () -> {
+            RocksDbMvPartitionStorage mvPartitionStorage = mvPartitionStorages.get(partitionId);
+
+            if (mvPartitionStorage == null) {
+                throw new StorageException(createMissingMvPartitionErrorMessage(partitionId));
+            }
+
+            PartitionDataHelper helper = mvPartitionStorage.helper();
+
+            var ranges = new ArrayList<KeyRange>();
+
+            byte[] partitionStartPrefix = helper.partitionStartPrefix();
+            byte[] partitionEndPrefix = helper.partitionEndPrefix();
+
+            ranges.add(new KeyRange(PARTITION_FILE, rocksDb.partitionCf, partitionStartPrefix, partitionEndPrefix, false));
+            ranges.add(new KeyRange(GC_QUEUE_FILE, rocksDb.gcQueueCf, partitionStartPrefix, partitionEndPrefix, false));
+
+            // Indexes that are still being built are not shipped, a receiver that has them falls back to copying the rows.
+            var indexIds = new HashSet<Integer>();
+
+            for (RocksDbHashIndexStorage index : getHashIndexStorages(partitionId)) {
+                if (index.getNextRowIdToBuild() == null) {
+                    int indexId = index.indexDescriptor().id();
+
+                    indexIds.add(indexId);
+                    ranges.add(KeyRange.forIndex(indexId, index.columnFamily(), index.partitionPrefix(), false));
+                }
+            }
+
+            for (RocksDbSortedIndexStorage index : getSortedIndexStorages(partitionId)) {
+                if (index.getNextRowIdToBuild() == null) {
+                    int indexId = index.indexDescriptor().id();
+
+                    indexIds.add(indexId);
+                    ranges.add(KeyRange.forIndex(indexId, index.columnFamily(), index.partitionPrefix(), true));
+                }
+            }
+
+            return new RocksDbPartitionFilesSnapshot(rocksDb.db, busyLock, ranges, indexIds);
+        });
+    }
+
+    @Override
+    public void ingestPartitionFiles(int partitionId, List<Path> files) {
+        inBusyLock(busyLock, () -> {
+            RocksDbMvPartitionStorage mvPartitionStorage = mvPartitionStorages.get(partitionId);
+
+            if (mvPartitionStorage == null) {
+                throw new StorageException(createMissingMvPartitionErrorMessage(partitionId));
+            }
+
+            mvPartitionStorage.checkRebalanceInProgress();
+
+            List<RocksDbHashIndexStorage> hashIndexStorages = getHashIndexStorages(partitionId);
+            List<RocksDbSortedIndexStorage> sortedIndexStorages = getSortedIndexStorages(partitionId);
+
+            var indexCfs = new HashMap<Integer, ColumnFamily>();
+
+            hashIndexStorages.forEach(index -> indexCfs.put(index.indexDescriptor().id(), index.columnFamily()));
+            sortedIndexStorages.forEach(index -> indexCfs.put(index.indexDescriptor().id(), index.columnFamily()));
+
+            var filesByCf = new LinkedHashMap<ColumnFamily, List<String>>();
+            Set<Integer> shippedIndexIds = null;
+
+            try {
+                for (Path file : files) {
+                    String fileName = file.getFileName().toString();
+
+                    ColumnFamily cf;
+
+                    if (MANIFEST_FILE.equals(fileName)) {
+                        shippedIndexIds = Files.readAllLines(file, UTF_8).stream().map(Integer::valueOf).collect(toSet());
+
+                        continue;
+                    } else if (PARTITION_FILE.equals(fileName)) {
+                        cf = rocksDb.partitionCf;
+                    } else if (GC_QUEUE_FILE.equals(fileName)) {
+                        cf = rocksDb.gcQueueCf;
+                    } else {
+                        Integer indexId = RocksDbPartitionFilesSnapshot.indexId(fileName);
+
+                        // Files of the indexes, that have already been dropped locally, are skipped.
+                        cf = indexId == null ? null : indexCfs.get(indexId);
+                    }
+
+                    if (cf != null) {
+                        filesByCf.computeIfAbsent(cf, k -> new ArrayList<>()).add(file.toString());
+                    }
+                }
+            } catch (IOException | NumberFormatException e) {
+                throw new StorageException("Error when trying to read partition files: [{}]", e, mvPartitionStorage.createStorageInfo());
+            }
+
+            if (shippedIndexIds == null || !shippedIndexIds.containsAll(indexCfs.keySet())) {
+                throw new StorageException(
+                        "Partition files do not contain all indexes: [{}, shipped={}, local={}]",
+                        mvPartitionStorage.createStorageInfo(),
+                        shippedIndexIds,
+                        indexCfs.keySet()
+                );
+            }
+
+            try (var options = new IngestExternalFileOptions().setMoveFiles(true)) {
+                for (Map.Entry<ColumnFamily, List<String>> e : filesByCf.entrySet()) {
+                    e.getKey().ingestExternalFile(e.getValue(), options);
+                }
+            } catch (RocksDBException e) {
+                // Files are ingested into column families one by one, so the partition is cleared to not leave a part of them.
+                try (WriteBatch writeBatch = new WriteBatch()) {
+                    PartitionDataHelper helper = mvPartitionStorage.helper();
+
+                    writeBatch.deleteRange(rocksDb.partitionCf.handle(), helper.partitionStartPrefix(), helper.partitionEndPrefix());
+                    writeBatch.deleteRange(rocksDb.gcQueueCf.handle(), helper.partitionStartPrefix(), helper.partitionEndPrefix());
+
+                    for (RocksDbHashIndexStorage hashIndexStorage : hashIndexStorages) {
+                        hashIndexStorage.destroyData(writeBatch);
+                    }
+
+                    for (RocksDbSortedIndexStorage sortedIndexStorage : sortedIndexStorages) {
+                        sortedIndexStorage.destroyData(writeBatch);
+                    }
+
+                    rocksDb.db.write(DFLT_WRITE_OPTS, writeBatch);
+                } catch (RocksDBException clearException) {
+                    e.addSuppressed(clearException);
+                }
+
+                throw new StorageException("Error when trying to ingest partition files: [{}]", e, mvPartitionStorage.createStorageInfo());
+            }
+        });
+    }
+
     /**
      * Returns the table ID.
      */
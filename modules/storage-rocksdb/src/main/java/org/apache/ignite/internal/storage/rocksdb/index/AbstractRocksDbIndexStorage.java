@@ -208,6 +208,16 @@ abstract class AbstractRocksDbIndexStorage implements IndexStorage {
         return IgniteStringFormatter.format("indexId={}, partitionId={}", indexId, helper.partitionId());
     }
 
+    /**
+     * Returns the column family that stores the index data.
+     */
+    public abstract ColumnFamily columnFamily();
+
+    /**
+     * Returns the prefix of the keys of the index data of the partition.
+     */
+    public abstract byte[] partitionPrefix();
+
     /**
      * Deletes the data associated with the index, using passed write batch for the operation.
      *
@@ -98,6 +98,16 @@ public class RocksDbHashIndexStorage extends AbstractRocksDbIndexStorage impleme
         return descriptor;
     }
 
+    @Override
+    public ColumnFamily columnFamily() {
+        return indexCf;
+    }
+
+    @Override
+    public byte[] partitionPrefix() {
+        return constantPrefix;
+    }
+
     @Override
     public Cursor<RowId> get(BinaryTuple key) {
         return busy(() -> {
@@ -96,6 +96,16 @@ public class RocksDbSortedIndexStorage extends AbstractRocksDbIndexStorage imple
         return descriptor;
     }
 
+    @Override
+    public ColumnFamily columnFamily() {
+        return indexCf;
+    }
+
+    @Override
+    public byte[] partitionPrefix() {
+        return partitionStartPrefix;
+    }
+
     @Override
     public Cursor<RowId> get(BinaryTuple key) throws StorageException {
         return busy(() -> {
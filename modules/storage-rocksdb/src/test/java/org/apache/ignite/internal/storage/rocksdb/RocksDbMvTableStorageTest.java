@@ -24,24 +24,34 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import org.apache.ignite.internal.configuration.testframework.ConfigurationExtension;
 import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.schema.configuration.TablesConfiguration;
 import org.apache.ignite.internal.storage.AbstractMvTableStorageTest;
 import org.apache.ignite.internal.storage.MvPartitionStorage;
 import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.engine.MvTableStorage;
+import org.apache.ignite.internal.storage.engine.PartitionFilesSnapshot;
+import org.apache.ignite.internal.storage.engine.PartitionFilesStorage;
 import org.apache.ignite.internal.storage.engine.StorageTableDescriptor;
+import org.apache.ignite.internal.storage.index.HashIndexStorage;
+import org.apache.ignite.internal.storage.index.SortedIndexStorage;
 import org.apache.ignite.internal.storage.index.StorageIndexDescriptorSupplier;
 import org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbStorageEngineConfiguration;
 import org.apache.ignite.internal.testframework.WorkDirectory;
 import org.apache.ignite.internal.testframework.WorkDirectoryExtension;
 import org.apache.ignite.internal.util.IgniteUtils;
+import org.apache.ignite.lang.IgniteTuple3;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -55,6 +65,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 public class RocksDbMvTableStorageTest extends AbstractMvTableStorageTest {
     private RocksDbStorageEngine engine;
 
+    private Path workDir;
+
     @BeforeEach
     void setUp(
             @WorkDirectory Path workDir,
@@ -62,6 +74,8 @@ public class RocksDbMvTableStorageTest extends AbstractMvTableStorageTest {
             RocksDbStorageEngineConfiguration rocksDbEngineConfig,
             @InjectConfiguration("mock.tables.foo {}") TablesConfiguration tablesConfig
     ) {
+        this.workDir = workDir;
+
         engine = new RocksDbStorageEngine("test", rocksDbEngineConfig, workDir);
 
         engine.start();
@@ -165,4 +179,87 @@ public class RocksDbMvTableStorageTest extends AbstractMvTableStorageTest {
     void storageAdvertisesItIsPersistent() {
         assertThat(tableStorage.isVolatile(), is(false));
     }
+
+    /**
+     * Tests that a partition is restored from the files of its snapshot on rebalance, including the built indexes, and that the files
+     * contain the data at the moment of taking the snapshot.
+     */
+    @Test
+    void testPartitionFilesRebalance() throws Exception {
+        MvPartitionStorage mvPartitionStorage = getOrCreateMvPartition(PARTITION_ID);
+        HashIndexStorage hashIndexStorage = tableStorage.getOrCreateHashIndex(PARTITION_ID, hashIdx);
+        SortedIndexStorage sortedIndexStorage = tableStorage.getOrCreateSortedIndex(PARTITION_ID, sortedIdx);
+
+        List<IgniteTuple3<RowId, BinaryRow, HybridTimestamp>> rowsInSnapshot = List.of(
+                new IgniteTuple3<>(new RowId(PARTITION_ID), binaryRow(new TestKey(0, "0"), new TestValue(0, "0")), clock.now()),
+                new IgniteTuple3<>(new RowId(PARTITION_ID), binaryRow(new TestKey(1, "1"), new TestValue(1, "1")), clock.now())
+        );
+
+        fillStorages(mvPartitionStorage, hashIndexStorage, sortedIndexStorage, rowsInSnapshot);
+
+        mvPartitionStorage.runConsistently(locker -> {
+            hashIndexStorage.setNextRowIdToBuild(null);
+            sortedIndexStorage.setNextRowIdToBuild(null);
+
+            return null;
+        });
+
+        List<IgniteTuple3<RowId, BinaryRow, HybridTimestamp>> rowsAfterSnapshot = List.of(
+                new IgniteTuple3<>(new RowId(PARTITION_ID), binaryRow(new TestKey(2, "2"), new TestValue(2, "2")), clock.now()),
+                new IgniteTuple3<>(new RowId(PARTITION_ID), binaryRow(new TestKey(3, "3"), new TestValue(3, "3")), clock.now())
+        );
+
+        List<Path> files = writePartitionFiles(
+                () -> fillStorages(mvPartitionStorage, hashIndexStorage, sortedIndexStorage, rowsAfterSnapshot)
+        );
+
+        assertThat(tableStorage.startRebalancePartition(PARTITION_ID), willCompleteSuccessfully());
+
+        ((PartitionFilesStorage) tableStorage).ingestPartitionFiles(PARTITION_ID, files);
+
+        assertThat(tableStorage.finishRebalancePartition(PARTITION_ID, 10, 20, new byte[0]), willCompleteSuccessfully());
+
+        checkForPresenceRows(mvPartitionStorage, hashIndexStorage, sortedIndexStorage, rowsInSnapshot);
+        checkForMissingRows(mvPartitionStorage, hashIndexStorage, sortedIndexStorage, rowsAfterSnapshot);
+    }
+
+    /**
+     * Tests that the files of a snapshot are not loaded, if they do not contain an index that exists locally, because it was still being
+     * built when the snapshot was taken.
+     */
+    @Test
+    void testPartitionFilesWithoutBuiltIndexes() throws Exception {
+        MvPartitionStorage mvPartitionStorage = getOrCreateMvPartition(PARTITION_ID);
+        HashIndexStorage hashIndexStorage = tableStorage.getOrCreateHashIndex(PARTITION_ID, hashIdx);
+        SortedIndexStorage sortedIndexStorage = tableStorage.getOrCreateSortedIndex(PARTITION_ID, sortedIdx);
+
+        List<IgniteTuple3<RowId, BinaryRow, HybridTimestamp>> rows = List.of(
+                new IgniteTuple3<>(new RowId(PARTITION_ID), binaryRow(new TestKey(0, "0"), new TestValue(0, "0")), clock.now()),
+                new IgniteTuple3<>(new RowId(PARTITION_ID), binaryRow(new TestKey(1, "1"), new TestValue(1, "1")), clock.now())
+        );
+
+        fillStorages(mvPartitionStorage, hashIndexStorage, sortedIndexStorage, rows);
+
+        List<Path> files = writePartitionFiles(() -> {});
+
+        assertThat(tableStorage.startRebalancePartition(PARTITION_ID), willCompleteSuccessfully());
+
+        assertThrows(StorageException.class, () -> ((PartitionFilesStorage) tableStorage).ingestPartitionFiles(PARTITION_ID, files));
+
+        assertThat(tableStorage.finishRebalancePartition(PARTITION_ID, 10, 20, new byte[0]), willCompleteSuccessfully());
+
+        checkForMissingRows(mvPartitionStorage, hashIndexStorage, sortedIndexStorage, rows);
+    }
+
+    private List<Path> writePartitionFiles(Runnable afterSnapshot) throws Exception {
+        PartitionFilesSnapshot snapshot = ((PartitionFilesStorage) tableStorage).createPartitionFilesSnapshot(PARTITION_ID);
+
+        try {
+            afterSnapshot.run();
+
+            return snapshot.writeFiles(Files.createDirectories(workDir.resolve("partition-files")));
+        } finally {
+            snapshot.close();
+        }
+    }
 }
@@ -17,10 +17,12 @@
 
 package org.apache.ignite.internal.table;
 
+import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Flow.Publisher;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.schema.BinaryRowEx;
 import org.apache.ignite.internal.streamer.StreamerBatchSender;
 import org.apache.ignite.internal.streamer.StreamerOptions;
 import org.apache.ignite.internal.streamer.StreamerPartitionAwarenessProvider;
@@ -45,6 +47,24 @@ class DataStreamer {
         return subscriber.completionFuture();
     }
 
+    /**
+     * Sends a batch of the streamer to a partition: loads it in the bulk load mode, or upserts it in an implicit transaction otherwise.
+     *
+     * @param tbl Table.
+     * @param rows Rows of the batch.
+     * @param partitionId Partition that the rows belong to.
+     * @param options Streamer options.
+     * @return Future representing pending completion of the operation.
+     */
+    static CompletableFuture<Void> sendBatch(
+            InternalTable tbl,
+            Collection<BinaryRowEx> rows,
+            int partitionId,
+            @Nullable DataStreamerOptions options
+    ) {
+        return options != null && options.bulkLoad() ? tbl.bulkLoad(rows, partitionId) : tbl.upsertAll(rows, partitionId);
+    }
+
     private static StreamerOptions streamerOptions(@Nullable DataStreamerOptions options) {
         var options0 = options == null ? DataStreamerOptions.DEFAULT : options;
 
@@ -54,6 +74,11 @@ class DataStreamer {
                 return options0.batchSize();
             }
 
+            @Override
+            public long batchSizeBytes() {
+                return options0.batchSizeBytes();
+            }
+
             @Override
             public int perNodeParallelOperations() {
                 return options0.perNodeParallelOperations();
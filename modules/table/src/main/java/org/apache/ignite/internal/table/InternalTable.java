@@ -154,6 +154,16 @@ public interface InternalTable extends ManuallyCloseable {
      */
     CompletableFuture<Void> upsertAll(Collection<BinaryRowEx> rows, int partition);
 
+    /**
+     * Asynchronously loads records into a table partition, replacing the existing ones. Unlike {@link #upsertAll(Collection, int)}, the
+     * records are written as committed ones under a partition lock instead of row locks.
+     *
+     * @param rows Rows to load into the table.
+     * @param partition Partition that the rows belong to.
+     * @return Future representing pending completion of the operation.
+     */
+    CompletableFuture<Void> bulkLoad(Collection<BinaryRowEx> rows, int partition);
+
     /**
      * Asynchronously inserts a row into the table or replaces if exists and return replaced previous row.
      *
@@ -482,7 +482,7 @@ public class KeyValueBinaryViewImpl extends AbstractTableView implements KeyValu
 
         var partitioner = new KeyValueTupleStreamerPartitionAwarenessProvider(schemaReg, tbl.partitions());
         StreamerBatchSender<Entry<Tuple, Tuple>, Integer> batchSender =
-                (partitionId, items) -> tbl.upsertAll(marshalPairs(items), partitionId);
+                (partitionId, items) -> DataStreamer.sendBatch(tbl, marshalPairs(items), partitionId, options);
 
         return DataStreamer.streamData(publisher, options, batchSender, partitioner);
     }
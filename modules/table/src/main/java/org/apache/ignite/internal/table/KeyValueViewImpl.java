@@ -567,7 +567,8 @@ public class KeyValueViewImpl<K, V> extends AbstractTableView implements KeyValu
         Objects.requireNonNull(publisher);
 
         var partitioner = new KeyValuePojoStreamerPartitionAwarenessProvider<>(schemaReg, tbl.partitions(), marshaller());
-        StreamerBatchSender<Entry<K, V>, Integer> batchSender = (partitionId, items) -> tbl.upsertAll(marshalPairs(items), partitionId);
+        StreamerBatchSender<Entry<K, V>, Integer> batchSender =
+                (partitionId, items) -> DataStreamer.sendBatch(tbl, marshalPairs(items), partitionId, options);
 
         return DataStreamer.streamData(publisher, options, batchSender, partitioner);
     }
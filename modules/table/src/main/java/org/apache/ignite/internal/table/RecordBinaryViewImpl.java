@@ -20,7 +20,9 @@ package org.apache.ignite.internal.table;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Flow.Publisher;
@@ -357,6 +359,29 @@ public class RecordBinaryViewImpl extends AbstractTableView implements RecordVie
         return wrapped;
     }
 
+    /**
+     * Asynchronously loads records into the table in the bulk load mode of the data streamer, see
+     * {@link InternalTable#bulkLoad(Collection, int)}.
+     *
+     * @param recs Records to load.
+     * @return Future representing pending completion of the operation.
+     */
+    public CompletableFuture<Void> bulkLoadAsync(Collection<Tuple> recs) {
+        Objects.requireNonNull(recs);
+
+        Map<Integer, List<BinaryRowEx>> rowsByPartition = new HashMap<>();
+
+        for (BinaryRowEx row : mapToBinary(recs, false)) {
+            rowsByPartition.computeIfAbsent(tbl.partitionId(row), p -> new ArrayList<>()).add(row);
+        }
+
+        CompletableFuture<?>[] futs = rowsByPartition.entrySet().stream()
+                .map(e -> tbl.bulkLoad(e.getValue(), e.getKey()))
+                .toArray(CompletableFuture[]::new);
+
+        return CompletableFuture.allOf(futs);
+    }
+
     /**
      * Maps a collection of tuples to binary rows.
      *
@@ -380,7 +405,8 @@ public class RecordBinaryViewImpl extends AbstractTableView implements RecordVie
         Objects.requireNonNull(publisher);
 
         var partitioner = new TupleStreamerPartitionAwarenessProvider(schemaReg, tbl.partitions());
-        StreamerBatchSender<Tuple, Integer> batchSender = (partitionId, items) -> tbl.upsertAll(mapToBinary(items, false), partitionId);
+        StreamerBatchSender<Tuple, Integer> batchSender =
+                (partitionId, items) -> DataStreamer.sendBatch(tbl, mapToBinary(items, false), partitionId, options);
 
         return DataStreamer.streamData(publisher, options, batchSender, partitioner);
     }
@@ -440,7 +440,8 @@ public class RecordViewImpl<R> extends AbstractTableView implements RecordView<R
         Objects.requireNonNull(publisher);
 
         var partitioner = new PojoStreamerPartitionAwarenessProvider<>(schemaReg, tbl.partitions(), marshaller());
-        StreamerBatchSender<R, Integer> batchSender = (partitionId, items) -> tbl.upsertAll(marshal(items), partitionId);
+        StreamerBatchSender<R, Integer> batchSender =
+                (partitionId, items) -> DataStreamer.sendBatch(tbl, marshal(items), partitionId, options);
 
         return DataStreamer.streamData(publisher, options, batchSender, partitioner);
     }
@@ -32,6 +32,7 @@ import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.replicator.TablePartitionId;
 import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.schema.configuration.GcConfiguration;
+import org.apache.ignite.internal.storage.MvPartitionStorage.Locker;
 import org.apache.ignite.internal.storage.ReadResult;
 import org.apache.ignite.internal.storage.RowId;
 import org.apache.ignite.internal.table.distributed.gc.GcUpdateHandler;
@@ -241,35 +242,45 @@ public class StorageUpdateHandler {
      */
     public void handleTransactionAbortion(Set<RowId> pendingRowIds, Runnable onApplication) {
         storage.runConsistently(locker -> {
-            for (RowId rowId : pendingRowIds) {
-                locker.lock(rowId);
+            abortWrites(locker, pendingRowIds);
 
-                try (Cursor<ReadResult> cursor = storage.scanVersions(rowId)) {
-                    if (!cursor.hasNext()) {
-                        continue;
-                    }
+            onApplication.run();
 
-                    ReadResult item = cursor.next();
+            return null;
+        });
+    }
 
-                    // TODO: https://issues.apache.org/jira/browse/IGNITE-20124 Prevent double storage updates within primary
-                    if (item.isWriteIntent()) {
-                        BinaryRow rowToRemove = item.binaryRow();
+    /**
+     * Rolls back the write-intents of an aborted transaction. Must be called inside {@link PartitionDataStorage#runConsistently}.
+     *
+     * @param locker Locker of the enclosing {@link PartitionDataStorage#runConsistently} call.
+     * @param pendingRowIds Row ids of write-intents to be rolled back.
+     */
+    public void abortWrites(Locker locker, Set<RowId> pendingRowIds) {
+        for (RowId rowId : pendingRowIds) {
+            locker.lock(rowId);
 
-                        if (rowToRemove == null) {
-                            continue;
-                        }
+            try (Cursor<ReadResult> cursor = storage.scanVersions(rowId)) {
+                if (!cursor.hasNext()) {
+                    continue;
+                }
+
+                ReadResult item = cursor.next();
+
+                // TODO: https://issues.apache.org/jira/browse/IGNITE-20124 Prevent double storage updates within primary
+                if (item.isWriteIntent()) {
+                    BinaryRow rowToRemove = item.binaryRow();
 
-                        indexUpdateHandler.tryRemoveFromIndexes(rowToRemove, rowId, cursor);
+                    if (rowToRemove == null) {
+                        continue;
                     }
+
+                    indexUpdateHandler.tryRemoveFromIndexes(rowToRemove, rowId, cursor);
                 }
             }
+        }
 
-            pendingRowIds.forEach(storage::abortWrite);
-
-            onApplication.run();
-
-            return null;
-        });
+        pendingRowIds.forEach(storage::abortWrite);
     }
 
     /**
@@ -112,6 +112,7 @@ import org.apache.ignite.internal.metastorage.WatchListener;
 import org.apache.ignite.internal.metastorage.dsl.Condition;
 import org.apache.ignite.internal.metastorage.dsl.Conditions;
 import org.apache.ignite.internal.metastorage.dsl.Operation;
+import org.apache.ignite.internal.metrics.MetricManager;
 import org.apache.ignite.internal.raft.Loza;
 import org.apache.ignite.internal.raft.Peer;
 import org.apache.ignite.internal.raft.PeersAndLearners;
@@ -163,6 +164,7 @@ import org.apache.ignite.internal.table.distributed.raft.snapshot.PartitionKey;
 import org.apache.ignite.internal.table.distributed.raft.snapshot.PartitionSnapshotStorageFactory;
 import org.apache.ignite.internal.table.distributed.raft.snapshot.outgoing.OutgoingSnapshotsManager;
 import org.apache.ignite.internal.table.distributed.raft.snapshot.outgoing.SnapshotAwarePartitionDataStorage;
+import org.apache.ignite.internal.table.distributed.replicator.LeaseReadMetricSource;
 import org.apache.ignite.internal.table.distributed.replicator.PartitionReplicaListener;
 import org.apache.ignite.internal.table.distributed.replicator.PlacementDriver;
 import org.apache.ignite.internal.table.distributed.schema.NonHistoricSchemas;
@@ -386,6 +388,11 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
 
     private final HybridTimestampTracker observableTimestampTracker;
 
+    private final MetricManager metricManager;
+
+    /** Metrics of the read-only requests served by the local replicas. */
+    private final LeaseReadMetricSource leaseReadMetricSource = new LeaseReadMetricSource();
+
     /**
      * Creates a new table manager.
      *
@@ -406,6 +413,7 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
      *         volatile tables.
      * @param raftGroupServiceFactory Factory that is used for creation of raft group services for replication groups.
      * @param vaultManager Vault manager.
+     * @param metricManager Metric manager.
      */
     public TableManager(
             String nodeName,
@@ -434,7 +442,8 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
             DistributionZoneManager distributionZoneManager,
             SchemaSyncService schemaSyncService,
             CatalogService catalogService,
-            HybridTimestampTracker observableTimestampTracker
+            HybridTimestampTracker observableTimestampTracker,
+            MetricManager metricManager
     ) {
         this.tablesCfg = tablesCfg;
         this.zonesConfig = zonesConfig;
@@ -460,6 +469,7 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
         this.schemaSyncService = schemaSyncService;
         this.catalogService = catalogService;
         this.observableTimestampTracker = observableTimestampTracker;
+        this.metricManager = metricManager;
 
         clusterNodeResolver = topologyService::getByConsistentId;
 
@@ -525,6 +535,8 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
 
         lowWatermark.start();
 
+        metricManager.registerSource(leaseReadMetricSource);
+
         metaStorageMgr.registerPrefixWatch(ByteArray.fromString(PENDING_ASSIGNMENTS_PREFIX), pendingAssignmentsRebalanceListener);
         metaStorageMgr.registerPrefixWatch(ByteArray.fromString(STABLE_ASSIGNMENTS_PREFIX), stableAssignmentsRebalanceListener);
         metaStorageMgr.registerPrefixWatch(ByteArray.fromString(ASSIGNMENTS_SWITCH_REDUCE_PREFIX), assignmentsSwitchRebalanceListener);
@@ -1020,7 +1032,8 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
                 indexBuilder,
                 schemaSyncService,
                 catalogService,
-                tablesCfg
+                tablesCfg,
+                leaseReadMetricSource
         );
     }
 
@@ -1123,6 +1136,8 @@ public class TableManager extends Producer<TableEvent, TableEventParameters> imp
 
         cleanUpTablesResources(tablesToStop);
 
+        metricManager.unregisterSource(leaseReadMetricSource);
+
         try {
             IgniteUtils.closeAllManually(lowWatermark, mvGc, indexBuilder);
         } catch (Throwable t) {
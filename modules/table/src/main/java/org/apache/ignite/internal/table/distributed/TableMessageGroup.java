@@ -22,11 +22,13 @@ import static org.apache.ignite.internal.table.distributed.TableMessageGroup.GRO
 import org.apache.ignite.internal.table.distributed.command.BuildIndexCommand;
 import org.apache.ignite.internal.table.distributed.command.FinishTxCommand;
 import org.apache.ignite.internal.table.distributed.command.TablePartitionIdMessage;
+import org.apache.ignite.internal.table.distributed.command.TxCleanupBatchCommand;
 import org.apache.ignite.internal.table.distributed.command.TxCleanupCommand;
 import org.apache.ignite.internal.table.distributed.command.UpdateAllCommand;
 import org.apache.ignite.internal.table.distributed.command.UpdateCommand;
 import org.apache.ignite.internal.table.distributed.message.HasDataRequest;
 import org.apache.ignite.internal.table.distributed.message.HasDataResponse;
+import org.apache.ignite.internal.table.distributed.raft.snapshot.message.SnapshotFilesIdentifier;
 import org.apache.ignite.internal.table.distributed.raft.snapshot.message.SnapshotMetaRequest;
 import org.apache.ignite.internal.table.distributed.raft.snapshot.message.SnapshotMetaResponse;
 import org.apache.ignite.internal.table.distributed.raft.snapshot.message.SnapshotMvDataRequest;
@@ -149,6 +151,11 @@ public interface TableMessageGroup {
      */
     short BINARY_ROW_MESSAGE = 18;
 
+    /**
+     * Message type for {@link SnapshotFilesIdentifier}.
+     */
+    short SNAPSHOT_FILES_IDENTIFIER = 19;
+
     /**
      * Message types for Table module RAFT commands.
      */
@@ -168,6 +175,9 @@ public interface TableMessageGroup {
         /** Message type for {@link BuildIndexCommand}. */
         short BUILD_INDEX = 44;
 
+        /** Message type for {@link TxCleanupBatchCommand}. */
+        short TX_CLEANUP_BATCH = 45;
+
         /** Message type for {@link TablePartitionIdMessage}. */
         short TABLE_PARTITION_ID = 61;
     }
@@ -0,0 +1,36 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.distributed.command;
+
+import java.util.List;
+import org.apache.ignite.internal.replicator.command.SafeTimePropagatingCommand;
+import org.apache.ignite.internal.table.distributed.TableMessageGroup;
+import org.apache.ignite.network.annotations.Transferable;
+
+/**
+ * State machine command to cleanup several transactions at once. Cleanups of different transactions that are requested at about the
+ * same time are grouped into one command, so that they take a single raft log entry and are applied within a single storage
+ * {@code runConsistently} call.
+ */
+@Transferable(TableMessageGroup.Commands.TX_CLEANUP_BATCH)
+public interface TxCleanupBatchCommand extends SafeTimePropagatingCommand, CatalogVersionAware {
+    /**
+     * Returns cleanup commands of the transactions, their safe time and required catalog version are not used.
+     */
+    List<TxCleanupCommand> cleanupCommands();
+}
@@ -64,6 +64,7 @@ import org.apache.ignite.internal.table.distributed.StorageUpdateHandler;
 import org.apache.ignite.internal.table.distributed.command.BuildIndexCommand;
 import org.apache.ignite.internal.table.distributed.command.FinishTxCommand;
 import org.apache.ignite.internal.table.distributed.command.TablePartitionIdMessage;
+import org.apache.ignite.internal.table.distributed.command.TxCleanupBatchCommand;
 import org.apache.ignite.internal.table.distributed.command.TxCleanupCommand;
 import org.apache.ignite.internal.table.distributed.command.UpdateAllCommand;
 import org.apache.ignite.internal.table.distributed.command.UpdateCommand;
@@ -191,6 +192,8 @@ public class PartitionListener implements RaftGroupListener {
                     handleFinishTxCommand((FinishTxCommand) command, commandIndex, commandTerm);
                 } else if (command instanceof TxCleanupCommand) {
                     handleTxCleanupCommand((TxCleanupCommand) command, commandIndex, commandTerm);
+                } else if (command instanceof TxCleanupBatchCommand) {
+                    handleTxCleanupBatchCommand((TxCleanupBatchCommand) command, commandIndex, commandTerm);
                 } else if (command instanceof SafeTimeSyncCommand) {
                     handleSafeTimeSyncCommand((SafeTimeSyncCommand) command, commandIndex, commandTerm);
                 } else if (command instanceof BuildIndexCommand) {
@@ -287,7 +290,8 @@ public class PartitionListener implements RaftGroupListener {
     }
 
     /**
-     * Handler for the {@link FinishTxCommand}.
+     * Handler for the {@link FinishTxCommand}. A {@link FinishTxCommand#full() full} command also resolves the write intents of the
+     * transaction in this partition, as a {@link TxCleanupCommand} would do (one-phase commit).
      *
      * @param cmd Command.
      * @param commandIndex Index of the RAFT command.
@@ -296,10 +300,17 @@ public class PartitionListener implements RaftGroupListener {
      */
     private void handleFinishTxCommand(FinishTxCommand cmd, long commandIndex, long commandTerm) throws IgniteInternalException {
         // Skips the write command because the storage has already executed it.
-        if (commandIndex <= txStateStorage.lastAppliedIndex()) {
-            return;
+        if (commandIndex > txStateStorage.lastAppliedIndex()) {
+            changeTxState(cmd, commandIndex, commandTerm);
+        }
+
+        // Tx state storage and partition storage are flushed independently, so write intents are resolved on their own index check.
+        if (cmd.full() && commandIndex > storage.lastAppliedIndex()) {
+            cleanupWriteIntents(cmd.txId(), cmd.commit(), cmd.commitTimestamp(), commandIndex, commandTerm);
         }
+    }
 
+    private void changeTxState(FinishTxCommand cmd, long commandIndex, long commandTerm) throws IgniteInternalException {
         UUID txId = cmd.txId();
 
         TxState stateToSet = cmd.commit() ? COMMITED : ABORTED;
@@ -346,7 +357,6 @@ public class PartitionListener implements RaftGroupListener {
         }
     }
 
-
     /**
      * Handler for the {@link TxCleanupCommand}.
      *
@@ -364,13 +374,68 @@ public class PartitionListener implements RaftGroupListener {
 
         markFinished(txId, cmd.commit(), cmd.commitTimestamp(), cmd.txCoordinatorId());
 
+        cleanupWriteIntents(txId, cmd.commit(), cmd.commitTimestamp(), commandIndex, commandTerm);
+    }
+
+    /**
+     * Handler for the {@link TxCleanupBatchCommand}. Write intents of all transactions in the batch are resolved within a single
+     * {@link PartitionDataStorage#runConsistently} call.
+     *
+     * @param cmd Command.
+     * @param commandIndex Index of the RAFT command.
+     * @param commandTerm Term of the RAFT command.
+     */
+    private void handleTxCleanupBatchCommand(TxCleanupBatchCommand cmd, long commandIndex, long commandTerm) {
+        // Skips the write command because the storage has already executed it.
+        if (commandIndex <= storage.lastAppliedIndex()) {
+            return;
+        }
+
+        for (TxCleanupCommand cleanupCmd : cmd.cleanupCommands()) {
+            markFinished(cleanupCmd.txId(), cleanupCmd.commit(), cleanupCmd.commitTimestamp(), cleanupCmd.txCoordinatorId());
+        }
+
+        storage.runConsistently(locker -> {
+            for (TxCleanupCommand cleanupCmd : cmd.cleanupCommands()) {
+                UUID txId = cleanupCmd.txId();
+
+                Set<RowId> pendingRowIds = txsPendingRowIds.getOrDefault(txId, EMPTY_SET);
+
+                if (cleanupCmd.commit()) {
+                    pendingRowIds.forEach(locker::lock);
+
+                    pendingRowIds.forEach(rowId -> storage.commitWrite(rowId, cleanupCmd.commitTimestamp()));
+                } else {
+                    storageUpdateHandler.abortWrites(locker, pendingRowIds);
+                }
+
+                txsPendingRowIds.remove(txId);
+            }
+
+            storage.lastApplied(commandIndex, commandTerm);
+
+            return null;
+        });
+    }
+
+    /**
+     * Commits or aborts the write intents of the transaction.
+     *
+     * @param txId Transaction id.
+     * @param commit {@code True} if the transaction is committed.
+     * @param commitTimestamp Commit timestamp, {@code null} if the transaction is aborted.
+     * @param commandIndex Index of the RAFT command.
+     * @param commandTerm Term of the RAFT command.
+     */
+    private void cleanupWriteIntents(UUID txId, boolean commit, @Nullable HybridTimestamp commitTimestamp, long commandIndex,
+            long commandTerm) {
         Set<RowId> pendingRowIds = txsPendingRowIds.getOrDefault(txId, EMPTY_SET);
 
-        if (cmd.commit()) {
+        if (commit) {
             storage.runConsistently(locker -> {
                 pendingRowIds.forEach(locker::lock);
 
-                pendingRowIds.forEach(rowId -> storage.commitWrite(rowId, cmd.commitTimestamp()));
+                pendingRowIds.forEach(rowId -> storage.commitWrite(rowId, commitTimestamp));
 
                 txsPendingRowIds.remove(txId);
 
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.table.distributed.raft.snapshot;
 
+import java.nio.file.Path;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -28,6 +29,8 @@ import org.apache.ignite.internal.storage.RowId;
 import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.StorageRebalanceException;
 import org.apache.ignite.internal.storage.TxIdMismatchException;
+import org.apache.ignite.internal.storage.engine.PartitionFilesSnapshot;
+import org.apache.ignite.internal.storage.engine.PartitionFilesStorage;
 import org.apache.ignite.internal.table.distributed.raft.RaftGroupConfiguration;
 import org.apache.ignite.internal.tx.TxMeta;
 import org.apache.ignite.internal.util.Cursor;
@@ -112,6 +115,38 @@ public interface PartitionAccess {
      */
     void addWriteCommitted(RowId rowId, @Nullable BinaryRow row, HybridTimestamp commitTimestamp);
 
+    /**
+     * Runs the closure in a single consistency scope of the MV partition storage: the versions, that the closure adds with
+     * {@link #addWrite} and {@link #addWriteCommitted}, are persisted as one batch instead of one by one.
+     *
+     * @param writes Closure that adds row versions.
+     * @throws StorageException If failed to write data.
+     */
+    void runConsistently(Runnable writes);
+
+    /**
+     * Takes a point-in-time snapshot of the MV partition storage, that can be written as storage files, see
+     * {@link PartitionFilesStorage}.
+     *
+     * @return Snapshot that must be closed after use, {@code null} if the storage does not support it.
+     * @throws StorageException If failed to take the snapshot.
+     */
+    @Nullable PartitionFilesSnapshot createFilesSnapshot();
+
+    /**
+     * Returns {@code true} if the MV partition storage can load the storage files written by {@link #createFilesSnapshot()}.
+     */
+    boolean supportsPartitionFiles();
+
+    /**
+     * Loads the storage files, written by {@link #createFilesSnapshot()} on another node, into the MV partition storage. Can only be called
+     * during rebalance, if the method fails the MV partition storage is left empty.
+     *
+     * @param files Files to load.
+     * @throws StorageException If failed to load the files.
+     */
+    void ingestPartitionFiles(List<Path> files);
+
     /**
      * Returns the minimum applied index of the partition storages.
      */
@@ -19,6 +19,7 @@ package org.apache.ignite.internal.table.distributed.raft.snapshot;
 
 import static java.util.stream.Collectors.toList;
 
+import java.nio.file.Path;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -29,6 +30,8 @@ import org.apache.ignite.internal.storage.MvPartitionStorage;
 import org.apache.ignite.internal.storage.ReadResult;
 import org.apache.ignite.internal.storage.RowId;
 import org.apache.ignite.internal.storage.engine.MvTableStorage;
+import org.apache.ignite.internal.storage.engine.PartitionFilesSnapshot;
+import org.apache.ignite.internal.storage.engine.PartitionFilesStorage;
 import org.apache.ignite.internal.table.distributed.gc.GcUpdateHandler;
 import org.apache.ignite.internal.table.distributed.gc.MvGc;
 import org.apache.ignite.internal.table.distributed.index.IndexUpdateHandler;
@@ -164,6 +167,36 @@ public class PartitionAccessImpl implements PartitionAccess {
         });
     }
 
+    @Override
+    public void runConsistently(Runnable writes) {
+        getMvPartitionStorage(partitionId()).runConsistently(locker -> {
+            writes.run();
+
+            return null;
+        });
+    }
+
+    @Override
+    public @Nullable PartitionFilesSnapshot createFilesSnapshot() {
+        if (!(mvTableStorage instanceof PartitionFilesStorage)) {
+            return null;
+        }
+
+        return ((PartitionFilesStorage) mvTableStorage).createPartitionFilesSnapshot(partitionId());
+    }
+
+    @Override
+    public boolean supportsPartitionFiles() {
+        return mvTableStorage instanceof PartitionFilesStorage;
+    }
+
+    @Override
+    public void ingestPartitionFiles(List<Path> files) {
+        assert mvTableStorage instanceof PartitionFilesStorage : mvTableStorage;
+
+        ((PartitionFilesStorage) mvTableStorage).ingestPartitionFiles(partitionId(), files);
+    }
+
     @Override
     public long minLastAppliedIndex() {
         return Math.min(
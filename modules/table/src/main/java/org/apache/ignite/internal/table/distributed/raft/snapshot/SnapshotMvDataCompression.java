@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.distributed.raft.snapshot;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+import org.apache.ignite.internal.storage.ReadResult;
+import org.apache.ignite.internal.storage.StorageRebalanceException;
+import org.apache.ignite.internal.table.distributed.TableMessagesFactory;
+import org.apache.ignite.internal.table.distributed.raft.snapshot.message.SnapshotMvDataResponse;
+import org.apache.ignite.internal.table.distributed.raft.snapshot.message.SnapshotMvDataResponse.ResponseEntry;
+import org.apache.ignite.internal.table.distributed.replication.request.BinaryRowMessage;
+
+/**
+ * Compression of the rows of a {@link SnapshotMvDataResponse}. Rows of a batch are written one after another in a compact binary form
+ * and compressed as a whole with the fastest level of {@link Deflater}, so that the similar rows of a table compress well together.
+ */
+public class SnapshotMvDataCompression {
+    private static final TableMessagesFactory MSG_FACTORY = new TableMessagesFactory();
+
+    /**
+     * Compresses the rows.
+     *
+     * @param rows Rows of a batch.
+     * @return Compressed rows.
+     */
+    public static byte[] compress(List<ResponseEntry> rows) {
+        var bytes = new ByteArrayOutputStream();
+
+        var deflater = new Deflater(Deflater.BEST_SPEED);
+
+        try (var out = new DataOutputStream(new DeflaterOutputStream(bytes, deflater))) {
+            out.writeInt(rows.size());
+
+            for (ResponseEntry row : rows) {
+                writeUuid(out, row.rowId());
+
+                out.writeInt(row.rowVersions().size());
+
+                for (BinaryRowMessage version : row.rowVersions()) {
+                    out.writeBoolean(version != null);
+
+                    if (version != null) {
+                        ByteBuffer tuple = version.binaryTuple();
+
+                        out.writeInt(version.schemaVersion());
+                        out.writeInt(tuple.remaining());
+
+                        if (tuple.hasArray()) {
+                            out.write(tuple.array(), tuple.arrayOffset() + tuple.position(), tuple.remaining());
+                        } else {
+                            byte[] tupleBytes = new byte[tuple.remaining()];
+
+                            tuple.duplicate().get(tupleBytes);
+
+                            out.write(tupleBytes);
+                        }
+                    }
+                }
+
+                out.writeInt(row.timestamps().length);
+
+                for (long timestamp : row.timestamps()) {
+                    out.writeLong(timestamp);
+                }
+
+                out.writeBoolean(row.txId() != null);
+
+                if (row.txId() != null) {
+                    writeUuid(out, row.txId());
+
+                    out.writeInt(row.commitTableId());
+                    out.writeInt(row.commitPartitionId());
+                }
+            }
+        } catch (IOException e) {
+            // Can't happen, the data is written into memory.
+            throw new AssertionError(e);
+        } finally {
+            deflater.end();
+        }
+
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decompresses the rows, compressed by {@link #compress(List)}.
+     *
+     * @param compressedRows Compressed rows.
+     * @return Rows of a batch.
+     */
+    public static List<ResponseEntry> decompress(byte[] compressedRows) {
+        try (var in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(compressedRows)))) {
+            int rowCount = in.readInt();
+
+            List<ResponseEntry> rows = new ArrayList<>(rowCount);
+
+            for (int i = 0; i < rowCount; i++) {
+                UUID rowId = readUuid(in);
+
+                int versionCount = in.readInt();
+
+                List<BinaryRowMessage> versions = new ArrayList<>(versionCount);
+
+                for (int j = 0; j < versionCount; j++) {
+                    if (in.readBoolean()) {
+                        int schemaVersion = in.readInt();
+
+                        byte[] tuple = new byte[in.readInt()];
+
+                        in.readFully(tuple);
+
+                        versions.add(MSG_FACTORY.binaryRowMessage()
+                                .schemaVersion(schemaVersion)
+                                .binaryTuple(ByteBuffer.wrap(tuple))
+                                .build());
+                    } else {
+                        versions.add(null);
+                    }
+                }
+
+                long[] timestamps = new long[in.readInt()];
+
+                for (int j = 0; j < timestamps.length; j++) {
+                    timestamps[j] = in.readLong();
+                }
+
+                UUID txId = null;
+                Integer commitTableId = null;
+                int commitPartitionId = ReadResult.UNDEFINED_COMMIT_PARTITION_ID;
+
+                if (in.readBoolean()) {
+                    txId = readUuid(in);
+                    commitTableId = in.readInt();
+                    commitPartitionId = in.readInt();
+                }
+
+                rows.add(MSG_FACTORY.responseEntry()
+                        .rowId(rowId)
+                        .rowVersions(versions)
+                        .timestamps(timestamps)
+                        .txId(txId)
+                        .commitTableId(commitTableId)
+                        .commitPartitionId(commitPartitionId)
+                        .build());
+            }
+
+            return rows;
+        } catch (IOException e) {
+            throw new StorageRebalanceException("Failed to decompress snapshot rows", e);
+        }
+    }
+
+    private static void writeUuid(DataOutputStream out, UUID uuid) throws IOException {
+        out.writeLong(uuid.getMostSignificantBits());
+        out.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    private static UUID readUuid(DataInputStream in) throws IOException {
+        return new UUID(in.readLong(), in.readLong());
+    }
+}
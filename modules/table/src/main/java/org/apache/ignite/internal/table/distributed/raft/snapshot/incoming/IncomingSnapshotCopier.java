@@ -20,15 +20,23 @@ package org.apache.ignite.internal.table.distributed.raft.snapshot.incoming;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.concurrent.CompletableFuture.failedFuture;
 import static org.apache.ignite.internal.hlc.HybridTimestamp.hybridTimestamp;
+import static org.apache.ignite.internal.table.distributed.raft.snapshot.SnapshotMvDataCompression.decompress;
+import static org.apache.ignite.lang.IgniteSystemProperties.getBoolean;
+import static org.apache.ignite.lang.IgniteSystemProperties.getInteger;
 
+import java.nio.file.Path;
+import java.util.List;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.network.file.FileTransferService;
 import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.storage.MvPartitionStorage;
 import org.apache.ignite.internal.storage.ReadResult;
@@ -44,9 +52,11 @@ import org.apache.ignite.internal.table.distributed.raft.snapshot.message.Snapsh
 import org.apache.ignite.internal.table.distributed.raft.snapshot.message.SnapshotMvDataResponse;
 import org.apache.ignite.internal.table.distributed.raft.snapshot.message.SnapshotMvDataResponse.ResponseEntry;
 import org.apache.ignite.internal.table.distributed.raft.snapshot.message.SnapshotTxDataResponse;
+import org.apache.ignite.internal.table.distributed.raft.snapshot.outgoing.OutgoingSnapshotsManager;
 import org.apache.ignite.internal.table.distributed.replication.request.BinaryRowMessage;
 import org.apache.ignite.internal.tx.storage.state.TxStateStorage;
 import org.apache.ignite.internal.util.IgniteSpinBusyLock;
+import org.apache.ignite.internal.util.IgniteUtils;
 import org.apache.ignite.network.ClusterNode;
 import org.apache.ignite.raft.jraft.entity.RaftOutter.SnapshotMeta;
 import org.apache.ignite.raft.jraft.error.RaftError;
@@ -58,6 +68,22 @@ import org.jetbrains.annotations.Nullable;
  * Snapshot copier implementation for partitions. Used to stream partition data from the leader to the local node.
  */
 public class IncomingSnapshotCopier extends SnapshotCopier {
+    /** Name of the system property with the number of multi-versioned data batches requested from the leader at a time. */
+    public static final String IGNITE_SNAPSHOT_MV_DATA_WINDOW = "IGNITE_SNAPSHOT_MV_DATA_WINDOW";
+
+    /** Name of the system property that enables compression of the multi-versioned data batches. */
+    public static final String IGNITE_SNAPSHOT_MV_DATA_COMPRESSION = "IGNITE_SNAPSHOT_MV_DATA_COMPRESSION";
+
+    /**
+     * Name of the system property that enables loading the multi-versioned data as storage files instead of row by row. Disabled by
+     * default, because a leader of an older version does not know how to serve the files, so the property must only be set once all the
+     * nodes of the cluster support it.
+     */
+    public static final String IGNITE_SNAPSHOT_FILES_ENABLED = "IGNITE_SNAPSHOT_FILES_ENABLED";
+
+    /** Default number of multi-versioned data batches requested from the leader at a time. */
+    private static final int DFLT_MV_DATA_WINDOW = 4;
+
     private static final IgniteLogger LOG = Loggers.forClass(IncomingSnapshotCopier.class);
 
     private static final TableMessagesFactory MSG_FACTORY = new TableMessagesFactory();
@@ -72,6 +98,30 @@ public class IncomingSnapshotCopier extends SnapshotCopier {
 
     private final SnapshotUri snapshotUri;
 
+    /** Number of multi-versioned data batches requested from the leader at a time. */
+    private final int mvDataWindow;
+
+    /** Whether the leader is asked to compress the multi-versioned data batches. */
+    private final boolean mvDataCompression;
+
+    /** Whether the multi-versioned data is loaded as storage files, if both the leader and the local storage support it. */
+    private final boolean snapshotFilesEnabled;
+
+    /** Total size of the loaded storage files in bytes. */
+    private final LongAdder snapshotFilesBytes = new LongAdder();
+
+    /** Number of loaded rows. */
+    private final LongAdder mvDataRows = new LongAdder();
+
+    /** Total size of the loaded row versions in bytes. */
+    private final LongAdder mvDataBytes = new LongAdder();
+
+    /** Total size of the row versions received over the network in bytes, less than {@link #mvDataBytes} if compression is enabled. */
+    private final LongAdder mvDataWireBytes = new LongAdder();
+
+    /** Number of loaded multi-versioned data batches. */
+    private final LongAdder mvDataBatches = new LongAdder();
+
     /** Used to make sure that we execute cancellation at most once. */
     private final AtomicBoolean cancellationGuard = new AtomicBoolean();
 
@@ -96,14 +146,46 @@ public class IncomingSnapshotCopier extends SnapshotCopier {
     private volatile CompletableFuture<?> joinFuture;
 
     /**
-     * Constructor.
+     * Constructor with the multi-versioned data loading settings taken from {@link #IGNITE_SNAPSHOT_MV_DATA_WINDOW},
+     * {@link #IGNITE_SNAPSHOT_MV_DATA_COMPRESSION} and {@link #IGNITE_SNAPSHOT_FILES_ENABLED}.
      *
      * @param partitionSnapshotStorage Snapshot storage.
      * @param snapshotUri Snapshot URI.
      */
     public IncomingSnapshotCopier(PartitionSnapshotStorage partitionSnapshotStorage, SnapshotUri snapshotUri) {
+        this(
+                partitionSnapshotStorage,
+                snapshotUri,
+                getInteger(IGNITE_SNAPSHOT_MV_DATA_WINDOW, DFLT_MV_DATA_WINDOW),
+                getBoolean(IGNITE_SNAPSHOT_MV_DATA_COMPRESSION, false),
+                getBoolean(IGNITE_SNAPSHOT_FILES_ENABLED, false)
+        );
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param partitionSnapshotStorage Snapshot storage.
+     * @param snapshotUri Snapshot URI.
+     * @param mvDataWindow Number of multi-versioned data batches requested from the leader at a time.
+     * @param mvDataCompression Whether the leader is asked to compress the multi-versioned data batches.
+     * @param snapshotFilesEnabled Whether the multi-versioned data is loaded as storage files, if both the leader and the local storage
+     *      support it.
+     */
+    public IncomingSnapshotCopier(
+            PartitionSnapshotStorage partitionSnapshotStorage,
+            SnapshotUri snapshotUri,
+            int mvDataWindow,
+            boolean mvDataCompression,
+            boolean snapshotFilesEnabled
+    ) {
+        assert mvDataWindow > 0 : mvDataWindow;
+
         this.partitionSnapshotStorage = partitionSnapshotStorage;
         this.snapshotUri = snapshotUri;
+        this.mvDataWindow = mvDataWindow;
+        this.mvDataCompression = mvDataCompression;
+        this.snapshotFilesEnabled = snapshotFilesEnabled;
     }
 
     @Override
@@ -121,7 +203,8 @@ public class IncomingSnapshotCopier extends SnapshotCopier {
                     }
 
                     return loadSnapshotMeta(snapshotSender)
-                            .thenCompose(unused1 -> loadSnapshotMvData(snapshotSender, executor))
+                            .thenCompose(unused1 -> loadSnapshotFiles(snapshotSender, executor))
+                            .thenCompose(loaded -> loaded ? completedFuture(null) : loadSnapshotMvData(snapshotSender, executor))
                             .thenCompose(unused1 -> loadSnapshotTxData(snapshotSender, executor));
                 });
 
@@ -216,58 +299,83 @@ public class IncomingSnapshotCopier extends SnapshotCopier {
     }
 
     /**
-     * Requests and stores data into {@link MvPartitionStorage}.
+     * Downloads the multi-versioned data as storage files and loads them into {@link MvPartitionStorage}, which is much cheaper than
+     * copying it row by row for both the leader and the local node.
+     *
+     * @return Future that completes with {@code false} if the files could not be loaded and the rows need to be copied instead.
      */
-    private CompletableFuture<?> loadSnapshotMvData(ClusterNode snapshotSender, Executor executor) {
+    private CompletableFuture<Boolean> loadSnapshotFiles(ClusterNode snapshotSender, Executor executor) {
+        OutgoingSnapshotsManager outgoingSnapshotsManager = partitionSnapshotStorage.outgoingSnapshotsManager();
+        FileTransferService fileTransferService = outgoingSnapshotsManager.fileTransferService();
+        PartitionAccess partition = partitionSnapshotStorage.partition();
+
+        if (!snapshotFilesEnabled || fileTransferService == null || !partition.supportsPartitionFiles()) {
+            return completedFuture(false);
+        }
+
         if (!busyLock.enterBusy()) {
-            return completedFuture(null);
+            return completedFuture(false);
         }
 
         try {
-            return partitionSnapshotStorage.outgoingSnapshotsManager().messagingService().invoke(
-                    snapshotSender,
-                    MSG_FACTORY.snapshotMvDataRequest()
-                            .id(snapshotUri.snapshotId)
-                            .batchSizeHint(MAX_MV_DATA_PAYLOADS_BATCH_BYTES_HINT)
-                            .build(),
-                    NETWORK_TIMEOUT
-            ).thenComposeAsync(response -> {
-                SnapshotMvDataResponse snapshotMvDataResponse = ((SnapshotMvDataResponse) response);
+            Path dir = outgoingSnapshotsManager.incomingSnapshotFilesDir(snapshotUri.snapshotId);
 
-                for (ResponseEntry entry : snapshotMvDataResponse.rows()) {
-                    // Let's write all versions for the row ID.
-                    for (int i = 0; i < entry.rowVersions().size(); i++) {
-                        if (!busyLock.enterBusy()) {
-                            return completedFuture(null);
-                        }
+            long startNanos = System.nanoTime();
 
-                        try {
-                            writeVersion(entry, i);
-                        } finally {
-                            busyLock.leaveBusy();
-                        }
-                    }
+            return fileTransferService.download(
+                    snapshotSender.name(),
+                    MSG_FACTORY.snapshotFilesIdentifier().id(snapshotUri.snapshotId).build(),
+                    dir
+            ).thenApplyAsync(files -> {
+                if (!busyLock.enterBusy()) {
+                    return true;
                 }
 
-                if (snapshotMvDataResponse.finish()) {
-                    LOG.info(
-                            "Copier has finished loading multi-versioned data [{}, rows={}]",
-                            createPartitionInfo(),
-                            snapshotMvDataResponse.rows().size()
-                    );
+                try {
+                    long bytes = 0;
+
+                    for (Path file : files) {
+                        bytes += file.toFile().length();
+                    }
+
+                    partition.ingestPartitionFiles(files);
+
+                    snapshotFilesBytes.add(bytes);
 
-                    return completedFuture(null);
-                } else {
                     LOG.info(
-                            "Copier has loaded a portion of multi-versioned data [{}, rows={}]",
+                            "Copier has loaded the storage files [{}, files={}, bytes={}, tookMs={}]",
                             createPartitionInfo(),
-                            snapshotMvDataResponse.rows().size()
+                            files.size(),
+                            bytes,
+                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)
                     );
 
-                    // Let's upload the rest.
-                    return loadSnapshotMvData(snapshotSender, executor);
+                    return true;
+                } finally {
+                    busyLock.leaveBusy();
                 }
-            }, executor);
+            }, executor).exceptionally(e -> {
+                // The storage is left empty, so the rows are copied from scratch.
+                LOG.warn("Copier has failed to load the storage files, falling back to copying rows [{}]", e, createPartitionInfo());
+
+                return false;
+            }).whenComplete((loaded, e) -> IgniteUtils.deleteIfExists(dir));
+        } finally {
+            busyLock.leaveBusy();
+        }
+    }
+
+    /**
+     * Requests and stores data into {@link MvPartitionStorage}. Up to {@link #mvDataWindow} batches are requested at a time, so that the
+     * leader reads the next batches and the network transfers them while the received ones are being written.
+     */
+    private CompletableFuture<?> loadSnapshotMvData(ClusterNode snapshotSender, Executor executor) {
+        if (!busyLock.enterBusy()) {
+            return completedFuture(null);
+        }
+
+        try {
+            return new MvDataStream(snapshotSender, executor).start();
         } finally {
             busyLock.leaveBusy();
         }
@@ -381,6 +489,31 @@ public class IncomingSnapshotCopier extends SnapshotCopier {
         }
     }
 
+    /** Returns the total size of the loaded storage files in bytes. */
+    public long snapshotFilesBytes() {
+        return snapshotFilesBytes.sum();
+    }
+
+    /** Returns the number of loaded rows. */
+    public long mvDataRows() {
+        return mvDataRows.sum();
+    }
+
+    /** Returns the total size of the loaded row versions in bytes. */
+    public long mvDataBytes() {
+        return mvDataBytes.sum();
+    }
+
+    /** Returns the total size of the row versions received over the network in bytes. */
+    public long mvDataWireBytes() {
+        return mvDataWireBytes.sum();
+    }
+
+    /** Returns the number of loaded multi-versioned data batches. */
+    public long mvDataBatches() {
+        return mvDataBatches.sum();
+    }
+
     private int partId() {
         return partitionSnapshotStorage.partition().partitionKey().partitionId();
     }
@@ -410,4 +543,164 @@ public class IncomingSnapshotCopier extends SnapshotCopier {
             partition.addWriteCommitted(rowId, binaryRow, hybridTimestamp(entry.timestamps()[i]));
         }
     }
+
+    /**
+     * Pipelined load of the multi-versioned data. The leader serves the requests one by one and never returns the same row twice, so the
+     * batches may be written in any order. A new request is sent as soon as a batch is written, until the leader reports that there is no
+     * more data.
+     */
+    private class MvDataStream {
+        private final ClusterNode snapshotSender;
+
+        private final Executor executor;
+
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private final long startNanos = System.nanoTime();
+
+        /** Number of sent requests, that are not processed yet. Guarded by {@code this}. */
+        private int inFlight;
+
+        /** Whether the leader has reported that there is no more data. Guarded by {@code this}. */
+        private boolean finished;
+
+        MvDataStream(ClusterNode snapshotSender, Executor executor) {
+            this.snapshotSender = snapshotSender;
+            this.executor = executor;
+        }
+
+        /** Sends the first requests, returns a future that is completed when all the data is written. */
+        CompletableFuture<Void> start() {
+            synchronized (this) {
+                inFlight = mvDataWindow;
+            }
+
+            for (int i = 0; i < mvDataWindow; i++) {
+                sendRequest();
+            }
+
+            return future;
+        }
+
+        private void sendRequest() {
+            if (!busyLock.enterBusy()) {
+                future.complete(null);
+
+                return;
+            }
+
+            try {
+                partitionSnapshotStorage.outgoingSnapshotsManager().messagingService().invoke(
+                        snapshotSender,
+                        MSG_FACTORY.snapshotMvDataRequest()
+                                .id(snapshotUri.snapshotId)
+                                .batchSizeHint(MAX_MV_DATA_PAYLOADS_BATCH_BYTES_HINT)
+                                .compressRows(mvDataCompression)
+                                .build(),
+                        NETWORK_TIMEOUT
+                )
+                        .thenAcceptAsync(response -> onBatch((SnapshotMvDataResponse) response), executor)
+                        .whenComplete((unused, throwable) -> {
+                            if (throwable != null) {
+                                future.completeExceptionally(throwable);
+                            }
+                        });
+            } finally {
+                busyLock.leaveBusy();
+            }
+        }
+
+        private void onBatch(SnapshotMvDataResponse response) {
+            if (future.isDone()) {
+                return;
+            }
+
+            if (!busyLock.enterBusy()) {
+                future.complete(null);
+
+                return;
+            }
+
+            List<ResponseEntry> rows;
+
+            try {
+                byte[] compressedRows = response.compressedRows();
+
+                rows = compressedRows == null ? response.rows() : decompress(compressedRows);
+
+                long bytes = writeBatch(rows);
+
+                mvDataRows.add(rows.size());
+                mvDataBytes.add(bytes);
+                mvDataWireBytes.add(compressedRows == null ? bytes : compressedRows.length);
+                mvDataBatches.increment();
+            } finally {
+                busyLock.leaveBusy();
+            }
+
+            LOG.info("Copier has loaded a portion of multi-versioned data [{}, rows={}]", createPartitionInfo(), rows.size());
+
+            boolean requestNext;
+            boolean complete;
+
+            synchronized (this) {
+                finished |= response.finish();
+
+                requestNext = !finished;
+
+                if (!requestNext) {
+                    inFlight--;
+                }
+
+                complete = inFlight == 0;
+            }
+
+            if (requestNext) {
+                // Let's upload the rest.
+                sendRequest();
+            } else if (complete) {
+                long durationMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+
+                LOG.info(
+                        "Copier has finished loading multi-versioned data [{}, rows={}, bytes={}, wireBytes={}, batches={}, "
+                                + "durationMs={}, throughputMbPerSec={}]",
+                        createPartitionInfo(),
+                        mvDataRows(),
+                        mvDataBytes(),
+                        mvDataWireBytes(),
+                        mvDataBatches(),
+                        durationMillis,
+                        mvDataBytes() * 1000 / durationMillis / (1024 * 1024)
+                );
+
+                future.complete(null);
+            }
+        }
+
+        /**
+         * Writes all the versions of the rows of a batch in a single consistency scope of the storage.
+         *
+         * @return Total size of the written row versions in bytes.
+         */
+        private long writeBatch(List<ResponseEntry> rows) {
+            long[] bytes = {0};
+
+            partitionSnapshotStorage.partition().runConsistently(() -> {
+                for (ResponseEntry entry : rows) {
+                    // Let's write all versions for the row ID.
+                    for (int i = 0; i < entry.rowVersions().size(); i++) {
+                        BinaryRowMessage rowVersion = entry.rowVersions().get(i);
+
+                        if (rowVersion != null) {
+                            bytes[0] += rowVersion.binaryTuple().remaining();
+                        }
+
+                        writeVersion(entry, i);
+                    }
+                }
+            });
+
+            return bytes[0];
+        }
+    }
 }
@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.table.distributed.raft.snapshot.message;
 
 import org.apache.ignite.internal.table.distributed.TableMessageGroup;
+import org.apache.ignite.internal.table.distributed.raft.snapshot.SnapshotMvDataCompression;
 import org.apache.ignite.network.annotations.Transferable;
 
 /**
@@ -32,4 +33,11 @@ public interface SnapshotMvDataRequest extends SnapshotRequestMessage {
      * @return Batch size hint.
      */
     long batchSizeHint();
+
+    /**
+     * Whether the rows of the response should be compressed with {@link SnapshotMvDataCompression}.
+     *
+     * @return {@code True} if the rows should be compressed.
+     */
+    boolean compressRows();
 }
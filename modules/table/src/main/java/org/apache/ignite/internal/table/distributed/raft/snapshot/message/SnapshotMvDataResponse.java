@@ -22,6 +22,7 @@ import java.util.UUID;
 import org.apache.ignite.internal.storage.ReadResult;
 import org.apache.ignite.internal.table.TableRow;
 import org.apache.ignite.internal.table.distributed.TableMessageGroup;
+import org.apache.ignite.internal.table.distributed.raft.snapshot.SnapshotMvDataCompression;
 import org.apache.ignite.internal.table.distributed.replication.request.BinaryRowMessage;
 import org.apache.ignite.network.NetworkMessage;
 import org.apache.ignite.network.annotations.Transferable;
@@ -35,6 +36,12 @@ public interface SnapshotMvDataResponse extends NetworkMessage {
     /** List of version chains. */
     List<ResponseEntry> rows();
 
+    /**
+     * Rows compressed with {@link SnapshotMvDataCompression}, if the request asked for compression. {@link #rows()} is empty in that
+     * case.
+     */
+    byte @Nullable [] compressedRows();
+
     /** Flag that indicates whether this is the last response or not. */
     boolean finish();
 
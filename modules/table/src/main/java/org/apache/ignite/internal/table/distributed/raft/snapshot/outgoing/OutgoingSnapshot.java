@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.table.distributed.raft.snapshot.outgoing;
 
+import java.nio.file.Path;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.List;
@@ -30,10 +31,13 @@ import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.storage.ReadResult;
 import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.StorageException;
+import org.apache.ignite.internal.storage.engine.PartitionFilesSnapshot;
 import org.apache.ignite.internal.table.distributed.TableMessagesFactory;
 import org.apache.ignite.internal.table.distributed.raft.RaftGroupConfiguration;
 import org.apache.ignite.internal.table.distributed.raft.snapshot.PartitionAccess;
 import org.apache.ignite.internal.table.distributed.raft.snapshot.PartitionKey;
+import org.apache.ignite.internal.table.distributed.raft.snapshot.SnapshotMvDataCompression;
 import org.apache.ignite.internal.table.distributed.raft.snapshot.message.SnapshotMetaRequest;
 import org.apache.ignite.internal.table.distributed.raft.snapshot.message.SnapshotMetaResponse;
 import org.apache.ignite.internal.table.distributed.raft.snapshot.message.SnapshotMvDataRequest;
@@ -108,6 +112,16 @@ public class OutgoingSnapshot {
      */
     private boolean finishedTxData = false;
 
+    /**
+     * Point-in-time snapshot of the MV partition storage, taken when the scope is frozen, for the receivers that load the MV data as storage
+     * files. {@code null} if the storage does not support it or the snapshot has already been released. Guarded by the MV lock.
+     */
+    @Nullable
+    private PartitionFilesSnapshot filesSnapshot;
+
+    /** Whether the MV data has been written as storage files. Guarded by the MV lock. */
+    private boolean wroteMvDataFiles;
+
     private volatile boolean closed = false;
 
     /**
@@ -146,6 +160,8 @@ public class OutgoingSnapshot {
             frozenMeta = takeSnapshotMeta();
 
             txDataCursor = partition.getAllTxMeta();
+
+            filesSnapshot = takeFilesSnapshot();
         } finally {
             releaseMvLock();
         }
@@ -162,6 +178,16 @@ public class OutgoingSnapshot {
         return SnapshotMetaUtils.snapshotMetaAt(lastAppliedIndex, lastAppliedTerm, config);
     }
 
+    private @Nullable PartitionFilesSnapshot takeFilesSnapshot() {
+        try {
+            return partition.createFilesSnapshot();
+        } catch (StorageException e) {
+            LOG.warn("Failed to take a partition files snapshot, MV data can only be sent row by row [{}]", e, partitionKey());
+
+            return null;
+        }
+    }
+
     /**
      * Returns metadata corresponding to this snapshot.
      *
@@ -204,6 +230,10 @@ public class OutgoingSnapshot {
     /**
      * Reads a chunk of partition data and returns a response. Returns {@code null} if the snapshot is already closed.
      *
+     * <p>The receiver may pipeline the requests, so requests for the same snapshot can be handled concurrently. Every row is still sent
+     * exactly once, as the rows are taken under the MV lock, and the requests, that come after all the rows have been sent, get empty
+     * final responses.
+     *
      * @param request Data request.
      */
     @Nullable
@@ -212,22 +242,33 @@ public class OutgoingSnapshot {
             return logThatAlreadyClosedAndReturnNull();
         }
 
-        assert !finishedMvData() : "MV data sending has already been finished";
-
         long totalBatchSize = 0;
         List<SnapshotMvDataResponse.ResponseEntry> batch = new ArrayList<>();
 
+        boolean finished;
+
         while (true) {
             acquireMvLock();
 
             try {
+                // The receiver has chosen to load the rows, the storage files are not needed anymore.
+                releaseFilesSnapshot();
+
+                if (finishedMvData()) {
+                    finished = true;
+
+                    break;
+                }
+
                 totalBatchSize = fillWithOutOfOrderRows(batch, totalBatchSize, request);
 
                 totalBatchSize = tryProcessRowFromPartition(batch, totalBatchSize, request);
 
                 // As out-of-order rows are added under the same lock that we hold, and we always send OOO data first,
                 // exhausting the partition means that no MV data to send is left, we are finished with it.
-                if (finishedMvData() || batchIsFull(request, totalBatchSize)) {
+                finished = finishedMvData();
+
+                if (finished || batchIsFull(request, totalBatchSize)) {
                     break;
                 }
             } finally {
@@ -235,9 +276,17 @@ public class OutgoingSnapshot {
             }
         }
 
+        if (request.compressRows()) {
+            return MESSAGES_FACTORY.snapshotMvDataResponse()
+                    .rows(List.of())
+                    .compressedRows(SnapshotMvDataCompression.compress(batch))
+                    .finish(finished)
+                    .build();
+        }
+
         return MESSAGES_FACTORY.snapshotMvDataResponse()
                 .rows(batch)
-                .finish(finishedMvData())
+                .finish(finished)
                 .build();
     }
 
@@ -362,6 +411,52 @@ public class OutgoingSnapshot {
                 .build();
     }
 
+    /**
+     * Writes the MV data of the frozen scope as storage files, that the receiver loads instead of requesting the rows. Can be done at most
+     * once and only until the receiver starts to request the rows.
+     *
+     * @param dir Directory for the files, must exist.
+     * @return Written files, empty if the storage does not support it or the files can no longer be written.
+     * @throws StorageException If failed to write the files.
+     */
+    List<Path> writeMvDataFiles(Path dir) {
+        PartitionFilesSnapshot files;
+
+        acquireMvLock();
+
+        try {
+            files = filesSnapshot;
+
+            filesSnapshot = null;
+        } finally {
+            releaseMvLock();
+        }
+
+        if (files == null) {
+            return List.of();
+        }
+
+        try {
+            if (closed) {
+                return List.of();
+            }
+
+            List<Path> written = files.writeFiles(dir);
+
+            acquireMvLock();
+
+            try {
+                wroteMvDataFiles = true;
+            } finally {
+                releaseMvLock();
+            }
+
+            return written;
+        } finally {
+            files.close();
+        }
+    }
+
     /**
      * Reads a chunk of TX states from partition and returns a response. Returns {@code null} if the snapshot is already closed.
      *
@@ -373,6 +468,22 @@ public class OutgoingSnapshot {
             return logThatAlreadyClosedAndReturnNull();
         }
 
+        acquireMvLock();
+
+        try {
+            // TX data is requested after the MV data, so if the receiver has not requested any rows, it has loaded the storage files and
+            // the rows changed since the freeze do not need to be tracked anymore.
+            if (wroteMvDataFiles && !startedToReadMvPartition) {
+                startedToReadMvPartition = true;
+                lastRowId = null;
+
+                outOfOrderMvData.clear();
+                rowIdsToSkip.clear();
+            }
+        } finally {
+            releaseMvLock();
+        }
+
         List<IgniteBiTuple<UUID, TxMeta>> rows = new ArrayList<>();
 
         while (!finishedTxData && rows.size() < request.maxTransactionsInBatch()) {
@@ -489,6 +600,18 @@ public class OutgoingSnapshot {
         }
     }
 
+    private void releaseFilesSnapshot() {
+        assert mvOperationsLock.isLocked() : "MV operations lock must be acquired!";
+
+        PartitionFilesSnapshot files = filesSnapshot;
+
+        if (files != null) {
+            filesSnapshot = null;
+
+            files.close();
+        }
+    }
+
     /**
      * Closes the snapshot releasing the underlying resources.
      */
@@ -499,6 +622,14 @@ public class OutgoingSnapshot {
             closeLoggingProblems(txCursor);
         }
 
+        acquireMvLock();
+
+        try {
+            releaseFilesSnapshot();
+        } finally {
+            releaseMvLock();
+        }
+
         closed = true;
     }
 }
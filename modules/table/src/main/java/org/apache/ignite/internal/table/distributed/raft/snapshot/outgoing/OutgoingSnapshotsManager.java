@@ -18,7 +18,11 @@
 package org.apache.ignite.internal.table.distributed.raft.snapshot.outgoing;
 
 import static java.util.Collections.unmodifiableList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -34,8 +38,11 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.manager.IgniteComponent;
+import org.apache.ignite.internal.network.file.FileTransferService;
+import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.table.distributed.TableMessageGroup;
 import org.apache.ignite.internal.table.distributed.raft.snapshot.PartitionKey;
+import org.apache.ignite.internal.table.distributed.raft.snapshot.message.SnapshotFilesIdentifier;
 import org.apache.ignite.internal.table.distributed.raft.snapshot.message.SnapshotMetaRequest;
 import org.apache.ignite.internal.table.distributed.raft.snapshot.message.SnapshotMvDataRequest;
 import org.apache.ignite.internal.table.distributed.raft.snapshot.message.SnapshotRequestMessage;
@@ -55,6 +62,12 @@ public class OutgoingSnapshotsManager implements PartitionsSnapshots, IgniteComp
      */
     private static final IgniteLogger LOG = Loggers.forClass(OutgoingSnapshotsManager.class);
 
+    /** Subdirectory for the storage files of the incoming snapshots. */
+    private static final String INCOMING_DIR = "incoming";
+
+    /** Subdirectory for the storage files of the outgoing snapshots. */
+    private static final String OUTGOING_DIR = "outgoing";
+
     /**
      * Messaging service.
      */
@@ -66,6 +79,14 @@ public class OutgoingSnapshotsManager implements PartitionsSnapshots, IgniteComp
     private final Map<UUID, OutgoingSnapshot> snapshots = new ConcurrentHashMap<>();
     private final Map<PartitionKey, PartitionSnapshotsImpl> snapshotsByPartition = new ConcurrentHashMap<>();
 
+    /** File transfer service, used to ship the MV data as storage files, {@code null} if it is not available. */
+    @Nullable
+    private final FileTransferService fileTransferService;
+
+    /** Directory for the storage files of the snapshots, {@code null} if the file transfer service is not available. */
+    @Nullable
+    private final Path snapshotFilesDir;
+
     private volatile ExecutorService executor;
 
     /**
@@ -74,7 +95,27 @@ public class OutgoingSnapshotsManager implements PartitionsSnapshots, IgniteComp
      * @param messagingService Messaging service.
      */
     public OutgoingSnapshotsManager(MessagingService messagingService) {
+        this(messagingService, null, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param messagingService Messaging service.
+     * @param fileTransferService File transfer service, used to ship the MV data as storage files, {@code null} to always send it row
+     *      by row.
+     * @param snapshotFilesDir Directory for the storage files of the snapshots.
+     */
+    public OutgoingSnapshotsManager(
+            MessagingService messagingService,
+            @Nullable FileTransferService fileTransferService,
+            @Nullable Path snapshotFilesDir
+    ) {
+        assert (fileTransferService == null) == (snapshotFilesDir == null);
+
         this.messagingService = messagingService;
+        this.fileTransferService = fileTransferService;
+        this.snapshotFilesDir = snapshotFilesDir;
     }
 
     /**
@@ -84,6 +125,30 @@ public class OutgoingSnapshotsManager implements PartitionsSnapshots, IgniteComp
         return messagingService;
     }
 
+    /**
+     * Returns the file transfer service, used to ship the MV data as storage files, {@code null} if it is not available.
+     */
+    public @Nullable FileTransferService fileTransferService() {
+        return fileTransferService;
+    }
+
+    /**
+     * Returns the directory for the storage files of an incoming snapshot.
+     *
+     * @param snapshotId Snapshot ID.
+     */
+    public Path incomingSnapshotFilesDir(UUID snapshotId) {
+        assert snapshotFilesDir != null;
+
+        return snapshotFilesDir.resolve(INCOMING_DIR).resolve(snapshotId.toString());
+    }
+
+    private Path outgoingSnapshotFilesDir(UUID snapshotId) {
+        assert snapshotFilesDir != null;
+
+        return snapshotFilesDir.resolve(OUTGOING_DIR).resolve(snapshotId.toString());
+    }
+
     @Override
     public void start() {
         executor = new ThreadPoolExecutor(0, 4, 0L, TimeUnit.MILLISECONDS,
@@ -91,6 +156,13 @@ public class OutgoingSnapshotsManager implements PartitionsSnapshots, IgniteComp
         );
 
         messagingService.addMessageHandler(TableMessageGroup.class, this::handleMessage);
+
+        if (fileTransferService != null) {
+            // Files of the snapshots, that were in progress when the node stopped.
+            IgniteUtils.deleteIfExists(snapshotFilesDir);
+
+            fileTransferService.addFileProvider(SnapshotFilesIdentifier.class, this::writeSnapshotFiles);
+        }
     }
 
     @Override
@@ -137,9 +209,51 @@ public class OutgoingSnapshotsManager implements PartitionsSnapshots, IgniteComp
             partitionSnapshots.removeUnderLock(removedSnapshot);
 
             removedSnapshot.close();
+
+            if (snapshotFilesDir != null) {
+                IgniteUtils.deleteIfExists(outgoingSnapshotFilesDir(snapshotId));
+            }
         }
     }
 
+    /**
+     * Writes the MV data of an outgoing snapshot as storage files for the file transfer service. Returns no files if the snapshot is
+     * unknown or its storage does not support it, then the receiver falls back to requesting the rows.
+     */
+    private CompletableFuture<List<Path>> writeSnapshotFiles(SnapshotFilesIdentifier identifier) {
+        OutgoingSnapshot outgoingSnapshot = snapshots.get(identifier.id());
+
+        if (outgoingSnapshot == null) {
+            LOG.warn("Storage files of an unknown snapshot have been requested [snapshotId={}]", identifier.id());
+
+            return completedFuture(List.of());
+        }
+
+        return CompletableFuture.supplyAsync(() -> {
+            Path dir = outgoingSnapshotFilesDir(identifier.id());
+
+            try {
+                Files.createDirectories(dir);
+            } catch (IOException e) {
+                throw new StorageException("Failed to create a directory for snapshot files: " + dir, e);
+            }
+
+            long startNanos = System.nanoTime();
+
+            List<Path> files = outgoingSnapshot.writeMvDataFiles(dir);
+
+            LOG.info(
+                    "Snapshot files have been written [{}, snapshotId={}, files={}, tookMs={}]",
+                    outgoingSnapshot.partitionKey(),
+                    identifier.id(),
+                    files.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)
+            );
+
+            return files;
+        }, executor);
+    }
+
     private void handleMessage(NetworkMessage networkMessage, String senderConsistentId, @Nullable Long correlationId) {
         // Ignore all messages that we can't handle.
         if (!(networkMessage instanceof SnapshotRequestMessage)) {
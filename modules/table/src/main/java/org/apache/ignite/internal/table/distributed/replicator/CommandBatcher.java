@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.distributed.replicator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Groups commands submitted by concurrent callers into batches (group commit).
+ *
+ * <p>A command submitted while no batch is being sent is sent immediately, so there is no additional latency under low load. Commands
+ * submitted while a batch is in flight are accumulated and sent as the next batch once the previous one completes, or as soon as
+ * {@code maxBatchSize} commands are accumulated.
+ *
+ * @param <T> Command type.
+ */
+public class CommandBatcher<T> {
+    /** Sends a batch, the returned future is completed when all commands of the batch are applied. */
+    private final Function<List<T>, CompletableFuture<?>> sender;
+
+    /** Maximum number of commands in a batch. */
+    private final int maxBatchSize;
+
+    /** Accumulated commands, guarded by {@code this}. */
+    private List<Entry<T>> pending = new ArrayList<>();
+
+    /** Number of batches in flight, guarded by {@code this}. */
+    private int inFlight;
+
+    /**
+     * Constructor.
+     *
+     * @param sender Sends a batch, the returned future is completed when all commands of the batch are applied.
+     * @param maxBatchSize Maximum number of commands in a batch.
+     */
+    public CommandBatcher(Function<List<T>, CompletableFuture<?>> sender, int maxBatchSize) {
+        assert maxBatchSize > 0 : maxBatchSize;
+
+        this.sender = sender;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Submits a command.
+     *
+     * @param command Command.
+     * @return Future that is completed when the batch containing the command is applied.
+     */
+    public CompletableFuture<Void> submit(T command) {
+        Entry<T> entry = new Entry<>(command);
+
+        List<Entry<T>> batch;
+
+        synchronized (this) {
+            pending.add(entry);
+
+            batch = inFlight == 0 || pending.size() >= maxBatchSize ? takeBatch() : null;
+        }
+
+        if (batch != null) {
+            send(batch);
+        }
+
+        return entry.future;
+    }
+
+    private void send(List<Entry<T>> batch) {
+        List<T> commands = new ArrayList<>(batch.size());
+
+        for (Entry<T> entry : batch) {
+            commands.add(entry.command);
+        }
+
+        CompletableFuture<?> sendFuture;
+
+        try {
+            sendFuture = sender.apply(commands);
+        } catch (Throwable e) {
+            sendFuture = CompletableFuture.failedFuture(e);
+        }
+
+        sendFuture.whenComplete((res, e) -> {
+            for (Entry<T> entry : batch) {
+                if (e == null) {
+                    entry.future.complete(null);
+                } else {
+                    entry.future.completeExceptionally(e);
+                }
+            }
+
+            List<Entry<T>> next;
+
+            synchronized (this) {
+                inFlight--;
+
+                next = inFlight == 0 && !pending.isEmpty() ? takeBatch() : null;
+            }
+
+            if (next != null) {
+                send(next);
+            }
+        });
+    }
+
+    /** Takes up to {@link #maxBatchSize} pending commands as a new batch in flight, must be called under the monitor. */
+    private List<Entry<T>> takeBatch() {
+        List<Entry<T>> batch;
+
+        if (pending.size() <= maxBatchSize) {
+            batch = pending;
+
+            pending = new ArrayList<>();
+        } else {
+            batch = new ArrayList<>(pending.subList(0, maxBatchSize));
+
+            pending.subList(0, maxBatchSize).clear();
+        }
+
+        inFlight++;
+
+        return batch;
+    }
+
+    private static class Entry<T> {
+        final T command;
+
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        Entry(T command) {
+            this.command = command;
+        }
+    }
+}
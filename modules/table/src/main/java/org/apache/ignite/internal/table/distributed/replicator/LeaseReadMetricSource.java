@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.ignite.internal.table.distributed.replicator;
+
+import org.apache.ignite.internal.metrics.AbstractMetricSource;
+import org.apache.ignite.internal.metrics.LongAdderMetric;
+import org.apache.ignite.internal.metrics.MetricSetBuilder;
+
+/**
+ * Metric source, which provides metrics of the read-only requests served by the primary replicas of the local node, see
+ * {@link PrimaryReplicaLease}.
+ */
+public class LeaseReadMetricSource extends AbstractMetricSource<LeaseReadMetricSource.Holder> {
+    public static final String NAME = "replica.lease.reads";
+
+    /** Constructor. */
+    public LeaseReadMetricSource() {
+        super(NAME);
+    }
+
+    /**
+     * Records a served read-only request.
+     *
+     * @param underLease Whether the request was served under the lease.
+     * @param durationNanos Duration of the request in nanoseconds.
+     */
+    public void onRead(boolean underLease, long durationNanos) {
+        Holder h = holder();
+
+        if (h == null) {
+            return;
+        }
+
+        if (underLease) {
+            h.leaseReads.increment();
+            h.leaseReadNanos.add(durationNanos);
+        } else {
+            h.leaderCheckReads.increment();
+            h.leaderCheckReadNanos.add(durationNanos);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void init(MetricSetBuilder bldr, Holder holder) {
+        bldr.register(holder.leaseReads);
+        bldr.register(holder.leaseReadNanos);
+        bldr.register(holder.leaderCheckReads);
+        bldr.register(holder.leaderCheckReadNanos);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected Holder createHolder() {
+        return new Holder();
+    }
+
+    /**
+     * Holder.
+     */
+    protected static class Holder implements AbstractMetricSource.Holder<Holder> {
+        private final LongAdderMetric leaseReads = new LongAdderMetric(
+                "LeaseReads",
+                "Number of read-only requests served under the lease."
+        );
+
+        private final LongAdderMetric leaseReadNanos = new LongAdderMetric(
+                "LeaseReadNanos",
+                "Total duration of read-only requests served under the lease in nanoseconds."
+        );
+
+        private final LongAdderMetric leaderCheckReads = new LongAdderMetric(
+                "LeaderCheckReads",
+                "Number of read-only requests that asked the Raft group for its leader."
+        );
+
+        private final LongAdderMetric leaderCheckReadNanos = new LongAdderMetric(
+                "LeaderCheckReadNanos",
+                "Total duration of read-only requests that asked the Raft group for its leader in nanoseconds."
+        );
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.distributed.replicator;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.apache.ignite.lang.IgniteSystemProperties.getInteger;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.ignite.internal.replicator.TablePartitionId;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.tx.Lock;
+import org.apache.ignite.internal.tx.LockKey;
+import org.apache.ignite.internal.tx.LockManager;
+import org.apache.ignite.internal.tx.LockMode;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Takes row locks of a single partition on behalf of read-write transactions and escalates them to a partition lock.
+ *
+ * <p>Every row lock is preceded by an intent lock on the partition ({@link LockMode#IS} for {@link LockMode#S} row locks and
+ * {@link LockMode#IX} for {@link LockMode#X} row locks), so the lock hierarchy is table -> partition -> row. Once a transaction
+ * has acquired {@link #threshold()} row locks in the partition, an attempt is made to acquire the partition itself in {@link LockMode#S}
+ * (or {@link LockMode#X}, if the transaction has written to the partition). Intent locks of other transactions make this attempt
+ * conflict exactly when they hold row locks in the partition. Only the number of row locks is tracked per transaction: on success the row
+ * locks of the transaction in the partition are found and released through the {@link LockManager} by the transaction id, and all
+ * following row locks covered by the partition lock are skipped. The partition lock is {@link LockManager#tryAcquire tried} without
+ * waiting, so that an escalating transaction neither waits for the other transactions of the partition nor makes them fail. On failure
+ * the transaction keeps working with row locks and the escalation is retried after another {@link #threshold()} row locks.
+ */
+public class PartitionLockEscalator {
+    /** Name of the system property with the number of row locks in a partition after which a transaction escalates to a partition lock. */
+    public static final String IGNITE_LOCK_ESCALATION_THRESHOLD = "IGNITE_LOCK_ESCALATION_THRESHOLD";
+
+    /** Default escalation threshold. */
+    public static final int DFLT_LOCK_ESCALATION_THRESHOLD = 5_000;
+
+    /** Lock manager. */
+    private final LockManager lockManager;
+
+    /** Table id, the context of row lock keys. */
+    private final int tableId;
+
+    /** Partition lock key. */
+    private final LockKey partitionLockKey;
+
+    /** Number of row locks after which the escalation is attempted, non-positive value disables escalation. */
+    private final int threshold;
+
+    /** Partition id, row locks of the partition are the row locks of the table with the row ids of this partition. */
+    private final int partitionId;
+
+    /** Row lock counters of active transactions in the partition. */
+    private final Map<UUID, TxRowLocks> txRowLocks = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor with the threshold taken from {@link #IGNITE_LOCK_ESCALATION_THRESHOLD}.
+     *
+     * @param lockManager Lock manager.
+     * @param partitionId Partition id.
+     */
+    public PartitionLockEscalator(LockManager lockManager, TablePartitionId partitionId) {
+        this(lockManager, partitionId, getInteger(IGNITE_LOCK_ESCALATION_THRESHOLD, DFLT_LOCK_ESCALATION_THRESHOLD));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param lockManager Lock manager.
+     * @param partitionId Partition id.
+     * @param threshold Number of row locks after which the escalation is attempted, non-positive value disables escalation.
+     */
+    public PartitionLockEscalator(LockManager lockManager, TablePartitionId partitionId, int threshold) {
+        this.lockManager = lockManager;
+        this.tableId = partitionId.tableId();
+        this.partitionId = partitionId.partitionId();
+        this.partitionLockKey = new LockKey(partitionId);
+        this.threshold = threshold;
+    }
+
+    /**
+     * Acquires the partition intent lock and the row lock, or does nothing if the row is already covered by an escalated partition lock.
+     * The caller is expected to hold the corresponding intent lock on the table.
+     *
+     * @param txId Transaction id.
+     * @param rowId Row id.
+     * @param lockMode Row lock mode, {@link LockMode#S} or {@link LockMode#X}.
+     * @return Future that is completed when the row is locked.
+     */
+    public CompletableFuture<Void> lockRow(UUID txId, RowId rowId, LockMode lockMode) {
+        assert lockMode == LockMode.S || lockMode == LockMode.X : lockMode;
+
+        TxRowLocks txLocks = txRowLocks.computeIfAbsent(txId, k -> new TxRowLocks());
+
+        if (txLocks.covers(lockMode)) {
+            return completedFuture(null);
+        }
+
+        LockMode intentionMode = lockMode == LockMode.X ? LockMode.IX : LockMode.IS;
+
+        return lockManager.acquire(txId, partitionLockKey, intentionMode)
+                .thenCompose(ignored -> lockManager.acquire(txId, new LockKey(tableId, rowId), lockMode))
+                .thenAccept(rowLock -> {
+                    LockMode escalationMode = txLocks.onRowLocked(rowLock.lockMode(), threshold);
+
+                    if (escalationMode != null) {
+                        escalate(txId, txLocks, escalationMode);
+                    }
+                });
+    }
+
+    /**
+     * Acquires the partition lock itself, for an operation that accesses the whole partition. All following row locks of the transaction
+     * covered by the partition lock are skipped. The caller is expected to hold the corresponding intent lock on the table.
+     *
+     * @param txId Transaction id.
+     * @param lockMode Partition lock mode, {@link LockMode#S} or {@link LockMode#X}.
+     * @return Future that is completed when the partition is locked.
+     */
+    public CompletableFuture<Void> lockPartition(UUID txId, LockMode lockMode) {
+        assert lockMode == LockMode.S || lockMode == LockMode.X : lockMode;
+
+        TxRowLocks txLocks = txRowLocks.computeIfAbsent(txId, k -> new TxRowLocks());
+
+        return lockManager.acquire(txId, partitionLockKey, lockMode)
+                .thenAccept(partitionLock -> txLocks.onEscalated(lockMode));
+    }
+
+    /**
+     * Forgets the row lock counters of a finished transaction. The locks themselves are released by the caller.
+     *
+     * @param txId Transaction id.
+     */
+    public void onTxFinished(UUID txId) {
+        txRowLocks.remove(txId);
+    }
+
+    /** Returns the number of row locks after which the escalation is attempted, non-positive value means that escalation is disabled. */
+    public int threshold() {
+        return threshold;
+    }
+
+    private void escalate(UUID txId, TxRowLocks txLocks, LockMode escalationMode) {
+        Lock partitionLock = lockManager.tryAcquire(txId, partitionLockKey, escalationMode);
+
+        if (partitionLock == null) {
+            txLocks.onEscalationFailed(threshold);
+
+            return;
+        }
+
+        txLocks.onEscalated(escalationMode);
+
+        List<Lock> covered = new ArrayList<>();
+
+        for (Iterator<Lock> it = lockManager.locks(txId); it.hasNext(); ) {
+            Lock lock = it.next();
+
+            if (isRowLock(lock.lockKey()) && lock.lockMode() != null && escalationMode.allowReenter(lock.lockMode())) {
+                covered.add(lock);
+            }
+        }
+
+        for (Lock rowLock : covered) {
+            if (escalationMode == LockMode.X) {
+                // Releases all the modes of the row at once, e.g. when the row was locked in S and then in X mode.
+                lockManager.release(rowLock);
+            } else {
+                // Only the shared mode is released, an exclusive lock on the row may be being acquired concurrently.
+                lockManager.release(txId, rowLock.lockKey(), LockMode.S);
+            }
+        }
+    }
+
+    private boolean isRowLock(LockKey lockKey) {
+        return Objects.equals(lockKey.contextId(), tableId)
+                && lockKey.key() instanceof RowId
+                && ((RowId) lockKey.key()).partitionId() == partitionId;
+    }
+
+    /** Row lock counters of a transaction in the partition. */
+    private static class TxRowLocks {
+        /** Number of row locks acquired since the last escalation. */
+        private int rowLocks;
+
+        /** Whether the transaction holds at least one {@link LockMode#X} row lock. */
+        private boolean exclusive;
+
+        /** Number of row locks to acquire before the next escalation attempt. */
+        private int nextEscalation;
+
+        /** Whether an escalation is in progress. */
+        private boolean escalating;
+
+        /** Mode of the escalated partition lock, {@code null} if the transaction has not escalated. */
+        private volatile @Nullable LockMode escalatedMode;
+
+        boolean covers(LockMode rowLockMode) {
+            LockMode mode = escalatedMode;
+
+            return mode != null && mode.allowReenter(rowLockMode);
+        }
+
+        /** Counts the row lock, returns the escalation mode if the escalation should be attempted. */
+        synchronized @Nullable LockMode onRowLocked(LockMode rowLockMode, int threshold) {
+            rowLocks++;
+
+            exclusive |= rowLockMode == LockMode.X;
+
+            if (nextEscalation == 0) {
+                nextEscalation = threshold;
+            }
+
+            if (threshold <= 0 || escalating || escalatedMode == LockMode.X || rowLocks < nextEscalation) {
+                return null;
+            }
+
+            escalating = true;
+
+            return exclusive ? LockMode.X : LockMode.S;
+        }
+
+        synchronized void onEscalated(LockMode escalationMode) {
+            escalating = false;
+
+            escalatedMode = escalationMode;
+
+            // Exclusive row locks acquired after the escalation to S may still be escalated to X.
+            rowLocks = 0;
+            nextEscalation = 0;
+        }
+
+        synchronized void onEscalationFailed(int threshold) {
+            escalating = false;
+
+            nextEscalation += threshold;
+        }
+    }
+}
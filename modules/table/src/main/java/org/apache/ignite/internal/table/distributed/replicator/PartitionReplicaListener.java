@@ -35,6 +35,7 @@ import static org.apache.ignite.internal.util.IgniteUtils.filter;
 import static org.apache.ignite.internal.util.IgniteUtils.findAny;
 import static org.apache.ignite.lang.ErrorGroups.Transactions.TX_FAILED_READ_WRITE_OPERATION_ERR;
 import static org.apache.ignite.lang.IgniteStringFormatter.format;
+import static org.apache.ignite.lang.IgniteSystemProperties.getInteger;
 
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
@@ -109,6 +110,7 @@ import org.apache.ignite.internal.table.distributed.TableMessagesFactory;
 import org.apache.ignite.internal.table.distributed.TableSchemaAwareIndexStorage;
 import org.apache.ignite.internal.table.distributed.command.FinishTxCommandBuilder;
 import org.apache.ignite.internal.table.distributed.command.TablePartitionIdMessage;
+import org.apache.ignite.internal.table.distributed.command.TxCleanupBatchCommand;
 import org.apache.ignite.internal.table.distributed.command.TxCleanupCommand;
 import org.apache.ignite.internal.table.distributed.command.UpdateAllCommand;
 import org.apache.ignite.internal.table.distributed.command.UpdateCommand;
@@ -161,6 +163,12 @@ import org.jetbrains.annotations.Nullable;
 
 /** Partition replication listener. */
 public class PartitionReplicaListener implements ReplicaListener {
+    /** Name of the system property with the maximum number of transaction cleanups grouped into one raft command. */
+    public static final String IGNITE_TX_CLEANUP_BATCH_SIZE = "IGNITE_TX_CLEANUP_BATCH_SIZE";
+
+    /** Default maximum number of transaction cleanups grouped into one raft command. */
+    public static final int DFLT_TX_CLEANUP_BATCH_SIZE = 64;
+
     /** Factory to create RAFT command messages. */
     private static final TableMessagesFactory MSG_FACTORY = new TableMessagesFactory();
 
@@ -257,6 +265,22 @@ public class PartitionReplicaListener implements ReplicaListener {
     /** Rows that were inserted, updated or removed. All row IDs are sorted in natural order to prevent deadlocks upon commit/abort. */
     private final Map<UUID, SortedSet<RowId>> txsPendingRowIds = new ConcurrentHashMap<>();
 
+    /** Row lock helper that escalates row locks of large transactions to a partition lock. */
+    private final PartitionLockEscalator lockEscalator;
+
+    /** Placement driver lease of the local replica, allows to serve read-only requests without the Raft leader round trip. */
+    private final PrimaryReplicaLease primaryReplicaLease = new PrimaryReplicaLease();
+
+    /** Metrics of the read-only requests, shared by all the replicas of the local node. */
+    private final LeaseReadMetricSource leaseReadMetricSource;
+
+    /** Groups cleanup commands of concurrently finishing transactions into {@link TxCleanupBatchCommand}s. */
+    private final CommandBatcher<TxCleanupCommand> txCleanupBatcher =
+            new CommandBatcher<>(this::runTxCleanupCommands, getInteger(IGNITE_TX_CLEANUP_BATCH_SIZE, DFLT_TX_CLEANUP_BATCH_SIZE));
+
+    /** Future of the last bulk load batch of the partition, the next batch is processed after it completes. Guarded by {@code this}. */
+    private CompletableFuture<Object> lastBulkLoadFuture = completedFuture(null);
+
     /**
      * The constructor.
      *
@@ -278,6 +302,7 @@ public class PartitionReplicaListener implements ReplicaListener {
      * @param mvTableStorage Table storage.
      * @param indexBuilder Index builder.
      * @param tablesConfig Tables configuration.
+     * @param leaseReadMetricSource Metrics of the read-only requests.
      */
     public PartitionReplicaListener(
             MvPartitionStorage mvDataStorage,
@@ -301,7 +326,8 @@ public class PartitionReplicaListener implements ReplicaListener {
             IndexBuilder indexBuilder,
             SchemaSyncService schemaSyncService,
             CatalogService catalogService,
-            TablesConfiguration tablesConfig
+            TablesConfiguration tablesConfig,
+            LeaseReadMetricSource leaseReadMetricSource
     ) {
         this.mvDataStorage = mvDataStorage;
         this.raftClient = raftClient;
@@ -322,9 +348,12 @@ public class PartitionReplicaListener implements ReplicaListener {
         this.schemaSyncService = schemaSyncService;
         this.catalogService = catalogService;
         this.tablesConfig = tablesConfig;
+        this.leaseReadMetricSource = leaseReadMetricSource;
 
         this.replicationGroupId = new TablePartitionId(tableId, partId);
 
+        lockEscalator = new PartitionLockEscalator(lockManager, replicationGroupId);
+
         cursors = new ConcurrentSkipListMap<>(IgniteUuid.globalOrderComparator());
 
         schemaCompatValidator = new SchemaCompatValidator(schemas);
@@ -336,9 +365,33 @@ public class PartitionReplicaListener implements ReplicaListener {
             return processTxStateReplicaRequest((TxStateReplicaRequest) request);
         }
 
+        if (request instanceof ReadOnlyReplicaRequest) {
+            return invokeReadOnly(request, senderId);
+        }
+
         return ensureReplicaIsPrimary(request).thenCompose(isPrimary -> processRequest(request, isPrimary, senderId));
     }
 
+    /**
+     * Processes a read-only request. If the local replica holds a valid lease, it is known to be the primary one and the request is served
+     * without asking the Raft group for its leader.
+     *
+     * @param request Read-only request.
+     * @param senderId Sender id.
+     * @return Listener response.
+     */
+    private CompletableFuture<?> invokeReadOnly(ReplicaRequest request, String senderId) {
+        long startNanos = System.nanoTime();
+
+        boolean underLease = primaryReplicaLease.isValid(hybridClock.now());
+
+        CompletableFuture<Boolean> isPrimaryFut = underLease ? completedFuture(true) : ensureReplicaIsPrimary(request);
+
+        return isPrimaryFut
+                .thenCompose(isPrimary -> processRequest(request, isPrimary, senderId))
+                .whenComplete((res, ex) -> leaseReadMetricSource.onRead(underLease, System.nanoTime() - startNanos));
+    }
+
     private CompletableFuture<?> processRequest(ReplicaRequest request, @Nullable Boolean isPrimary, String senderId) {
         if (request instanceof CommittableTxRequest) {
             var req = (CommittableTxRequest) request;
@@ -994,7 +1047,7 @@ public class PartitionReplicaListener implements ReplicaListener {
 
                     RowId rowId = currentRow.rowId();
 
-                    return lockManager.acquire(txId, new LockKey(tableId(), rowId), LockMode.S)
+                    return lockEscalator.lockRow(txId, rowId, LockMode.S)
                             .thenComposeAsync(rowLock -> { // Table row S lock
                                 return resolvePlainReadResult(rowId, txId).thenCompose(resolvedReadResult -> {
                                     if (resolvedReadResult != null) {
@@ -1044,7 +1097,7 @@ public class PartitionReplicaListener implements ReplicaListener {
 
         RowId rowId = indexCursor.next();
 
-        return lockManager.acquire(txId, new LockKey(tableId(), rowId), LockMode.S)
+        return lockEscalator.lockRow(txId, rowId, LockMode.S)
                 .thenComposeAsync(rowLock -> { // Table row S lock
                     return resolvePlainReadResult(rowId, txId).thenCompose(resolvedReadResult -> {
                         if (resolvedReadResult != null) {
@@ -1138,6 +1191,8 @@ public class PartitionReplicaListener implements ReplicaListener {
      *     <li>Run specific raft {@code FinishTxCommand} command, that will apply txn state to corresponding txStateStorage.</li>
      *     <li>Send cleanup requests to all enlisted primary replicas.</li>
      * </ol>
+     * If the only enlisted partition is this one, the transaction is finished with one phase: the {@code FinishTxCommand} also
+     * resolves the write intents, and no cleanup request and {@code TxCleanupCommand} are needed.
      *
      * @param request Transaction finish request.
      * @param txCoordinatorId Transaction coordinator id.
@@ -1179,7 +1234,11 @@ public class PartitionReplicaListener implements ReplicaListener {
             UUID txId,
             String txCoordinatorId
     ) {
-        CompletableFuture<?> changeStateFuture = finishTransaction(aggregatedGroupIds, txId, commit, txCoordinatorId);
+        if (isOnePhase(request)) {
+            return finishOnePhase(aggregatedGroupIds, txId, commit, txCoordinatorId);
+        }
+
+        CompletableFuture<?> changeStateFuture = finishTransaction(aggregatedGroupIds, txId, commit, txCoordinatorId, false);
 
         // TODO: https://issues.apache.org/jira/browse/IGNITE-17578 Cleanup process should be asynchronous.
         CompletableFuture<?>[] cleanupFutures = new CompletableFuture[request.groups().size()];
@@ -1201,6 +1260,58 @@ public class PartitionReplicaListener implements ReplicaListener {
         return allOf(cleanupFutures);
     }
 
+    /**
+     * Checks whether the transaction has been enlisted only in this partition and its locks are held by this replica, so it can be
+     * finished with a single raft command.
+     *
+     * @param request Transaction finish request.
+     * @return {@code True} if the transaction can be finished with one phase.
+     */
+    private boolean isOnePhase(TxFinishReplicaRequest request) {
+        if (request.groups().size() != 1) {
+            return false;
+        }
+
+        Map.Entry<ClusterNode, List<IgniteBiTuple<TablePartitionId, Long>>> enlisted = request.groups().entrySet().iterator().next();
+
+        return enlisted.getKey().name().equals(localNode.name())
+                && enlisted.getValue().size() == 1
+                && enlisted.getValue().get(0).get1().equals(replicationGroupId);
+    }
+
+    /**
+     * Finishes a transaction that has been enlisted only in this partition: waits for the transaction operations, runs a
+     * {@code FinishTxCommand} that both applies the transaction state and resolves the write intents, and releases the locks.
+     *
+     * @param aggregatedGroupIds Partition identifies which are enlisted in the transaction.
+     * @param txId Transaction id.
+     * @param commit True is the transaction is committed, false otherwise.
+     * @param txCoordinatorId Transaction coordinator id.
+     * @return Future to wait of the finish.
+     */
+    private CompletableFuture<Void> finishOnePhase(
+            List<TablePartitionId> aggregatedGroupIds,
+            UUID txId,
+            boolean commit,
+            String txCoordinatorId
+    ) {
+        try {
+            closeAllTransactionCursors(txId);
+        } catch (Exception e) {
+            return failedFuture(e);
+        }
+
+        List<CompletableFuture<?>> txUpdateFutures = new ArrayList<>();
+        List<CompletableFuture<?>> txReadFutures = new ArrayList<>();
+
+        collectTxOperations(txId, commit ? COMMITED : ABORTED, txUpdateFutures, txReadFutures);
+
+        return allOffFuturesExceptionIgnored(txUpdateFutures, txId, commit)
+                .thenCompose(v -> finishTransaction(aggregatedGroupIds, txId, commit, txCoordinatorId, true))
+                .thenCompose(v -> allOffFuturesExceptionIgnored(txReadFutures, txId, commit))
+                .thenRun(() -> releaseTxLocks(txId));
+    }
+
     /**
      * Finishes a transaction.
      *
@@ -1208,13 +1319,15 @@ public class PartitionReplicaListener implements ReplicaListener {
      * @param txId Transaction id.
      * @param commit True is the transaction is committed, false otherwise.
      * @param txCoordinatorId Transaction coordinator id.
+     * @param full {@code True} if the write intents of the transaction in this partition are resolved by the same command.
      * @return Future to wait of the finish.
      */
     private CompletableFuture<Object> finishTransaction(
             List<TablePartitionId> aggregatedGroupIds,
             UUID txId,
             boolean commit,
-            String txCoordinatorId
+            String txCoordinatorId,
+            boolean full
     ) {
         // TODO: IGNITE-20034 Timestamp from request is not using until the issue has not been fixed (request.commitTimestamp())
         var fut = new CompletableFuture<TxMeta>();
@@ -1232,6 +1345,7 @@ public class PartitionReplicaListener implements ReplicaListener {
                             .safeTimeLong(currentTimestamp.longValue())
                             .txCoordinatorId(txCoordinatorId)
                             .requiredCatalogVersion(catalogVersion)
+                            .full(full)
                             .tablePartitionIds(
                                     aggregatedGroupIds.stream()
                                             .map(PartitionReplicaListener::tablePartitionId)
@@ -1245,6 +1359,13 @@ public class PartitionReplicaListener implements ReplicaListener {
                     return finishTxCmdBldr.build();
                 })
                 .thenCompose(raftClient::run)
+                .thenApply(res -> {
+                    if (full) {
+                        cleanupLocally(txId, commit, commitTimestamp);
+                    }
+
+                    return res;
+                })
                 .whenComplete((o, throwable) -> {
                     TxState txState = commit ? COMMITED : ABORTED;
 
@@ -1284,37 +1405,18 @@ public class PartitionReplicaListener implements ReplicaListener {
         List<CompletableFuture<?>> txUpdateFutures = new ArrayList<>();
         List<CompletableFuture<?>> txReadFutures = new ArrayList<>();
 
-        // TODO https://issues.apache.org/jira/browse/IGNITE-18617
-        txCleanupReadyFutures.compute(request.txId(), (id, txOps) -> {
-            if (txOps == null) {
-                txOps = new TxCleanupReadyFutureList();
-            }
-
-            txOps.futures.forEach((opType, futures) -> {
-                if (opType == RequestType.RW_GET || opType == RequestType.RW_GET_ALL || opType == RequestType.RW_SCAN) {
-                    txReadFutures.addAll(futures);
-                } else {
-                    txUpdateFutures.addAll(futures);
-                }
-            });
-
-            txOps.futures.clear();
-
-            txOps.state = txState;
-
-            return txOps;
-        });
+        collectTxOperations(request.txId(), txState, txUpdateFutures, txReadFutures);
 
         if (txUpdateFutures.isEmpty()) {
             if (!txReadFutures.isEmpty()) {
-                allOffFuturesExceptionIgnored(txReadFutures, request)
+                allOffFuturesExceptionIgnored(txReadFutures, request.txId(), request.commit())
                         .thenRun(() -> releaseTxLocks(request.txId()));
             }
 
             return completedFuture(null);
         }
 
-        return allOffFuturesExceptionIgnored(txUpdateFutures, request).thenCompose(v -> {
+        return allOffFuturesExceptionIgnored(txUpdateFutures, request.txId(), request.commit()).thenCompose(v -> {
             long commandTimestamp = hybridClock.nowLong();
 
             return catalogVersionFor(hybridTimestamp(commandTimestamp))
@@ -1330,14 +1432,77 @@ public class PartitionReplicaListener implements ReplicaListener {
 
                         cleanupLocally(request.txId(), request.commit(), request.commitTimestamp());
 
-                        return raftClient
-                                .run(txCleanupCmd)
-                                .thenCompose(ignored -> allOffFuturesExceptionIgnored(txReadFutures, request)
+                        return txCleanupBatcher
+                                .submit(txCleanupCmd)
+                                .thenCompose(ignored -> allOffFuturesExceptionIgnored(txReadFutures, request.txId(), request.commit())
                                         .thenRun(() -> releaseTxLocks(request.txId())));
                     });
         });
     }
 
+    /**
+     * Moves the futures of the transaction operations to the given lists and marks the transaction as finished, so that no more
+     * operations are accepted.
+     *
+     * @param txId Transaction id.
+     * @param txState Final transaction state.
+     * @param txUpdateFutures List to add the futures of update operations to.
+     * @param txReadFutures List to add the futures of read operations to.
+     */
+    private void collectTxOperations(
+            UUID txId,
+            TxState txState,
+            List<CompletableFuture<?>> txUpdateFutures,
+            List<CompletableFuture<?>> txReadFutures
+    ) {
+        // TODO https://issues.apache.org/jira/browse/IGNITE-18617
+        txCleanupReadyFutures.compute(txId, (id, txOps) -> {
+            if (txOps == null) {
+                txOps = new TxCleanupReadyFutureList();
+            }
+
+            txOps.futures.forEach((opType, futures) -> {
+                if (opType == RequestType.RW_GET || opType == RequestType.RW_GET_ALL || opType == RequestType.RW_SCAN) {
+                    txReadFutures.addAll(futures);
+                } else {
+                    txUpdateFutures.addAll(futures);
+                }
+            });
+
+            txOps.futures.clear();
+
+            txOps.state = txState;
+
+            return txOps;
+        });
+    }
+
+    /**
+     * Runs cleanup commands of one or several transactions, several commands are grouped into a {@link TxCleanupBatchCommand}.
+     *
+     * @param txCleanupCmds Cleanup commands.
+     * @return Future of the raft command.
+     */
+    private CompletableFuture<?> runTxCleanupCommands(List<TxCleanupCommand> txCleanupCmds) {
+        if (txCleanupCmds.size() == 1) {
+            return raftClient.run(txCleanupCmds.get(0));
+        }
+
+        int catalogVersion = 0;
+
+        for (TxCleanupCommand txCleanupCmd : txCleanupCmds) {
+            catalogVersion = Math.max(catalogVersion, txCleanupCmd.requiredCatalogVersion());
+        }
+
+        TxCleanupBatchCommand batchCmd = MSG_FACTORY.txCleanupBatchCommand()
+                .cleanupCommands(txCleanupCmds)
+                .safeTimeLong(hybridClock.nowLong())
+                .requiredCatalogVersion(catalogVersion)
+                .build();
+
+        return raftClient.run(batchCmd);
+    }
+
     private String getTxCoordinatorId(UUID txId) {
         TxStateMeta meta = txManager.stateMeta(txId);
 
@@ -1350,15 +1515,16 @@ public class PartitionReplicaListener implements ReplicaListener {
      * Creates a future that waits all transaction operations are completed.
      *
      * @param txFutures Transaction operation futures.
-     * @param request Cleanup request.
+     * @param txId Transaction id.
+     * @param commit {@code True} if the transaction is committed.
      * @return The future completes when all futures in passed list are completed.
      */
-    private static CompletableFuture<Void> allOffFuturesExceptionIgnored(List<CompletableFuture<?>> txFutures,
-            TxCleanupReplicaRequest request) {
+    private static CompletableFuture<Void> allOffFuturesExceptionIgnored(List<CompletableFuture<?>> txFutures, UUID txId,
+            boolean commit) {
         return allOf(txFutures.toArray(new CompletableFuture<?>[0]))
                 .exceptionally(e -> {
-                    assert !request.commit() :
-                            "Transaction is committing, but an operation has completed with exception [txId=" + request.txId()
+                    assert !commit :
+                            "Transaction is committing, but an operation has completed with exception [txId=" + txId
                                     + ", err=" + e.getMessage() + ']';
 
                     return null;
@@ -1366,6 +1532,8 @@ public class PartitionReplicaListener implements ReplicaListener {
     }
 
     private void releaseTxLocks(UUID txId) {
+        lockEscalator.onTxFinished(txId);
+
         lockManager.locks(txId).forEachRemaining(lockManager::release);
     }
 
@@ -1820,6 +1988,9 @@ public class PartitionReplicaListener implements ReplicaListener {
                             });
                 });
             }
+            case RW_BULK_LOAD: {
+                return processBulkLoadAction(request, txCoordinatorId);
+            }
             default: {
                 throw new IgniteInternalException(Replicator.REPLICA_COMMON_ERR,
                         format("Unknown multi request [actionType={}]", request.requestType()));
@@ -1827,6 +1998,112 @@ public class PartitionReplicaListener implements ReplicaListener {
         }
     }
 
+    /**
+     * Processes a bulk load request of the data streamer. Rows are written as committed ones by a one-phase {@link UpdateAllCommand}, like
+     * an implicit upsert, but instead of the row locks the whole partition is locked in {@link LockMode#X} mode: existing rows are found by
+     * a plain primary key lookup, which is safe because no other transaction may hold a lock in the partition, and new rows get row IDs
+     * in the ascending order, so that they are appended to the end of the partition. Bulk load batches of the partition are processed one
+     * at a time, the next batch starts after the previous one is applied and has released its locks.
+     *
+     * @param request Bulk load request.
+     * @param txCoordinatorId Transaction coordinator id.
+     * @return Listener response.
+     */
+    private CompletableFuture<Object> processBulkLoadAction(ReadWriteMultiRowReplicaRequest request, String txCoordinatorId) {
+        if (!request.full()) {
+            throw new IgniteInternalException(Replicator.REPLICA_COMMON_ERR,
+                    format("Bulk load is allowed for one-phase transactions only [txId={}]", request.transactionId()));
+        }
+
+        synchronized (this) {
+            // A failed batch does not affect the next one.
+            CompletableFuture<Object> fut = lastBulkLoadFuture
+                    .handle((res, ex) -> null)
+                    .thenCompose(ignored -> processBulkLoadBatch(request, txCoordinatorId));
+
+            lastBulkLoadFuture = fut;
+
+            return fut;
+        }
+    }
+
+    private CompletableFuture<Object> processBulkLoadBatch(ReadWriteMultiRowReplicaRequest request, String txCoordinatorId) {
+        UUID txId = request.transactionId();
+
+        // Concurrent writers hold intent locks on the partition until their write intents are resolved, so they are either finished
+        // or wait for the bulk load.
+        return lockManager.acquire(txId, new LockKey(tableId()), LockMode.IX) // IX lock on table
+                .thenCompose(ignored -> lockEscalator.lockPartition(txId, LockMode.X)) // X lock on partition
+                .thenCompose(ignored -> applyBulkLoadBatch(request, txCoordinatorId))
+                .whenComplete((res, ex) -> releaseTxLocks(txId));
+    }
+
+    private CompletableFuture<Object> applyBulkLoadBatch(ReadWriteMultiRowReplicaRequest request, String txCoordinatorId) {
+        List<BinaryRow> rows = request.binaryRows();
+
+        Map<UUID, BinaryRowMessage> rowsToUpdate = IgniteUtils.newHashMap(rows.size());
+
+        // Row IDs of the keys that are inserted by this batch, so that a key repeated in the batch is written once.
+        Map<ByteBuffer, RowId> insertedRowIds = new HashMap<>();
+
+        int i = 0;
+
+        for (BinaryRowMessage row : request.binaryRowMessages()) {
+            BinaryTuple pk = extractPk(rows.get(i++));
+
+            RowId rowId = insertedRowIds.get(pk.byteBuffer());
+
+            if (rowId == null) {
+                rowId = findRowIdForBulkLoad(pk);
+            }
+
+            if (rowId == null) {
+                rowId = new RowId(partId());
+
+                insertedRowIds.put(pk.byteBuffer(), rowId);
+            }
+
+            rowsToUpdate.put(rowId.uuid(), row);
+        }
+
+        if (rowsToUpdate.isEmpty()) {
+            return completedFuture(null);
+        }
+
+        return updateAllCommand(request, rowsToUpdate, txCoordinatorId)
+                .thenCompose(this::applyUpdateAllCommand)
+                .thenApply(ignored -> null);
+    }
+
+    /**
+     * Finds the row ID of an existing row by its primary key without taking row locks, the caller must hold the partition lock.
+     *
+     * @param pk Primary key.
+     * @return Row ID or {@code null} if there is no such row.
+     * @throws IgniteInternalException If the row is being modified by a transaction.
+     */
+    private @Nullable RowId findRowIdForBulkLoad(BinaryTuple pk) {
+        try (Cursor<RowId> cursor = getFromPkIndex(pk)) {
+            while (cursor.hasNext()) {
+                RowId rowId = cursor.next();
+
+                ReadResult readResult = mvDataStorage.read(rowId, HybridTimestamp.MAX_VALUE);
+
+                if (readResult.isWriteIntent()) {
+                    throw new IgniteInternalException(Replicator.REPLICA_COMMON_ERR,
+                            format("Bulk load of a row that is being modified by a transaction [rowId={}, txId={}]",
+                                    rowId, readResult.transactionId()));
+                }
+
+                if (readResult.binaryRow() != null) {
+                    return rowId;
+                }
+            }
+        }
+
+        return null;
+    }
+
     /**
      * Executes a command and handles exceptions. A result future can be finished with exception by following rules:
      * <ul>
@@ -2125,7 +2402,7 @@ public class PartitionReplicaListener implements ReplicaListener {
      */
     private CompletableFuture<IgniteBiTuple<RowId, Collection<Lock>>> takeLocksForUpdate(BinaryRow binaryRow, RowId rowId, UUID txId) {
         return lockManager.acquire(txId, new LockKey(tableId()), LockMode.IX)
-                .thenCompose(ignored -> lockManager.acquire(txId, new LockKey(tableId(), rowId), LockMode.X))
+                .thenCompose(ignored -> lockEscalator.lockRow(txId, rowId, LockMode.X))
                 .thenCompose(ignored -> takePutLockOnIndexes(binaryRow, rowId, txId))
                 .thenApply(shortTermLocks -> new IgniteBiTuple<>(rowId, shortTermLocks));
     }
@@ -2197,10 +2474,10 @@ public class PartitionReplicaListener implements ReplicaListener {
      */
     private CompletableFuture<RowId> takeLocksForDeleteExact(BinaryRow expectedRow, RowId rowId, BinaryRow actualRow, UUID txId) {
         return lockManager.acquire(txId, new LockKey(tableId()), LockMode.IX) // IX lock on table
-                .thenCompose(ignored -> lockManager.acquire(txId, new LockKey(tableId(), rowId), LockMode.S)) // S lock on RowId
+                .thenCompose(ignored -> lockEscalator.lockRow(txId, rowId, LockMode.S)) // S lock on RowId
                 .thenCompose(ignored -> {
                     if (equalValues(actualRow, expectedRow)) {
-                        return lockManager.acquire(txId, new LockKey(tableId(), rowId), LockMode.X) // X lock on RowId
+                        return lockEscalator.lockRow(txId, rowId, LockMode.X) // X lock on RowId
                                 .thenCompose(ignored0 -> takeRemoveLockOnIndexes(actualRow, rowId, txId))
                                 .thenApply(exclusiveRowLock -> rowId);
                     }
@@ -2217,7 +2494,7 @@ public class PartitionReplicaListener implements ReplicaListener {
      */
     private CompletableFuture<RowId> takeLocksForDelete(BinaryRow binaryRow, RowId rowId, UUID txId) {
         return lockManager.acquire(txId, new LockKey(tableId()), LockMode.IX) // IX lock on table
-                .thenCompose(ignored -> lockManager.acquire(txId, new LockKey(tableId(), rowId), LockMode.X)) // X lock on RowId
+                .thenCompose(ignored -> lockEscalator.lockRow(txId, rowId, LockMode.X)) // X lock on RowId
                 .thenCompose(ignored -> takeRemoveLockOnIndexes(binaryRow, rowId, txId))
                 .thenApply(ignored -> rowId);
     }
@@ -2230,7 +2507,7 @@ public class PartitionReplicaListener implements ReplicaListener {
      */
     private CompletableFuture<RowId> takeLocksForGet(RowId rowId, UUID txId) {
         return lockManager.acquire(txId, new LockKey(tableId()), LockMode.IS) // IS lock on table
-                .thenCompose(tblLock -> lockManager.acquire(txId, new LockKey(tableId(), rowId), LockMode.S)) // S lock on RowId
+                .thenCompose(tblLock -> lockEscalator.lockRow(txId, rowId, LockMode.S)) // S lock on RowId
                 .thenApply(ignored -> rowId);
     }
 
@@ -2290,10 +2567,10 @@ public class PartitionReplicaListener implements ReplicaListener {
     private CompletableFuture<IgniteBiTuple<RowId, Collection<Lock>>> takeLocksForReplace(BinaryRow expectedRow, BinaryRow oldRow,
             BinaryRow newRow, RowId rowId, UUID txId) {
         return lockManager.acquire(txId, new LockKey(tableId()), LockMode.IX)
-                .thenCompose(ignored -> lockManager.acquire(txId, new LockKey(tableId(), rowId), LockMode.S))
+                .thenCompose(ignored -> lockEscalator.lockRow(txId, rowId, LockMode.S))
                 .thenCompose(ignored -> {
                     if (oldRow != null && equalValues(oldRow, expectedRow)) {
-                        return lockManager.acquire(txId, new LockKey(tableId(), rowId), LockMode.X) // X lock on RowId
+                        return lockEscalator.lockRow(txId, rowId, LockMode.X) // X lock on RowId
                                 .thenCompose(ignored1 -> takePutLockOnIndexes(newRow, rowId, txId))
                                 .thenApply(shortTermLocks -> new IgniteBiTuple<>(rowId, shortTermLocks));
                     }
@@ -2565,6 +2842,8 @@ public class PartitionReplicaListener implements ReplicaListener {
 
     @Override
     public void onBecomePrimary(ClusterNode clusterNode) {
+        primaryReplicaLease.onLeaderElected(clusterNode.equals(localNode));
+
         inBusyLock(() -> {
             if (clusterNode.equals(localNode)) {
                 if (primary) {
@@ -2588,6 +2867,11 @@ public class PartitionReplicaListener implements ReplicaListener {
         });
     }
 
+    @Override
+    public void onLeaseAccepted(HybridTimestamp leaseStartTime, HybridTimestamp leaseExpirationTime) {
+        primaryReplicaLease.onLeaseAccepted(leaseStartTime, leaseExpirationTime);
+    }
+
     @Override
     public void onShutdown() {
         if (!stopGuard.compareAndSet(false, true)) {
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.distributed.replicator;
+
+import static org.apache.ignite.lang.IgniteSystemProperties.getBoolean;
+
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Placement driver lease of the local replica, used to serve read-only requests at the primary replica without asking the Raft group for
+ * its leader.
+ *
+ * <p>The placement driver never grants overlapping leases for a replication group, so while the local replica holds a valid lease no
+ * other replica can become primary. The lease is considered valid if it has started and does not expire within the
+ * {@link HybridTimestamp#maxClockSkew() maximum clock skew} from the current time of the local {@code HybridClock}, so that a lagging
+ * local clock can not extend it. Holding a lease does not make the replica up to date, so reads rely on the lease only while the local
+ * replica is also the Raft leader. Reads that can not rely on the lease take the Raft leader round trip.
+ *
+ * <p>Lease reads are disabled by default.
+ */
+public class PrimaryReplicaLease {
+    /** Name of the system property that enables serving read-only requests under the lease. */
+    public static final String IGNITE_LEASE_READS_ENABLED = "IGNITE_LEASE_READS_ENABLED";
+
+    /** Whether read-only requests may be served under the lease. */
+    private final boolean enabled;
+
+    /** Accepted lease, {@code null} if the local replica has not accepted any lease. */
+    private volatile @Nullable Interval lease;
+
+    /** Whether the local replica is the Raft leader, as last observed. */
+    private volatile boolean leader;
+
+    /**
+     * Constructor with the mode taken from {@link #IGNITE_LEASE_READS_ENABLED}.
+     */
+    public PrimaryReplicaLease() {
+        this(getBoolean(IGNITE_LEASE_READS_ENABLED, false));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param enabled Whether read-only requests may be served under the lease.
+     */
+    public PrimaryReplicaLease(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Remembers the lease accepted by the local replica.
+     *
+     * @param startTime Lease start time.
+     * @param expirationTime Lease expiration time.
+     */
+    public void onLeaseAccepted(HybridTimestamp startTime, HybridTimestamp expirationTime) {
+        lease = new Interval(startTime, expirationTime);
+    }
+
+    /**
+     * Remembers whether the local replica is the Raft leader.
+     *
+     * @param leader Whether the elected leader is the local replica.
+     */
+    public void onLeaderElected(boolean leader) {
+        this.leader = leader;
+    }
+
+    /**
+     * Checks whether the local replica is the primary one according to the lease.
+     *
+     * @param now Current time of the local clock.
+     * @return {@code True} if lease reads are enabled, the lease is valid and the local replica is the Raft leader.
+     */
+    public boolean isValid(HybridTimestamp now) {
+        Interval lease = this.lease;
+
+        return enabled
+                && leader
+                && lease != null
+                && now.compareTo(lease.startTime) >= 0
+                && now.addPhysicalTime(HybridTimestamp.maxClockSkew()).compareTo(lease.expirationTime) < 0;
+    }
+
+    /** Lease interval. */
+    private static class Interval {
+        final HybridTimestamp startTime;
+
+        final HybridTimestamp expirationTime;
+
+        Interval(HybridTimestamp startTime, HybridTimestamp expirationTime) {
+            this.startTime = startTime;
+            this.expirationTime = expirationTime;
+        }
+    }
+}
@@ -53,6 +53,9 @@ public enum RequestType {
 
     RW_SCAN,
 
+    /** Writes the rows as committed ones under a partition lock, used by the bulk load mode of the data streamer. */
+    RW_BULK_LOAD,
+
     RO_GET,
 
     RO_GET_ALL,
@@ -695,6 +695,31 @@ public class InternalTableImpl implements InternalTable {
         return postEnlist(fut, false, tx, true); // Will be committed in one RTT.
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> bulkLoad(Collection<BinaryRowEx> rows, int partition) {
+        InternalTransaction tx = txManager.begin(observableTimestampTracker);
+        TablePartitionId partGroupId = new TablePartitionId(tableId, partition);
+
+        CompletableFuture<Void> fut = enlistWithRetry(
+                tx,
+                partition,
+                term -> tableMessagesFactory.readWriteMultiRowReplicaRequest()
+                        .groupId(partGroupId)
+                        .commitPartitionId(tx.commitPartition())
+                        .binaryRowMessages(serializeBinaryRows(rows))
+                        .transactionId(tx.id())
+                        .term(term)
+                        .requestType(RequestType.RW_BULK_LOAD)
+                        .timestampLong(clock.nowLong())
+                        .full(true)
+                        .build(),
+                ATTEMPTS_TO_ENLIST_PARTITION
+        );
+
+        return postEnlist(fut, false, tx, true); // Will be committed in one RTT.
+    }
+
     /** {@inheritDoc} */
     @Override
     public CompletableFuture<BinaryRow> getAndUpsert(BinaryRowEx row, InternalTransaction tx) {
@@ -21,6 +21,7 @@ import static org.apache.ignite.internal.util.ArrayUtils.asList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Answers.RETURNS_DEEP_STUBS;
@@ -230,6 +231,50 @@ public class PartitionCommandListenerTest extends BaseIgniteAbstractTest {
         delete();
     }
 
+    @Test
+    public void testTxCleanupBatchCommand() {
+        List<UUID> txIds = insertWriteIntents();
+
+        long commitTimestamp = hybridClock.nowLong();
+
+        List<TxCleanupCommand> cleanupCommands = new ArrayList<>();
+
+        // Commits even keys and aborts odd ones.
+        for (int i = 0; i < txIds.size(); i++) {
+            boolean commit = i % 2 == 0;
+
+            cleanupCommands.add(msgFactory.txCleanupCommand()
+                    .txId(txIds.get(i))
+                    .commit(commit)
+                    .commitTimestampLong(commit ? commitTimestamp : 0)
+                    .safeTimeLong(hybridClock.nowLong())
+                    .txCoordinatorId(UUID.randomUUID().toString())
+                    .build());
+        }
+
+        invokeBatchedCommand(msgFactory.txCleanupBatchCommand()
+                .cleanupCommands(cleanupCommands)
+                .safeTimeLong(hybridClock.nowLong())
+                .build());
+
+        verify(mvPartitionStorage, times(1)).lastApplied(eq(raftIndex.get()), anyLong());
+
+        for (int i = 0; i < KEY_COUNT; i++) {
+            RowId rowId = readRow(getTestKey(i));
+
+            if (i % 2 == 0) {
+                assertNotNull(rowId);
+
+                ReadResult readResult = mvPartitionStorage.read(rowId, HybridTimestamp.MAX_VALUE);
+
+                assertFalse(readResult.isWriteIntent());
+                assertEquals(i, Row.wrapBinaryRow(SCHEMA, readResult.binaryRow()).intValue(1));
+            } else {
+                assertNull(rowId);
+            }
+        }
+    }
+
     /**
      * Upserts rows and checks them.
      */
@@ -865,6 +910,26 @@ public class PartitionCommandListenerTest extends BaseIgniteAbstractTest {
      * Inserts row.
      */
     private void insert() {
+        List<UUID> txIds = insertWriteIntents();
+
+        long commitTimestamp = hybridClock.nowLong();
+
+        txIds.forEach(txId -> invokeBatchedCommand(
+                msgFactory.txCleanupCommand()
+                        .txId(txId)
+                        .commit(true)
+                        .commitTimestampLong(commitTimestamp)
+                        .safeTimeLong(hybridClock.nowLong())
+                        .txCoordinatorId(UUID.randomUUID().toString())
+                        .build()));
+    }
+
+    /**
+     * Inserts rows as write intents of separate transactions.
+     *
+     * @return Transaction ids, the index in the list is the key of the row.
+     */
+    private List<UUID> insertWriteIntents() {
         List<UUID> txIds = new ArrayList<>();
 
         commandListener.onWrite(iterator((i, clo) -> {
@@ -892,16 +957,7 @@ public class PartitionCommandListenerTest extends BaseIgniteAbstractTest {
             }).when(clo).result(any());
         }));
 
-        long commitTimestamp = hybridClock.nowLong();
-
-        txIds.forEach(txId -> invokeBatchedCommand(
-                msgFactory.txCleanupCommand()
-                        .txId(txId)
-                        .commit(true)
-                        .commitTimestampLong(commitTimestamp)
-                        .safeTimeLong(hybridClock.nowLong())
-                        .txCoordinatorId(UUID.randomUUID().toString())
-                        .build()));
+        return txIds;
     }
 
     /**
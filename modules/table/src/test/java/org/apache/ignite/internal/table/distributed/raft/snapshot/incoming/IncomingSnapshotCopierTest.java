@@ -53,6 +53,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.ignite.internal.binarytuple.BinaryTupleReader;
 import org.apache.ignite.internal.hlc.HybridClock;
 import org.apache.ignite.internal.hlc.HybridClockImpl;
@@ -241,11 +242,18 @@ public class IncomingSnapshotCopierTest extends BaseIgniteAbstractTest {
             );
         });
 
+        AtomicBoolean mvDataSent = new AtomicBoolean();
+
         when(messagingService.invoke(eq(clusterNode), any(SnapshotMvDataRequest.class), anyLong())).then(answer -> {
             SnapshotMvDataRequest snapshotMvDataRequest = answer.getArgument(1);
 
             assertEquals(snapshotId, snapshotMvDataRequest.id());
 
+            // The copier keeps several requests in flight, all the data goes with the first response.
+            if (!mvDataSent.compareAndSet(false, true)) {
+                return completedFuture(TABLE_MSG_FACTORY.snapshotMvDataResponse().rows(List.of()).finish(true).build());
+            }
+
             List<ResponseEntry> responseEntries = createSnapshotMvDataEntries(outgoingMvPartitionStorage, rowIds);
 
             assertThat(responseEntries, not(empty()));
@@ -43,6 +43,7 @@ import org.apache.ignite.internal.storage.RowId;
 import org.apache.ignite.internal.table.distributed.TableMessagesFactory;
 import org.apache.ignite.internal.table.distributed.raft.snapshot.PartitionAccess;
 import org.apache.ignite.internal.table.distributed.raft.snapshot.PartitionKey;
+import org.apache.ignite.internal.table.distributed.raft.snapshot.SnapshotMvDataCompression;
 import org.apache.ignite.internal.table.distributed.raft.snapshot.message.SnapshotMvDataRequest;
 import org.apache.ignite.internal.table.distributed.raft.snapshot.message.SnapshotMvDataResponse;
 import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
@@ -338,6 +339,61 @@ class OutgoingSnapshotMvDataStreamingTest extends BaseIgniteAbstractTest {
         assertTrue(response.finish());
     }
 
+    @Test
+    void mvDataRequestAfterFinalChunkGetsEmptyFinalChunk() {
+        configureClosestRowIdToBeEmpty();
+
+        getMvDataResponse(Long.MAX_VALUE);
+
+        SnapshotMvDataResponse response = getMvDataResponse(Long.MAX_VALUE);
+
+        assertThat(response.rows(), is(empty()));
+        assertTrue(response.finish());
+    }
+
+    @Test
+    void sendsCompressedRowsWhenRequested() {
+        ReadResult version1 = ReadResult.createFromCommitted(rowId1, ROW_1, clock.now());
+        ReadResult version2 = ReadResult.createFromWriteIntent(
+                rowId1,
+                null,
+                transactionId,
+                commitTableId,
+                42,
+                clock.now()
+        );
+
+        configurePartitionAccessToHaveExactlyOneRowWith(List.of(version2, version1));
+
+        SnapshotMvDataRequest request = messagesFactory.snapshotMvDataRequest()
+                .id(snapshot.id())
+                .batchSizeHint(Long.MAX_VALUE)
+                .compressRows(true)
+                .build();
+
+        SnapshotMvDataResponse response = snapshot.handleSnapshotMvDataRequest(request);
+
+        assertThat(response, is(notNullValue()));
+        assertThat(response.rows(), is(empty()));
+        assertThat(response.compressedRows(), is(notNullValue()));
+
+        List<SnapshotMvDataResponse.ResponseEntry> rows = SnapshotMvDataCompression.decompress(response.compressedRows());
+
+        assertThat(rows, hasSize(1));
+        SnapshotMvDataResponse.ResponseEntry responseRow = rows.get(0);
+
+        assertThat(responseRow.rowId(), is(rowId1.uuid()));
+        assertThat(responseRow.txId(), is(transactionId));
+        assertThat(responseRow.commitTableId(), is(commitTableId));
+        assertThat(responseRow.commitPartitionId(), is(42));
+
+        assertThat(responseRow.timestamps(), is(equalTo(new long[] {version1.commitTimestamp().longValue()})));
+
+        assertThat(responseRow.rowVersions(), hasSize(2));
+        assertThat(responseRow.rowVersions().get(0).asBinaryRow(), is(ROW_1));
+        assertThat(responseRow.rowVersions().get(1), is(nullValue()));
+    }
+
     @Test
     void mvDataHandlingRespectsBatchSizeHintForMessagesFromPartition() {
         ReadResult version1 = ReadResult.createFromCommitted(rowId1, ROW_1, clock.now());
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.ignite.internal.table.distributed.replication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.apache.ignite.internal.metrics.LongMetric;
+import org.apache.ignite.internal.metrics.MetricManager;
+import org.apache.ignite.internal.metrics.MetricSet;
+import org.apache.ignite.internal.table.distributed.replicator.LeaseReadMetricSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link LeaseReadMetricSource}.
+ */
+public class LeaseReadMetricSourceTest {
+    private final MetricManager metricManager = new MetricManager();
+
+    private final LeaseReadMetricSource source = new LeaseReadMetricSource();
+
+    @BeforeEach
+    void setUp() {
+        metricManager.registerSource(source);
+    }
+
+    @Test
+    public void testReads() {
+        MetricSet metricSet = metricManager.enable(source);
+
+        source.onRead(true, 10);
+        source.onRead(true, 20);
+        source.onRead(false, 100);
+
+        assertEquals(2, metric(metricSet, "LeaseReads"));
+        assertEquals(30, metric(metricSet, "LeaseReadNanos"));
+        assertEquals(1, metric(metricSet, "LeaderCheckReads"));
+        assertEquals(100, metric(metricSet, "LeaderCheckReadNanos"));
+    }
+
+    @Test
+    public void testDisabled() {
+        source.onRead(true, 10);
+        source.onRead(false, 100);
+
+        MetricSet metricSet = metricManager.enable(source);
+
+        assertEquals(0, metric(metricSet, "LeaseReads"));
+        assertEquals(0, metric(metricSet, "LeaderCheckReads"));
+    }
+
+    private static long metric(MetricSet metricSet, String name) {
+        return metricSet.<LongMetric>get(name).value();
+    }
+}
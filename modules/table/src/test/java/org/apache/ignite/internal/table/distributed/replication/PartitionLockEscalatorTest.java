@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.distributed.replication;
+
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willCompleteSuccessfully;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import org.apache.ignite.internal.replicator.TablePartitionId;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.table.distributed.replicator.PartitionLockEscalator;
+import org.apache.ignite.internal.tx.Lock;
+import org.apache.ignite.internal.tx.LockKey;
+import org.apache.ignite.internal.tx.LockManager;
+import org.apache.ignite.internal.tx.LockMode;
+import org.apache.ignite.internal.tx.impl.HeapLockManager;
+import org.apache.ignite.internal.tx.test.TestTransactionIds;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link PartitionLockEscalator}.
+ */
+public class PartitionLockEscalatorTest {
+    private static final int PART_ID = 0;
+
+    private static final TablePartitionId PARTITION_ID = new TablePartitionId(1, PART_ID);
+
+    private static final LockKey PARTITION_LOCK_KEY = new LockKey(PARTITION_ID);
+
+    private final LockManager lockManager = new HeapLockManager();
+
+    private final PartitionLockEscalator escalator = new PartitionLockEscalator(lockManager, PARTITION_ID, 3);
+
+    @Test
+    public void testRowLocksTakePartitionIntentLocks() {
+        UUID txId = TestTransactionIds.newTransactionId();
+
+        assertThat(escalator.lockRow(txId, new RowId(PART_ID), LockMode.S), willCompleteSuccessfully());
+        assertEquals(LockMode.IS, lockMode(txId, PARTITION_LOCK_KEY));
+
+        assertThat(escalator.lockRow(txId, new RowId(PART_ID), LockMode.X), willCompleteSuccessfully());
+        assertEquals(LockMode.IX, lockMode(txId, PARTITION_LOCK_KEY));
+
+        assertEquals(3, locks(txId).size());
+    }
+
+    @Test
+    public void testEscalationToShared() {
+        UUID txId = TestTransactionIds.newTransactionId();
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(escalator.lockRow(txId, new RowId(PART_ID), LockMode.S), willCompleteSuccessfully());
+        }
+
+        assertEquals(List.of(PARTITION_LOCK_KEY), lockKeys(txId));
+        assertEquals(LockMode.S, lockMode(txId, PARTITION_LOCK_KEY));
+
+        // Covered by the partition lock.
+        RowId rowId = new RowId(PART_ID);
+
+        assertThat(escalator.lockRow(txId, rowId, LockMode.S), willCompleteSuccessfully());
+        assertNull(lockMode(txId, new LockKey(PARTITION_ID.tableId(), rowId)));
+
+        // Not covered by the partition lock.
+        assertThat(escalator.lockRow(txId, rowId, LockMode.X), willCompleteSuccessfully());
+        assertEquals(LockMode.X, lockMode(txId, new LockKey(PARTITION_ID.tableId(), rowId)));
+        assertEquals(LockMode.SIX, lockMode(txId, PARTITION_LOCK_KEY));
+    }
+
+    @Test
+    public void testEscalationToExclusive() {
+        UUID txId = TestTransactionIds.newTransactionId();
+
+        RowId rowId = new RowId(PART_ID);
+
+        assertThat(escalator.lockRow(txId, rowId, LockMode.S), willCompleteSuccessfully());
+        assertThat(escalator.lockRow(txId, rowId, LockMode.X), willCompleteSuccessfully());
+        assertThat(escalator.lockRow(txId, new RowId(PART_ID), LockMode.S), willCompleteSuccessfully());
+
+        assertEquals(List.of(PARTITION_LOCK_KEY), lockKeys(txId));
+        assertEquals(LockMode.X, lockMode(txId, PARTITION_LOCK_KEY));
+
+        assertThat(escalator.lockRow(txId, new RowId(PART_ID), LockMode.X), willCompleteSuccessfully());
+        assertEquals(List.of(PARTITION_LOCK_KEY), lockKeys(txId));
+    }
+
+    @Test
+    public void testPartitionLock() {
+        UUID txId = TestTransactionIds.newTransactionId();
+
+        assertThat(escalator.lockPartition(txId, LockMode.X), willCompleteSuccessfully());
+
+        // Covered by the partition lock.
+        assertThat(escalator.lockRow(txId, new RowId(PART_ID), LockMode.X), willCompleteSuccessfully());
+
+        assertEquals(List.of(PARTITION_LOCK_KEY), lockKeys(txId));
+        assertEquals(LockMode.X, lockMode(txId, PARTITION_LOCK_KEY));
+    }
+
+    @Test
+    public void testEscalationConflict() {
+        UUID olderTxId = TestTransactionIds.newTransactionId();
+        UUID txId = TestTransactionIds.newTransactionId();
+
+        assertThat(escalator.lockRow(olderTxId, new RowId(PART_ID), LockMode.X), willCompleteSuccessfully());
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(escalator.lockRow(txId, new RowId(PART_ID), LockMode.S), willCompleteSuccessfully());
+        }
+
+        assertEquals(LockMode.IS, lockMode(txId, PARTITION_LOCK_KEY));
+        assertEquals(4, locks(txId).size());
+
+        // The next attempt is made after another threshold of row locks.
+        for (int i = 0; i < 3; i++) {
+            assertThat(escalator.lockRow(txId, new RowId(PART_ID), LockMode.S), willCompleteSuccessfully());
+        }
+
+        assertEquals(LockMode.IS, lockMode(txId, PARTITION_LOCK_KEY));
+        assertEquals(7, locks(txId).size());
+
+        // Escalation succeeds once the conflicting transaction has finished.
+        escalator.onTxFinished(olderTxId);
+        locks(olderTxId).forEach(lockManager::release);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(escalator.lockRow(txId, new RowId(PART_ID), LockMode.S), willCompleteSuccessfully());
+        }
+
+        assertEquals(List.of(PARTITION_LOCK_KEY), lockKeys(txId));
+        assertEquals(LockMode.S, lockMode(txId, PARTITION_LOCK_KEY));
+    }
+
+    @Test
+    public void testEscalationDoesNotWaitForYoungerTransactions() {
+        UUID txId = TestTransactionIds.newTransactionId();
+        UUID youngerTxId = TestTransactionIds.newTransactionId();
+
+        assertThat(escalator.lockRow(youngerTxId, new RowId(PART_ID), LockMode.X), willCompleteSuccessfully());
+
+        // Under wait-die an older transaction would wait for the younger one to release its intent lock.
+        for (int i = 0; i < 3; i++) {
+            assertThat(escalator.lockRow(txId, new RowId(PART_ID), LockMode.X), willCompleteSuccessfully());
+        }
+
+        assertEquals(LockMode.IX, lockMode(txId, PARTITION_LOCK_KEY));
+        assertEquals(4, locks(txId).size());
+
+        // The younger transaction is not failed by the escalation attempt.
+        assertThat(escalator.lockRow(youngerTxId, new RowId(PART_ID), LockMode.X), willCompleteSuccessfully());
+        assertEquals(3, locks(youngerTxId).size());
+    }
+
+    @Test
+    public void testEscalationDisabled() {
+        var escalator = new PartitionLockEscalator(lockManager, PARTITION_ID, 0);
+
+        UUID txId = TestTransactionIds.newTransactionId();
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(escalator.lockRow(txId, new RowId(PART_ID), LockMode.X), willCompleteSuccessfully());
+        }
+
+        assertEquals(LockMode.IX, lockMode(txId, PARTITION_LOCK_KEY));
+        assertEquals(11, locks(txId).size());
+    }
+
+    private List<Lock> locks(UUID txId) {
+        List<Lock> locks = new ArrayList<>();
+
+        Iterator<Lock> it = lockManager.locks(txId);
+
+        while (it.hasNext()) {
+            locks.add(it.next());
+        }
+
+        return locks;
+    }
+
+    private List<LockKey> lockKeys(UUID txId) {
+        List<LockKey> keys = new ArrayList<>();
+
+        for (Lock lock : locks(txId)) {
+            keys.add(lock.lockKey());
+        }
+
+        return keys;
+    }
+
+    private LockMode lockMode(UUID txId, LockKey key) {
+        for (Lock lock : locks(txId)) {
+            if (lock.lockKey().equals(key)) {
+                return lock.lockMode();
+            }
+        }
+
+        return null;
+    }
+}
@@ -47,6 +47,7 @@ import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -134,6 +135,7 @@ import org.apache.ignite.internal.table.distributed.replication.request.ReadWrit
 import org.apache.ignite.internal.table.distributed.replicator.IncompatibleSchemaAbortException;
 import org.apache.ignite.internal.table.distributed.replicator.IncompatibleSchemaException;
 import org.apache.ignite.internal.table.distributed.replicator.LeaderOrTxState;
+import org.apache.ignite.internal.table.distributed.replicator.LeaseReadMetricSource;
 import org.apache.ignite.internal.table.distributed.replicator.PartitionReplicaListener;
 import org.apache.ignite.internal.table.distributed.replicator.PlacementDriver;
 import org.apache.ignite.internal.table.distributed.replicator.action.RequestType;
@@ -144,6 +146,7 @@ import org.apache.ignite.internal.table.impl.DummyInternalTableImpl;
 import org.apache.ignite.internal.testframework.IgniteAbstractTest;
 import org.apache.ignite.internal.tostring.IgniteToStringInclude;
 import org.apache.ignite.internal.tostring.S;
+import org.apache.ignite.internal.tx.LockException;
 import org.apache.ignite.internal.tx.LockManager;
 import org.apache.ignite.internal.tx.TxManager;
 import org.apache.ignite.internal.tx.TxMeta;
@@ -454,7 +457,8 @@ public class PartitionReplicaListenerTest extends IgniteAbstractTest {
                 mock(IndexBuilder.class),
                 schemaSyncService,
                 catalogService,
-                tablesConfig
+                tablesConfig,
+                new LeaseReadMetricSource()
         );
 
         kvMarshaller = marshallerFor(schemaDescriptor);
@@ -1050,6 +1054,91 @@ public class PartitionReplicaListenerTest extends IgniteAbstractTest {
         cleanup(txId);
     }
 
+    @Test
+    public void testBulkLoad() {
+        when(safeTimeClock.current()).thenReturn(HybridTimestamp.MIN_VALUE);
+
+        UUID txId = TestTransactionIds.newTransactionId();
+        BinaryRow row0 = binaryRow(0);
+        BinaryRow row1 = binaryRow(1);
+
+        assertThat(doBulkLoadRequest(txId, asList(row0, row1)), willCompleteSuccessfully());
+
+        checkRowInMvStorage(row0, true);
+        checkRowInMvStorage(row1, true);
+
+        BinaryRow newRow0 = binaryRow(new TestKey(0, "k0"), new TestValue(2, "v2"));
+
+        assertThat(doBulkLoadRequest(TestTransactionIds.newTransactionId(), List.of(newRow0)), willCompleteSuccessfully());
+
+        // The existing row is updated instead of inserting a new one.
+        try (Cursor<RowId> cursor = pkStorage().get(newRow0)) {
+            RowId rowId = cursor.next();
+
+            assertThat(testMvPartitionStorage.read(rowId, HybridTimestamp.MAX_VALUE).binaryRow(), equalToRow(newRow0));
+            assertFalse(cursor.hasNext());
+        }
+
+        assertFalse(lockManager.locks(txId).hasNext());
+    }
+
+    @Test
+    public void testBulkLoadWaitsForConcurrentWriter() {
+        UUID bulkLoadTxId = TestTransactionIds.newTransactionId();
+        UUID txId = TestTransactionIds.newTransactionId();
+
+        assertThat(doSingleRowRequest(txId, binaryRow(0), RequestType.RW_UPSERT), willCompleteSuccessfully());
+
+        BinaryRow newRow0 = binaryRow(new TestKey(0, "k0"), new TestValue(2, "v2"));
+
+        // An older bulk load waits for the partition lock until the writer is finished.
+        CompletableFuture<?> bulkLoadFut = doBulkLoadRequest(bulkLoadTxId, List.of(newRow0));
+
+        assertFalse(bulkLoadFut.isDone());
+
+        cleanup(txId);
+
+        assertThat(bulkLoadFut, willCompleteSuccessfully());
+
+        // The row of the writer is updated instead of inserting a duplicate of its key.
+        try (Cursor<RowId> cursor = pkStorage().get(newRow0)) {
+            RowId rowId = cursor.next();
+
+            assertThat(testMvPartitionStorage.read(rowId, HybridTimestamp.MAX_VALUE).binaryRow(), equalToRow(newRow0));
+            assertFalse(cursor.hasNext());
+        }
+
+        assertFalse(lockManager.locks(bulkLoadTxId).hasNext());
+    }
+
+    @Test
+    public void testBulkLoadFailsOnLockConflict() {
+        UUID txId = TestTransactionIds.newTransactionId();
+
+        assertThat(doSingleRowRequest(txId, binaryRow(0), RequestType.RW_UPSERT), willCompleteSuccessfully());
+
+        BinaryRow newRow0 = binaryRow(new TestKey(0, "k0"), new TestValue(2, "v2"));
+
+        // A younger bulk load is not allowed to wait for the partition lock.
+        assertThat(doBulkLoadRequest(TestTransactionIds.newTransactionId(), List.of(newRow0)), willThrowFast(LockException.class));
+
+        cleanup(txId);
+    }
+
+    private CompletableFuture<?> doBulkLoadRequest(UUID txId, Collection<BinaryRow> binaryRows) {
+        return partitionReplicaListener.invoke(TABLE_MESSAGES_FACTORY.readWriteMultiRowReplicaRequest()
+                    .groupId(grpId)
+                    .transactionId(txId)
+                    .requestType(RequestType.RW_BULK_LOAD)
+                    .binaryRowMessages(binaryRows.stream().map(PartitionReplicaListenerTest::binaryRowMessage).collect(toList()))
+                    .term(1L)
+                    .commitPartitionId(commitPartitionId())
+                    .full(true)
+                    .build(),
+                localNode.id()
+        );
+    }
+
     private CompletableFuture<?> doSingleRowRequest(UUID txId, BinaryRow binaryRow, RequestType requestType) {
         return partitionReplicaListener.invoke(TABLE_MESSAGES_FACTORY.readWriteSingleRowReplicaRequest()
                     .groupId(grpId)
@@ -1364,6 +1453,85 @@ public class PartitionReplicaListenerTest extends IgniteAbstractTest {
         assertThat(committed.get(), is(true));
     }
 
+    @Test
+    public void testOnePhaseCommit() {
+        when(schemas.tableSchemaVersionsBetween(anyInt(), any(), any(HybridTimestamp.class)))
+                .thenReturn(List.of(
+                        tableSchema(CURRENT_SCHEMA_VERSION, List.of(nullableColumn("col")))
+                ));
+
+        AtomicReference<Boolean> full = interceptFullFinishTxCommand();
+
+        UUID txId = transactionIdFor(clock.now());
+
+        BinaryRow binaryRow = binaryRow(0);
+
+        assertThat(partitionReplicaListener.invoke(TABLE_MESSAGES_FACTORY.readWriteSingleRowReplicaRequest()
+                .groupId(grpId)
+                .transactionId(txId)
+                .requestType(RequestType.RW_INSERT)
+                .binaryRowMessage(binaryRowMessage(binaryRow))
+                .term(1L)
+                .commitPartitionId(commitPartitionId())
+                .build(), localNode.id()), willSucceedFast());
+
+        assertThat(commitTx(txId, List.of(grpId)), willSucceedFast());
+
+        assertThat(full.get(), is(true));
+        verify(txManager, never()).cleanup(any(), any(), any(), anyBoolean(), any());
+
+        try (Cursor<RowId> cursor = pkStorage().get(binaryRow)) {
+            assertFalse(testMvPartitionStorage.read(cursor.next(), HybridTimestamp.MAX_VALUE).isWriteIntent());
+        }
+
+        assertFalse(lockManager.locks(txId).hasNext());
+    }
+
+    @Test
+    public void testTwoPhaseCommitOfSeveralPartitions() {
+        when(schemas.tableSchemaVersionsBetween(anyInt(), any(), any(HybridTimestamp.class)))
+                .thenReturn(List.of(
+                        tableSchema(CURRENT_SCHEMA_VERSION, List.of(nullableColumn("col")))
+                ));
+
+        AtomicReference<Boolean> full = interceptFullFinishTxCommand();
+
+        UUID txId = transactionIdFor(clock.now());
+
+        assertThat(commitTx(txId, List.of(grpId, new TablePartitionId(tblId, partId + 1))), willSucceedFast());
+
+        assertThat(full.get(), is(false));
+        verify(txManager).cleanup(any(), any(), any(), anyBoolean(), any());
+    }
+
+    private AtomicReference<Boolean> interceptFullFinishTxCommand() {
+        AtomicReference<Boolean> full = new AtomicReference<>();
+
+        raftClientFutureClosure = command -> {
+            if (command instanceof FinishTxCommand) {
+                full.set(command.full());
+            }
+            return defaultMockRaftFutureClosure.apply(command);
+        };
+
+        return full;
+    }
+
+    private CompletableFuture<?> commitTx(UUID txId, List<TablePartitionId> enlistedPartitions) {
+        when(txManager.cleanup(any(), any(), any(), anyBoolean(), any())).thenReturn(completedFuture(null));
+
+        TxFinishReplicaRequest commitRequest = TX_MESSAGES_FACTORY.txFinishReplicaRequest()
+                .groupId(grpId)
+                .txId(txId)
+                .groups(Map.of(localNode, enlistedPartitions.stream().map(id -> new IgniteBiTuple<>(id, 1L)).collect(toList())))
+                .commit(true)
+                .commitTimestampLong(hybridTimestampToLong(clock.now()))
+                .term(1L)
+                .build();
+
+        return partitionReplicaListener.invoke(commitRequest, localNode.id());
+    }
+
     private static CatalogTableColumnDescriptor nullableColumn(String colName) {
         return new CatalogTableColumnDescriptor(colName, ColumnType.INT32, true, 0, 0, 0, DefaultValue.constant(null));
     }
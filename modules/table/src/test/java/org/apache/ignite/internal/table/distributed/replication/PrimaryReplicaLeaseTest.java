@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.distributed.replication;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.table.distributed.replicator.PrimaryReplicaLease;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link PrimaryReplicaLease}.
+ */
+public class PrimaryReplicaLeaseTest {
+    private static final long START = 1_000_000;
+
+    private static final long EXPIRATION = START + 10 * HybridTimestamp.maxClockSkew();
+
+    private final PrimaryReplicaLease lease = new PrimaryReplicaLease(true);
+
+    @Test
+    public void testNoLease() {
+        assertFalse(lease.isValid(timestamp(START)));
+    }
+
+    @Test
+    public void testLeaseInterval() {
+        lease.onLeaderElected(true);
+        lease.onLeaseAccepted(timestamp(START), timestamp(EXPIRATION));
+
+        assertFalse(lease.isValid(timestamp(START - 1)));
+        assertTrue(lease.isValid(timestamp(START)));
+        assertTrue(lease.isValid(timestamp(EXPIRATION - HybridTimestamp.maxClockSkew() - 1)));
+
+        // The lease is not used within the clock skew before its expiration.
+        assertFalse(lease.isValid(timestamp(EXPIRATION - HybridTimestamp.maxClockSkew())));
+        assertFalse(lease.isValid(timestamp(EXPIRATION)));
+    }
+
+    @Test
+    public void testProlongation() {
+        lease.onLeaderElected(true);
+        lease.onLeaseAccepted(timestamp(START), timestamp(EXPIRATION));
+        lease.onLeaseAccepted(timestamp(START), timestamp(2 * EXPIRATION));
+
+        assertTrue(lease.isValid(timestamp(EXPIRATION)));
+    }
+
+    @Test
+    public void testNotLeader() {
+        lease.onLeaseAccepted(timestamp(START), timestamp(EXPIRATION));
+
+        // The leaseholder may be behind until it becomes the leader.
+        assertFalse(lease.isValid(timestamp(START)));
+
+        lease.onLeaderElected(true);
+
+        assertTrue(lease.isValid(timestamp(START)));
+
+        lease.onLeaderElected(false);
+
+        assertFalse(lease.isValid(timestamp(START)));
+    }
+
+    @Test
+    public void testDisabledByDefault() {
+        var defaultLease = new PrimaryReplicaLease();
+
+        defaultLease.onLeaderElected(true);
+        defaultLease.onLeaseAccepted(timestamp(START), timestamp(EXPIRATION));
+
+        assertFalse(defaultLease.isValid(timestamp(START)));
+    }
+
+    @Test
+    public void testDisabled() {
+        var disabledLease = new PrimaryReplicaLease(false);
+
+        disabledLease.onLeaderElected(true);
+        disabledLease.onLeaseAccepted(timestamp(START), timestamp(EXPIRATION));
+
+        assertFalse(disabledLease.isValid(timestamp(START)));
+    }
+
+    private static HybridTimestamp timestamp(long physical) {
+        return new HybridTimestamp(physical, 0);
+    }
+}
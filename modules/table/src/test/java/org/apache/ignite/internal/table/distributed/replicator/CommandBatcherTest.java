@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.distributed.replicator;
+
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureExceptionMatcher.willThrowFast;
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willCompleteSuccessfully;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link CommandBatcher}.
+ */
+public class CommandBatcherTest {
+    private final List<List<Integer>> batches = new ArrayList<>();
+
+    private final List<CompletableFuture<Void>> batchFutures = new ArrayList<>();
+
+    private CompletableFuture<?> send(List<Integer> batch) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+
+        batches.add(batch);
+        batchFutures.add(future);
+
+        return future;
+    }
+
+    @Test
+    public void testCommandIsSentImmediatelyWithoutLoad() {
+        CommandBatcher<Integer> batcher = new CommandBatcher<>(this::send, 10);
+
+        CompletableFuture<Void> future = batcher.submit(1);
+
+        assertEquals(List.of(List.of(1)), batches);
+        assertFalse(future.isDone());
+
+        batchFutures.get(0).complete(null);
+
+        assertThat(future, willCompleteSuccessfully());
+    }
+
+    @Test
+    public void testCommandsAreGroupedWhileBatchIsInFlight() {
+        CommandBatcher<Integer> batcher = new CommandBatcher<>(this::send, 10);
+
+        batcher.submit(1);
+
+        CompletableFuture<Void> future2 = batcher.submit(2);
+        CompletableFuture<Void> future3 = batcher.submit(3);
+
+        assertEquals(1, batches.size());
+
+        batchFutures.get(0).complete(null);
+
+        assertEquals(List.of(List.of(1), List.of(2, 3)), batches);
+        assertFalse(future2.isDone());
+
+        batchFutures.get(1).complete(null);
+
+        assertThat(future2, willCompleteSuccessfully());
+        assertThat(future3, willCompleteSuccessfully());
+    }
+
+    @Test
+    public void testFullBatchIsSentImmediately() {
+        CommandBatcher<Integer> batcher = new CommandBatcher<>(this::send, 2);
+
+        batcher.submit(1);
+        batcher.submit(2);
+        batcher.submit(3);
+        batcher.submit(4);
+
+        assertEquals(List.of(List.of(1), List.of(2, 3)), batches);
+
+        batchFutures.get(0).complete(null);
+
+        // Previous full batch is still in flight.
+        assertEquals(2, batches.size());
+
+        batchFutures.get(1).complete(null);
+
+        assertEquals(List.of(List.of(1), List.of(2, 3), List.of(4)), batches);
+    }
+
+    @Test
+    public void testBatchFailure() {
+        CommandBatcher<Integer> batcher = new CommandBatcher<>(this::send, 10);
+
+        batcher.submit(1);
+
+        CompletableFuture<Void> future2 = batcher.submit(2);
+        CompletableFuture<Void> future3 = batcher.submit(3);
+
+        batchFutures.get(0).complete(null);
+        batchFutures.get(1).completeExceptionally(new IllegalStateException());
+
+        assertThat(future2, willThrowFast(IllegalStateException.class));
+        assertThat(future3, willThrowFast(IllegalStateException.class));
+
+        // Batcher keeps working after a failure.
+        CompletableFuture<Void> future4 = batcher.submit(4);
+
+        assertEquals(List.of(4), batches.get(2));
+
+        batchFutures.get(2).complete(null);
+
+        assertThat(future4, willCompleteSuccessfully());
+    }
+}
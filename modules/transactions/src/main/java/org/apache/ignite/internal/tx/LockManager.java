@@ -21,6 +21,7 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 
 /** Lock manager allows to acquire locks and release locks and supports deadlock prevention by transaction id ordering. */
@@ -37,6 +38,17 @@ public interface LockManager {
      */
     public CompletableFuture<Lock> acquire(UUID txId, LockKey lockKey, LockMode lockMode);
 
+    /**
+     * Acquires a lock for the specified {@code lockKey} in specified {@code lockMode} only if it does not conflict with the locks held by
+     * other transactions. Unlike {@link #acquire}, never waits for other transactions and never makes them fail.
+     *
+     * @param txId Transaction id.
+     * @param lockKey The key.
+     * @param lockMode Lock mode, for example shared, exclusive, intention-shared etc.
+     * @return The acquired lock or {@code null} if the lock conflicts with the locks held by other transactions.
+     */
+    @Nullable Lock tryAcquire(UUID txId, LockKey lockKey, LockMode lockMode);
+
     /**
      * Attempts to release the specified lock.
      *
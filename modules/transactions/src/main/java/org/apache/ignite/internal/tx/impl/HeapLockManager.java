@@ -103,6 +103,27 @@ public class HeapLockManager implements LockManager {
         }
     }
 
+    @Override
+    public @Nullable Lock tryAcquire(UUID txId, LockKey lockKey, LockMode lockMode) {
+        while (true) {
+            LockState state = lockState(lockKey);
+
+            IgniteBiTuple<CompletableFuture<Void>, LockMode> futureTuple = state.tryAcquireWithoutWait(txId, lockMode);
+
+            if (futureTuple == null) {
+                return null;
+            }
+
+            if (futureTuple.get1() == null) {
+                continue; // Obsolete state.
+            }
+
+            assert futureTuple.get1().isDone() && !futureTuple.get1().isCompletedExceptionally() : futureTuple.get1();
+
+            return new Lock(lockKey, futureTuple.get2(), txId);
+        }
+    }
+
     @Override
     public void release(Lock lock) {
         LockState state = lockState(lock.lockKey());
@@ -167,7 +188,7 @@ public class HeapLockManager implements LockManager {
     /**
      * A lock state.
      */
-    private static class LockState {
+    static class LockState {
         /** Waiters. */
         private final TreeMap<UUID, WaiterImpl> waiters;
 
@@ -188,6 +209,43 @@ public class HeapLockManager implements LockManager {
             this.delayedExecutor = delayedExecutor;
         }
 
+        /**
+         * Adds a waiter that already holds the lock in the given modes, it is used to hand over a lock that was acquired bypassing the
+         * queue. Must be called before the state is shared with other threads.
+         *
+         * @param txId Transaction id.
+         * @param lockCounts Number of times the lock was acquired in each mode, indexed by {@link LockMode#ordinal()}.
+         */
+        void addLockedWaiter(UUID txId, int[] lockCounts) {
+            WaiterImpl waiter = null;
+
+            for (LockMode mode : LockMode.values()) {
+                int count = lockCounts[mode.ordinal()];
+
+                if (count == 0) {
+                    continue;
+                }
+
+                if (waiter == null) {
+                    waiter = new WaiterImpl(txId, mode);
+
+                    waiter.addLock(mode, count - 1);
+                } else {
+                    waiter.addLock(mode, count);
+                }
+            }
+
+            assert waiter != null : txId;
+
+            waiter.intendedLocks.clear();
+            waiter.recalculate();
+            waiter.fut.complete(null);
+
+            synchronized (waiters) {
+                waiters.put(txId, waiter);
+            }
+        }
+
         /**
          * Attempts to acquire a lock for the specified {@code key} in specified lock mode.
          *
@@ -247,6 +305,39 @@ public class HeapLockManager implements LockManager {
             return new IgniteBiTuple(waiter.fut, waiter.lockMode());
         }
 
+        /**
+         * Attempts to acquire a lock for the specified {@code key} in specified lock mode, if it does not conflict with the locks held by
+         * other transactions. Otherwise, the waiter is not enqueued.
+         *
+         * @param txId Transaction id.
+         * @param lockMode Lock mode.
+         * @return The same as {@link #tryAcquire}, the future of which is already completed, or {@code null} if the lock conflicts.
+         */
+        @Nullable IgniteBiTuple<CompletableFuture<Void>, LockMode> tryAcquireWithoutWait(UUID txId, LockMode lockMode) {
+            synchronized (waiters) {
+                if (!markedForRemove) {
+                    WaiterImpl prev = waiters.get(txId);
+
+                    if (prev != null && prev.hasLockIntent()) {
+                        return null;
+                    }
+
+                    LockMode intendedLockMode = prev != null && prev.locked() ? LockMode.supremum(prev.lockMode(), lockMode) : lockMode;
+
+                    for (WaiterImpl tmp : waiters.values()) {
+                        LockMode mode = tmp == prev ? null : lockedMode(tmp);
+
+                        if (mode != null && !mode.isCompatible(intendedLockMode)) {
+                            return null;
+                        }
+                    }
+                }
+
+                // The monitor is reentrant, so the lock is acquired without a conflict.
+                return tryAcquire(txId, lockMode);
+            }
+        }
+
         /**
          * Checks current waiter. It can change the internal state of the waiter.
          *
@@ -0,0 +1,582 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.tx.impl;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.tostring.S;
+import org.apache.ignite.internal.tx.DeadlockPreventionPolicy;
+import org.apache.ignite.internal.tx.Lock;
+import org.apache.ignite.internal.tx.LockKey;
+import org.apache.ignite.internal.tx.LockManager;
+import org.apache.ignite.internal.tx.LockMode;
+import org.apache.ignite.internal.tx.Waiter;
+import org.apache.ignite.internal.tx.impl.HeapLockManager.LockState;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.apache.ignite.lang.IgniteBiTuple;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A {@link LockManager} implementation optimized for short transactions that rarely conflict on the same key.
+ *
+ * <p>The lock table is split into stripes, a key is mapped to a stripe by its hash, so that transactions that work with different
+ * partitions do not contend on the same hash table.
+ *
+ * <p>A key that is locked by a single transaction is represented by a {@link LockEntry} with a word of packed per-mode lock counters,
+ * such a lock is acquired, reentered, upgraded and released with CAS operations, without allocating waiters. As soon as another
+ * transaction requests the key, the entry is inflated to a {@link LockState lock queue} of the {@link HeapLockManager}, which resolves the
+ * conflict, so the locking semantics and the deadlock prevention are the same for both lock managers.
+ */
+public class StripedLockManager implements LockManager {
+    /** Number of bits of a lock mode counter in the packed word. */
+    private static final int COUNTER_BITS = 10;
+
+    /** Maximum value of a lock mode counter in the packed word, the entry is inflated if the counter overflows. */
+    private static final long MAX_COUNTER = (1L << COUNTER_BITS) - 1;
+
+    /** Flag of the packed word: the lock is held by the transactions of the lock queue. */
+    private static final long INFLATED = 1L << 62;
+
+    /** Flag of the packed word: all locks are released and the entry is removed (or about to be removed) from the lock table. */
+    private static final long REMOVED = 1L << 63;
+
+    /** Lock modes. */
+    private static final LockMode[] LOCK_MODES = LockMode.values();
+
+    /** Lock table stripes. */
+    private final ConcurrentHashMap<LockKey, LockEntry>[] stripes;
+
+    private final DeadlockPreventionPolicy deadlockPreventionPolicy;
+
+    /** Executor that is used to fail waiters after timeout. */
+    private final @Nullable Executor delayedExecutor;
+
+    /**
+     * Constructor.
+     */
+    public StripedLockManager() {
+        this(new WaitDieDeadlockPreventionPolicy());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param deadlockPreventionPolicy Deadlock prevention policy.
+     */
+    public StripedLockManager(DeadlockPreventionPolicy deadlockPreventionPolicy) {
+        this(deadlockPreventionPolicy, defaultStripes());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param deadlockPreventionPolicy Deadlock prevention policy.
+     * @param stripes Number of lock table stripes, must be a power of two.
+     */
+    @SuppressWarnings("unchecked")
+    public StripedLockManager(DeadlockPreventionPolicy deadlockPreventionPolicy, int stripes) {
+        assert IgniteUtils.isPow2(stripes) : stripes;
+
+        this.deadlockPreventionPolicy = deadlockPreventionPolicy;
+        this.delayedExecutor = deadlockPreventionPolicy.waitTimeout() > 0
+                ? CompletableFuture.delayedExecutor(deadlockPreventionPolicy.waitTimeout(), TimeUnit.MILLISECONDS)
+                : null;
+
+        this.stripes = new ConcurrentHashMap[stripes];
+
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new ConcurrentHashMap<>();
+        }
+    }
+
+    @Override
+    public CompletableFuture<Lock> acquire(UUID txId, LockKey lockKey, LockMode lockMode) {
+        ConcurrentHashMap<LockKey, LockEntry> stripe = stripe(lockKey);
+
+        while (true) {
+            LockEntry entry = stripe.get(lockKey);
+
+            if (entry == null) {
+                entry = stripe.putIfAbsent(lockKey, new LockEntry(txId, lockMode));
+
+                if (entry == null) {
+                    return completedFuture(new Lock(lockKey, lockMode, txId));
+                }
+            }
+
+            long word = entry.word;
+
+            if ((word & REMOVED) != 0) {
+                stripe.remove(lockKey, entry);
+
+                continue; // Obsolete entry.
+            }
+
+            if ((word & INFLATED) == 0 && entry.owner.equals(txId) && counter(word, lockMode) < MAX_COUNTER) {
+                long newWord = word + increment(lockMode);
+
+                if (entry.compareAndSetWord(word, newWord)) {
+                    return completedFuture(new Lock(lockKey, lockMode(newWord), txId));
+                }
+
+                continue; // Inflated concurrently.
+            }
+
+            LockState state = (word & INFLATED) != 0 ? entry.state : inflate(entry);
+
+            if (state == null) {
+                continue; // Released concurrently.
+            }
+
+            IgniteBiTuple<CompletableFuture<Void>, LockMode> futureTuple = state.tryAcquire(txId, lockMode);
+
+            if (futureTuple.get1() == null) {
+                entry.markRemoved();
+
+                stripe.remove(lockKey, entry);
+
+                continue; // Obsolete state.
+            }
+
+            LockMode newLockMode = futureTuple.get2();
+
+            return futureTuple.get1().thenApply(res -> new Lock(lockKey, newLockMode, txId));
+        }
+    }
+
+    @Override
+    public @Nullable Lock tryAcquire(UUID txId, LockKey lockKey, LockMode lockMode) {
+        ConcurrentHashMap<LockKey, LockEntry> stripe = stripe(lockKey);
+
+        while (true) {
+            LockEntry entry = stripe.get(lockKey);
+
+            if (entry == null) {
+                entry = stripe.putIfAbsent(lockKey, new LockEntry(txId, lockMode));
+
+                if (entry == null) {
+                    return new Lock(lockKey, lockMode, txId);
+                }
+            }
+
+            long word = entry.word;
+
+            if ((word & REMOVED) != 0) {
+                stripe.remove(lockKey, entry);
+
+                continue; // Obsolete entry.
+            }
+
+            if ((word & INFLATED) == 0) {
+                if (entry.owner.equals(txId) && counter(word, lockMode) < MAX_COUNTER) {
+                    long newWord = word + increment(lockMode);
+
+                    if (entry.compareAndSetWord(word, newWord)) {
+                        return new Lock(lockKey, lockMode(newWord), txId);
+                    }
+
+                    continue; // Inflated concurrently.
+                }
+
+                LockMode ownerLockMode = lockMode(word);
+
+                if (!entry.owner.equals(txId) && ownerLockMode != null && !ownerLockMode.isCompatible(lockMode)) {
+                    return null; // No need to inflate the entry.
+                }
+            }
+
+            LockState state = (word & INFLATED) != 0 ? entry.state : inflate(entry);
+
+            if (state == null) {
+                continue; // Released concurrently.
+            }
+
+            IgniteBiTuple<CompletableFuture<Void>, LockMode> futureTuple = state.tryAcquireWithoutWait(txId, lockMode);
+
+            if (futureTuple == null) {
+                return null;
+            }
+
+            if (futureTuple.get1() == null) {
+                entry.markRemoved();
+
+                stripe.remove(lockKey, entry);
+
+                continue; // Obsolete state.
+            }
+
+            return new Lock(lockKey, futureTuple.get2(), txId);
+        }
+    }
+
+    @Override
+    public void release(Lock lock) {
+        LockKey lockKey = lock.lockKey();
+
+        ConcurrentHashMap<LockKey, LockEntry> stripe = stripe(lockKey);
+
+        LockEntry entry = stripe.get(lockKey);
+
+        if (entry == null) {
+            return;
+        }
+
+        while (true) {
+            long word = entry.word;
+
+            if ((word & REMOVED) != 0) {
+                return;
+            }
+
+            if ((word & INFLATED) != 0) {
+                if (entry.state.tryRelease(lock.txId())) {
+                    entry.markRemoved();
+
+                    stripe.remove(lockKey, entry);
+                }
+
+                return;
+            }
+
+            if (!entry.owner.equals(lock.txId())) {
+                return;
+            }
+
+            if (entry.compareAndSetWord(word, REMOVED)) {
+                stripe.remove(lockKey, entry);
+
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void release(UUID txId, LockKey lockKey, LockMode lockMode) {
+        ConcurrentHashMap<LockKey, LockEntry> stripe = stripe(lockKey);
+
+        LockEntry entry = stripe.get(lockKey);
+
+        if (entry == null) {
+            return;
+        }
+
+        while (true) {
+            long word = entry.word;
+
+            if ((word & REMOVED) != 0) {
+                return;
+            }
+
+            if ((word & INFLATED) != 0) {
+                if (entry.state.tryRelease(txId, lockMode)) {
+                    entry.markRemoved();
+
+                    stripe.remove(lockKey, entry);
+                }
+
+                return;
+            }
+
+            if (!entry.owner.equals(txId)) {
+                return;
+            }
+
+            assert LockMode.supremum(lockMode, lockMode(word)) == lockMode(word) :
+                    "The lock mode is not locked [mode=" + lockMode + ", locked=" + lockMode(word) + ']';
+
+            long newWord = counter(word, lockMode) == 0 ? word : word - increment(lockMode);
+
+            if (newWord == 0) {
+                newWord = REMOVED;
+            }
+
+            if (entry.compareAndSetWord(word, newWord)) {
+                if (newWord == REMOVED) {
+                    stripe.remove(lockKey, entry);
+                }
+
+                return;
+            }
+        }
+    }
+
+    @Override
+    public Iterator<Lock> locks(UUID txId) {
+        // TODO: IGNITE-17811 Use index or similar instead of full locks set iteration.
+        List<Lock> result = new ArrayList<>();
+
+        for (ConcurrentHashMap<LockKey, LockEntry> stripe : stripes) {
+            for (Map.Entry<LockKey, LockEntry> e : stripe.entrySet()) {
+                Waiter waiter = e.getValue().waiter(txId);
+
+                if (waiter != null) {
+                    result.add(new Lock(e.getKey(), waiter.lockMode(), txId));
+                }
+            }
+        }
+
+        return result.iterator();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Collection<UUID> queue(LockKey key) {
+        LockEntry entry = stripe(key).get(key);
+
+        if (entry == null) {
+            return List.of();
+        }
+
+        long word = entry.word;
+
+        if ((word & REMOVED) != 0) {
+            return List.of();
+        }
+
+        return (word & INFLATED) != 0 ? entry.state.queue() : List.of(entry.owner);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Waiter waiter(LockKey key, UUID txId) {
+        LockEntry entry = stripe(key).get(key);
+
+        return entry == null ? null : entry.waiter(txId);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isEmpty() {
+        for (ConcurrentHashMap<LockKey, LockEntry> stripe : stripes) {
+            if (!stripe.isEmpty()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Inflates the entry to a lock queue, the current owner of the entry becomes a locked waiter of the queue.
+     *
+     * @param entry Lock entry.
+     * @return Lock queue or {@code null} if all locks of the entry have been released.
+     */
+    private @Nullable LockState inflate(LockEntry entry) {
+        synchronized (entry) {
+            while (true) {
+                long word = entry.word;
+
+                if ((word & REMOVED) != 0) {
+                    return null;
+                }
+
+                if ((word & INFLATED) != 0) {
+                    return entry.state;
+                }
+
+                int[] lockCounts = new int[LOCK_MODES.length];
+
+                for (LockMode mode : LOCK_MODES) {
+                    lockCounts[mode.ordinal()] = (int) counter(word, mode);
+                }
+
+                LockState state = new LockState(deadlockPreventionPolicy, delayedExecutor);
+
+                state.addLockedWaiter(entry.owner, lockCounts);
+
+                // Published by the CAS below, it is only read after the INFLATED flag is observed.
+                entry.state = state;
+
+                if (entry.compareAndSetWord(word, INFLATED)) {
+                    return state;
+                }
+            }
+        }
+    }
+
+    private ConcurrentHashMap<LockKey, LockEntry> stripe(LockKey key) {
+        return stripes[IgniteUtils.hash(key) & (stripes.length - 1)];
+    }
+
+    private static int defaultStripes() {
+        int stripes = 1;
+
+        while (stripes < Runtime.getRuntime().availableProcessors() * 4) {
+            stripes <<= 1;
+        }
+
+        return stripes;
+    }
+
+    /**
+     * Returns the packed word increment for a lock mode counter.
+     *
+     * @param mode Lock mode.
+     */
+    private static long increment(LockMode mode) {
+        return 1L << (mode.ordinal() * COUNTER_BITS);
+    }
+
+    /**
+     * Returns the lock mode counter from the packed word.
+     *
+     * @param word Packed word.
+     * @param mode Lock mode.
+     */
+    private static long counter(long word, LockMode mode) {
+        return (word >>> (mode.ordinal() * COUNTER_BITS)) & MAX_COUNTER;
+    }
+
+    /**
+     * Returns the supremum of the lock modes that are held according to the packed word, {@code null} if no lock is held.
+     *
+     * @param word Packed word.
+     */
+    private static @Nullable LockMode lockMode(long word) {
+        LockMode lockMode = null;
+
+        for (LockMode mode : LOCK_MODES) {
+            if (counter(word, mode) > 0) {
+                lockMode = lockMode == null ? mode : LockMode.supremum(lockMode, mode);
+            }
+        }
+
+        return lockMode;
+    }
+
+    /**
+     * Lock table entry of a key.
+     *
+     * <p>The entry is created by the first transaction that locks the key and is owned by it until either all its locks are released, or
+     * another transaction requests the key and the entry is inflated. An entry is never reused after it is removed from the lock table.
+     */
+    private static class LockEntry {
+        private static final VarHandle WORD;
+
+        static {
+            try {
+                WORD = MethodHandles.lookup().findVarHandle(LockEntry.class, "word", long.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        /** Transaction that created the entry. */
+        private final UUID owner;
+
+        /**
+         * Packed word: lock mode counters of the {@link #owner} ({@link #COUNTER_BITS} bits per mode, indexed by
+         * {@link LockMode#ordinal()}), or the {@link #INFLATED} and {@link #REMOVED} flags.
+         */
+        private volatile long word;
+
+        /** Lock queue, not {@code null} if the {@link #INFLATED} flag is set. */
+        private volatile LockState state;
+
+        private LockEntry(UUID owner, LockMode lockMode) {
+            this.owner = owner;
+
+            word = increment(lockMode);
+        }
+
+        private boolean compareAndSetWord(long expected, long newWord) {
+            return WORD.compareAndSet(this, expected, newWord);
+        }
+
+        /** Marks the entry removed, must be called only after the lock queue became empty. */
+        private void markRemoved() {
+            word = INFLATED | REMOVED;
+        }
+
+        private @Nullable Waiter waiter(UUID txId) {
+            long word = this.word;
+
+            if ((word & REMOVED) != 0) {
+                return null;
+            }
+
+            if ((word & INFLATED) != 0) {
+                return state.waiter(txId);
+            }
+
+            return owner.equals(txId) ? new OwnerWaiter(owner, lockMode(word)) : null;
+        }
+
+        @Override
+        public String toString() {
+            return S.toString(LockEntry.class, this);
+        }
+    }
+
+    /**
+     * Snapshot of a lock that is held by the owner of a not inflated {@link LockEntry}.
+     */
+    private static class OwnerWaiter implements Waiter {
+        private final UUID txId;
+
+        private final LockMode lockMode;
+
+        private OwnerWaiter(UUID txId, LockMode lockMode) {
+            this.txId = txId;
+            this.lockMode = lockMode;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public UUID txId() {
+            return txId;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean locked() {
+            return true;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public LockMode lockMode() {
+            return lockMode;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public LockMode intendedLockMode() {
+            return null;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public String toString() {
+            return S.toString(OwnerWaiter.class, this);
+        }
+    }
+}
@@ -26,6 +26,7 @@ import static org.apache.ignite.internal.tx.LockMode.X;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -117,6 +118,46 @@ public abstract class AbstractLockManagerTest extends IgniteAbstractTest {
         assertNull(lockManager.waiter(key, txId1));
     }
 
+    @Test
+    public void testTryAcquire() {
+        UUID olderTxId = TestTransactionIds.newTransactionId();
+        UUID youngerTxId = TestTransactionIds.newTransactionId();
+
+        LockKey key = new LockKey("test");
+
+        Lock youngerLock = lockManager.tryAcquire(youngerTxId, key, IX);
+
+        assertNotNull(youngerLock);
+        assertEquals(IX, youngerLock.lockMode());
+
+        Lock olderLock = lockManager.tryAcquire(olderTxId, key, IX);
+
+        assertNotNull(olderLock);
+
+        // The conflicting lock is neither acquired nor waited for.
+        assertNull(lockManager.tryAcquire(olderTxId, key, X));
+        assertNull(lockManager.tryAcquire(youngerTxId, key, S));
+
+        assertTrue(lockManager.waiter(key, olderTxId).locked());
+        assertEquals(IX, lockManager.waiter(key, olderTxId).lockMode());
+        assertTrue(lockManager.waiter(key, youngerTxId).locked());
+        assertEquals(IX, lockManager.waiter(key, youngerTxId).lockMode());
+
+        lockManager.release(olderLock);
+
+        Lock upgradedLock = lockManager.tryAcquire(youngerTxId, key, X);
+
+        assertNotNull(upgradedLock);
+        assertEquals(X, upgradedLock.lockMode());
+
+        assertNull(lockManager.tryAcquire(olderTxId, key, IS));
+        assertNull(lockManager.waiter(key, olderTxId));
+
+        lockManager.release(upgradedLock);
+
+        assertTrue(lockManager.isEmpty());
+    }
+
     @Test
     public void downgradeLockOutOfTurnTest() {
         UUID txId0 = TestTransactionIds.newTransactionId();
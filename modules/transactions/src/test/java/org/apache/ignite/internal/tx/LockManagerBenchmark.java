@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.tx;
+
+import static org.apache.ignite.internal.tx.LockMode.IX;
+import static org.apache.ignite.internal.tx.LockMode.X;
+
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.tx.impl.HeapLockManager;
+import org.apache.ignite.internal.tx.impl.StripedLockManager;
+import org.apache.ignite.internal.tx.test.TestTransactionIds;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of short write transactions for different {@link LockManager} implementations.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+@Fork(1)
+public class LockManagerBenchmark {
+    /** Number of rows. */
+    private static final int ROWS = 1_000_000;
+
+    /** Lock manager implementation. */
+    @Param({"HEAP", "STRIPED"})
+    public String lockManagerType;
+
+    /** Number of rows updated by a transaction. */
+    @Param({"1", "10"})
+    public int rowsPerTx;
+
+    private LockManager lockManager;
+
+    private LockKey tableKey;
+
+    private LockKey[] rowKeys;
+
+    /**
+     * Runner.
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+                new OptionsBuilder()
+                        .include(LockManagerBenchmark.class.getSimpleName())
+                        .build()
+        ).run();
+    }
+
+    /**
+     * Creates the lock manager and the lock keys.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        switch (lockManagerType) {
+            case "HEAP":
+                lockManager = new HeapLockManager();
+                break;
+            case "STRIPED":
+                lockManager = new StripedLockManager();
+                break;
+            default:
+                throw new IllegalArgumentException(lockManagerType);
+        }
+
+        UUID tableId = UUID.randomUUID();
+
+        tableKey = new LockKey(tableId);
+
+        rowKeys = new LockKey[ROWS];
+
+        for (int i = 0; i < ROWS; i++) {
+            rowKeys[i] = new LockKey(tableId, i);
+        }
+    }
+
+    /**
+     * Locks random rows exclusively, like an update transaction does, and releases the locks.
+     */
+    @Benchmark
+    public int rowLocks() {
+        UUID txId = TestTransactionIds.newTransactionId();
+
+        Lock[] locks = new Lock[rowsPerTx];
+
+        int locked = lockRows(txId, locks, 0);
+
+        release(locks, locked);
+
+        return locked;
+    }
+
+    /**
+     * Locks the table in the intention exclusive mode and random rows exclusively, like an update transaction does, and releases the
+     * locks.
+     */
+    @Benchmark
+    public int tableAndRowLocks() {
+        UUID txId = TestTransactionIds.newTransactionId();
+
+        Lock[] locks = new Lock[rowsPerTx + 1];
+
+        locks[0] = lockManager.acquire(txId, tableKey, IX).join();
+
+        int locked = lockRows(txId, locks, 1);
+
+        release(locks, locked);
+
+        return locked;
+    }
+
+    private int lockRows(UUID txId, Lock[] locks, int from) {
+        int locked = from;
+
+        for (int i = 0; i < rowsPerTx; i++) {
+            LockKey rowKey = rowKeys[ThreadLocalRandom.current().nextInt(ROWS)];
+
+            try {
+                locks[locked] = lockManager.acquire(txId, rowKey, X).join();
+
+                locked++;
+            } catch (CompletionException ignored) {
+                // The transaction lost the conflict, in the real system it would be rolled back.
+                break;
+            }
+        }
+
+        return locked;
+    }
+
+    private void release(Lock[] locks, int count) {
+        for (int i = 0; i < count; i++) {
+            lockManager.release(locks[i]);
+        }
+    }
+}
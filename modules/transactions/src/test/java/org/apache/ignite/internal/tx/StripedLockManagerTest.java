@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.tx;
+
+import static org.apache.ignite.internal.tx.LockMode.IS;
+import static org.apache.ignite.internal.tx.LockMode.S;
+import static org.apache.ignite.internal.tx.LockMode.X;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.apache.ignite.internal.tx.impl.StripedLockManager;
+import org.apache.ignite.internal.tx.impl.WaitDieDeadlockPreventionPolicy;
+import org.apache.ignite.internal.tx.test.TestTransactionIds;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link StripedLockManager}.
+ */
+public class StripedLockManagerTest extends AbstractLockManagerTest {
+    @Override
+    protected LockManager newInstance() {
+        return new StripedLockManager();
+    }
+
+    @Test
+    public void testInflationKeepsReenteredLocks() {
+        LockManager lockManager = new StripedLockManager(new WaitDieDeadlockPreventionPolicy(), 1);
+
+        UUID txId0 = TestTransactionIds.newTransactionId();
+        UUID txId1 = TestTransactionIds.newTransactionId();
+
+        LockKey key = new LockKey("test");
+
+        lockManager.acquire(txId1, key, S).join();
+        lockManager.acquire(txId1, key, S).join();
+        lockManager.acquire(txId1, key, IS).join();
+
+        // Inflates the entry.
+        CompletableFuture<Lock> fut0 = lockManager.acquire(txId0, key, X);
+
+        assertFalse(fut0.isDone());
+        assertEquals(List.of(txId0, txId1), List.copyOf(lockManager.queue(key)));
+        assertEquals(S, lockManager.waiter(key, txId1).lockMode());
+
+        lockManager.release(txId1, key, S);
+        lockManager.release(txId1, key, IS);
+
+        assertFalse(fut0.isDone());
+        assertEquals(S, lockManager.waiter(key, txId1).lockMode());
+
+        lockManager.release(txId1, key, S);
+
+        assertNull(lockManager.waiter(key, txId1));
+        assertTrue(fut0.isDone());
+        assertEquals(X, lockManager.waiter(key, txId0).lockMode());
+
+        lockManager.release(fut0.join());
+
+        assertTrue(lockManager.isEmpty());
+    }
+
+    @Test
+    public void testReenterCounterOverflow() {
+        LockManager lockManager = new StripedLockManager();
+
+        UUID txId = TestTransactionIds.newTransactionId();
+
+        LockKey key = new LockKey("test");
+
+        int count = 5_000;
+
+        for (int i = 0; i < count; i++) {
+            assertTrue(lockManager.acquire(txId, key, S).isDone());
+        }
+
+        for (int i = 0; i < count - 1; i++) {
+            lockManager.release(txId, key, S);
+
+            assertEquals(S, lockManager.waiter(key, txId).lockMode());
+        }
+
+        lockManager.release(txId, key, S);
+
+        assertFalse(lockManager.locks(txId).hasNext());
+        assertTrue(lockManager.isEmpty());
+    }
+}